@@ -178,7 +178,8 @@ export default function ParcelsAdmin() {
   const load = useCallback(async (page: number, search: string) => {
     const params = new URLSearchParams({
       page: page.toString(),
-      limit: itemsPerPage.toString()
+      limit: itemsPerPage.toString(),
+      includeGeometry: 'true'
     })
     
     if (search.trim()) {
@@ -229,7 +229,8 @@ export default function ZonesAdmin() {
     
     const params = new URLSearchParams({
       page: targetPage.toString(),
-      limit: itemsPerPage.toString()
+      limit: itemsPerPage.toString(),
+      includeGeometry: 'true'
     })
     
     if (targetSearch.trim()) {
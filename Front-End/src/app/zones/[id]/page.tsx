@@ -158,7 +158,7 @@ export default function ZonePage() {
       const [activities, amenities, parcelsRes] = await Promise.all([
         Promise.all((z.activityIds || []).map(aid => fetchPublicApi<{ id: string; name: string; icon?: string }>(`/api/activities/${aid}`))),
         Promise.all((z.amenityIds || []).map(aid => fetchPublicApi<{ id: string; name: string; icon?: string }>(`/api/amenities/${aid}`))),
-        fetchPublicApi<ListResponse<Parcel>>(`/api/parcels?zoneId=${id}`),
+        fetchPublicApi<ListResponse<Parcel>>(`/api/parcels?zoneId=${id}&includeGeometry=true`),
       ])
 
       const parcels = parcelsRes && Array.isArray(parcelsRes.items) ? parcelsRes.items : []
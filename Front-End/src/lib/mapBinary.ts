@@ -0,0 +1,211 @@
+// Décodeur du format binaire compact des réponses cartographiques
+// (Accept: application/vnd.industria.map), équivalent de MapBinaryReader côté backend.
+// Restitue le même objet que la réponse JSON, coordonnées arrondies à la
+// précision de quantification (1e-7 degré, 1 mm en Lambert).
+
+export const MAP_BINARY_MEDIA_TYPE = 'application/vnd.industria.map'
+
+const MAGIC = [0x49, 0x4d, 0x42] // "IMB"
+const VERSION = 1
+
+const NULL = 0
+const FALSE = 1
+const TRUE = 2
+const INT = 3
+const DOUBLE = 4
+const STRING = 5
+const ARRAY = 6
+const OBJECT = 7
+const RING = 8
+const VERTICES = 9
+
+const DEGREE_SCALE = 1e7
+const METER_SCALE = 1e3
+const VERTICES_WGS84 = 1
+
+class Reader {
+  private pos = 0
+  private readonly view: DataView
+  private readonly dictionary: string[] = []
+  private readonly utf8 = new TextDecoder()
+
+  constructor(private readonly bytes: Uint8Array) {
+    this.view = new DataView(bytes.buffer, bytes.byteOffset, bytes.byteLength)
+  }
+
+  get done(): boolean {
+    return this.pos === this.bytes.length
+  }
+
+  next(): number {
+    if (this.pos >= this.bytes.length) {
+      throw new Error('Contenu binaire tronqué')
+    }
+    return this.bytes[this.pos++]
+  }
+
+  // Varint non signé ; les valeurs restent exactes jusqu'à 2^53
+  unsigned(): number {
+    let value = 0
+    let factor = 1
+    for (let i = 0; i < 10; i++) {
+      const b = this.next()
+      value += (b & 0x7f) * factor
+      if ((b & 0x80) === 0) {
+        return value
+      }
+      factor *= 128
+    }
+    throw new Error('Entier variable trop long')
+  }
+
+  // Zigzag : 0, -1, 1, -2, ... → 0, 1, 2, 3, ...
+  signed(): number {
+    const value = this.unsigned()
+    return value % 2 === 0 ? value / 2 : -(value + 1) / 2
+  }
+
+  string(): string {
+    const index = this.unsigned()
+    if (index < this.dictionary.length) {
+      return this.dictionary[index]
+    }
+    if (index !== this.dictionary.length) {
+      throw new Error(`Référence de chaîne invalide: ${index}`)
+    }
+    const length = this.unsigned()
+    if (length > this.bytes.length - this.pos) {
+      throw new Error('Contenu binaire tronqué')
+    }
+    const value = this.utf8.decode(this.bytes.subarray(this.pos, this.pos + length))
+    this.pos += length
+    this.dictionary.push(value)
+    return value
+  }
+
+  value(): unknown {
+    const tag = this.next()
+    switch (tag) {
+      case NULL:
+        return null
+      case FALSE:
+        return false
+      case TRUE:
+        return true
+      case INT:
+        return this.signed()
+      case DOUBLE: {
+        if (this.pos + 8 > this.bytes.length) {
+          throw new Error('Contenu binaire tronqué')
+        }
+        const value = this.view.getFloat64(this.pos, true)
+        this.pos += 8
+        return value
+      }
+      case STRING:
+        return this.string()
+      case ARRAY: {
+        const size = this.unsigned()
+        const array: unknown[] = new Array(size)
+        for (let i = 0; i < size; i++) {
+          array[i] = this.value()
+        }
+        return array
+      }
+      case OBJECT: {
+        const size = this.unsigned()
+        const object: Record<string, unknown> = {}
+        for (let i = 0; i < size; i++) {
+          const name = this.string()
+          object[name] = this.value()
+        }
+        return object
+      }
+      case RING:
+        return this.ring()
+      case VERTICES:
+        return this.vertices()
+      default:
+        throw new Error(`Type de valeur inconnu: ${tag}`)
+    }
+  }
+
+  private ring(): number[][] {
+    const size = this.unsigned()
+    const ring: number[][] = new Array(size)
+    let a = 0
+    let b = 0
+    for (let i = 0; i < size; i++) {
+      a += this.signed()
+      b += this.signed()
+      ring[i] = [a / DEGREE_SCALE, b / DEGREE_SCALE]
+    }
+    return ring
+  }
+
+  private vertices(): Array<Record<string, number | null>> {
+    const size = this.unsigned()
+    const seq = this.signed()
+    const wgs84 = (this.next() & VERTICES_WGS84) !== 0
+    const vertices: Array<Record<string, number | null>> = new Array(size)
+    let x = 0
+    let y = 0
+    let lat = 0
+    let lon = 0
+    for (let i = 0; i < size; i++) {
+      x += this.signed()
+      y += this.signed()
+      if (wgs84) {
+        lat += this.signed()
+        lon += this.signed()
+      }
+      vertices[i] = {
+        seq: seq + i,
+        lambertX: x / METER_SCALE,
+        lambertY: y / METER_SCALE,
+        latitude: wgs84 ? lat / DEGREE_SCALE : null,
+        longitude: wgs84 ? lon / DEGREE_SCALE : null,
+      }
+    }
+    return vertices
+  }
+}
+
+/**
+ * Décode une réponse au format binaire compact.
+ */
+export function decodeMapBinary<T = unknown>(buffer: ArrayBuffer | Uint8Array): T {
+  const reader = new Reader(buffer instanceof Uint8Array ? buffer : new Uint8Array(buffer))
+  for (const b of MAGIC) {
+    if (reader.next() !== b) {
+      throw new Error('En-tête du format binaire invalide')
+    }
+  }
+  const version = reader.next()
+  if (version !== VERSION) {
+    throw new Error(`Version du format binaire non supportée: ${version}`)
+  }
+  const value = reader.value()
+  if (!reader.done) {
+    throw new Error('Données en trop après la fin du contenu')
+  }
+  return value as T
+}
+
+/**
+ * Appelle un endpoint de carte ou de zone en demandant le format binaire,
+ * avec repli sur le JSON si le serveur répond dans ce format.
+ */
+export async function fetchMapBinary<T = unknown>(url: string, init: RequestInit = {}): Promise<T> {
+  const headers = new Headers(init.headers)
+  headers.set('Accept', `${MAP_BINARY_MEDIA_TYPE}, application/json;q=0.5`)
+  const response = await fetch(url, { ...init, headers })
+  if (!response.ok) {
+    throw new Error(`Erreur HTTP: ${response.status}`)
+  }
+  const contentType = response.headers.get('Content-Type') || ''
+  if (contentType.startsWith(MAP_BINARY_MEDIA_TYPE)) {
+    return decodeMapBinary<T>(await response.arrayBuffer())
+  }
+  return (await response.json()) as T
+}
@@ -8,6 +8,8 @@
 -- Activer les extensions nécessaires (si pas déjà fait par Hibernate)
 CREATE EXTENSION IF NOT EXISTS postgis;
 CREATE EXTENSION IF NOT EXISTS pgcrypto;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
 
 -- Users de base pour les données de test (seront synchronisés avec Keycloak lors de la première connexion)
 DO $$ 
@@ -43,7 +45,7 @@ INSERT INTO spatial_reference_system (
 SELECT * FROM (VALUES 
     ('srs-4326', 'WGS 84', 4326, '+proj=longlat +datum=WGS84 +no_defs',
      'World Geodetic System 1984', NOW(), NOW(), NULL::timestamp without time zone),
-    ('srs-26191', 'Lambert Conformal Conic Morocco', 26191, '+proj=lcc +lat_1=33.3 +lat_2=34.86666666666667 +lat_0=34.03333333333333 +lon_0=-3 +x_0=500000 +y_0=300000 +datum=clarke80 +units=m +no_defs',
+    ('srs-26191', 'Lambert Conformal Conic Morocco', 26191, '+proj=lcc +lat_1=33.3 +lat_0=33.3 +lon_0=-5.4 +k_0=0.999625769 +x_0=500000 +y_0=300000 +a=6378249.2 +b=6356515 +towgs84=31,146,47,0,0,0,0 +units=m +no_defs',
      'Lambert Conformal Conic projection for Morocco', NOW(), NOW(), NULL::timestamp without time zone)
 ) AS data(id, name, srid, proj4text, description, created_at, updated_at, deleted_at)
 WHERE NOT EXISTS (SELECT 1 FROM spatial_reference_system WHERE id = data.id);
@@ -0,0 +1,44 @@
+package com.industria.platform.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.locationtech.jts.geom.Geometry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Configuration de la sérialisation JSON des géométries JTS.
+ *
+ * Les géométries PostGIS des entités (journal d'audit, réponses exposant
+ * directement une entité) sont écrites au format WKT plutôt que par
+ * introspection des getters JTS.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class GeometryJacksonConfig {
+
+    /**
+     * Module Jackson enregistré automatiquement par Spring Boot.
+     *
+     * @return module de sérialisation des géométries
+     */
+    @Bean
+    public Module geometryModule() {
+        SimpleModule module = new SimpleModule("GeometryModule");
+        module.addSerializer(Geometry.class, new StdSerializer<>(Geometry.class) {
+            @Override
+            public void serialize(Geometry value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeString(value.toText());
+            }
+        });
+        return module;
+    }
+}
@@ -0,0 +1,32 @@
+package com.industria.platform.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Enregistrement du format binaire compact des réponses cartographiques.
+ *
+ * Le convertisseur est ajouté en fin de liste : il n'est retenu que si le
+ * client demande explicitement {@code Accept: application/vnd.industria.map},
+ * le JSON restant la réponse par défaut (y compris pour {@code Accept: *}{@code /*}).
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MapBinaryConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MapBinaryHttpMessageConverter(objectMapper));
+    }
+}
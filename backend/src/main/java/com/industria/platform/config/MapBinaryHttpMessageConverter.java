@@ -0,0 +1,57 @@
+package com.industria.platform.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.industria.platform.geo.MapBinaryWriter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Convertisseur des réponses au format binaire compact ({@link #MEDIA_TYPE}).
+ *
+ * La réponse est d'abord convertie en arbre JSON avec la configuration
+ * Jackson de l'application (mêmes champs, mêmes noms), puis encodée par
+ * {@link MapBinaryWriter}. Écriture seule, pour les DTO (records) et les
+ * collections.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class MapBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    /** Type MIME du format binaire compact */
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "vnd.industria.map");
+
+    private final ObjectMapper objectMapper;
+
+    public MapBinaryHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MEDIA_TYPE);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz.isRecord() || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Format binaire accepté en réponse uniquement", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(MapBinaryWriter.write(objectMapper.valueToTree(value)));
+    }
+}
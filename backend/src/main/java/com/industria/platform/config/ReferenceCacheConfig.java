@@ -0,0 +1,96 @@
+package com.industria.platform.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.industria.platform.entity.Activity;
+import com.industria.platform.entity.Amenity;
+import com.industria.platform.entity.Country;
+import com.industria.platform.entity.Region;
+import com.industria.platform.entity.SpatialReferenceSystem;
+import com.industria.platform.entity.ZoneType;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Cache de second niveau Hibernate des données de référence, servi par Caffeine (JCache).
+ *
+ * Chaque entité de référence a sa région, bornée en taille et en durée de
+ * vie ; les listes de référence sont mises en cache dans {@link #QUERY_REGION}.
+ * Les régions sont créées ici plutôt qu'à la volée par Hibernate, pour leur
+ * appliquer les réglages de {@link ReferenceCacheProperties} et publier leurs
+ * taux de succès ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}).
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(ReferenceCacheProperties.class)
+public class ReferenceCacheConfig {
+
+    /** Région des résultats de requêtes sur les données de référence */
+    public static final String QUERY_REGION = "reference-queries";
+
+    /** Région des résultats de requêtes sans région explicite (Hibernate) */
+    static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+
+    /** Horodatages de mise à jour des tables, jamais expirés : ils invalident les résultats de requêtes */
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /** Régions bornées en taille et en durée de vie */
+    static final List<String> REGIONS = List.of(
+            Country.CACHE_REGION, Region.CACHE_REGION, ZoneType.CACHE_REGION,
+            Activity.CACHE_REGION, Amenity.CACHE_REGION, SpatialReferenceSystem.CACHE_REGION,
+            QUERY_REGION, DEFAULT_QUERY_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceCacheManager(ReferenceCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("industria-reference"), getClass().getClassLoader());
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(properties.maxSize(region)));
+            configuration.setExpireAfterWrite(OptionalLong.of(properties.ttl(region).toNanos()));
+            configuration.setStatisticsEnabled(true);
+            createCache(cacheManager, region, configuration);
+        }
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        createCache(cacheManager, UPDATE_TIMESTAMPS_REGION, timestamps);
+        return cacheManager;
+    }
+
+    private static void createCache(CacheManager cacheManager, String region, CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(region) != null) {
+            cacheManager.destroyCache(region);
+        }
+        cacheManager.createCache(region, configuration);
+    }
+
+    /** Fournit à Hibernate le gestionnaire de cache déjà configuré */
+    @Bean
+    public HibernatePropertiesCustomizer referenceCacheHibernateProperties(CacheManager referenceCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, referenceCacheManager);
+    }
+
+    @Bean
+    public MeterBinder referenceCacheMetrics(CacheManager referenceCacheManager) {
+        return registry -> {
+            for (String region : referenceCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, referenceCacheManager.getCache(region), Tags.of("cacheManager", "hibernate"));
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.industria.platform.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Paramètres du cache de second niveau des données de référence.
+ *
+ * Chaque région peut redéfinir sa taille et sa durée de vie
+ * ({@code app.cache.reference.regions.<région>.max-size}, {@code .ttl}) ;
+ * à défaut, les valeurs générales s'appliquent.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "app.cache.reference")
+@Data
+public class ReferenceCacheProperties {
+
+    /** Nombre maximal d'entrées par région */
+    private long maxSize = 1000;
+
+    /** Durée de vie d'une entrée après son écriture */
+    private Duration ttl = Duration.ofHours(1);
+
+    /** Réglages par région, par nom de région */
+    private Map<String, RegionSettings> regions = new HashMap<>();
+
+    /** Nombre maximal d'entrées d'une région */
+    public long maxSize(String region) {
+        RegionSettings settings = regions.get(region);
+        return settings != null && settings.getMaxSize() != null ? settings.getMaxSize() : maxSize;
+    }
+
+    /** Durée de vie des entrées d'une région */
+    public Duration ttl(String region) {
+        RegionSettings settings = regions.get(region);
+        return settings != null && settings.getTtl() != null ? settings.getTtl() : ttl;
+    }
+
+    @Data
+    public static class RegionSettings {
+        private Long maxSize;
+        private Duration ttl;
+    }
+}
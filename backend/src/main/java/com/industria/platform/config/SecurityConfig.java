@@ -72,7 +72,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET,
                                 "/", "/api/zones/**", "/api/parcels/**", "/api/reservations/**",
                                 "/api/regions/**", "/api/zone-types/**", "/api/activities/**",
-                                "/api/amenities/**", "/api/countries/**", "/api/map/**").permitAll()
+                                "/api/amenities/**", "/api/countries/**", "/api/map/**", "/api/search/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/reservations").permitAll()
 
                         // Admin areas
@@ -2,6 +2,7 @@ package com.industria.platform.controller;
 
 import com.industria.platform.entity.AuditLog;
 import com.industria.platform.service.AuditService;
+import com.industria.platform.service.GeometryBackfillService;
 import com.industria.platform.service.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +37,7 @@ public class AdminController {
 
     private final PermissionService permissionService;
     private final AuditService auditService;
+    private final GeometryBackfillService geometryBackfillService;
 
     /**
      * Vérifie si l'utilisateur peut accéder à l'administration
@@ -93,6 +95,16 @@ public class AdminController {
         return ResponseEntity.ok(Map.of("hasAccess", hasAccess));
     }
 
+    /**
+     * Calcule la géométrie WGS84 des zones et parcelles qui n'en ont pas encore
+     * (données chargées directement en base, par exemple).
+     */
+    @PostMapping("/geometry/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> backfillGeometries() {
+        return ResponseEntity.ok(geometryBackfillService.backfill());
+    }
+
     // === EXPORT FUNCTIONALITIES ===
     
     /**
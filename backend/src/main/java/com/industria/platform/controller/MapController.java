@@ -1,36 +1,67 @@
 package com.industria.platform.controller;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.industria.platform.dto.ParcelClusterDto;
 import com.industria.platform.dto.ParcelFeatureDto;
+import com.industria.platform.dto.ParcelSimplifiedFeatureDto;
 import com.industria.platform.dto.ZoneFeatureDto;
 import com.industria.platform.dto.ZoneSimplifiedFeatureDto;
 import com.industria.platform.entity.Parcel;
-import com.industria.platform.entity.ParcelStatus;
 import com.industria.platform.entity.Zone;
+import com.industria.platform.exception.ValidationException;
+import com.industria.platform.geo.BoundingBox;
+import com.industria.platform.projection.SyncRow;
 import com.industria.platform.repository.ParcelRepository;
 import com.industria.platform.repository.ZoneRepository;
-import com.industria.platform.service.CoordinateCalculationService;
-import org.locationtech.jts.geom.Coordinate;
+import com.industria.platform.service.GeoJsonStreamService;
+import com.industria.platform.service.GeometryLodStore;
+import com.industria.platform.service.MapEventBroadcaster;
+import com.industria.platform.service.ParcelClusterService;
+import com.industria.platform.service.ParcelCountService;
+import com.industria.platform.service.ParcelCountService.ParcelCounts;
+import com.industria.platform.service.ResourceVersionService;
+import com.industria.platform.service.SingleFlight;
+import com.industria.platform.service.SpatialIndexService;
+import com.industria.platform.service.VectorTileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.locationtech.jts.geom.Geometry;
-import org.locationtech.jts.io.WKTReader;
-import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+import org.locationtech.jts.geom.Point;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Contrôleur REST pour la gestion des cartes et des données géospatiales.
  * 
  * Fournit les données cartographiques optimisées pour l'affichage des zones
  * et parcelles avec conversion automatique de coordonnées et simplification géométrique.
+ *
+ * Les réponses lues en base portent un ETag et une date de dernière
+ * modification des données de la carte ; une requête conditionnelle dont la
+ * copie est à jour reçoit un 304 sans que la réponse soit recalculée.
  * 
  * @author Industria Platform Team
  * @version 1.0
@@ -42,40 +73,209 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class MapController {
     
+    /** Type MIME des tuiles vectorielles Mapbox */
+    private static final String MVT_MEDIA_TYPE = "application/vnd.mapbox-vector-tile";
+
+    /** Type MIME GeoJSON (RFC 7946) */
+    private static final String GEOJSON_MEDIA_TYPE = "application/geo+json";
+
     private final ZoneRepository zoneRepository;
     private final ParcelRepository parcelRepository;
-    private final CoordinateCalculationService coordinateService;
-    private final Map<Integer, List<ZoneSimplifiedFeatureDto>> simplifiedCache = new ConcurrentHashMap<>();
+    private final VectorTileService vectorTileService;
+    private final GeometryLodStore geometryLodStore;
+    private final SpatialIndexService spatialIndexService;
+    private final ParcelClusterService parcelClusterService;
+    private final GeoJsonStreamService geoJsonStreamService;
+    private final SingleFlight singleFlight;
+    private final MapEventBroadcaster mapEventBroadcaster;
+    private final ParcelCountService parcelCountService;
+    private final ResourceVersionService resourceVersionService;
+
+    /** Recouvrement des synchronisations successives, couvrant les transactions longues */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    /** Nombre maximal d'entités par réponse */
+    @Value("${app.map.max-features:2000}")
+    private int maxFeatures;
 
     /**
-     * Récupère toutes les zones pour l'affichage sur la carte.
+     * Récupère les zones pour l'affichage sur la carte.
      *
-     * @return réponse contenant les caractéristiques des zones
+     * @param bbox emprise affichée {@code minLon,minLat,maxLon,maxLat} (optionnelle, toutes les zones sinon)
+     * @return réponse contenant les caractéristiques des zones, tronquée au-delà du plafond
      */
     @GetMapping("/zones")
-    public MapResponse<ZoneFeatureDto> zones() {
-        List<ZoneFeatureDto> features = zoneRepository.findAll().stream().map(z ->
-                new ZoneFeatureDto(parseCentroid(z.getGeometry()), z.getId(), z.getName(),
+    public MapResponse<ZoneFeatureDto> zones(@RequestParam(required = false) BoundingBox bbox, WebRequest request) {
+        if (resourceVersionService.mapDataNotModified(request)) {
+            return null;
+        }
+        List<Zone> zones = zonesInView(bbox);
+        List<Zone> page = limit(zones);
+        Map<String, ParcelCounts> counts = parcelCountService.countsByZone(page.stream().map(Zone::getId).toList());
+        List<ZoneFeatureDto> features = page.stream().map(z ->
+                new ZoneFeatureDto(centroid(z.getGeometryWgs84(), z.getLatitude(), z.getLongitude()), z.getId(), z.getName(),
                         z.getStatus().name(),
-                        parcelRepository.countByZoneIdAndStatus(z.getId(), ParcelStatus.LIBRE),
+                        counts.getOrDefault(z.getId(), ParcelCounts.EMPTY).available(),
                         z.getActivities() == null ? List.of() : z.getActivities().stream().map(a -> a.getActivity().getIcon()).toList(),
                         z.getAmenities() == null ? List.of() : z.getAmenities().stream().map(a -> a.getAmenity().getIcon()).toList())
         ).toList();
-        return new MapResponse<>(features);
+        return new MapResponse<>(features, zones.size() > maxFeatures);
     }
 
     /**
-     * Récupère toutes les parcelles pour l'affichage sur la carte.
+     * Récupère les parcelles pour l'affichage sur la carte.
      *
-     * @return réponse contenant les caractéristiques des parcelles
+     * @param bbox emprise affichée {@code minLon,minLat,maxLon,maxLat} (optionnelle, toutes les parcelles sinon)
+     * @param zoom niveau de zoom de la carte ; en deçà du zoom
+     *             {@value VectorTileService#PARCEL_MIN_ZOOM}, aucune parcelle n'est renvoyée
+     * @return réponse contenant les caractéristiques des parcelles, tronquée au-delà du plafond
      */
     @GetMapping("/parcels")
-    public MapResponse<ParcelFeatureDto> parcels() {
-        List<ParcelFeatureDto> features = parcelRepository.findAll().stream().map(p ->
-                new ParcelFeatureDto(parseCentroid(p.getGeometry()), p.getId(), p.getReference(),
+    public MapResponse<ParcelFeatureDto> parcels(@RequestParam(required = false) BoundingBox bbox,
+                                                 @RequestParam(required = false) Integer zoom,
+                                                 WebRequest request) {
+        if (resourceVersionService.mapDataNotModified(request)) {
+            return null;
+        }
+        if (zoom != null && zoom < VectorTileService.PARCEL_MIN_ZOOM) {
+            return new MapResponse<>(List.of(), false);
+        }
+        List<Parcel> parcels = parcelsInView(bbox);
+        List<ParcelFeatureDto> features = limit(parcels).stream().map(p ->
+                new ParcelFeatureDto(centroid(p.getGeometryWgs84(), p.getLatitude(), p.getLongitude()), p.getId(), p.getReference(),
                         Boolean.TRUE.equals(p.getIsShowroom()), p.getStatus().name())
         ).toList();
-        return new MapResponse<>(features);
+        return new MapResponse<>(features, parcels.size() > maxFeatures);
+    }
+
+    /**
+     * Récupère les zones au format GeoJSON.
+     *
+     * La FeatureCollection est construite entièrement par PostGIS et
+     * transmise octet pour octet, sans chargement d'entités ni sérialisation.
+     *
+     * @param bbox emprise {@code minLon,minLat,maxLon,maxLat} (optionnelle, toutes les zones sinon)
+     * @return FeatureCollection des zones géolocalisées
+     */
+    @GetMapping(value = "/zones.geojson", produces = GEOJSON_MEDIA_TYPE)
+    public ResponseEntity<byte[]> zonesGeoJson(@RequestParam(required = false) BoundingBox bbox, WebRequest request) {
+        if (resourceVersionService.mapDataNotModified(request)) {
+            return null;
+        }
+        byte[] body = bbox != null
+                ? zoneRepository.findFeatureCollectionInBoundingBox(bbox.minLon(), bbox.minLat(), bbox.maxLon(), bbox.maxLat())
+                : zoneRepository.findFeatureCollection();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(GEOJSON_MEDIA_TYPE))
+                .body(body);
+    }
+
+    /**
+     * Exporte les parcelles au format GeoJSON, écrites en flux au fil de la lecture.
+     *
+     * Sans plafond d'entités : la mémoire consommée ne dépend pas du volume exporté.
+     *
+     * @param bbox emprise {@code minLon,minLat,maxLon,maxLat} (optionnelle, toutes les parcelles sinon)
+     * @return FeatureCollection des parcelles géolocalisées
+     */
+    @GetMapping(value = "/parcels.geojson", produces = GEOJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> parcelsGeoJson(@RequestParam(required = false) BoundingBox bbox,
+                                                                WebRequest request) {
+        if (resourceVersionService.mapDataNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(GEOJSON_MEDIA_TYPE))
+                .body(out -> geoJsonStreamService.writeParcels(bbox, out));
+    }
+
+    /**
+     * Récupère les marqueurs groupés des parcelles pour un niveau de zoom.
+     *
+     * Chaque groupe porte le nombre de parcelles par statut, le nombre de
+     * showrooms et le zoom à partir duquel il se divise. Au-delà du zoom
+     * {@value ParcelClusterService#MAX_CLUSTER_ZOOM}, chaque parcelle forme son propre groupe.
+     *
+     * @param zoom niveau de zoom de la carte
+     * @param bbox emprise affichée {@code minLon,minLat,maxLon,maxLat} (optionnelle, monde entier sinon)
+     * @return réponse contenant les groupes, tronquée au-delà du plafond
+     */
+    @GetMapping("/parcels/clusters")
+    public MapResponse<ParcelClusterDto> parcelClusters(@RequestParam int zoom,
+                                                        @RequestParam(required = false) BoundingBox bbox,
+                                                        WebRequest request) {
+        if (resourceVersionService.mapDataNotModified(request)) {
+            return null;
+        }
+        List<ParcelClusterDto> clusters = parcelClusterService.clusters(zoom, bbox);
+        return new MapResponse<>(limit(clusters), clusters.size() > maxFeatures);
+    }
+
+    /**
+     * Identifie les zones et parcelles situées sous un point de la carte.
+     *
+     * Répond depuis l'index spatial en mémoire, sans requête en base.
+     *
+     * @param lon longitude WGS84 du point
+     * @param lat latitude WGS84 du point
+     * @return identifiants des zones et parcelles contenant le point
+     */
+    @GetMapping("/hit")
+    public FeatureIdsResponse hit(@RequestParam double lon, @RequestParam double lat) {
+        return new FeatureIdsResponse(spatialIndexService.zonesAt(lon, lat), spatialIndexService.parcelsAt(lon, lat), false);
+    }
+
+    /**
+     * Identifie les zones et parcelles dont la géométrie recoupe une emprise.
+     *
+     * Répond depuis l'index spatial en mémoire, sans requête en base.
+     *
+     * @param bbox emprise {@code minLon,minLat,maxLon,maxLat}
+     * @return identifiants des zones et parcelles, tronqués au-delà du plafond
+     */
+    @GetMapping("/features")
+    public FeatureIdsResponse features(@RequestParam BoundingBox bbox) {
+        List<String> zoneIds = spatialIndexService.zonesIn(bbox);
+        List<String> parcelIds = spatialIndexService.parcelsIn(bbox);
+        return new FeatureIdsResponse(limit(zoneIds), limit(parcelIds),
+                zoneIds.size() > maxFeatures || parcelIds.size() > maxFeatures);
+    }
+
+    /**
+     * Récupère une tuile vectorielle (Mapbox Vector Tile) des zones et parcelles.
+     *
+     * Couche {@code zones} à tous les niveaux, couche {@code parcels} à partir
+     * du zoom {@value VectorTileService#PARCEL_MIN_ZOOM} ; géométries découpées
+     * et simplifiées selon le zoom.
+     *
+     * @param z niveau de zoom
+     * @param x colonne de la tuile
+     * @param y ligne de la tuile
+     * @return tuile encodée en protobuf, vide si aucune donnée ne la recoupe
+     */
+    @GetMapping(value = "/tiles/{z}/{x}/{y}.mvt", produces = MVT_MEDIA_TYPE)
+    public ResponseEntity<byte[]> tile(@PathVariable int z, @PathVariable int x, @PathVariable int y, WebRequest request) {
+        if (resourceVersionService.mapDataNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MVT_MEDIA_TYPE))
+                .body(vectorTileService.getTile(z, x, y));
+    }
+
+    /**
+     * Ouvre le flux des changements de statut des zones et parcelles (Server-Sent Events).
+     *
+     * Chaque événement {@value MapEventBroadcaster#STATUS_EVENT} porte un
+     * {@link com.industria.platform.event.MapStatusChangedEvent} que le client
+     * applique en place sur sa carte.
+     *
+     * Le flux est écrit de façon asynchrone après le retour de la méthode ;
+     * le client le rouvre à sa fermeture.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void events(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        mapEventBroadcaster.subscribe(request, response);
     }
 
     /**
@@ -84,7 +284,10 @@ public class MapController {
      * @return carte contenant les statistiques des zones
      */
     @GetMapping("/zones/count")
-    public Map<String, Object> getZoneCount() {
+    public Map<String, Object> getZoneCount(WebRequest request) {
+        if (resourceVersionService.mapDataNotModified(request)) {
+            return null;
+        }
         List<Zone> zones = zoneRepository.findAll();
         long withCoords = zones.stream().filter(z -> z.getLatitude() != null && z.getLongitude() != null).count();
         return Map.of(
@@ -102,153 +305,59 @@ public class MapController {
     /**
      * Récupère les zones simplifiées pour l'affichage optimisé sur la carte.
      *
+     * Les contours sont servis depuis le stock des généralisations
+     * précalculées ; les zones sans géométrie WGS84 ne sont pas renvoyées.
+     * Les requêtes simultanées de mêmes paramètres partagent un seul calcul.
+     *
+     * Avec {@code since}, seules les zones créées ou modifiées après le curseur
+     * sont renvoyées, avec les identifiants des zones supprimées et le curseur
+     * de la synchronisation suivante ; modifications et suppressions sont lues
+     * ensemble, dans l'ordre du curseur et dans la limite du plafond. L'emprise
+     * est alors ignorée.
+     *
      * @param zoom niveau de zoom pour déterminer le niveau de simplification
+     * @param bbox emprise affichée {@code minLon,minLat,maxLon,maxLat} (optionnelle, toutes les zones sinon)
+     * @param since curseur d'une synchronisation précédente ou horodatage ISO-8601 (optionnel)
      * @return réponse contenant les caractéristiques simplifiées des zones
      */
     @GetMapping("/zones/simplified")
-    public MapResponse<ZoneSimplifiedFeatureDto> simplifiedZones(@RequestParam(defaultValue = "6") int zoom) {
-        // Get all zones and create simplified features
-        List<Zone> zones = zoneRepository.findAll();
-        
-        List<ZoneSimplifiedFeatureDto> features = new ArrayList<>();
-        
-        for (Zone z : zones) {
-            if (z.getLatitude() != null && z.getLongitude() != null) {
-                // Create a small polygon around the center point
-                double lat = z.getLatitude();
-                double lon = z.getLongitude();
-                double offset = 0.005; // ~500m
-                
-                List<double[]> coords = List.of(
-                    new double[]{lat - offset, lon - offset},
-                    new double[]{lat - offset, lon + offset},
-                    new double[]{lat + offset, lon + offset},
-                    new double[]{lat + offset, lon - offset},
-                    new double[]{lat - offset, lon - offset}
-                );
-                
-                try {
-                    int availableParcels = parcelRepository.countByZoneIdAndStatus(z.getId(), ParcelStatus.LIBRE);
-                    int totalParcels = parcelRepository.countByZoneId(z.getId());
-                    
-                    // Get activity icons
-                    List<String> activityIcons = z.getActivities() != null ? 
-                        z.getActivities().stream()
-                            .map(za -> za.getActivity().getIcon())
-                            .filter(Objects::nonNull)
-                            .toList() : 
-                        List.of();
-                    
-                    // Get amenity icons
-                    List<String> amenityIcons = z.getAmenities() != null ? 
-                        z.getAmenities().stream()
-                            .map(za -> za.getAmenity().getIcon())
-                            .filter(Objects::nonNull)
-                            .toList() : 
-                        List.of();
-                    
-                    // Format area
-                    String formattedArea = z.getTotalArea() != null ? 
-                        String.format("%.0f m²", z.getTotalArea()) : null;
-                    
-                    // Format price
-                    String formattedPrice = z.getPrice() != null ? 
-                        String.format("%.0f DH/m²", z.getPrice()) : null;
-                    
-                    // Get zone type
-                    String zoneType = z.getZoneType() != null ? z.getZoneType().getName() : null;
-                    
-                    // Use address as location, fallback to region
-                    String location = z.getAddress();
-                    if ((location == null || location.trim().isEmpty()) && z.getRegion() != null) {
-                        location = z.getRegion().getName();
-                    }
-                    
-                    ZoneSimplifiedFeatureDto feature = new ZoneSimplifiedFeatureDto(
-                        coords,
-                        z.getId(),
-                        z.getName(),
-                        z.getStatus().name(),
-                        availableParcels,
-                        totalParcels,
-                        activityIcons,
-                        amenityIcons,
-                        z.getDescription(),
-                        location,
-                        formattedArea,
-                        formattedPrice,
-                        zoneType
-                    );
-                    
-                    features.add(feature);
-                } catch (Exception e) {
-                    log.warn("Skipping zone {} due to error: {}", z.getId(), e.getMessage());
-                }
-            }
+    public MapResponse<ZoneSimplifiedFeatureDto> simplifiedZones(@RequestParam(defaultValue = "6") int zoom,
+                                                                 @RequestParam(required = false) BoundingBox bbox,
+                                                                 @RequestParam(required = false) String since,
+                                                                 WebRequest request) {
+        if (resourceVersionService.mapDataNotModified(request)) {
+            return null;
         }
-        
-        return new MapResponse<>(features);
+        if (since != null) {
+            SyncCursor from = SyncCursor.parse(since);
+            LocalDateTime queryStart = LocalDateTime.now();
+            List<SyncRow> rows = zoneRepository.findSyncRowsAfter(from.updatedAt(), from.id(), maxFeatures + 1);
+            List<SyncRow> page = limit(rows);
+            List<Zone> zones = zoneRepository.findAllById(syncIds(page, false));
+            return new MapResponse<>(simplifiedZoneFeatures(zones, zoom), rows.size() > maxFeatures, syncIds(page, true),
+                    nextCursor(from, queryStart, rows.size() > maxFeatures ? page.get(page.size() - 1) : null));
+        }
+        return singleFlight.execute("map.zones.simplified", zoom + "|" + bbox, () -> {
+            // Zones de l'emprise affichée, dans la limite du plafond
+            List<Zone> zones = zonesInView(bbox);
+            return new MapResponse<>(simplifiedZoneFeatures(limit(zones), zoom), zones.size() > maxFeatures);
+        });
     }
 
-    private List<ZoneSimplifiedFeatureDto> buildSimplifiedZones(int zoom) {
-        log.info("Building simplified zones for zoom level {}", zoom);
-        List<Zone> allZones = zoneRepository.findAll();
-        log.info("Found {} zones in database", allZones.size());
-        
-        List<ZoneSimplifiedFeatureDto> result = new ArrayList<>();
+    private List<ZoneSimplifiedFeatureDto> simplifiedZoneFeatures(List<Zone> zones, int zoom) {
+        List<ZoneSimplifiedFeatureDto> features = new ArrayList<>();
+        Map<String, ParcelCounts> counts = parcelCountService.countsByZone(zones.stream().map(Zone::getId).toList());
         
-        for (Zone z : allZones) {
+        for (Zone z : zones) {
+            List<double[]> coords = geometryLodStore.zoneOutline(z.getId(), z.getGeometryWgs84(), zoom);
+            if (coords.isEmpty()) {
+                continue;
+            }
+            
             try {
-                log.info("Processing zone {} - {}", z.getId(), z.getName());
-                log.info("Zone has latitude={}, longitude={}", z.getLatitude(), z.getLongitude());
-                
-                // Utiliser les coordonnées WGS84 déjà calculées si disponibles
-                List<double[]> coords = new ArrayList<>();
-                
-                if (z.getLatitude() != null && z.getLongitude() != null) {
-                    // Créer un petit polygone autour du point central pour la visualisation
-                    double lat = z.getLatitude();
-                    double lon = z.getLongitude();
-                    double offset = 0.005; // environ 500m
-                    
-                    // Coordonnées dans l'ordre [lat, lon] comme attendu par le frontend
-                    coords.add(new double[]{lat - offset, lon - offset});
-                    coords.add(new double[]{lat - offset, lon + offset});
-                    coords.add(new double[]{lat + offset, lon + offset});
-                    coords.add(new double[]{lat + offset, lon - offset});
-                    coords.add(new double[]{lat - offset, lon - offset}); // fermer le polygone
-                    
-                    log.info("Using center coordinates for zone {}: {}, {}", z.getId(), lat, lon);
-                } else {
-                    log.info("No latitude/longitude for zone {}, trying WKT geometry", z.getId());
-                    // Fallback: essayer de lire la géométrie WKT si elle existe
-                    if (z.getGeometry() != null && !z.getGeometry().trim().isEmpty()) {
-                        try {
-                            WKTReader reader = new WKTReader();
-                            Geometry geom = reader.read(z.getGeometry());
-                            Geometry simplified = DouglasPeuckerSimplifier.simplify(geom, zoomToTolerance(zoom));
-                            for (Coordinate c : simplified.getCoordinates()) {
-                                double[] wgs = coordinateService.lambertToWGS84ForZone(c.getX(), c.getY(), z);
-                                coords.add(new double[]{wgs[1], wgs[0]}); // lat, lon
-                            }
-                            log.info("Using WKT geometry for zone {}", z.getId());
-                        } catch (Exception e) {
-                            log.error("Error reading WKT for zone {}: {}", z.getId(), e.getMessage());
-                            continue; // Skip this zone
-                        }
-                    } else {
-                        log.info("No geometry available for zone {}", z.getId());
-                        continue; // Skip this zone
-                    }
-                }
-                
-                if (coords.isEmpty()) {
-                    log.info("No coordinates generated for zone {}", z.getId());
-                    continue; // Skip this zone
-                }
-                
-                int availableParcels = parcelRepository.countByZoneIdAndStatus(z.getId(), ParcelStatus.LIBRE);
-                int totalParcels = parcelRepository.countByZoneId(z.getId());
+                ParcelCounts zoneCounts = counts.getOrDefault(z.getId(), ParcelCounts.EMPTY);
+                int availableParcels = zoneCounts.available();
+                int totalParcels = zoneCounts.total();
                 
                 // Get activity icons
                 List<String> activityIcons = z.getActivities() != null ? 
@@ -284,53 +393,190 @@ public class MapController {
                 }
                 
                 ZoneSimplifiedFeatureDto feature = new ZoneSimplifiedFeatureDto(
-                        coords,
-                        z.getId(),
-                        z.getName(),
-                        z.getStatus().name(),
-                        availableParcels,
-                        totalParcels,
-                        activityIcons,
-                        amenityIcons,
-                        z.getDescription(),
-                        location,
-                        formattedArea,
-                        formattedPrice,
-                        zoneType
+                    coords,
+                    z.getId(),
+                    z.getName(),
+                    z.getStatus().name(),
+                    availableParcels,
+                    totalParcels,
+                    activityIcons,
+                    amenityIcons,
+                    z.getDescription(),
+                    location,
+                    formattedArea,
+                    formattedPrice,
+                    zoneType
                 );
                 
-                result.add(feature);
-                log.info("Successfully created feature for zone {} with {} coordinates", z.getId(), coords.size());
-                
+                features.add(feature);
             } catch (Exception e) {
-                log.error("Error processing zone {}: {}", z.getId(), e.getMessage(), e);
+                log.warn("Skipping zone {} due to error: {}", z.getId(), e.getMessage());
             }
         }
         
-        log.info("Built {} zone features total", result.size());
-        return result;
+        return features;
     }
 
-    private double zoomToTolerance(int zoom) {
-        if (zoom >= 15) return 5;
-        if (zoom >= 12) return 20;
-        if (zoom >= 10) return 50;
-        if (zoom >= 8) return 100;
-        return 200;
+    /**
+     * Récupère les parcelles avec leur contour simplifié selon le zoom.
+     *
+     * Avec {@code since}, même synchronisation incrémentale que pour les zones.
+     *
+     * @param zoom niveau de zoom pour déterminer le niveau de simplification
+     * @param bbox emprise affichée {@code minLon,minLat,maxLon,maxLat} (optionnelle, toutes les parcelles sinon)
+     * @param since curseur d'une synchronisation précédente ou horodatage ISO-8601 (optionnel)
+     * @return réponse contenant les contours simplifiés des parcelles
+     */
+    @GetMapping("/parcels/simplified")
+    public MapResponse<ParcelSimplifiedFeatureDto> simplifiedParcels(@RequestParam(defaultValue = "15") int zoom,
+                                                                     @RequestParam(required = false) BoundingBox bbox,
+                                                                     @RequestParam(required = false) String since,
+                                                                     WebRequest request) {
+        if (resourceVersionService.mapDataNotModified(request)) {
+            return null;
+        }
+        if (since != null) {
+            SyncCursor from = SyncCursor.parse(since);
+            LocalDateTime queryStart = LocalDateTime.now();
+            List<SyncRow> rows = parcelRepository.findSyncRowsAfter(from.updatedAt(), from.id(), maxFeatures + 1);
+            List<SyncRow> page = limit(rows);
+            List<Parcel> parcels = parcelRepository.findAllById(syncIds(page, false));
+            return new MapResponse<>(simplifiedParcelFeatures(parcels, zoom), rows.size() > maxFeatures, syncIds(page, true),
+                    nextCursor(from, queryStart, rows.size() > maxFeatures ? page.get(page.size() - 1) : null));
+        }
+        List<Parcel> parcels = parcelsInView(bbox);
+        return new MapResponse<>(simplifiedParcelFeatures(limit(parcels), zoom), parcels.size() > maxFeatures);
     }
 
-    private double[] parseCentroid(String wkt) {
-        if (wkt == null) return new double[]{0,0};
-        String numbers = wkt.replaceAll("[^0-9.\\- ]", " ");
-        String[] parts = numbers.trim().split(" +");
-        double sumX=0,sumY=0; int count=0;
-        for(int i=0;i+1<parts.length;i+=2){
-            sumX+=Double.parseDouble(parts[i]);
-            sumY+=Double.parseDouble(parts[i+1]);
-            count++;}
-        if(count==0) return new double[]{0,0};
-        return new double[]{sumX/count,sumY/count};
+    private List<ParcelSimplifiedFeatureDto> simplifiedParcelFeatures(List<Parcel> parcels, int zoom) {
+        List<ParcelSimplifiedFeatureDto> features = new ArrayList<>();
+        for (Parcel p : parcels) {
+            List<double[]> coords = geometryLodStore.parcelOutline(p.getId(), p.getGeometryWgs84(), zoom);
+            if (!coords.isEmpty()) {
+                features.add(new ParcelSimplifiedFeatureDto(coords, p.getId(), p.getReference(),
+                        Boolean.TRUE.equals(p.getIsShowroom()), p.getStatus().name(),
+                        p.getZone() != null ? p.getZone().getId() : null));
+            }
+        }
+        return features;
+    }
+
+    /** Identifiants des lignes de synchronisation supprimées, ou des autres */
+    private static List<String> syncIds(List<SyncRow> rows, boolean deleted) {
+        return rows.stream()
+                .filter(row -> Boolean.TRUE.equals(row.getDeleted()) == deleted)
+                .map(SyncRow::getId)
+                .toList();
+    }
+
+    /**
+     * Curseur de la synchronisation suivante.
+     *
+     * Réponse tronquée : position de la dernière entité renvoyée, la suite
+     * reprend juste après elle, même si d'autres entités partagent sa date.
+     * Sinon, début de la requête moins {@link #SYNC_OVERLAP}, pour ne pas
+     * manquer les transactions encore en cours : les entités renvoyées deux
+     * fois sont simplement réappliquées.
+     */
+    private static String nextCursor(SyncCursor since, LocalDateTime queryStart, SyncRow last) {
+        if (last != null) {
+            return new SyncCursor(last.getUpdatedAt(), last.getId()).toString();
+        }
+        LocalDateTime overlap = queryStart.minus(SYNC_OVERLAP);
+        return (overlap.isAfter(since.updatedAt()) ? new SyncCursor(overlap, "") : since).toString();
+    }
+
+    /**
+     * Zones dont l'emprise recoupe la zone affichée (index GiST), ou toutes les
+     * zones sans emprise ; une zone de plus que le plafond est lue pour
+     * détecter la troncature.
+     */
+    private List<Zone> zonesInView(BoundingBox bbox) {
+        if (bbox != null) {
+            return zoneRepository.findInBoundingBox(bbox.minLon(), bbox.minLat(), bbox.maxLon(), bbox.maxLat(), maxFeatures + 1);
+        }
+        return zoneRepository.findAll(PageRequest.of(0, maxFeatures + 1, Sort.by("id"))).getContent();
     }
 
-    public record MapResponse<T>(List<T> features) {}
+    private List<Parcel> parcelsInView(BoundingBox bbox) {
+        if (bbox != null) {
+            return parcelRepository.findInBoundingBox(bbox.minLon(), bbox.minLat(), bbox.maxLon(), bbox.maxLat(), maxFeatures + 1);
+        }
+        return parcelRepository.findAll(PageRequest.of(0, maxFeatures + 1, Sort.by("id"))).getContent();
+    }
+
+    private <T> List<T> limit(List<T> rows) {
+        return rows.size() > maxFeatures ? rows.subList(0, maxFeatures) : rows;
+    }
+
+    /**
+     * Centroïde [latitude, longitude] d'une géométrie WGS84 stockée, ou à défaut
+     * les coordonnées pré-calculées de l'entité.
+     */
+    private double[] centroid(Geometry wgs84, Double latitude, Double longitude) {
+        if (wgs84 != null && !wgs84.isEmpty()) {
+            Point centroid = wgs84.getCentroid();
+            return new double[]{centroid.getY(), centroid.getX()};
+        }
+        if (latitude != null && longitude != null) {
+            return new double[]{latitude, longitude};
+        }
+        return new double[]{0, 0};
+    }
+
+    /**
+     * Position de synchronisation {@code (updated_at, id)}, sérialisée en
+     * {@code date,identifiant} ; un horodatage ISO-8601 seul, avec ou sans
+     * fuseau, désigne toutes les entités modifiées depuis cet instant.
+     *
+     * @param updatedAt date de modification de la dernière entité transmise
+     * @param id identifiant de la dernière entité transmise, vide pour aucune
+     */
+    record SyncCursor(LocalDateTime updatedAt, String id) {
+
+        static SyncCursor parse(String cursor) {
+            int separator = cursor.indexOf(',');
+            String timestamp = separator < 0 ? cursor : cursor.substring(0, separator);
+            String id = separator < 0 ? "" : cursor.substring(separator + 1);
+            try {
+                return new SyncCursor(LocalDateTime.parse(timestamp), id);
+            } catch (DateTimeParseException e) {
+                try {
+                    return new SyncCursor(OffsetDateTime.parse(timestamp).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime(), id);
+                } catch (DateTimeParseException ignored) {
+                    throw new ValidationException("since", "Curseur de synchronisation invalide: " + cursor);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return id.isEmpty() ? updatedAt.toString() : updatedAt + "," + id;
+        }
+    }
+
+    /**
+     * Réponse cartographique.
+     *
+     * @param features entités renvoyées
+     * @param truncated true si le plafond d'entités a été atteint et que d'autres entités existent
+     * @param deleted identifiants des entités supprimées (synchronisation uniquement)
+     * @param cursor curseur à passer en {@code since} à la synchronisation suivante (synchronisation uniquement)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record MapResponse<T>(List<T> features, boolean truncated, List<String> deleted, String cursor) {
+
+        public MapResponse(List<T> features, boolean truncated) {
+            this(features, truncated, null, null);
+        }
+    }
+
+    /**
+     * Identifiants des entités trouvées dans l'index spatial.
+     *
+     * @param zoneIds identifiants des zones
+     * @param parcelIds identifiants des parcelles
+     * @param truncated true si le plafond d'entités a été atteint pour l'une des listes
+     */
+    public record FeatureIdsResponse(List<String> zoneIds, List<String> parcelIds, boolean truncated) {}
 }
@@ -6,21 +6,33 @@ import com.industria.platform.dto.ParcelImageDto;
 import com.industria.platform.dto.VertexDto;
 import com.industria.platform.entity.AuditAction;
 import com.industria.platform.entity.Parcel;
+import com.industria.platform.entity.ParcelImage;
 import com.industria.platform.entity.ParcelStatus;
 import com.industria.platform.entity.User;
 import com.industria.platform.entity.Zone;
+import com.industria.platform.event.MapStatusChangedEvent;
+import com.industria.platform.projection.ParcelListRow;
+import com.industria.platform.repository.ParcelImageRepository;
 import com.industria.platform.repository.ParcelRepository;
 import com.industria.platform.repository.ZoneRepository;
 import com.industria.platform.service.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Contrôleur REST pour la gestion des parcelles.
@@ -42,99 +54,70 @@ public class ParcelController {
     private final PermissionService permissionService;
     private final UserService userService;
     private final AuditService auditService;
-    private final GeometryParsingService geometryParsingService;
     private final PostGISGeometryService postGISGeometryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParcelCountService parcelCountService;
+    private final ParcelImageRepository parcelImageRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final TextSearchService textSearchService;
 
     @GetMapping
     public ListResponse<ParcelDto> all(@RequestParam(required = false) String zoneId,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int limit,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeGeometry) {
         int p = Math.max(1, page);
         int l = Math.min(Math.max(1, limit), 100);
 
-        List<Parcel> allParcels;
-
-        if (search != null && !search.trim().isEmpty()) {
-            var searchPageable = PageRequest.of(0, 10000);
-            allParcels = parcelRepository
-                    .findByReferenceContainingIgnoreCase(search.trim(), searchPageable)
-                    .getContent();
-        } else if (zoneId != null) {
-            allParcels = new ArrayList<>(parcelRepository.findByZoneId(zoneId));
-        } else {
-            allParcels = parcelRepository.findAll();
-        }
-
-        log.debug("Found {} parcels before filtering", allParcels.size());
-
         // Filter for ZONE_MANAGER: only their own parcels, by creator ID (not email)
-        List<Parcel> permissionFilteredParcels;
+        String creatorId = null;
         if (permissionService.hasRole("ZONE_MANAGER")) {
-            String currentUserId = userService.findCurrentUser()
-                    .map(User::getId)
-                    .orElse(null);
-
-            if (currentUserId == null) {
+            creatorId = userService.findCurrentUser().map(User::getId).orElse(null);
+            if (creatorId == null) {
                 // No user loaded; safest is to return empty for a manager
-                permissionFilteredParcels = List.of();
-            } else {
-                permissionFilteredParcels = allParcels.stream()
-                        .filter(parcel -> parcel.getCreatedBy() != null
-                                && currentUserId.equals(parcel.getCreatedBy().getId()))
-                        .toList();
+                return new ListResponse<>(List.of(), 0, 0, p, l);
             }
-        } else {
-            // ADMIN and public users see all parcels (as per your policy)
-            permissionFilteredParcels = allParcels;
         }
+        // ADMIN and public users see all parcels (as per your policy)
 
-        log.debug("After permission filtering: {} parcels", permissionFilteredParcels.size());
+        // Filters, relevance ranking and pagination run in the database, on list columns only
+        Page<ParcelListRow> rows = textSearchService.parcels(search, creatorId,
+                zoneId == null || zoneId.isEmpty() ? null : zoneId, PageRequest.of(p - 1, l));
+        log.debug("Found {} parcels after filtering", rows.getTotalElements());
 
-        long totalFiltered = permissionFilteredParcels.size();
-        int totalPagesFiltered = (int) Math.ceil((double) totalFiltered / l);
-
-        int startIndex = (p - 1) * l;
-        int endIndex = Math.min(startIndex + l, (int) totalFiltered);
-
-        List<Parcel> paginatedParcels =
-                startIndex < totalFiltered ? permissionFilteredParcels.subList(startIndex, endIndex) : List.of();
-
-        var items = paginatedParcels.stream().map(this::toDto).toList();
-        return new ListResponse<>(items, totalFiltered, totalPagesFiltered, p, l);
+        var items = toListDtos(rows.getContent(), includeGeometry);
+        return new ListResponse<>(items, rows.getTotalElements(), rows.getTotalPages(), p, l);
     }
 
     @GetMapping("/all")
-    public List<ParcelDto> allParcels() {
-        List<Parcel> parcels = parcelRepository.findAll();
-
+    public List<ParcelDto> allParcels(@RequestParam(defaultValue = "false") boolean includeGeometry) {
+        String creatorId = null;
         if (permissionService.hasRole("ZONE_MANAGER")) {
-            String currentUserId = userService.findCurrentUser()
-                    .map(User::getId)
-                    .orElse(null);
-
-            if (currentUserId != null) {
-                parcels = parcels.stream()
-                        .filter(parcel -> parcel.getCreatedBy() != null
-                                && currentUserId.equals(parcel.getCreatedBy().getId()))
-                        .toList();
-            } else {
-                parcels = List.of(); // safest default for a manager without a loaded user
+            creatorId = userService.findCurrentUser().map(User::getId).orElse(null);
+            if (creatorId == null) {
+                return List.of(); // safest default for a manager without a loaded user
             }
         }
         // ADMIN and unauthenticated users: no filtering
 
-        return parcels.stream().map(this::toDto).toList();
+        return toListDtos(parcelRepository.findAllListRows(creatorId), includeGeometry);
     }
+
     /**
      * Récupère une parcelle par son identifiant.
+     * Répond 304 sans lire la parcelle si la copie du client est à jour.
      *
      * @param id identifiant de la parcelle
-     * @return données de la parcelle
+     * @param request requête en cours, pour les en-têtes conditionnels
+     * @return données de la parcelle, null si la copie du client est à jour
      */
     @GetMapping("/{id}")
-    public ParcelDto get(@PathVariable String id) {
-        return parcelRepository.findById(id).map(this::toDto).orElse(null);
+    public ParcelDto get(@PathVariable String id, WebRequest request) {
+        if (resourceVersionService.parcelNotModified(id, request)) {
+            return null;
+        }
+        return parcelRepository.findDetailById(id).map(this::toDto).orElse(null);
     }
 
     /**
@@ -146,6 +129,7 @@ public class ParcelController {
      */
     @PostMapping
     @PreAuthorize("hasRole('ZONE_MANAGER') or hasRole('ADMIN')")
+    @Transactional
     public ParcelDto create(@RequestBody ParcelDto dto) {
         // Vérifier si l'utilisateur peut modifier la zone parente
         if (dto.zoneId() != null && !permissionService.canModifyZone(dto.zoneId())) {
@@ -164,6 +148,8 @@ public class ParcelController {
         }
 
         parcelRepository.save(p);
+        parcelCountService.parcelAdded(p.getZone() != null ? p.getZone().getId() : null, p.getStatus());
+        eventPublisher.publishEvent(MapStatusChangedEvent.of(p));
 
         auditService.log(AuditAction.CREATE, "Parcel", p.getId(),
             null, p,
@@ -182,6 +168,7 @@ public class ParcelController {
      */
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ZONE_MANAGER') or hasRole('ADMIN')")
+    @Transactional
     public ResponseEntity<ParcelDto> update(@PathVariable String id, @RequestBody ParcelDto dto) {
         if (!permissionService.canModifyParcel(id)) {
             return ResponseEntity.status(403).build(); // Forbidden
@@ -192,9 +179,15 @@ public class ParcelController {
         parcelClone.setReference(oldParcel.getReference());
         parcelClone.setArea(oldParcel.getArea());
         parcelClone.setStatus(oldParcel.getStatus());
+        String previousZoneId = oldParcel.getZone() != null ? oldParcel.getZone().getId() : null;
 
         updateEntity(oldParcel, dto);
         parcelRepository.save(oldParcel);
+        String zoneId = oldParcel.getZone() != null ? oldParcel.getZone().getId() : null;
+        if (parcelClone.getStatus() != oldParcel.getStatus() || !Objects.equals(previousZoneId, zoneId)) {
+            parcelCountService.parcelChanged(previousZoneId, parcelClone.getStatus(), zoneId, oldParcel.getStatus());
+            eventPublisher.publishEvent(MapStatusChangedEvent.of(oldParcel));
+        }
 
         auditService.log(AuditAction.UPDATE, "Parcel", id,
             parcelClone, oldParcel,
@@ -212,13 +205,19 @@ public class ParcelController {
      */
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ZONE_MANAGER') or hasRole('ADMIN')")
+    @Transactional
     public ResponseEntity<Void> delete(@PathVariable String id) {
         if (!permissionService.canModifyParcel(id)) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
 
         Parcel parcel = parcelRepository.findById(id).orElse(null);
+        String zoneId = parcel != null && parcel.getZone() != null ? parcel.getZone().getId() : null;
         parcelRepository.deleteById(id);
+        if (parcel != null) {
+            parcelCountService.parcelRemoved(zoneId, parcel.getStatus());
+        }
+        eventPublisher.publishEvent(MapStatusChangedEvent.parcelDeleted(id, zoneId));
 
         auditService.log(AuditAction.DELETE, "Parcel", id,
             parcel, null,
@@ -256,26 +255,10 @@ public class ParcelController {
     private ParcelDto toDto(Parcel p) {
         List<VertexDto> vertices = List.of();
 
-        // Récupérer la géométrie - d'abord essayer depuis l'entity, puis via PostGIS service
+        // Récupérer la géométrie Lambert et sa projection WGS84 stockée
         try {
-            String geometry = p.getGeometry();
-            log.debug("Parcel {} geometry: {}", p.getId(), geometry != null ? geometry.substring(0, Math.min(100, geometry.length())) + "..." : "null");
-
-            if (geometry != null && !geometry.trim().isEmpty()) {
-                vertices = geometryParsingService.parseWKTGeometry(geometry);
-                log.debug("Parcel {} parsed {} vertices via entity", p.getId(), vertices.size());
-                if (!vertices.isEmpty()) {
-                    log.debug("First vertex: ({}, {})", vertices.get(0).lambertX(), vertices.get(0).lambertY());
-                }
-            } else {
-                // Fallback: essayer via PostGIS service
-                log.debug("Parcel {} trying PostGIS service fallback", p.getId());
-                vertices = postGISGeometryService.extractParcelVertices(p.getId());
-                log.debug("Parcel {} parsed {} vertices via PostGIS", p.getId(), vertices.size());
-                if (!vertices.isEmpty()) {
-                    log.debug("First vertex from PostGIS: ({}, {})", vertices.get(0).lambertX(), vertices.get(0).lambertY());
-                }
-            }
+            vertices = postGISGeometryService.extractParcelVertices(p);
+            log.debug("Parcel {} has {} vertices", p.getId(), vertices.size());
         } catch (Exception e) {
             log.error("Error parsing parcel geometry for {}: {}", p.getId(), e.getMessage(), e);
         }
@@ -287,44 +270,8 @@ public class ParcelController {
         }
 
         // Récupérer les images de la parcelle
-        List<ParcelImageDto> images = List.of();
-        String primaryImageUrl = null;
-
-        if (p.getImages() != null && !p.getImages().isEmpty()) {
-            images = p.getImages().stream()
-                .sorted((img1, img2) -> {
-                    // Images principales d'abord, puis par ordre d'affichage
-                    if (Boolean.TRUE.equals(img1.getIsPrimary()) && !Boolean.TRUE.equals(img2.getIsPrimary())) {
-                        return -1;
-                    }
-                    if (!Boolean.TRUE.equals(img1.getIsPrimary()) && Boolean.TRUE.equals(img2.getIsPrimary())) {
-                        return 1;
-                    }
-                    return Integer.compare(
-                        img1.getDisplayOrder() != null ? img1.getDisplayOrder() : 0,
-                        img2.getDisplayOrder() != null ? img2.getDisplayOrder() : 0
-                    );
-                })
-                .map(img -> new ParcelImageDto(
-                    img.getId(),
-                    img.getFilename(),
-                    img.getOriginalFilename(),
-                    img.getContentType(),
-                    img.getFileSize(),
-                    img.getDescription(),
-                    img.getDisplayOrder(),
-                    img.getIsPrimary(),
-                    "/api/parcel-images/" + img.getId() + "/download"
-                ))
-                .toList();
-
-            // Trouver l'URL de l'image principale
-            primaryImageUrl = images.stream()
-                .filter(img -> Boolean.TRUE.equals(img.isPrimary()))
-                .findFirst()
-                .map(ParcelImageDto::url)
-                .orElse(images.isEmpty() ? null : images.get(0).url());
-        }
+        List<ParcelImageDto> images = p.getImages() == null ? List.of() : toImageDtos(p.getImages());
+        String primaryImageUrl = primaryImageUrl(images);
 
         return new ParcelDto(p.getId(), p.getReference(), p.getArea(),
                 p.getStatus() == null ? null : p.getStatus().name(), p.getIsShowroom(),
@@ -338,6 +285,79 @@ public class ParcelController {
                 countryCurrency, images, primaryImageUrl);
     }
 
+    /**
+     * Convertit des lignes de liste en DTO ; les images et, sur demande, les
+     * géométries sont lues chacune en une seule requête pour toute la liste.
+     */
+    private List<ParcelDto> toListDtos(List<ParcelListRow> rows, boolean includeGeometry) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<String> ids = rows.stream().map(ParcelListRow::id).toList();
+        Map<String, List<ParcelImage>> images = parcelImageRepository.findByParcelIdInOrderByIsPrimaryDescDisplayOrderAsc(ids).stream()
+                .collect(Collectors.groupingBy(img -> img.getParcel().getId()));
+        Map<String, List<VertexDto>> vertices = Map.of();
+        if (includeGeometry) {
+            try {
+                vertices = postGISGeometryService.extractParcelVerticesByIds(ids);
+            } catch (Exception e) {
+                log.error("Error extracting vertices for {} parcels: {}", ids.size(), e.getMessage(), e);
+            }
+        }
+
+        List<ParcelDto> dtos = new ArrayList<>(rows.size());
+        for (ParcelListRow row : rows) {
+            List<ParcelImageDto> imageDtos = toImageDtos(images.getOrDefault(row.id(), List.of()));
+            dtos.add(new ParcelDto(row.id(), row.reference(), row.area(),
+                    row.status() == null ? null : row.status().name(), row.isShowroom(),
+                    row.zoneId(),
+                    vertices.getOrDefault(row.id(), List.of()), row.longitude(), row.latitude(),
+                    row.cos(), row.cus(), row.heightLimit(), row.setback(),
+                    row.zoneName(), row.zoneAddress(), row.zonePrice(),
+                    row.zonePriceType() == null ? null : row.zonePriceType().name(),
+                    row.countryCurrency(), imageDtos, primaryImageUrl(imageDtos)));
+        }
+        return dtos;
+    }
+
+    private List<ParcelImageDto> toImageDtos(Collection<ParcelImage> images) {
+        return images.stream()
+            .sorted((img1, img2) -> {
+                // Images principales d'abord, puis par ordre d'affichage
+                if (Boolean.TRUE.equals(img1.getIsPrimary()) && !Boolean.TRUE.equals(img2.getIsPrimary())) {
+                    return -1;
+                }
+                if (!Boolean.TRUE.equals(img1.getIsPrimary()) && Boolean.TRUE.equals(img2.getIsPrimary())) {
+                    return 1;
+                }
+                return Integer.compare(
+                    img1.getDisplayOrder() != null ? img1.getDisplayOrder() : 0,
+                    img2.getDisplayOrder() != null ? img2.getDisplayOrder() : 0
+                );
+            })
+            .map(img -> new ParcelImageDto(
+                img.getId(),
+                img.getFilename(),
+                img.getOriginalFilename(),
+                img.getContentType(),
+                img.getFileSize(),
+                img.getDescription(),
+                img.getDisplayOrder(),
+                img.getIsPrimary(),
+                "/api/parcel-images/" + img.getId() + "/download"
+            ))
+            .toList();
+    }
+
+    /** URL de l'image principale, ou à défaut de la première image */
+    private static String primaryImageUrl(List<ParcelImageDto> images) {
+        return images.stream()
+            .filter(img -> Boolean.TRUE.equals(img.isPrimary()))
+            .findFirst()
+            .map(ParcelImageDto::url)
+            .orElse(images.isEmpty() ? null : images.get(0).url());
+    }
+
     private void updateEntity(Parcel p, ParcelDto dto) {
         p.setReference(dto.reference());
         p.setArea(dto.area());
@@ -357,78 +377,14 @@ public class ParcelController {
 
         // Préserver la géométrie existante si pas de nouveaux vertices
         if (dto.vertices() != null && !dto.vertices().isEmpty()) {
-            String newGeometry = buildGeometry(dto.vertices());
-            if (newGeometry != null) {
-                p.setGeometry(newGeometry);
-                p.setSrid(4326);
-
-                log.debug("Vertices reçus pour parcelle: {}", dto.vertices());
-                log.debug("Nouvelle géométrie générée: {}", newGeometry);
-                // Calculer automatiquement les coordonnées WGS84
-                geometryUpdateService.updateParcelCoordinates(p, dto.vertices());
-            } else {
-                log.debug("Géométrie générée nulle, conservation de l'existante");
-            }
+            log.debug("Vertices reçus pour parcelle: {}", dto.vertices());
+            // Enregistrer la géométrie Lambert, sa projection WGS84 et le centroïde
+            geometryUpdateService.updateParcelGeometry(p, dto.vertices());
         } else {
             log.debug("Aucun vertex fourni, conservation de la géométrie existante");
             // Ne pas appeler geometryUpdateService pour éviter de réinitialiser les coordonnées
         }
     }
 
-    private List<VertexDto> parseGeometry(String wkt) {
-        if (wkt == null || wkt.trim().isEmpty()) return List.of();
-
-        log.debug("Parsing WKT: {}", wkt);
-
-        // Extraire les coordonnées du POLYGON((x1 y1, x2 y2, ...))
-        String coords = wkt;
-        if (coords.startsWith("POLYGON((")) {
-            coords = coords.substring(9); // Remove "POLYGON(("
-        }
-        if (coords.endsWith("))")) {
-            coords = coords.substring(0, coords.length() - 2); // Remove "))"
-        }
-
-        log.debug("Extracted coords: {}", coords);
-
-        List<VertexDto> verts = new ArrayList<>();
-        String[] coordPairs = coords.split(",");
-
-        for (int i = 0; i < coordPairs.length; i++) {
-            String[] xy = coordPairs[i].trim().split("\\s+");
-            if (xy.length >= 2) {
-                double x = Double.parseDouble(xy[0]);
-                double y = Double.parseDouble(xy[1]);
-
-                // Éviter de dupliquer le premier point (qui ferme le polygone)
-                if (i == coordPairs.length - 1 && verts.size() > 0) {
-                    VertexDto firstVertex = verts.get(0);
-                    if (Math.abs(firstVertex.lambertX() - x) < 0.001 && Math.abs(firstVertex.lambertY() - y) < 0.001) {
-                        break; // Skip the closing duplicate point
-                    }
-                }
-
-                verts.add(new VertexDto(i, x, y));
-            }
-        }
-        return verts;
-    }
-
-    private String buildGeometry(List<VertexDto> verts) {
-        if (verts == null || verts.isEmpty()) return null;
-
-        StringBuilder sb = new StringBuilder("POLYGON((");
-        for (int i = 0; i < verts.size(); i++) {
-            VertexDto v = verts.get(i);
-            sb.append(v.lambertX()).append(" ").append(v.lambertY());
-            if (i < verts.size() - 1) sb.append(", ");
-        }
-        // Fermer le polygone
-        VertexDto first = verts.get(0);
-        sb.append(", ").append(first.lambertX()).append(" ").append(first.lambertY());
-        sb.append("))");
-        return sb.toString();
-    }
-
     public record StatusRequest(ParcelStatus status) {}
 }
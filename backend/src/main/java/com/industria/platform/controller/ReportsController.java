@@ -1,6 +1,10 @@
 package com.industria.platform.controller;
 
+import com.industria.platform.entity.Zone;
 import com.industria.platform.repository.*;
+import com.industria.platform.service.ParcelCountService;
+import com.industria.platform.service.ParcelCountService.ParcelCounts;
+import com.industria.platform.service.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -15,6 +19,8 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -37,20 +43,28 @@ import java.util.stream.Collectors;
 public class ReportsController {
 
     private final ZoneRepository zoneRepository;
-    private final ParcelRepository parcelRepository;
     private final AppointmentRepository appointmentRepository;
     private final ContactRequestRepository contactRequestRepository;
     private final UserRepository userRepository;
+    private final SingleFlight singleFlight;
+    private final ParcelCountService parcelCountService;
 
+    /**
+     * Statistiques de rapport ; les requêtes simultanées de même période partagent un seul calcul.
+     */
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getReportStats(
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to) {
-        
+        return ResponseEntity.ok(singleFlight.execute("reports.stats", from + "|" + to, this::computeReportStats));
+    }
+
+    private Map<String, Object> computeReportStats() {
         // Statistiques de base
         long totalZones = zoneRepository.count();
-        long totalParcels = parcelRepository.count();
-        long availableParcels = parcelRepository.countByStatus(com.industria.platform.entity.ParcelStatus.LIBRE);
+        ParcelCounts parcelCounts = parcelCountService.totals();
+        long totalParcels = parcelCounts.total();
+        long availableParcels = parcelCounts.available();
         long totalUsers = userRepository.count();
         long totalAppointments = appointmentRepository.count();
         long pendingAppointments = appointmentRepository.countByStatus(com.industria.platform.entity.AppointmentStatus.PENDING);
@@ -70,17 +84,7 @@ public class ReportsController {
                 .collect(Collectors.toList());
 
         // Parcelles par statut
-        List<Map<String, Object>> parcelsByStatus = parcelRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                    parcel -> parcel.getStatus() != null ? parcel.getStatus().name() : "UNKNOWN",
-                    Collectors.counting()
-                ))
-                .entrySet().stream()
-                .map(entry -> Map.<String, Object>of(
-                    "status", entry.getKey(),
-                    "count", entry.getValue()
-                ))
-                .collect(Collectors.toList());
+        List<Map<String, Object>> parcelsByStatus = parcelsByStatus(parcelCounts);
 
         // Rendez-vous par statut
         List<Map<String, Object>> appointmentsByStatus = appointmentRepository.findAll().stream()
@@ -95,22 +99,8 @@ public class ReportsController {
                 ))
                 .collect(Collectors.toList());
 
-        // Top régions (simulé avec données disponibles)
-        List<Map<String, Object>> topRegions = zoneRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                    zone -> zone.getRegion() != null ? zone.getRegion().getName() : "Région inconnue",
-                    Collectors.counting()
-                ))
-                .entrySet().stream()
-                .map(entry -> Map.<String, Object>of(
-                    "region", entry.getKey(),
-                    "zonesCount", entry.getValue(),
-                    "parcelsCount", parcelRepository.findAll().stream()
-                            .filter(p -> p.getZone() != null && p.getZone().getRegion() != null 
-                                    && entry.getKey().equals(p.getZone().getRegion().getName()))
-                            .count()
-                ))
-                .collect(Collectors.toList());
+        // Top régions
+        List<Map<String, Object>> topRegions = topRegions();
 
         // Activité récente (7 derniers jours - simulée)
         List<Map<String, Object>> recentActivity = List.of(
@@ -172,7 +162,7 @@ public class ReportsController {
         stats.put("topRegions", topRegions);
         stats.put("recentActivity", recentActivity);
 
-        return ResponseEntity.ok(stats);
+        return stats;
     }
 
     @GetMapping("/export")
@@ -272,6 +262,41 @@ public class ReportsController {
             .body(outputStream.toByteArray());
     }
     
+    /**
+     * Parcelles par statut, lues dans les compteurs par zone.
+     */
+    private List<Map<String, Object>> parcelsByStatus(ParcelCounts counts) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        counts.byStatus().forEach((status, count) -> rows.add(Map.of("status", status.name(), "count", (long) count)));
+        long unknown = counts.total() - counts.byStatus().values().stream().mapToLong(Integer::longValue).sum();
+        if (unknown > 0) {
+            rows.add(Map.of("status", "UNKNOWN", "count", unknown));
+        }
+        return rows;
+    }
+
+    /**
+     * Zones et parcelles par région ; les parcelles sont lues dans les compteurs par zone.
+     */
+    private List<Map<String, Object>> topRegions() {
+        List<Zone> zones = zoneRepository.findAll();
+        Map<String, ParcelCounts> counts = parcelCountService.countsByZone(zones.stream().map(Zone::getId).toList());
+        Map<String, long[]> byRegion = new LinkedHashMap<>();
+        for (Zone zone : zones) {
+            String region = zone.getRegion() != null ? zone.getRegion().getName() : "Région inconnue";
+            long[] totals = byRegion.computeIfAbsent(region, r -> new long[2]);
+            totals[0]++;
+            totals[1] += counts.getOrDefault(zone.getId(), ParcelCounts.EMPTY).total();
+        }
+        return byRegion.entrySet().stream()
+                .map(entry -> Map.<String, Object>of(
+                    "region", entry.getKey(),
+                    "zonesCount", entry.getValue()[0],
+                    "parcelsCount", entry.getValue()[1]
+                ))
+                .collect(Collectors.toList());
+    }
+
     private String escapeForCsv(String value) {
         if (value == null) {
             return "";
@@ -285,8 +310,9 @@ public class ReportsController {
     private Map<String, Object> generateReportData(LocalDateTime from, LocalDateTime to) {
         // Statistiques de base
         long totalZones = zoneRepository.count();
-        long totalParcels = parcelRepository.count();
-        long availableParcels = parcelRepository.countByStatus(com.industria.platform.entity.ParcelStatus.LIBRE);
+        ParcelCounts parcelCounts = parcelCountService.totals();
+        long totalParcels = parcelCounts.total();
+        long availableParcels = parcelCounts.available();
         long totalUsers = userRepository.count();
         long totalAppointments = appointmentRepository.count();
         long pendingAppointments = appointmentRepository.countByStatus(com.industria.platform.entity.AppointmentStatus.PENDING);
@@ -306,17 +332,7 @@ public class ReportsController {
                 .collect(Collectors.toList());
 
         // Parcelles par statut
-        List<Map<String, Object>> parcelsByStatus = parcelRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                    parcel -> parcel.getStatus() != null ? parcel.getStatus().name() : "UNKNOWN",
-                    Collectors.counting()
-                ))
-                .entrySet().stream()
-                .map(entry -> Map.<String, Object>of(
-                    "status", entry.getKey(),
-                    "count", entry.getValue()
-                ))
-                .collect(Collectors.toList());
+        List<Map<String, Object>> parcelsByStatus = parcelsByStatus(parcelCounts);
 
         // Rendez-vous par statut
         List<Map<String, Object>> appointmentsByStatus = appointmentRepository.findAll().stream()
@@ -332,21 +348,7 @@ public class ReportsController {
                 .collect(Collectors.toList());
 
         // Top régions
-        List<Map<String, Object>> topRegions = zoneRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                    zone -> zone.getRegion() != null ? zone.getRegion().getName() : "Région inconnue",
-                    Collectors.counting()
-                ))
-                .entrySet().stream()
-                .map(entry -> Map.<String, Object>of(
-                    "region", entry.getKey(),
-                    "zonesCount", entry.getValue(),
-                    "parcelsCount", parcelRepository.findAll().stream()
-                            .filter(p -> p.getZone() != null && p.getZone().getRegion() != null 
-                                    && entry.getKey().equals(p.getZone().getRegion().getName()))
-                            .count()
-                ))
-                .collect(Collectors.toList());
+        List<Map<String, Object>> topRegions = topRegions();
 
         Map<String, Object> stats = new java.util.HashMap<>();
         stats.put("totalZones", totalZones);
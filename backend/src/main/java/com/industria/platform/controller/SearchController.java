@@ -0,0 +1,41 @@
+package com.industria.platform.controller;
+
+import com.industria.platform.dto.SuggestionDto;
+import com.industria.platform.service.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Contrôleur REST de la recherche publique.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SuggestionService suggestionService;
+
+    /**
+     * Suggère des zones, régions et parcelles pendant la saisie.
+     *
+     * Répond depuis l'index d'autocomplétion en mémoire, sans requête en base.
+     *
+     * @param query texte saisi
+     * @param limit nombre maximal de suggestions (défaut: 8, max: {@value SuggestionService#MAX_LIMIT})
+     * @return suggestions, des plus pertinentes aux moins pertinentes
+     */
+    @GetMapping("/suggest")
+    public List<SuggestionDto> suggest(@RequestParam("q") String query,
+                                       @RequestParam(defaultValue = "8") int limit) {
+        return suggestionService.suggest(query, limit);
+    }
+}
@@ -5,21 +5,35 @@ import com.industria.platform.dto.ParcelDto;
 import com.industria.platform.dto.ParcelImageDto;
 import com.industria.platform.dto.VertexDto;
 import com.industria.platform.dto.ZoneDto;
+import com.industria.platform.dto.ZoneFacetsDto;
 import com.industria.platform.dto.ZoneImageDto;
+import com.industria.platform.dto.ZoneSearchResponse;
 import com.industria.platform.entity.*;
+import com.industria.platform.event.MapStatusChangedEvent;
 import com.industria.platform.exception.EntityNotFoundException;
 import com.industria.platform.exception.ForbiddenException;
+import com.industria.platform.projection.ZoneLinkRow;
+import com.industria.platform.projection.ZoneListRow;
 import com.industria.platform.repository.*;
 import com.industria.platform.service.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/zones")
@@ -29,7 +43,6 @@ public class ZoneController {
 
     private final StatusService statusService;
     private final ZoneRepository zoneRepository;
-    private final ParcelRepository parcelRepository;
     private final ActivityRepository activityRepository;
     private final AmenityRepository amenityRepository;
     private final ZoneActivityRepository zoneActivityRepository;
@@ -41,7 +54,12 @@ public class ZoneController {
     private final UserService userService;
     private final PostGISGeometryService postGISGeometryService;
     private final AuditService auditService;
-    private final GeometryParsingService geometryParsingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParcelCountService parcelCountService;
+    private final ZoneImageRepository zoneImageRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final TextSearchService textSearchService;
+    private final ZoneFacetService zoneFacetService;
 
     @PutMapping("/{id}/status")
     @PreAuthorize("hasRole('ZONE_MANAGER') or hasRole('ADMIN')")
@@ -77,109 +95,118 @@ public class ZoneController {
             @RequestParam(required = false) Double minArea,
             @RequestParam(required = false) Double maxArea,
             @RequestParam(required = false) Double minPrice,
-            @RequestParam(required = false) Double maxPrice) {
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "false") boolean includeGeometry) {
         log.debug("Fetching zones - page: {}, limit: {}, search: {}", page, limit, search);
 
         int p = Math.max(1, page);
         int l = Math.min(Math.max(1, limit), 100);
 
-        // Load zones (no pagination yet)
-        List<Zone> allZones;
-        if (search != null && !search.trim().isEmpty()) {
-            var searchPageable = PageRequest.of(0, Integer.MAX_VALUE);
-            allZones = zoneRepository
-                    .findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(
-                            search.trim(), search.trim(), searchPageable)
-                    .getContent();
-        } else {
-            allZones = zoneRepository.findAll();
+        Optional<ListScope> scope = listScope(status);
+        if (scope.isEmpty()) {
+            return new ListResponse<>(List.of(), 0, 0, p, l);
         }
+        return list(scope.get(), p, l, search, regionId, zoneTypeId, minArea, maxArea, minPrice, maxPrice, includeGeometry);
+    }
 
-        // Permission filter: ZONE_MANAGER sees only their own zones (by creator ID)
-        List<Zone> permissionFilteredZones;
-        if (permissionService.hasRole("ZONE_MANAGER")) {
-            String currentUserId = userService.findCurrentUser()
-                    .map(User::getId)
-                    .orElse(null);
+    @GetMapping("/search")
+    public ZoneSearchResponse search(@RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String regionId,
+            @RequestParam(required = false) String zoneTypeId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Double minArea,
+            @RequestParam(required = false) Double maxArea,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "false") boolean includeGeometry) {
+        log.debug("Searching zones with facets - page: {}, limit: {}, search: {}", page, limit, search);
 
-            if (currentUserId == null) {
+        int p = Math.max(1, page);
+        int l = Math.min(Math.max(1, limit), 100);
+
+        Optional<ListScope> scope = listScope(status);
+        if (scope.isEmpty()) {
+            return new ZoneSearchResponse(List.of(), 0, 0, p, l,
+                    new ZoneFacetsDto(Map.of(), Map.of(), Map.of(), List.of(), List.of()));
+        }
+        ListResponse<ZoneDto> results = list(scope.get(), p, l, search, regionId, zoneTypeId,
+                minArea, maxArea, minPrice, maxPrice, includeGeometry);
+        // Each facet counts every filter but its own, in a single query
+        ZoneFacetsDto facets = zoneFacetService.facets(search, scope.get().creatorId(),
+                emptyToNull(regionId), emptyToNull(zoneTypeId), scope.get().status(),
+                minArea, maxArea, minPrice, maxPrice);
+        return new ZoneSearchResponse(results.items(), results.totalItems(), results.totalPages(),
+                results.page(), results.limit(), facets);
+    }
+
+    /**
+     * Périmètre d'une liste de zones : créateur imposé (ZONE_MANAGER : ses
+     * propres zones) et statut demandé.
+     *
+     * @param status statut saisi, null ou vide pour tous
+     * @return périmètre, vide si rien n'est visible (gestionnaire non résolu, statut inconnu)
+     */
+    private Optional<ListScope> listScope(String status) {
+        String creatorId = null;
+        if (permissionService.hasRole("ZONE_MANAGER")) {
+            creatorId = userService.findCurrentUser().map(User::getId).orElse(null);
+            if (creatorId == null) {
                 // no user resolved; safest is empty when manager role is present
-                permissionFilteredZones = List.of();
-            } else {
-                permissionFilteredZones = allZones.stream()
-                        .filter(zone -> zone.getCreatedBy() != null
-                                && currentUserId.equals(zone.getCreatedBy().getId()))
-                        .toList();
+                return Optional.empty();
             }
-        } else {
-            // ADMIN or public: no filtering
-            permissionFilteredZones = allZones;
-        }
-
-        // Additional filters
-        var finalFilteredZones = permissionFilteredZones.stream()
-                .filter(zone -> regionId == null || regionId.isEmpty() ||
-                        (zone.getRegion() != null && regionId.equals(zone.getRegion().getId())))
-                .filter(zone -> zoneTypeId == null || zoneTypeId.isEmpty() ||
-                        (zone.getZoneType() != null && zoneTypeId.equals(zone.getZoneType().getId())))
-                .filter(zone -> status == null || status.isEmpty() ||
-                        (zone.getStatus() != null && status.equals(zone.getStatus().name())))
-                .filter(zone -> minArea == null ||
-                        (zone.getTotalArea() != null && zone.getTotalArea() >= minArea))
-                .filter(zone -> maxArea == null ||
-                        (zone.getTotalArea() != null && zone.getTotalArea() <= maxArea))
-                .filter(zone -> minPrice == null ||
-                        (zone.getPrice() != null && zone.getPrice() >= minPrice))
-                .filter(zone -> maxPrice == null ||
-                        (zone.getPrice() != null && zone.getPrice() <= maxPrice))
-                .toList();
+        }
+        // ADMIN and unauthenticated users: no creator filter
 
-        // Manual pagination
-        long totalFiltered = finalFilteredZones.size();
-        int totalPagesFiltered = (int) Math.ceil((double) totalFiltered / l);
-        int startIndex = (p - 1) * l;
-        int endIndex = Math.min(startIndex + l, (int) totalFiltered);
+        ZoneStatus zoneStatus = null;
+        if (status != null && !status.isEmpty()) {
+            try {
+                zoneStatus = ZoneStatus.valueOf(status);
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new ListScope(creatorId, zoneStatus));
+    }
 
-        List<Zone> paginatedZones = startIndex < totalFiltered
-                ? finalFilteredZones.subList(startIndex, endIndex)
-                : List.of();
+    private ListResponse<ZoneDto> list(ListScope scope, int p, int l, String search, String regionId, String zoneTypeId,
+                                       Double minArea, Double maxArea, Double minPrice, Double maxPrice,
+                                       boolean includeGeometry) {
+        // Filters, relevance ranking and pagination run in the database, on list columns only
+        Page<ZoneListRow> rows = textSearchService.zones(search, scope.creatorId(),
+                emptyToNull(regionId), emptyToNull(zoneTypeId), scope.status(),
+                minArea, maxArea, minPrice, maxPrice, PageRequest.of(p - 1, l));
 
-        var items = paginatedZones.stream().map(this::toDto).toList();
-        return new ListResponse<>(items, totalFiltered, totalPagesFiltered, p, l);
+        var items = toListDtos(rows.getContent(), includeGeometry);
+        return new ListResponse<>(items, rows.getTotalElements(), rows.getTotalPages(), p, l);
     }
 
     @GetMapping("/all")
-    public List<ZoneDto> allZones() {
-        log.debug("Loading all zones with parcels");
-        List<Zone> zones = zoneRepository.findAllWithParcelsAndCreators();
-        log.debug("Loaded {} zones from repository", zones.size());
+    public List<ZoneDto> allZones(@RequestParam(defaultValue = "false") boolean includeGeometry) {
+        log.debug("Loading all zones for listing");
 
-        if (permissionService.hasRole("ZONE_MANAGER")) {
-            String currentUserId = userService.findCurrentUser()
-                    .map(User::getId)
-                    .orElse(null);
-
-            if (currentUserId != null) {
-                zones = zones.stream()
-                        .filter(zone -> zone.getCreatedBy() != null
-                                && currentUserId.equals(zone.getCreatedBy().getId()))
-                        .toList();
-                log.debug("Filtered to {} zones for ZONE_MANAGER {}", zones.size(), currentUserId);
-            } else {
-                zones = List.of();
-                log.debug("No current user resolved for manager; returning empty list");
-            }
+        Optional<ListScope> scope = listScope(null);
+        if (scope.isEmpty()) {
+            log.debug("No current user resolved for manager; returning empty list");
+            return List.of();
         }
-        // ADMIN and unauthenticated users: no filtering
 
-        List<ZoneDto> result = zones.stream().map(this::toDto).toList();
+        List<ZoneDto> result = toListDtos(zoneRepository.findAllListRows(scope.get().creatorId()), includeGeometry);
         log.debug("Returning {} zone DTOs", result.size());
         return result;
     }
 
+    /**
+     * Récupère le détail d'une zone, avec ses parcelles.
+     * Répond 304 sans lire la zone si la copie du client est à jour.
+     */
     @GetMapping("/{id}")
-    public ZoneDto get(@PathVariable String id) {
-        Zone z = zoneRepository.findById(id).orElseThrow();
+    public ZoneDto get(@PathVariable String id, WebRequest request) {
+        if (resourceVersionService.zoneNotModified(id, request)) {
+            return null;
+        }
+        Zone z = zoneRepository.findDetailById(id).orElseThrow();
         return toDto(z);
     }
 
@@ -211,6 +238,7 @@ public class ZoneController {
             // Save base zone to get ID
             updateEntityWithoutGeometry(z, dto);
             Zone saved = zoneRepository.save(z);
+            parcelCountService.zoneCreated(saved.getId());
 
             // Update geometry after we have an ID
             if (dto.vertices() != null && !dto.vertices().isEmpty()) {
@@ -223,6 +251,7 @@ public class ZoneController {
             auditService.log(AuditAction.CREATE, "Zone", saved.getId(),
                     null, saved,
                     "Création de la zone: " + saved.getName());
+            eventPublisher.publishEvent(MapStatusChangedEvent.of(saved));
 
             return toDto(saved);
         } catch (Exception e) {
@@ -249,11 +278,17 @@ public class ZoneController {
         zoneClone.setStatus(oldZone.getStatus());
 
         updateEntityWithoutGeometry(oldZone, dto);
+        // Les liens d'activités et d'équipements ne rendent pas la zone modifiée :
+        // la date est avancée pour que synchronisations et ETag les prennent en compte
+        oldZone.setUpdatedAt(LocalDateTime.now());
 
         if (dto.vertices() != null && !dto.vertices().isEmpty()) {
             updateGeometryAndCoordinates(oldZone, dto.vertices());
         }
         zoneRepository.save(oldZone);
+        if (zoneClone.getStatus() != oldZone.getStatus()) {
+            eventPublisher.publishEvent(MapStatusChangedEvent.of(oldZone));
+        }
 
         auditService.log(AuditAction.UPDATE, "Zone", id,
                 zoneClone, oldZone,
@@ -265,6 +300,7 @@ public class ZoneController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ZONE_MANAGER') or hasRole('ADMIN')")
+    @Transactional
     public ResponseEntity<Void> delete(@PathVariable String id) {
         log.info("Deleting zone: {}", id);
         if (!permissionService.canModifyZone(id)) {
@@ -286,6 +322,8 @@ public class ZoneController {
             }
 
             zoneRepository.deleteById(id);
+            parcelCountService.zoneDeleted(id);
+            eventPublisher.publishEvent(MapStatusChangedEvent.zoneDeleted(id));
 
             auditService.log(AuditAction.DELETE, "Zone", id,
                     zone, null,
@@ -298,30 +336,101 @@ public class ZoneController {
         }
     }
 
+    /**
+     * Convertit des lignes de liste en DTO. Les nombres de parcelles, les
+     * activités, les équipements, les images et, sur demande, les géométries
+     * sont lus chacun en une seule requête pour toute la liste ; les parcelles
+     * ne sont pas incluses.
+     */
+    private List<ZoneDto> toListDtos(List<ZoneListRow> rows, boolean includeGeometry) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<String> ids = rows.stream().map(ZoneListRow::id).toList();
+        Map<String, ParcelCountService.ParcelCounts> counts = parcelCountService.countsByZone(ids);
+        Map<String, List<String>> activityIds = zoneActivityRepository.findLinksByZoneIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ZoneLinkRow::zoneId, Collectors.mapping(ZoneLinkRow::targetId, Collectors.toList())));
+        Map<String, List<String>> amenityIds = zoneAmenityRepository.findLinksByZoneIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ZoneLinkRow::zoneId, Collectors.mapping(ZoneLinkRow::targetId, Collectors.toList())));
+        Map<String, List<ZoneImage>> images = zoneImageRepository.findByZoneIdInOrderByIsPrimaryDescDisplayOrderAsc(ids).stream()
+                .collect(Collectors.groupingBy(img -> img.getZone().getId()));
+        Map<String, List<VertexDto>> vertices = Map.of();
+        if (includeGeometry) {
+            try {
+                vertices = postGISGeometryService.extractZoneVerticesByIds(ids);
+            } catch (Exception e) {
+                log.error("Error extracting vertices for {} zones", ids.size(), e);
+            }
+        }
+
+        List<ZoneDto> dtos = new ArrayList<>(rows.size());
+        for (ZoneListRow row : rows) {
+            ParcelCountService.ParcelCounts c = counts.getOrDefault(row.id(), ParcelCountService.ParcelCounts.EMPTY);
+            List<ZoneImageDto> imageDtos = toImageDtos(row.id(), images.getOrDefault(row.id(), List.of()));
+            dtos.add(new ZoneDto(
+                    row.id(),
+                    row.name(),
+                    row.description(),
+                    row.address(),
+                    row.totalArea(),
+                    row.price(),
+                    row.priceType() == null ? null : row.priceType().name(),
+                    row.constructionType() == null ? null : row.constructionType().name(),
+                    row.status() == null ? null : row.status().name(),
+                    row.regionId(),
+                    row.zoneTypeId(),
+                    activityIds.getOrDefault(row.id(), List.of()),
+                    amenityIds.getOrDefault(row.id(), List.of()),
+                    vertices.getOrDefault(row.id(), List.of()),
+                    row.latitude(),
+                    row.longitude(),
+                    c.total(),
+                    c.available(),
+                    List.of(),
+                    row.countryId(),
+                    row.countryCode(),
+                    row.countryCurrency(),
+                    imageDtos,
+                    primaryImageUrl(imageDtos)
+            ));
+        }
+        return dtos;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
     private ZoneDto toDto(Zone z) {
-        List<VertexDto> vertices = List.of();
+        ParcelCountService.ParcelCounts counts = ParcelCountService.ParcelCounts.EMPTY;
         try {
-            vertices = postGISGeometryService.extractZoneVertices(z.getId());
+            counts = parcelCountService.countsFor(z.getId());
         } catch (Exception e) {
-            log.error("Error extracting vertices for zone {}", z.getId(), e);
+            log.error("Error counting parcels for zone {}", z.getId(), e);
         }
+        return toDto(z, counts);
+    }
 
-        int totalParcels = 0;
-        int availableParcels = 0;
+    private ZoneDto toDto(Zone z, ParcelCountService.ParcelCounts counts) {
+        List<VertexDto> vertices = List.of();
         try {
-            totalParcels = parcelRepository.countByZoneId(z.getId());
-            availableParcels = parcelRepository.countByZoneIdAndStatus(z.getId(), ParcelStatus.LIBRE);
-            log.trace("Zone {} has {} total parcels, {} available", z.getId(), totalParcels, availableParcels);
+            vertices = postGISGeometryService.extractZoneVertices(z);
         } catch (Exception e) {
-            log.error("Error counting parcels for zone {}", z.getId(), e);
+            log.error("Error extracting vertices for zone {}", z.getId(), e);
         }
 
+        int totalParcels = counts.total();
+        int availableParcels = counts.available();
+        log.trace("Zone {} has {} total parcels, {} available", z.getId(), totalParcels, availableParcels);
+
         List<ParcelDto> parcelDtos = List.of();
         log.debug("Zone {}: getParcels() = {}", z.getId(), z.getParcels() != null ? z.getParcels().size() : "null");
         if (z.getParcels() != null && !z.getParcels().isEmpty()) {
             try {
+                // Géométries de toutes les parcelles lues en une requête, décodées depuis le WKB
+                Map<String, List<VertexDto>> vertexMap = postGISGeometryService.extractParcelVerticesByZone(z);
                 parcelDtos = z.getParcels().stream()
-                        .map(this::convertParcelToDto)
+                        .map(p -> convertParcelToDto(p, vertexMap.getOrDefault(p.getId(), List.of())))
                         .toList();
                 log.debug("Zone {} has {} parcels converted to DTOs", z.getId(), parcelDtos.size());
             } catch (Exception e) {
@@ -340,37 +449,8 @@ public class ZoneController {
             countryCurrency = z.getRegion().getCountry().getCurrency();
         }
 
-        List<ZoneImageDto> images = List.of();
-        String primaryImageUrl = null;
-        if (z.getImages() != null && !z.getImages().isEmpty()) {
-            images = z.getImages().stream()
-                    .sorted((img1, img2) -> {
-                        if (Boolean.TRUE.equals(img1.getIsPrimary()) && !Boolean.TRUE.equals(img2.getIsPrimary())) return -1;
-                        if (!Boolean.TRUE.equals(img1.getIsPrimary()) && Boolean.TRUE.equals(img2.getIsPrimary())) return 1;
-                        return Integer.compare(
-                                img1.getDisplayOrder() != null ? img1.getDisplayOrder() : 0,
-                                img2.getDisplayOrder() != null ? img2.getDisplayOrder() : 0
-                        );
-                    })
-                    .map(img -> new ZoneImageDto(
-                            img.getId(),
-                            img.getFilename(),
-                            img.getOriginalFilename(),
-                            img.getContentType(),
-                            img.getFileSize(),
-                            img.getDescription(),
-                            img.getDisplayOrder(),
-                            img.getIsPrimary(),
-                            "/api/zones/" + z.getId() + "/images/" + img.getId() + "/file"
-                    ))
-                    .toList();
-
-            primaryImageUrl = images.stream()
-                    .filter(img -> Boolean.TRUE.equals(img.isPrimary()))
-                    .findFirst()
-                    .map(ZoneImageDto::url)
-                    .orElse(images.isEmpty() ? null : images.get(0).url());
-        }
+        List<ZoneImageDto> images = z.getImages() == null ? List.of() : toImageDtos(z.getId(), z.getImages());
+        String primaryImageUrl = primaryImageUrl(images);
 
         return new ZoneDto(
                 z.getId(),
@@ -400,25 +480,40 @@ public class ZoneController {
         );
     }
 
-    private ParcelDto convertParcelToDto(com.industria.platform.entity.Parcel p) {
-        List<VertexDto> vertices = List.of();
+    private List<ZoneImageDto> toImageDtos(String zoneId, Collection<ZoneImage> images) {
+        return images.stream()
+                .sorted((img1, img2) -> {
+                    if (Boolean.TRUE.equals(img1.getIsPrimary()) && !Boolean.TRUE.equals(img2.getIsPrimary())) return -1;
+                    if (!Boolean.TRUE.equals(img1.getIsPrimary()) && Boolean.TRUE.equals(img2.getIsPrimary())) return 1;
+                    return Integer.compare(
+                            img1.getDisplayOrder() != null ? img1.getDisplayOrder() : 0,
+                            img2.getDisplayOrder() != null ? img2.getDisplayOrder() : 0
+                    );
+                })
+                .map(img -> new ZoneImageDto(
+                        img.getId(),
+                        img.getFilename(),
+                        img.getOriginalFilename(),
+                        img.getContentType(),
+                        img.getFileSize(),
+                        img.getDescription(),
+                        img.getDisplayOrder(),
+                        img.getIsPrimary(),
+                        "/api/zones/" + zoneId + "/images/" + img.getId() + "/file"
+                ))
+                .toList();
+    }
 
-        try {
-            String geometry = p.getGeometry();
-            log.debug("Zone parcel {} geometry: {}", p.getId(),
-                    (geometry != null ? geometry.substring(0, Math.min(50, geometry.length())) + "..." : "null"));
+    private static String primaryImageUrl(List<ZoneImageDto> images) {
+        return images.stream()
+                .filter(img -> Boolean.TRUE.equals(img.isPrimary()))
+                .findFirst()
+                .map(ZoneImageDto::url)
+                .orElse(images.isEmpty() ? null : images.get(0).url());
+    }
 
-            if (geometry != null && !geometry.trim().isEmpty()) {
-                vertices = geometryParsingService.parseWKTGeometry(geometry);
-                log.debug("Zone parcel {} parsed {} vertices via entity", p.getId(), vertices.size());
-            } else {
-                log.debug("Zone parcel {} trying PostGIS service fallback", p.getId());
-                vertices = postGISGeometryService.extractParcelVertices(p.getId());
-                log.debug("Zone parcel {} parsed {} vertices via PostGIS", p.getId(), vertices.size());
-            }
-        } catch (Exception e) {
-            log.error("Error extracting parcel geometry for {}", p.getId(), e);
-        }
+    private ParcelDto convertParcelToDto(com.industria.platform.entity.Parcel p, List<VertexDto> vertices) {
+        log.debug("Zone parcel {} has {} vertices", p.getId(), vertices.size());
 
         String countryCurrency = null;
         if (p.getZone() != null && p.getZone().getRegion() != null && p.getZone().getRegion().getCountry() != null) {
@@ -472,21 +567,6 @@ public class ZoneController {
         );
     }
 
-    private String buildGeometry(List<VertexDto> verts) {
-        if (verts == null || verts.isEmpty()) return null;
-        StringBuilder sb = new StringBuilder("POLYGON((");
-        for (int i = 0; i < verts.size(); i++) {
-            VertexDto v = verts.get(i);
-            if (i > 0) sb.append(',');
-            sb.append(v.lambertX()).append(' ').append(v.lambertY());
-        }
-        // close polygon
-        VertexDto first = verts.get(0);
-        sb.append(',').append(first.lambertX()).append(' ').append(first.lambertY());
-        sb.append("))");
-        return sb.toString();
-    }
-
     private void updateEntityWithoutGeometry(Zone z, ZoneDto dto) {
         log.trace("Updating zone entity without geometry");
         z.setName(dto.name());
@@ -551,24 +631,9 @@ public class ZoneController {
 
     private void updateGeometryAndCoordinates(Zone z, List<VertexDto> vertices) {
         try {
-            String newGeometry = buildGeometry(vertices);
-            if (newGeometry != null) {
-                z.setGeometry(newGeometry);
-                z.setSrid(4326);
-
-                log.debug("Updating zone geometry with {} vertices", vertices.size());
-
-                if (z.getRegion() != null && z.getRegion().getCountry() != null) {
-                    geometryUpdateService.updateZoneCoordinates(z, vertices);
-                    log.debug("Zone coordinates updated successfully");
-                } else {
-                    log.warn("Zone region/country not set, skipping coordinate calculation");
-                    z.setLatitude(null);
-                    z.setLongitude(null);
-                }
-            } else {
-                log.warn("Failed to build geometry from vertices");
-            }
+            log.debug("Updating zone geometry with {} vertices", vertices.size());
+            geometryUpdateService.updateZoneGeometry(z, vertices);
+            log.debug("Zone geometry and coordinates updated successfully");
         } catch (Exception e) {
             log.error("Error updating zone geometry and coordinates: {}", e.getMessage());
             z.setLatitude(null);
@@ -577,5 +642,8 @@ public class ZoneController {
     }
 
     public record StatusRequest(ZoneStatus status) {}
+
+    /** Périmètre d'une liste de zones : créateur imposé (null pour tous) et statut (null pour tous) */
+    private record ListScope(String creatorId, ZoneStatus status) {}
     public record CheckNameResponse(boolean exists) {}
 }
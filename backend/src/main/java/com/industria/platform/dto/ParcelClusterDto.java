@@ -0,0 +1,20 @@
+package com.industria.platform.dto;
+
+import java.util.Map;
+
+/**
+ * DTO représentant un groupe de parcelles affiché comme un seul marqueur.
+ *
+ * @param coordinates position [latitude, longitude] du groupe (moyenne des centroïdes)
+ * @param count nombre de parcelles du groupe
+ * @param statusCounts nombre de parcelles par statut (statuts présents uniquement)
+ * @param showroomCount nombre de parcelles showroom
+ * @param expansionZoom zoom à partir duquel le groupe se divise
+ * @param parcelId identifiant de la parcelle si le groupe n'en contient qu'une, null sinon
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ParcelClusterDto(double[] coordinates, int count, Map<String, Integer> statusCounts,
+                               int showroomCount, int expansionZoom, String parcelId) {}
@@ -0,0 +1,20 @@
+package com.industria.platform.dto;
+
+import java.util.List;
+
+/**
+ * DTO représentant une parcelle avec son contour simplifié pour la carte.
+ * 
+ * @param coordinates contour simplifié selon le zoom, points [latitude, longitude]
+ * @param id identifiant de la parcelle
+ * @param reference référence de la parcelle
+ * @param isShowroom indique si la parcelle est un showroom
+ * @param status statut de la parcelle
+ * @param zoneId identifiant de la zone de la parcelle
+ * 
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ParcelSimplifiedFeatureDto(List<double[]> coordinates, String id, String reference,
+                                         boolean isShowroom, String status, String zoneId) {}
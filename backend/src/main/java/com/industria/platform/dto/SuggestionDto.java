@@ -0,0 +1,15 @@
+package com.industria.platform.dto;
+
+/**
+ * DTO d'une suggestion d'autocomplétion.
+ *
+ * @param type type d'entité ({@code ZONE}, {@code PARCEL} ou {@code REGION})
+ * @param id identifiant de l'entité
+ * @param label libellé principal (nom de zone ou de région, référence de parcelle)
+ * @param detail précision secondaire : adresse d'une zone, zone d'une parcelle, pays d'une région
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record SuggestionDto(String type, String id, String label, String detail) {}
@@ -0,0 +1,36 @@
+package com.industria.platform.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO des compteurs de facettes d'une recherche de zones.
+ *
+ * Chaque facette est comptée avec tous les filtres courants sauf le sien :
+ * les valeurs voisines de la valeur choisie gardent leur nombre de zones.
+ *
+ * @param regions nombre de zones par identifiant de région
+ * @param zoneTypes nombre de zones par identifiant de type de zone
+ * @param statuses nombre de zones par statut
+ * @param priceBands nombre de zones par tranche de prix, dans l'ordre des tranches
+ * @param areaBands nombre de zones par tranche de superficie, dans l'ordre des tranches
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ZoneFacetsDto(Map<String, Long> regions,
+                            Map<String, Long> zoneTypes,
+                            Map<String, Long> statuses,
+                            List<BandCount> priceBands,
+                            List<BandCount> areaBands) {
+
+    /**
+     * Nombre de zones d'une tranche {@code [min, max)}.
+     *
+     * @param min borne inférieure incluse, null pour aucune
+     * @param max borne supérieure exclue, null pour aucune
+     * @param count nombre de zones
+     */
+    public record BandCount(Double min, Double max, long count) {}
+}
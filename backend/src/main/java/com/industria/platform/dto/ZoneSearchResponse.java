@@ -0,0 +1,21 @@
+package com.industria.platform.dto;
+
+import java.util.List;
+
+/**
+ * DTO de réponse de la recherche de zones à facettes : une page de résultats
+ * et les compteurs de facettes du filtre courant.
+ *
+ * @param items zones de la page
+ * @param totalItems nombre total de zones correspondant au filtre
+ * @param totalPages nombre total de pages
+ * @param page numéro de la page (à partir de 1)
+ * @param limit taille de la page
+ * @param facets compteurs de facettes
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ZoneSearchResponse(List<ZoneDto> items, long totalItems, int totalPages, int page, int limit,
+                                 ZoneFacetsDto facets) {}
@@ -1,7 +1,11 @@
 package com.industria.platform.entity;
 
 import jakarta.persistence.*;
+import com.industria.platform.event.MapDataEntityListener;
+import com.industria.platform.event.ReferenceDataEntityListener;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -16,12 +20,20 @@ import java.util.Set;
  * @since 1.0
  */
 @Entity
+@Table(indexes = @Index(columnList = "updated_at"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Activity.CACHE_REGION)
+@EntityListeners({MapDataEntityListener.class, ReferenceDataEntityListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Activity {
+
+    /** Région du cache de second niveau des activités */
+    public static final String CACHE_REGION = "activity";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
@@ -1,7 +1,11 @@
 package com.industria.platform.entity;
 
 import jakarta.persistence.*;
+import com.industria.platform.event.MapDataEntityListener;
 import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+import org.locationtech.jts.geom.Geometry;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -11,18 +15,41 @@ import java.util.Set;
  * Une parcelle est une subdivision d'une zone industrielle, avec ses propres
  * contraintes d'urbanisme et caractéristiques géospatiales.
  * 
+ * La suppression est logique ({@code deletedAt}) : les lignes supprimées
+ * restent en base, invisibles des requêtes, pour la synchronisation des cartes.
+ * 
+ * Plan de chargement {@link #GRAPH_SUMMARY} : zone (avec région, pays, type et
+ * créateur) et créateur ; les images sont chargées par lots.
+ * 
  * @author Industria Platform Team
  * @version 1.0
  * @since 1.0
  */
 @Entity
-@Table(indexes = {@Index(columnList = "zone_id")})
+@EntityListeners(MapDataEntityListener.class)
+@NamedEntityGraph(name = Parcel.GRAPH_SUMMARY,
+        attributeNodes = {
+                @NamedAttributeNode(value = "zone", subgraph = "zone"),
+                @NamedAttributeNode("createdBy")},
+        subgraphs = {
+                @NamedSubgraph(name = "zone", attributeNodes = {
+                        @NamedAttributeNode(value = "region", subgraph = "region"),
+                        @NamedAttributeNode("zoneType"),
+                        @NamedAttributeNode("createdBy")}),
+                @NamedSubgraph(name = "region", attributeNodes = @NamedAttributeNode("country"))})
+@SQLDelete(sql = "UPDATE parcel SET deleted_at = localtimestamp, updated_at = localtimestamp WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
+@Table(indexes = {@Index(columnList = "zone_id"), @Index(columnList = "updated_at, id"), @Index(columnList = "deleted_at")})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Parcel {
+
+    /** Plan de chargement des listes et du détail : zone, région, pays et créateurs */
+    public static final String GRAPH_SUMMARY = "Parcel.summary";
+
     /** Identifiant unique de la parcelle */
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -53,13 +80,19 @@ public class Parcel {
     /** Recul obligatoire en mètres */
     private Double setback;
 
-    /** Géométrie de la parcelle au format WKT */
-    @Column(columnDefinition = "text")
-    @Convert(converter = com.industria.platform.converter.GeometryConverter.class)
-    private String geometry;
+    /** Géométrie de la parcelle dans le système Lambert du pays (SRID de la ligne) */
+    @Column(columnDefinition = "geometry(Polygon)")
+    private Geometry geometry;
 
     /** Système de référence spatiale (SRID) */
     private Integer srid;
+
+    /**
+     * Géométrie de la parcelle projetée en WGS84 (longitude, latitude).
+     * Calculée à l'écriture, avec les vertices dans le même ordre que {@link #geometry}.
+     */
+    @Column(columnDefinition = "geometry(Polygon,4326)")
+    private Geometry geometryWgs84;
     
     /** Longitude du centre de la parcelle (WGS84) */
     private Double longitude;
@@ -1,7 +1,10 @@
 package com.industria.platform.entity;
 
+import com.industria.platform.event.ReferenceDataEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -16,12 +19,20 @@ import java.util.Set;
  * @since 1.0
  */
 @Entity
+@Table(indexes = @Index(columnList = "updated_at"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Region.CACHE_REGION)
+@EntityListeners(ReferenceDataEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Region {
+
+    /** Région du cache de second niveau des régions */
+    public static final String CACHE_REGION = "region";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
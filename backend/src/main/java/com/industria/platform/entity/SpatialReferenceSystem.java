@@ -1,7 +1,10 @@
 package com.industria.platform.entity;
 
+import com.industria.platform.event.ReferenceDataEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -16,12 +19,19 @@ import java.util.Set;
  * @since 1.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SpatialReferenceSystem.CACHE_REGION)
+@EntityListeners(ReferenceDataEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class SpatialReferenceSystem {
+
+    /** Région du cache de second niveau des systèmes de référence spatiale */
+    public static final String CACHE_REGION = "spatial-reference-system";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
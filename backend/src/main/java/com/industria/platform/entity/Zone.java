@@ -1,7 +1,11 @@
 package com.industria.platform.entity;
 
 import jakarta.persistence.*;
+import com.industria.platform.event.MapDataEntityListener;
 import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+import org.locationtech.jts.geom.Geometry;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -11,17 +15,53 @@ import java.util.Set;
  * Une zone est un territoire géographique délimité pouvant contenir plusieurs parcelles.
  * Elle possède des informations géospatiales, des activités autorisées et des équipements.
  * 
+ * La suppression est logique ({@code deletedAt}) : les lignes supprimées
+ * restent en base, invisibles des requêtes, pour la synchronisation des cartes.
+ * 
+ * Plans de chargement : {@link #GRAPH_SUMMARY} pour les listes (associations
+ * simples), {@link #GRAPH_DETAIL} pour une zone seule (avec activités,
+ * équipements et images). Les autres collections sont chargées par lots.
+ * 
  * @author Industria Platform Team
  * @version 1.0
  * @since 1.0
  */
 @Entity
+@EntityListeners(MapDataEntityListener.class)
+@NamedEntityGraph(name = Zone.GRAPH_SUMMARY,
+        attributeNodes = {
+                @NamedAttributeNode(value = "region", subgraph = "region"),
+                @NamedAttributeNode("zoneType"),
+                @NamedAttributeNode("createdBy")},
+        subgraphs = @NamedSubgraph(name = "region", attributeNodes = @NamedAttributeNode("country")))
+@NamedEntityGraph(name = Zone.GRAPH_DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode(value = "region", subgraph = "region"),
+                @NamedAttributeNode("zoneType"),
+                @NamedAttributeNode("createdBy"),
+                @NamedAttributeNode(value = "activities", subgraph = "activities"),
+                @NamedAttributeNode(value = "amenities", subgraph = "amenities"),
+                @NamedAttributeNode("images")},
+        subgraphs = {
+                @NamedSubgraph(name = "region", attributeNodes = @NamedAttributeNode("country")),
+                @NamedSubgraph(name = "activities", attributeNodes = @NamedAttributeNode("activity")),
+                @NamedSubgraph(name = "amenities", attributeNodes = @NamedAttributeNode("amenity"))})
+@SQLDelete(sql = "UPDATE zone SET deleted_at = localtimestamp, updated_at = localtimestamp WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
+@Table(indexes = {@Index(columnList = "updated_at, id"), @Index(columnList = "deleted_at")})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Zone {
+
+    /** Plan de chargement des listes : région, pays, type de zone et créateur */
+    public static final String GRAPH_SUMMARY = "Zone.summary";
+
+    /** Plan de chargement du détail : plan des listes, activités, équipements et images */
+    public static final String GRAPH_DETAIL = "Zone.detail";
+
     /** Identifiant unique de la zone */
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -54,13 +94,19 @@ public class Zone {
     @Enumerated(EnumType.STRING)
     private ZoneStatus status;
 
-    /** Géométrie de la zone au format WKT */
-    @Column(columnDefinition = "text")
-    @Convert(converter = com.industria.platform.converter.GeometryConverter.class)
-    private String geometry;
+    /** Géométrie de la zone dans le système Lambert du pays (SRID de la ligne) */
+    @Column(columnDefinition = "geometry(Polygon)")
+    private Geometry geometry;
 
     /** Système de référence spatiale (SRID) */
     private Integer srid;
+
+    /**
+     * Géométrie de la zone projetée en WGS84 (longitude, latitude).
+     * Calculée à l'écriture, avec les vertices dans le même ordre que {@link #geometry}.
+     */
+    @Column(columnDefinition = "geometry(Polygon,4326)")
+    private Geometry geometryWgs84;
     
     /** Longitude du centre de la zone (WGS84) */
     private Double longitude;
@@ -1,6 +1,7 @@
 package com.industria.platform.entity;
 
 import jakarta.persistence.*;
+import com.industria.platform.event.MapDataEntityListener;
 import lombok.*;
 
 /**
@@ -14,6 +15,7 @@ import lombok.*;
  * @since 1.0
  */
 @Entity
+@EntityListeners(MapDataEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
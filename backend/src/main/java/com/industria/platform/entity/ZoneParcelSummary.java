@@ -0,0 +1,40 @@
+package com.industria.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Compteurs dénormalisés des parcelles d'une zone, par statut.
+ *
+ * Tenus à jour à l'écriture, dans la transaction qui crée, supprime ou
+ * change le statut d'une parcelle, et recalculés périodiquement depuis la
+ * table {@code parcel}. Les parcelles sans statut ne comptent que dans le total.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ZoneParcelSummary {
+
+    /** Identifiant de la zone */
+    @Id
+    private String zoneId;
+
+    /** Nombre total de parcelles */
+    private int totalCount;
+
+    private int libreCount;
+    private int reserveeCount;
+    private int indisponibleCount;
+    private int venduCount;
+    private int enDeveloppementCount;
+
+    private LocalDateTime updatedAt;
+}
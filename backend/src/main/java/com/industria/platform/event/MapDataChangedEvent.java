@@ -0,0 +1,14 @@
+package com.industria.platform.event;
+
+/**
+ * Événement publié lorsqu'une donnée affichée sur la carte est modifiée
+ * (zone, parcelle, activités ou équipements d'une zone).
+ *
+ * @param entity nom de l'entité modifiée
+ * @param id identifiant de l'entité modifiée
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record MapDataChangedEvent(String entity, String id) {}
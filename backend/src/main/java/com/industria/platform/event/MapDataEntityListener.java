@@ -0,0 +1,61 @@
+package com.industria.platform.event;
+
+import com.industria.platform.entity.Activity;
+import com.industria.platform.entity.Amenity;
+import com.industria.platform.entity.Parcel;
+import com.industria.platform.entity.Zone;
+import com.industria.platform.entity.ZoneActivity;
+import com.industria.platform.entity.ZoneAmenity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA des entités affichées sur la carte.
+ *
+ * Publie un {@link MapDataChangedEvent} après chaque création, modification
+ * ou suppression, quel que soit le point d'écriture (contrôleurs, services,
+ * migration). Les consommateurs l'écoutent après validation de la transaction.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class MapDataEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        eventPublisher.publishEvent(new MapDataChangedEvent(entity.getClass().getSimpleName(), idOf(entity)));
+    }
+
+    private static String idOf(Object entity) {
+        if (entity instanceof Zone zone) {
+            return zone.getId();
+        }
+        if (entity instanceof Parcel parcel) {
+            return parcel.getId();
+        }
+        if (entity instanceof ZoneActivity link) {
+            return link.getZone() != null ? link.getZone().getId() : null;
+        }
+        if (entity instanceof ZoneAmenity link) {
+            return link.getZone() != null ? link.getZone().getId() : null;
+        }
+        if (entity instanceof Activity activity) {
+            return activity.getId();
+        }
+        if (entity instanceof Amenity amenity) {
+            return amenity.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.industria.platform.event;
+
+import com.industria.platform.entity.Parcel;
+import com.industria.platform.entity.Zone;
+
+/**
+ * Événement métier publié lorsque le statut d'une zone ou d'une parcelle
+ * change, ou lorsqu'elle est créée ou supprimée.
+ *
+ * Sert tel quel de message aux clients de la carte ({@code /api/map/events}) :
+ * le client met à jour l'entité en place sans recharger la carte. La
+ * suppression d'une zone entraîne celle de ses parcelles.
+ *
+ * @param entity nom de l'entité ({@code Zone} ou {@code Parcel})
+ * @param id identifiant de l'entité
+ * @param status nouveau statut (null si supprimée)
+ * @param zoneId zone parente d'une parcelle (null pour une zone)
+ * @param deleted true si l'entité a été supprimée
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record MapStatusChangedEvent(String entity, String id, String status, String zoneId, boolean deleted) {
+
+    public static MapStatusChangedEvent of(Zone zone) {
+        return new MapStatusChangedEvent("Zone", zone.getId(),
+                zone.getStatus() != null ? zone.getStatus().name() : null, null, false);
+    }
+
+    public static MapStatusChangedEvent of(Parcel parcel) {
+        return new MapStatusChangedEvent("Parcel", parcel.getId(),
+                parcel.getStatus() != null ? parcel.getStatus().name() : null,
+                parcel.getZone() != null ? parcel.getZone().getId() : null, false);
+    }
+
+    public static MapStatusChangedEvent zoneDeleted(String id) {
+        return new MapStatusChangedEvent("Zone", id, null, null, true);
+    }
+
+    public static MapStatusChangedEvent parcelDeleted(String id, String zoneId) {
+        return new MapStatusChangedEvent("Parcel", id, null, zoneId, true);
+    }
+}
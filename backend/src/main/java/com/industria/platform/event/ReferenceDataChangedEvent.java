@@ -0,0 +1,14 @@
+package com.industria.platform.event;
+
+/**
+ * Événement publié lorsqu'une donnée de référence est créée, modifiée ou
+ * supprimée (pays, région, type de zone, activité, équipement, système de
+ * référence spatiale).
+ *
+ * @param entityType classe de l'entité modifiée
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ReferenceDataChangedEvent(Class<?> entityType) {}
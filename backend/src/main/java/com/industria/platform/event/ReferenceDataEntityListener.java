@@ -0,0 +1,33 @@
+package com.industria.platform.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA des données de référence mises en cache.
+ *
+ * Publie un {@link ReferenceDataChangedEvent} après chaque écriture, pour
+ * que le cache de second niveau soit vidé après validation de la transaction.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(Hibernate.getClass(entity)));
+    }
+}
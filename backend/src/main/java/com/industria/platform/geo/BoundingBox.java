@@ -0,0 +1,67 @@
+package com.industria.platform.geo;
+
+/**
+ * Rectangle géographique WGS84 (emprise de la carte affichée).
+ *
+ * Utilisable directement comme paramètre de requête : Spring le construit
+ * via {@link #valueOf(String)} à partir de {@code minLon,minLat,maxLon,maxLat}.
+ *
+ * @param minLon longitude minimale
+ * @param minLat latitude minimale
+ * @param maxLon longitude maximale
+ * @param maxLat latitude maximale
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record BoundingBox(double minLon, double minLat, double maxLon, double maxLat) {
+
+    public BoundingBox {
+        if (!Double.isFinite(minLon) || !Double.isFinite(minLat) || !Double.isFinite(maxLon) || !Double.isFinite(maxLat)) {
+            throw new IllegalArgumentException("Emprise invalide: coordonnées non finies");
+        }
+        if (minLon < -180 || maxLon > 180 || minLat < -90 || maxLat > 90) {
+            throw new IllegalArgumentException("Emprise hors des limites WGS84");
+        }
+        if (minLon > maxLon || minLat > maxLat) {
+            throw new IllegalArgumentException("Emprise invalide: minimum supérieur au maximum");
+        }
+    }
+
+    /**
+     * Lit une emprise au format {@code minLon,minLat,maxLon,maxLat}.
+     *
+     * @param text emprise sous forme de texte
+     * @return emprise
+     * @throws IllegalArgumentException si le format ou les valeurs sont invalides
+     */
+    public static BoundingBox valueOf(String text) {
+        String[] parts = text.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Emprise attendue: minLon,minLat,maxLon,maxLat");
+        }
+        return new BoundingBox(Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim()),
+                Double.parseDouble(parts[2].trim()), Double.parseDouble(parts[3].trim()));
+    }
+
+    /**
+     * Indique si un point est dans l'emprise (bords inclus).
+     *
+     * @param longitude longitude du point
+     * @param latitude latitude du point
+     * @return true si le point est dans l'emprise
+     */
+    public boolean contains(double longitude, double latitude) {
+        return longitude >= minLon && longitude <= maxLon && latitude >= minLat && latitude <= maxLat;
+    }
+
+    /**
+     * Indique si un rectangle recoupe l'emprise (bords inclus).
+     *
+     * @return true si les deux rectangles se recoupent
+     */
+    public boolean intersects(double otherMinLon, double otherMinLat, double otherMaxLon, double otherMaxLat) {
+        return otherMinLon <= maxLon && otherMaxLon >= minLon && otherMinLat <= maxLat && otherMaxLat >= minLat;
+    }
+}
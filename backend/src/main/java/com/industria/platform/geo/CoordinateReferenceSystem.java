@@ -0,0 +1,152 @@
+package com.industria.platform.geo;
+
+/**
+ * Système de référence compilé : projection, datum et unités, prêt à convertir
+ * des coordonnées vers ou depuis le WGS84 (EPSG:4326) sans aller-retour en base.
+ *
+ * Les instances sont immuables et sûres en accès concurrent ; elles sont
+ * construites une seule fois par SRID et partagées via le registre de projections.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CoordinateReferenceSystem {
+
+    /** WGS84 géographique (EPSG:4326). */
+    public static final CoordinateReferenceSystem WGS84 = new CoordinateReferenceSystem(
+            4326, "+proj=longlat +datum=WGS84 +no_defs", new LongLatProjection(),
+            GeodeticDatum.WGS84, 0.0, 1.0, true);
+
+    private final int srid;
+    private final String definition;
+    private final Projection projection;
+    private final GeodeticDatum datum;
+    private final double centralMeridian;
+    private final double toMeter;
+    private final boolean geographic;
+
+    CoordinateReferenceSystem(int srid, String definition, Projection projection, GeodeticDatum datum,
+                              double centralMeridian, double toMeter, boolean geographic) {
+        this.srid = srid;
+        this.definition = definition;
+        this.projection = projection;
+        this.datum = datum;
+        this.centralMeridian = centralMeridian;
+        this.toMeter = toMeter;
+        this.geographic = geographic;
+    }
+
+    /**
+     * Compile une définition PROJ.4 (colonne {@code proj4text}).
+     *
+     * @param srid SRID associé à la définition
+     * @param proj4text définition au format PROJ.4
+     * @return le système compilé
+     * @throws IllegalArgumentException si la définition n'est pas supportée
+     */
+    public static CoordinateReferenceSystem fromProj4(int srid, String proj4text) {
+        return Proj4Parser.parse(srid, proj4text);
+    }
+
+    public int srid() {
+        return srid;
+    }
+
+    public String definition() {
+        return definition;
+    }
+
+    public boolean isGeographic() {
+        return geographic;
+    }
+
+    /**
+     * Convertit un point de ce système vers le WGS84.
+     *
+     * @param x abscisse (ou longitude en degrés pour un système géographique)
+     * @param y ordonnée (ou latitude en degrés pour un système géographique)
+     * @param out tableau recevant [longitude, latitude] WGS84 en degrés
+     */
+    public void toWgs84(double x, double y, double[] out) {
+        if (geographic) {
+            projection.inverse(x, y, out);
+        } else {
+            projection.inverse(x * toMeter, y * toMeter, out);
+        }
+        double lam = out[0] + centralMeridian;
+        double phi = out[1];
+        if (datum.requiresShift()) {
+            datum.toWgs84(lam, phi, out);
+            lam = out[0];
+            phi = out[1];
+        }
+        out[0] = Math.toDegrees(ProjectionMath.adjustLongitude(lam));
+        out[1] = Math.toDegrees(phi);
+    }
+
+    /**
+     * Convertit un point WGS84 vers ce système.
+     *
+     * @param longitude longitude WGS84 en degrés
+     * @param latitude latitude WGS84 en degrés
+     * @param out tableau recevant [x, y] dans ce système
+     */
+    public void fromWgs84(double longitude, double latitude, double[] out) {
+        double lam = Math.toRadians(longitude);
+        double phi = Math.toRadians(latitude);
+        if (datum.requiresShift()) {
+            datum.fromWgs84(lam, phi, out);
+            lam = out[0];
+            phi = out[1];
+        }
+        projection.forward(ProjectionMath.adjustLongitude(lam - centralMeridian), phi, out);
+        if (!geographic) {
+            out[0] /= toMeter;
+            out[1] /= toMeter;
+        }
+    }
+
+    /**
+     * Convertit en place un tableau de coordonnées entrelacées [x0, y0, x1, y1, ...]
+     * vers le WGS84 ([lon0, lat0, lon1, lat1, ...]).
+     *
+     * @param coordinates coordonnées entrelacées, modifiées en place
+     * @param offset indice du premier x
+     * @param count nombre de points à convertir
+     */
+    public void toWgs84(double[] coordinates, int offset, int count) {
+        double[] point = new double[2];
+        int end = offset + 2 * count;
+        for (int i = offset; i < end; i += 2) {
+            toWgs84(coordinates[i], coordinates[i + 1], point);
+            coordinates[i] = point[0];
+            coordinates[i + 1] = point[1];
+        }
+    }
+
+    /**
+     * Convertit un point de ce système vers un autre système.
+     *
+     * @param target système cible
+     * @param x abscisse source
+     * @param y ordonnée source
+     * @param out tableau recevant [x, y] dans le système cible
+     */
+    public void transform(CoordinateReferenceSystem target, double x, double y, double[] out) {
+        if (target == this) {
+            out[0] = x;
+            out[1] = y;
+            return;
+        }
+        toWgs84(x, y, out);
+        if (target != WGS84) {
+            target.fromWgs84(out[0], out[1], out);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EPSG:" + srid + " [" + definition + "]";
+    }
+}
@@ -0,0 +1,96 @@
+package com.industria.platform.geo;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Ellipsoïde de référence utilisé par les projections cartographiques.
+ *
+ * Les valeurs du catalogue reprennent celles de PROJ ({@code +ellps=...})
+ * afin que les conversions effectuées dans la JVM soient identiques à celles
+ * de PostGIS ({@code ST_Transform}).
+ *
+ * @param a demi-grand axe en mètres
+ * @param f aplatissement (0 pour une sphère)
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record Ellipsoid(double a, double f) {
+
+    public static final Ellipsoid WGS84 = ofInverseFlattening(6378137.0, 298.257223563);
+    public static final Ellipsoid GRS80 = ofInverseFlattening(6378137.0, 298.257222101);
+
+    private static final Map<String, Ellipsoid> CATALOG = Map.ofEntries(
+            Map.entry("wgs84", WGS84),
+            Map.entry("grs80", GRS80),
+            Map.entry("wgs72", ofInverseFlattening(6378135.0, 298.26)),
+            Map.entry("intl", ofInverseFlattening(6378388.0, 297.0)),
+            Map.entry("clrk80", ofInverseFlattening(6378249.145, 293.4663)),
+            Map.entry("clrk80ign", ofInverseFlattening(6378249.2, 293.4660212936269)),
+            Map.entry("clrk66", ofSemiMinorAxis(6378206.4, 6356583.8)),
+            Map.entry("bessel", ofInverseFlattening(6377397.155, 299.1528128)),
+            Map.entry("airy", ofSemiMinorAxis(6377563.396, 6356256.910)),
+            Map.entry("mod_airy", ofSemiMinorAxis(6377340.189, 6356034.446)),
+            Map.entry("krass", ofInverseFlattening(6378245.0, 298.3)),
+            Map.entry("helmert", ofInverseFlattening(6378200.0, 298.3)),
+            Map.entry("evrst30", ofInverseFlattening(6377276.345, 300.8017)),
+            Map.entry("aust_sa", ofInverseFlattening(6378160.0, 298.25))
+    );
+
+    /**
+     * Crée un ellipsoïde à partir du demi-grand axe et de l'inverse de l'aplatissement.
+     */
+    public static Ellipsoid ofInverseFlattening(double a, double rf) {
+        return new Ellipsoid(a, rf == 0.0 ? 0.0 : 1.0 / rf);
+    }
+
+    /**
+     * Crée un ellipsoïde à partir des deux demi-axes.
+     */
+    public static Ellipsoid ofSemiMinorAxis(double a, double b) {
+        return new Ellipsoid(a, (a - b) / a);
+    }
+
+    /**
+     * Crée une sphère de rayon donné.
+     */
+    public static Ellipsoid sphere(double radius) {
+        return new Ellipsoid(radius, 0.0);
+    }
+
+    /**
+     * Recherche un ellipsoïde du catalogue PROJ par son nom.
+     *
+     * @param name nom PROJ (ex: WGS84, clrk80ign, intl)
+     * @return l'ellipsoïde correspondant
+     * @throws IllegalArgumentException si le nom est inconnu
+     */
+    public static Ellipsoid byName(String name) {
+        Ellipsoid ellipsoid = CATALOG.get(name.toLowerCase(Locale.ROOT));
+        if (ellipsoid == null) {
+            throw new IllegalArgumentException("Ellipsoïde inconnu: " + name);
+        }
+        return ellipsoid;
+    }
+
+    /** Demi-petit axe en mètres. */
+    public double b() {
+        return a * (1.0 - f);
+    }
+
+    /** Carré de la première excentricité. */
+    public double es() {
+        return f * (2.0 - f);
+    }
+
+    /** Première excentricité. */
+    public double e() {
+        return Math.sqrt(es());
+    }
+
+    public boolean isSphere() {
+        return f == 0.0;
+    }
+}
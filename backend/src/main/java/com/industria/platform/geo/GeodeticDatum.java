@@ -0,0 +1,142 @@
+package com.industria.platform.geo;
+
+/**
+ * Datum géodésique : un ellipsoïde et, optionnellement, les paramètres
+ * de Helmert ({@code +towgs84}) permettant de passer au WGS84.
+ *
+ * Les paramètres suivent la convention PROJ « Position Vector » : trois
+ * translations en mètres, trois rotations en secondes d'arc et un facteur
+ * d'échelle en ppm. La transformation utilise la matrice de rotation
+ * linéarisée, comme PROJ par défaut.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class GeodeticDatum {
+
+    private static final double ARC_SECOND = Math.PI / (180.0 * 3600.0);
+
+    /** WGS84 : aucun décalage nécessaire. */
+    public static final GeodeticDatum WGS84 = new GeodeticDatum(Ellipsoid.WGS84, null);
+
+    private final Ellipsoid ellipsoid;
+    private final double dx, dy, dz, rx, ry, rz, scale;
+    private final boolean shifted;
+    private final boolean sevenParameters;
+
+    /**
+     * @param ellipsoid ellipsoïde du datum
+     * @param towgs84 3 ou 7 paramètres de Helmert vers WGS84, ou null si aucun décalage
+     */
+    public GeodeticDatum(Ellipsoid ellipsoid, double[] towgs84) {
+        this.ellipsoid = ellipsoid;
+        if (towgs84 != null && towgs84.length != 3 && towgs84.length != 7) {
+            throw new IllegalArgumentException("+towgs84 doit contenir 3 ou 7 valeurs");
+        }
+        this.shifted = towgs84 != null;
+        this.dx = shifted ? towgs84[0] : 0.0;
+        this.dy = shifted ? towgs84[1] : 0.0;
+        this.dz = shifted ? towgs84[2] : 0.0;
+        this.sevenParameters = shifted && towgs84.length == 7;
+        this.rx = sevenParameters ? towgs84[3] * ARC_SECOND : 0.0;
+        this.ry = sevenParameters ? towgs84[4] * ARC_SECOND : 0.0;
+        this.rz = sevenParameters ? towgs84[5] * ARC_SECOND : 0.0;
+        this.scale = sevenParameters ? 1.0 + towgs84[6] * 1e-6 : 1.0;
+    }
+
+    public Ellipsoid ellipsoid() {
+        return ellipsoid;
+    }
+
+    /**
+     * Indique si un changement de datum doit être appliqué pour rejoindre le WGS84.
+     * Comme PROJ, aucun décalage n'est appliqué en l'absence de {@code +towgs84}.
+     */
+    public boolean requiresShift() {
+        return shifted;
+    }
+
+    /**
+     * Convertit des coordonnées géodésiques de ce datum vers le WGS84.
+     *
+     * @param lam longitude en radians
+     * @param phi latitude en radians
+     * @param out tableau recevant [longitude, latitude] WGS84 en radians
+     */
+    public void toWgs84(double lam, double phi, double[] out) {
+        double[] xyz = new double[3];
+        geodeticToGeocentric(ellipsoid, lam, phi, xyz);
+        double x = xyz[0], y = xyz[1], z = xyz[2];
+        if (sevenParameters) {
+            xyz[0] = scale * (x - rz * y + ry * z) + dx;
+            xyz[1] = scale * (rz * x + y - rx * z) + dy;
+            xyz[2] = scale * (-ry * x + rx * y + z) + dz;
+        } else {
+            xyz[0] = x + dx;
+            xyz[1] = y + dy;
+            xyz[2] = z + dz;
+        }
+        geocentricToGeodetic(Ellipsoid.WGS84, xyz[0], xyz[1], xyz[2], out);
+    }
+
+    /**
+     * Convertit des coordonnées géodésiques WGS84 vers ce datum.
+     *
+     * @param lam longitude WGS84 en radians
+     * @param phi latitude WGS84 en radians
+     * @param out tableau recevant [longitude, latitude] dans ce datum, en radians
+     */
+    public void fromWgs84(double lam, double phi, double[] out) {
+        double[] xyz = new double[3];
+        geodeticToGeocentric(Ellipsoid.WGS84, lam, phi, xyz);
+        double x = (xyz[0] - dx) / scale;
+        double y = (xyz[1] - dy) / scale;
+        double z = (xyz[2] - dz) / scale;
+        if (sevenParameters) {
+            xyz[0] = x + rz * y - ry * z;
+            xyz[1] = -rz * x + y + rx * z;
+            xyz[2] = ry * x - rx * y + z;
+        } else {
+            xyz[0] = x;
+            xyz[1] = y;
+            xyz[2] = z;
+        }
+        geocentricToGeodetic(ellipsoid, xyz[0], xyz[1], xyz[2], out);
+    }
+
+    private static void geodeticToGeocentric(Ellipsoid ell, double lam, double phi, double[] out) {
+        double es = ell.es();
+        double sinPhi = Math.sin(phi);
+        double cosPhi = Math.cos(phi);
+        double n = ell.a() / Math.sqrt(1.0 - es * sinPhi * sinPhi);
+        out[0] = n * cosPhi * Math.cos(lam);
+        out[1] = n * cosPhi * Math.sin(lam);
+        out[2] = n * (1.0 - es) * sinPhi;
+    }
+
+    /**
+     * Conversion géocentrique vers géodésique (hauteur ignorée) par itération
+     * sur la latitude, convergente au centième de millimètre en quelques tours.
+     */
+    private static void geocentricToGeodetic(Ellipsoid ell, double x, double y, double z, double[] out) {
+        double a = ell.a();
+        double es = ell.es();
+        double p = Math.hypot(x, y);
+        double lam = Math.atan2(y, x);
+        double phi = Math.atan2(z, p * (1.0 - es));
+        for (int i = 0; i < 10; i++) {
+            double sinPhi = Math.sin(phi);
+            double n = a / Math.sqrt(1.0 - es * sinPhi * sinPhi);
+            double h = p / Math.cos(phi) - n;
+            double next = Math.atan2(z, p * (1.0 - es * n / (n + h)));
+            if (Math.abs(next - phi) < 1e-14) {
+                phi = next;
+                break;
+            }
+            phi = next;
+        }
+        out[0] = lam;
+        out[1] = phi;
+    }
+}
@@ -0,0 +1,118 @@
+package com.industria.platform.geo;
+
+import static com.industria.platform.geo.ProjectionMath.EPS10;
+import static com.industria.platform.geo.ProjectionMath.HALF_PI;
+
+/**
+ * Projection conique conforme de Lambert ({@code +proj=lcc}), variantes
+ * à un parallèle (EPSG 9801) et à deux parallèles (EPSG 9802).
+ *
+ * Utilisée notamment par Lambert Maroc (EPSG:26191) et Lambert-93 (EPSG:2154).
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class LambertConformalConic implements Projection {
+
+    private final double a;
+    private final double e;
+    private final double k0;
+    private final double x0;
+    private final double y0;
+    private final double n;
+    private final double c;
+    private final double rho0;
+
+    /**
+     * @param ellipsoid ellipsoïde de référence
+     * @param phi0 latitude d'origine (radians)
+     * @param phi1 premier parallèle standard (radians)
+     * @param phi2 second parallèle standard (radians), égal à phi1 pour la variante 1SP
+     * @param k0 facteur d'échelle à l'origine
+     * @param x0 fausse abscisse (m)
+     * @param y0 fausse ordonnée (m)
+     */
+    LambertConformalConic(Ellipsoid ellipsoid, double phi0, double phi1, double phi2,
+                          double k0, double x0, double y0) {
+        if (Math.abs(phi1 + phi2) < EPS10) {
+            throw new IllegalArgumentException("lcc: lat_1 et lat_2 ne peuvent pas être opposées");
+        }
+        this.a = ellipsoid.a();
+        this.e = ellipsoid.e();
+        this.k0 = k0;
+        this.x0 = x0;
+        this.y0 = y0;
+
+        double es = ellipsoid.es();
+        double sinPhi1 = Math.sin(phi1);
+        double cosPhi1 = Math.cos(phi1);
+        boolean secant = Math.abs(phi1 - phi2) >= EPS10;
+
+        if (ellipsoid.isSphere()) {
+            double nn = sinPhi1;
+            if (secant) {
+                nn = Math.log(cosPhi1 / Math.cos(phi2))
+                        / Math.log(Math.tan(Math.PI / 4 + 0.5 * phi2) / Math.tan(Math.PI / 4 + 0.5 * phi1));
+            }
+            this.n = nn;
+            this.c = cosPhi1 * Math.pow(Math.tan(Math.PI / 4 + 0.5 * phi1), nn) / nn;
+            this.rho0 = Math.abs(Math.abs(phi0) - HALF_PI) < EPS10
+                    ? 0.0 : c * Math.pow(Math.tan(Math.PI / 4 + 0.5 * phi0), -nn);
+        } else {
+            double m1 = ProjectionMath.msfn(sinPhi1, cosPhi1, es);
+            double t1 = ProjectionMath.tsfn(phi1, sinPhi1, e);
+            double nn = sinPhi1;
+            if (secant) {
+                double sinPhi2 = Math.sin(phi2);
+                nn = Math.log(m1 / ProjectionMath.msfn(sinPhi2, Math.cos(phi2), es))
+                        / Math.log(t1 / ProjectionMath.tsfn(phi2, sinPhi2, e));
+            }
+            this.n = nn;
+            this.c = m1 * Math.pow(t1, -nn) / nn;
+            this.rho0 = Math.abs(Math.abs(phi0) - HALF_PI) < EPS10
+                    ? 0.0 : c * Math.pow(ProjectionMath.tsfn(phi0, Math.sin(phi0), e), nn);
+        }
+    }
+
+    @Override
+    public void forward(double lam, double phi, double[] out) {
+        double rho;
+        if (Math.abs(Math.abs(phi) - HALF_PI) < EPS10) {
+            if (phi * n <= 0.0) {
+                throw new IllegalArgumentException("lcc: point hors du domaine de la projection");
+            }
+            rho = 0.0;
+        } else if (e == 0.0) {
+            rho = c * Math.pow(Math.tan(Math.PI / 4 + 0.5 * phi), -n);
+        } else {
+            rho = c * Math.pow(ProjectionMath.tsfn(phi, Math.sin(phi), e), n);
+        }
+        double theta = lam * n;
+        out[0] = a * k0 * (rho * Math.sin(theta)) + x0;
+        out[1] = a * k0 * (rho0 - rho * Math.cos(theta)) + y0;
+    }
+
+    @Override
+    public void inverse(double x, double y, double[] out) {
+        double px = (x - x0) / (a * k0);
+        double py = rho0 - (y - y0) / (a * k0);
+        double rho = Math.hypot(px, py);
+        if (rho == 0.0) {
+            out[0] = 0.0;
+            out[1] = n > 0.0 ? HALF_PI : -HALF_PI;
+            return;
+        }
+        if (n < 0.0) {
+            rho = -rho;
+            px = -px;
+            py = -py;
+        }
+        if (e == 0.0) {
+            out[1] = 2.0 * Math.atan(Math.pow(c / rho, 1.0 / n)) - HALF_PI;
+        } else {
+            out[1] = ProjectionMath.phi2(Math.pow(rho / c, 1.0 / n), e);
+        }
+        out[0] = Math.atan2(px, py) / n;
+    }
+}
@@ -0,0 +1,24 @@
+package com.industria.platform.geo;
+
+/**
+ * Pseudo-projection géographique ({@code +proj=longlat}) : les coordonnées
+ * « planes » sont directement la longitude et la latitude en degrés.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class LongLatProjection implements Projection {
+
+    @Override
+    public void forward(double lam, double phi, double[] out) {
+        out[0] = Math.toDegrees(lam);
+        out[1] = Math.toDegrees(phi);
+    }
+
+    @Override
+    public void inverse(double x, double y, double[] out) {
+        out[0] = Math.toRadians(x);
+        out[1] = Math.toRadians(y);
+    }
+}
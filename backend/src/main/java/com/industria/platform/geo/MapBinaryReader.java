@@ -0,0 +1,193 @@
+package com.industria.platform.geo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.industria.platform.geo.MapBinaryWriter.*;
+
+/**
+ * Décodeur du format binaire compact des réponses cartographiques.
+ *
+ * Restitue l'arbre JSON écrit par {@link MapBinaryWriter}, coordonnées
+ * arrondies à la précision de quantification.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class MapBinaryReader {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final byte[] data;
+    private final List<String> dictionary = new ArrayList<>();
+    private int pos;
+
+    private MapBinaryReader(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Décode un contenu binaire.
+     *
+     * @param data contenu produit par {@link MapBinaryWriter#write(JsonNode)}
+     * @return arbre JSON
+     * @throws IllegalArgumentException si le contenu est tronqué, d'une autre version ou invalide
+     */
+    public static JsonNode read(byte[] data) {
+        MapBinaryReader reader = new MapBinaryReader(data);
+        for (byte b : MAGIC) {
+            if (reader.next() != b) {
+                throw new IllegalArgumentException("En-tête du format binaire invalide");
+            }
+        }
+        int version = reader.next();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Version du format binaire non supportée: " + version);
+        }
+        JsonNode root = reader.value();
+        if (reader.pos != data.length) {
+            throw new IllegalArgumentException("Données en trop après la fin du contenu");
+        }
+        return root;
+    }
+
+    private JsonNode value() {
+        int tag = next();
+        switch (tag) {
+            case NULL:
+                return NODES.nullNode();
+            case FALSE:
+                return NODES.booleanNode(false);
+            case TRUE:
+                return NODES.booleanNode(true);
+            case INT:
+                return NODES.numberNode(signed());
+            case DOUBLE: {
+                long bits = 0;
+                for (int i = 0; i < 8; i++) {
+                    bits |= (long) next() << (8 * i);
+                }
+                return NODES.numberNode(Double.longBitsToDouble(bits));
+            }
+            case STRING:
+                return NODES.textNode(string());
+            case ARRAY: {
+                int size = size();
+                ArrayNode array = NODES.arrayNode(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(value());
+                }
+                return array;
+            }
+            case OBJECT: {
+                int size = size();
+                ObjectNode object = NODES.objectNode();
+                for (int i = 0; i < size; i++) {
+                    String name = string();
+                    object.set(name, value());
+                }
+                return object;
+            }
+            case RING:
+                return ring();
+            case VERTICES:
+                return vertices();
+            default:
+                throw new IllegalArgumentException("Type de valeur inconnu: " + tag + " à l'octet " + (pos - 1));
+        }
+    }
+
+    private JsonNode ring() {
+        int size = size();
+        ArrayNode ring = NODES.arrayNode(size);
+        long a = 0, b = 0;
+        for (int i = 0; i < size; i++) {
+            a += signed();
+            b += signed();
+            ring.add(NODES.arrayNode(2).add(a / DEGREE_SCALE).add(b / DEGREE_SCALE));
+        }
+        return ring;
+    }
+
+    private JsonNode vertices() {
+        int size = size();
+        long seq = signed();
+        boolean wgs84 = (next() & VERTICES_WGS84) != 0;
+        ArrayNode vertices = NODES.arrayNode(size);
+        long x = 0, y = 0, lat = 0, lon = 0;
+        for (int i = 0; i < size; i++) {
+            x += signed();
+            y += signed();
+            ObjectNode vertex = NODES.objectNode()
+                    .put("seq", seq + i)
+                    .put("lambertX", x / METER_SCALE)
+                    .put("lambertY", y / METER_SCALE);
+            if (wgs84) {
+                lat += signed();
+                lon += signed();
+                vertex.put("latitude", lat / DEGREE_SCALE).put("longitude", lon / DEGREE_SCALE);
+            } else {
+                vertex.putNull("latitude").putNull("longitude");
+            }
+            vertices.add(vertex);
+        }
+        return vertices;
+    }
+
+    private String string() {
+        int index = size();
+        if (index < dictionary.size()) {
+            return dictionary.get(index);
+        }
+        if (index != dictionary.size()) {
+            throw new IllegalArgumentException("Référence de chaîne invalide: " + index);
+        }
+        int length = size();
+        if (length > data.length - pos) {
+            throw new IllegalArgumentException("Contenu binaire tronqué");
+        }
+        String value = new String(data, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        dictionary.add(value);
+        return value;
+    }
+
+    private int size() {
+        long value = unsigned();
+        if (value > data.length) {
+            throw new IllegalArgumentException("Taille invalide: " + value);
+        }
+        return (int) value;
+    }
+
+    private long signed() {
+        long value = unsigned();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long unsigned() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = next();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Entier variable trop long à l'octet " + pos);
+    }
+
+    private int next() {
+        if (pos >= data.length) {
+            throw new IllegalArgumentException("Contenu binaire tronqué");
+        }
+        return data[pos++] & 0xFF;
+    }
+}
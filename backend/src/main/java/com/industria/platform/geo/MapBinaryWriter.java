@@ -0,0 +1,260 @@
+package com.industria.platform.geo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodeur du format binaire compact des réponses cartographiques.
+ *
+ * Le format reprend l'arbre JSON de la réponse avec trois économies :
+ * <ul>
+ *   <li>chaînes et noms de champs dictionnarisés : chaque valeur distincte
+ *       (statut, icône, nom de champ) n'est écrite qu'une fois, puis référencée
+ *       par son rang ;</li>
+ *   <li>anneaux de coordonnées (tableaux de paires de nombres) quantifiés au
+ *       1e-7 et encodés en différences successives ;</li>
+ *   <li>listes de {@code VertexDto} réduites à leurs coordonnées : Lambert au
+ *       millimètre, WGS84 au 1e-7 degré, en différences successives, numéros
+ *       d'ordre implicites.</li>
+ * </ul>
+ *
+ * Les entiers sont des varints (zigzag pour les signés). Les coordonnées
+ * sont donc restituées à la précision de quantification près. Le décodeur
+ * de référence est {@link MapBinaryReader} ; {@code Front-End/src/lib/mapBinary.ts}
+ * en est l'équivalent navigateur.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class MapBinaryWriter {
+
+    /** En-tête : « IMB » suivi de la version du format */
+    static final byte[] MAGIC = {'I', 'M', 'B'};
+    static final int VERSION = 1;
+
+    static final int NULL = 0;
+    static final int FALSE = 1;
+    static final int TRUE = 2;
+    static final int INT = 3;
+    static final int DOUBLE = 4;
+    static final int STRING = 5;
+    static final int ARRAY = 6;
+    static final int OBJECT = 7;
+    static final int RING = 8;
+    static final int VERTICES = 9;
+
+    /** Quantification des coordonnées en degrés (~1 cm) */
+    static final double DEGREE_SCALE = 1e7;
+
+    /** Quantification des coordonnées Lambert (1 mm) */
+    static final double METER_SCALE = 1e3;
+
+    /** Au-delà, une valeur quantifiée ne tient plus exactement dans un double */
+    private static final double MAX_QUANTIZED = 9e15;
+
+    /** Bit des drapeaux {@link #VERTICES} : les sommets portent latitude et longitude */
+    static final int VERTICES_WGS84 = 1;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    private MapBinaryWriter() {
+        out.write(MAGIC, 0, MAGIC.length);
+        out.write(VERSION);
+    }
+
+    /**
+     * Encode un arbre JSON.
+     *
+     * @param root arbre de la réponse (ex: {@code ObjectMapper.valueToTree})
+     * @return contenu binaire
+     */
+    public static byte[] write(JsonNode root) {
+        MapBinaryWriter writer = new MapBinaryWriter();
+        writer.value(root);
+        return writer.out.toByteArray();
+    }
+
+    private void value(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            out.write(NULL);
+        } else if (node.isBoolean()) {
+            out.write(node.booleanValue() ? TRUE : FALSE);
+        } else if (node.isIntegralNumber() && node.canConvertToLong()) {
+            out.write(INT);
+            signed(node.longValue());
+        } else if (node.isNumber()) {
+            number(node.doubleValue());
+        } else if (node.isTextual()) {
+            out.write(STRING);
+            string(node.textValue());
+        } else if (node.isArray()) {
+            if (isRing(node)) {
+                ring(node);
+            } else if (isVertexList(node)) {
+                vertices(node);
+            } else {
+                out.write(ARRAY);
+                unsigned(node.size());
+                for (JsonNode element : node) {
+                    value(element);
+                }
+            }
+        } else if (node.isObject()) {
+            out.write(OBJECT);
+            unsigned(node.size());
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                string(field.getKey());
+                value(field.getValue());
+            }
+        } else {
+            out.write(STRING);
+            string(node.asText());
+        }
+    }
+
+    private void number(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < MAX_QUANTIZED) {
+            out.write(INT);
+            signed((long) value);
+            return;
+        }
+        out.write(DOUBLE);
+        long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < 8; i++) {
+            out.write((int) (bits >>> (8 * i)));
+        }
+    }
+
+    /** Tableau non vide de paires de nombres finis quantifiables */
+    private static boolean isRing(JsonNode array) {
+        if (array.isEmpty()) {
+            return false;
+        }
+        for (JsonNode point : array) {
+            if (!point.isArray() || point.size() != 2
+                    || !quantizable(point.get(0), DEGREE_SCALE) || !quantizable(point.get(1), DEGREE_SCALE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ring(JsonNode array) {
+        out.write(RING);
+        unsigned(array.size());
+        long previousA = 0, previousB = 0;
+        for (JsonNode point : array) {
+            long a = Math.round(point.get(0).doubleValue() * DEGREE_SCALE);
+            long b = Math.round(point.get(1).doubleValue() * DEGREE_SCALE);
+            signed(a - previousA);
+            signed(b - previousB);
+            previousA = a;
+            previousB = b;
+        }
+    }
+
+    /**
+     * Liste de {@code VertexDto} : numéros d'ordre consécutifs, Lambert
+     * toujours présent, WGS84 présent pour tous les sommets ou pour aucun.
+     */
+    private static boolean isVertexList(JsonNode array) {
+        if (array.isEmpty() || !array.get(0).isObject()) {
+            return false;
+        }
+        JsonNode first = array.get(0);
+        if (!first.path("seq").canConvertToLong()) {
+            return false;
+        }
+        long seq = first.path("seq").longValue();
+        boolean wgs84 = first.path("latitude").isNumber();
+        for (JsonNode vertex : array) {
+            if (!vertex.isObject() || vertex.path("seq").longValue() != seq++
+                    || !quantizable(vertex.get("lambertX"), METER_SCALE)
+                    || !quantizable(vertex.get("lambertY"), METER_SCALE)) {
+                return false;
+            }
+            int expectedFields = 3;
+            if (wgs84) {
+                if (!quantizable(vertex.get("latitude"), DEGREE_SCALE) || !quantizable(vertex.get("longitude"), DEGREE_SCALE)) {
+                    return false;
+                }
+                expectedFields = 5;
+            } else if (vertex.path("latitude").isNumber() || vertex.path("longitude").isNumber()) {
+                return false;
+            } else if (vertex.has("latitude") || vertex.has("longitude")) {
+                expectedFields = 3 + (vertex.has("latitude") ? 1 : 0) + (vertex.has("longitude") ? 1 : 0);
+            }
+            if (vertex.size() != expectedFields) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void vertices(JsonNode array) {
+        boolean wgs84 = array.get(0).path("latitude").isNumber();
+        out.write(VERTICES);
+        unsigned(array.size());
+        signed(array.get(0).path("seq").longValue());
+        out.write(wgs84 ? VERTICES_WGS84 : 0);
+
+        long previousX = 0, previousY = 0, previousLat = 0, previousLon = 0;
+        for (JsonNode vertex : array) {
+            long x = Math.round(vertex.get("lambertX").doubleValue() * METER_SCALE);
+            long y = Math.round(vertex.get("lambertY").doubleValue() * METER_SCALE);
+            signed(x - previousX);
+            signed(y - previousY);
+            previousX = x;
+            previousY = y;
+            if (wgs84) {
+                long lat = Math.round(vertex.get("latitude").doubleValue() * DEGREE_SCALE);
+                long lon = Math.round(vertex.get("longitude").doubleValue() * DEGREE_SCALE);
+                signed(lat - previousLat);
+                signed(lon - previousLon);
+                previousLat = lat;
+                previousLon = lon;
+            }
+        }
+    }
+
+    private static boolean quantizable(JsonNode node, double scale) {
+        return node != null && node.isNumber()
+                && Double.isFinite(node.doubleValue()) && Math.abs(node.doubleValue() * scale) < MAX_QUANTIZED;
+    }
+
+    /**
+     * Chaîne dictionnarisée : rang d'une chaîne déjà écrite, ou rang suivant
+     * puis longueur et octets UTF-8 pour une nouvelle chaîne.
+     */
+    private void string(String value) {
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            unsigned(index);
+            return;
+        }
+        int next = dictionary.size();
+        dictionary.put(value, next);
+        unsigned(next);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        unsigned(bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private void signed(long value) {
+        unsigned((value << 1) ^ (value >> 63));
+    }
+
+    private void unsigned(long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,64 @@
+package com.industria.platform.geo;
+
+import static com.industria.platform.geo.ProjectionMath.EPS10;
+import static com.industria.platform.geo.ProjectionMath.HALF_PI;
+
+/**
+ * Projection de Mercator ({@code +proj=merc}), variantes 1SP et 2SP
+ * (EPSG 9804/9805) ainsi que la forme sphérique utilisée par le Web Mercator.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class Mercator implements Projection {
+
+    private final double a;
+    private final double e;
+    private final double k0;
+    private final double x0;
+    private final double y0;
+
+    /**
+     * @param ellipsoid ellipsoïde de référence
+     * @param latTs latitude de vraie échelle (radians), utilisée si k0 n'est pas fourni
+     * @param k0 facteur d'échelle explicite, ou NaN pour le déduire de latTs
+     * @param x0 fausse abscisse (m)
+     * @param y0 fausse ordonnée (m)
+     */
+    Mercator(Ellipsoid ellipsoid, double latTs, double k0, double x0, double y0) {
+        this.a = ellipsoid.a();
+        this.e = ellipsoid.e();
+        this.x0 = x0;
+        this.y0 = y0;
+        if (!Double.isNaN(k0)) {
+            this.k0 = k0;
+        } else if (ellipsoid.isSphere()) {
+            this.k0 = Math.cos(latTs);
+        } else {
+            this.k0 = ProjectionMath.msfn(Math.sin(latTs), Math.cos(latTs), ellipsoid.es());
+        }
+    }
+
+    @Override
+    public void forward(double lam, double phi, double[] out) {
+        if (Math.abs(Math.abs(phi) - HALF_PI) <= EPS10) {
+            throw new IllegalArgumentException("merc: les pôles ne sont pas projetables");
+        }
+        double y = e == 0.0
+                ? Math.log(Math.tan(Math.PI / 4 + 0.5 * phi))
+                : -Math.log(ProjectionMath.tsfn(phi, Math.sin(phi), e));
+        out[0] = a * k0 * lam + x0;
+        out[1] = a * k0 * y + y0;
+    }
+
+    @Override
+    public void inverse(double x, double y, double[] out) {
+        double px = (x - x0) / (a * k0);
+        double py = (y - y0) / (a * k0);
+        out[0] = px;
+        out[1] = e == 0.0
+                ? HALF_PI - 2.0 * Math.atan(Math.exp(-py))
+                : ProjectionMath.phi2(Math.exp(-py), e);
+    }
+}
@@ -0,0 +1,48 @@
+package com.industria.platform.geo;
+
+import java.util.List;
+
+/**
+ * Géométrie surfacique décodée en tableaux de coordonnées compactés.
+ *
+ * Chaque polygone est une liste d'anneaux (l'extérieur en premier) ; chaque
+ * anneau est un tableau {@code [x0, y0, x1, y1, ...]} qui conserve le point de
+ * fermeture. Seules les deux premières dimensions sont retenues.
+ *
+ * @param srid SRID lu dans l'EWKB, 0 si absent
+ * @param polygons polygones de la géométrie
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record PackedGeometry(int srid, List<double[][]> polygons) {
+
+    private static final double[] EMPTY_RING = new double[0];
+
+    /**
+     * Contour extérieur du premier polygone.
+     *
+     * @return anneau compacté, vide si la géométrie est vide
+     */
+    public double[] exteriorRing() {
+        if (polygons.isEmpty() || polygons.get(0).length == 0) {
+            return EMPTY_RING;
+        }
+        return polygons.get(0)[0];
+    }
+
+    /**
+     * Nombre de sommets distincts d'un anneau, point de fermeture exclu.
+     *
+     * @param ring anneau compacté
+     * @return nombre de sommets
+     */
+    public static int vertexCount(double[] ring) {
+        int count = ring.length / 2;
+        if (count > 1 && ring[0] == ring[2 * count - 2] && ring[1] == ring[2 * count - 1]) {
+            count--;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,219 @@
+package com.industria.platform.geo;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Analyse des définitions PROJ.4 ({@code +proj=lcc +lat_1=... +towgs84=...})
+ * en systèmes de référence compilés.
+ *
+ * Méthodes supportées : {@code longlat}, {@code lcc}, {@code tmerc},
+ * {@code utm} et {@code merc}. Les grilles de décalage ({@code +nadgrids})
+ * ne sont pas prises en charge, à l'exception de {@code @null}.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class Proj4Parser {
+
+    private static final Map<String, GeodeticDatum> DATUMS = Map.ofEntries(
+            Map.entry("wgs84", GeodeticDatum.WGS84),
+            Map.entry("nad83", new GeodeticDatum(Ellipsoid.GRS80, new double[]{0, 0, 0})),
+            Map.entry("ggrs87", new GeodeticDatum(Ellipsoid.GRS80, new double[]{-199.87, 74.79, 246.62})),
+            Map.entry("carthage", new GeodeticDatum(Ellipsoid.byName("clrk80ign"), new double[]{-263.0, 6.0, 431.0})),
+            Map.entry("potsdam", new GeodeticDatum(Ellipsoid.byName("bessel"),
+                    new double[]{598.1, 73.7, 418.2, 0.202, 0.045, -2.455, 6.7})),
+            Map.entry("hermannskogel", new GeodeticDatum(Ellipsoid.byName("bessel"),
+                    new double[]{577.326, 90.129, 463.919, 5.137, 1.474, 5.297, 2.4232})),
+            Map.entry("osgb36", new GeodeticDatum(Ellipsoid.byName("airy"),
+                    new double[]{446.448, -125.157, 542.060, 0.1502, 0.2470, 0.8421, -20.4894})),
+            Map.entry("ire65", new GeodeticDatum(Ellipsoid.byName("mod_airy"),
+                    new double[]{482.530, -130.596, 564.557, -1.042, -0.214, -0.631, 8.15})),
+            Map.entry("nzgd49", new GeodeticDatum(Ellipsoid.byName("intl"),
+                    new double[]{59.47, -5.04, 187.44, 0.47, -0.1, 1.024, -4.5993}))
+    );
+
+    private static final Map<String, Double> UNITS = Map.of(
+            "m", 1.0,
+            "km", 1000.0,
+            "ft", 0.3048,
+            "us-ft", 1200.0 / 3937.0
+    );
+
+    private static final Map<String, Double> PRIME_MERIDIANS = Map.of(
+            "greenwich", 0.0,
+            "paris", 2.33722917,
+            "madrid", -3.687938888888889,
+            "rome", 12.45233333333333
+    );
+
+    private Proj4Parser() {
+    }
+
+    static CoordinateReferenceSystem parse(int srid, String proj4text) {
+        if (proj4text == null || proj4text.isBlank()) {
+            throw new IllegalArgumentException("Définition PROJ.4 vide pour le SRID " + srid);
+        }
+        Map<String, String> params = tokenize(proj4text);
+        String proj = params.get("proj");
+        if (proj == null) {
+            throw new IllegalArgumentException("Paramètre +proj manquant pour le SRID " + srid);
+        }
+
+        GeodeticDatum datum = datum(params);
+        Ellipsoid ellipsoid = datum.ellipsoid();
+        double lon0 = Math.toRadians(number(params, "lon_0", 0.0) + primeMeridian(params));
+        double lat0 = Math.toRadians(number(params, "lat_0", 0.0));
+        double x0 = number(params, "x_0", 0.0);
+        double y0 = number(params, "y_0", 0.0);
+        double k0 = params.containsKey("k_0") ? number(params, "k_0", 1.0) : number(params, "k", 1.0);
+        double toMeter = units(params);
+
+        Projection projection;
+        switch (proj) {
+            case "longlat", "latlong", "lonlat", "latlon" -> {
+                return new CoordinateReferenceSystem(srid, proj4text.trim(), new LongLatProjection(),
+                        datum, Math.toRadians(primeMeridian(params)), 1.0, true);
+            }
+            case "lcc" -> {
+                if (!params.containsKey("lat_1")) {
+                    throw new IllegalArgumentException("lcc: +lat_1 requis pour le SRID " + srid);
+                }
+                double phi1 = Math.toRadians(number(params, "lat_1", 0.0));
+                double phi2 = phi1;
+                if (params.containsKey("lat_2")) {
+                    phi2 = Math.toRadians(number(params, "lat_2", 0.0));
+                } else if (!params.containsKey("lat_0")) {
+                    lat0 = phi1;
+                }
+                projection = new LambertConformalConic(ellipsoid, lat0, phi1, phi2, k0, x0, y0);
+            }
+            case "tmerc" -> projection = new TransverseMercator(ellipsoid, lat0, k0, x0, y0);
+            case "utm" -> {
+                String zone = params.get("zone");
+                if (zone == null) {
+                    throw new IllegalArgumentException("utm: +zone requis pour le SRID " + srid);
+                }
+                int z = Integer.parseInt(zone);
+                if (z < 1 || z > 60) {
+                    throw new IllegalArgumentException("utm: zone invalide " + z);
+                }
+                lon0 = Math.toRadians((z - 0.5) * 6.0 - 180.0);
+                double northing = params.containsKey("south") ? 10_000_000.0 : 0.0;
+                projection = new TransverseMercator(ellipsoid, 0.0, 0.9996, 500_000.0, northing);
+            }
+            case "merc" -> {
+                double latTs = Math.toRadians(number(params, "lat_ts", 0.0));
+                double scale = params.containsKey("k_0") || params.containsKey("k") ? k0 : Double.NaN;
+                projection = new Mercator(ellipsoid, latTs, scale, x0, y0);
+            }
+            default -> throw new IllegalArgumentException(
+                    "Méthode de projection non supportée (+proj=" + proj + ") pour le SRID " + srid);
+        }
+        return new CoordinateReferenceSystem(srid, proj4text.trim(), projection, datum, lon0, toMeter, false);
+    }
+
+    private static Map<String, String> tokenize(String proj4text) {
+        Map<String, String> params = new HashMap<>();
+        for (String token : proj4text.trim().split("\\s+")) {
+            if (!token.startsWith("+") || token.length() == 1) {
+                continue;
+            }
+            int eq = token.indexOf('=');
+            if (eq < 0) {
+                params.put(token.substring(1).toLowerCase(Locale.ROOT), "");
+            } else {
+                params.put(token.substring(1, eq).toLowerCase(Locale.ROOT), token.substring(eq + 1));
+            }
+        }
+        return params;
+    }
+
+    private static GeodeticDatum datum(Map<String, String> params) {
+        String nadgrids = params.get("nadgrids");
+        if (nadgrids != null && !"@null".equals(nadgrids)) {
+            throw new IllegalArgumentException("Grilles de décalage non supportées: +nadgrids=" + nadgrids);
+        }
+
+        GeodeticDatum named = null;
+        String datumName = params.get("datum");
+        if (datumName != null) {
+            named = DATUMS.get(datumName.toLowerCase(Locale.ROOT));
+            if (named == null) {
+                throw new IllegalArgumentException("Datum inconnu: " + datumName);
+            }
+        }
+
+        Ellipsoid ellipsoid = ellipsoid(params, named == null ? Ellipsoid.WGS84 : named.ellipsoid());
+        double[] towgs84 = null;
+        if (params.containsKey("towgs84")) {
+            String[] parts = params.get("towgs84").split(",");
+            towgs84 = new double[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                towgs84[i] = Double.parseDouble(parts[i].trim());
+            }
+        } else if (named != null && named.requiresShift() && nadgrids == null) {
+            return named;
+        }
+        return new GeodeticDatum(ellipsoid, towgs84);
+    }
+
+    private static Ellipsoid ellipsoid(Map<String, String> params, Ellipsoid fallback) {
+        if (params.containsKey("r")) {
+            return Ellipsoid.sphere(number(params, "r", 0.0));
+        }
+        Ellipsoid base = params.containsKey("ellps") ? Ellipsoid.byName(params.get("ellps")) : fallback;
+        if (!params.containsKey("a")) {
+            return base;
+        }
+        double a = number(params, "a", base.a());
+        if (params.containsKey("b")) {
+            return Ellipsoid.ofSemiMinorAxis(a, number(params, "b", a));
+        }
+        if (params.containsKey("rf")) {
+            return Ellipsoid.ofInverseFlattening(a, number(params, "rf", 0.0));
+        }
+        if (params.containsKey("f")) {
+            return new Ellipsoid(a, number(params, "f", 0.0));
+        }
+        return new Ellipsoid(a, base.f());
+    }
+
+    private static double units(Map<String, String> params) {
+        if (params.containsKey("to_meter")) {
+            return number(params, "to_meter", 1.0);
+        }
+        String units = params.get("units");
+        if (units == null) {
+            return 1.0;
+        }
+        Double factor = UNITS.get(units.toLowerCase(Locale.ROOT));
+        if (factor == null) {
+            throw new IllegalArgumentException("Unité non supportée: +units=" + units);
+        }
+        return factor;
+    }
+
+    private static double primeMeridian(Map<String, String> params) {
+        String pm = params.get("pm");
+        if (pm == null) {
+            return 0.0;
+        }
+        Double named = PRIME_MERIDIANS.get(pm.toLowerCase(Locale.ROOT));
+        return named != null ? named : Double.parseDouble(pm);
+    }
+
+    private static double number(Map<String, String> params, String key, double defaultValue) {
+        String value = params.get(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valeur invalide pour +" + key + ": " + value, e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.industria.platform.geo;
+
+/**
+ * Méthode de projection cartographique (direct et inverse) sur un ellipsoïde.
+ *
+ * Les longitudes manipulées sont relatives au méridien central de la
+ * projection ; les coordonnées planes sont en mètres, fausse origine incluse.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface Projection {
+
+    /**
+     * Projette des coordonnées géodésiques vers le plan.
+     *
+     * @param lam longitude relative au méridien central, en radians
+     * @param phi latitude en radians
+     * @param out tableau recevant [x, y] en mètres
+     */
+    void forward(double lam, double phi, double[] out);
+
+    /**
+     * Calcule les coordonnées géodésiques d'un point du plan.
+     *
+     * @param x abscisse en mètres
+     * @param y ordonnée en mètres
+     * @param out tableau recevant [longitude relative, latitude] en radians
+     */
+    void inverse(double x, double y, double[] out);
+}
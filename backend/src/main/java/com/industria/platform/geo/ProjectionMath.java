@@ -0,0 +1,51 @@
+package com.industria.platform.geo;
+
+/**
+ * Fonctions auxiliaires communes aux projections conformes (reprises de PROJ).
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class ProjectionMath {
+
+    static final double HALF_PI = Math.PI / 2.0;
+    static final double EPS10 = 1e-10;
+
+    private ProjectionMath() {
+    }
+
+    /** Rayon du parallèle normalisé : cos(phi) / sqrt(1 - e² sin²(phi)). */
+    static double msfn(double sinPhi, double cosPhi, double es) {
+        return cosPhi / Math.sqrt(1.0 - es * sinPhi * sinPhi);
+    }
+
+    /** Fonction t de Snyder (latitude isométrique exponentielle). */
+    static double tsfn(double phi, double sinPhi, double e) {
+        double con = e * sinPhi;
+        return Math.tan(0.5 * (HALF_PI - phi)) / Math.pow((1.0 - con) / (1.0 + con), 0.5 * e);
+    }
+
+    /** Inverse de {@link #tsfn} par itération sur la latitude. */
+    static double phi2(double ts, double e) {
+        double halfE = 0.5 * e;
+        double phi = HALF_PI - 2.0 * Math.atan(ts);
+        for (int i = 0; i < 15; i++) {
+            double con = e * Math.sin(phi);
+            double dphi = HALF_PI - 2.0 * Math.atan(ts * Math.pow((1.0 - con) / (1.0 + con), halfE)) - phi;
+            phi += dphi;
+            if (Math.abs(dphi) <= 1e-14) {
+                break;
+            }
+        }
+        return phi;
+    }
+
+    /** Ramène une longitude dans l'intervalle [-π, π]. */
+    static double adjustLongitude(double lam) {
+        if (Math.abs(lam) <= Math.PI) {
+            return lam;
+        }
+        return lam - 2.0 * Math.PI * Math.floor((lam + Math.PI) / (2.0 * Math.PI));
+    }
+}
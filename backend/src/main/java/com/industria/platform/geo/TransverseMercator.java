@@ -0,0 +1,191 @@
+package com.industria.platform.geo;
+
+/**
+ * Projection transverse de Mercator ({@code +proj=tmerc}, {@code +proj=utm},
+ * EPSG 9807).
+ *
+ * Implémente l'algorithme « exact » de Poder/Engsager (séries de Krüger
+ * d'ordre 6) utilisé par défaut par PROJ, précis au millimètre bien au-delà
+ * des limites d'un fuseau UTM.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+final class TransverseMercator implements Projection {
+
+    /** Limite d'abscisse normalisée (environ 150°) au-delà de laquelle les séries divergent. */
+    private static final double MAX_NORMALIZED_EASTING = 2.623395162778;
+
+    private final double a;
+    private final double x0;
+    private final double y0;
+    private final double qn;
+    private final double zb;
+    private final double[] cgb = new double[6];
+    private final double[] cbg = new double[6];
+    private final double[] utg = new double[6];
+    private final double[] gtu = new double[6];
+
+    /**
+     * @param ellipsoid ellipsoïde de référence
+     * @param phi0 latitude d'origine (radians)
+     * @param k0 facteur d'échelle sur le méridien central
+     * @param x0 fausse abscisse (m)
+     * @param y0 fausse ordonnée (m)
+     */
+    TransverseMercator(Ellipsoid ellipsoid, double phi0, double k0, double x0, double y0) {
+        this.a = ellipsoid.a();
+        this.x0 = x0;
+        this.y0 = y0;
+
+        double es = ellipsoid.es();
+        double f = es / (1.0 + Math.sqrt(1.0 - es));
+        double n = f / (2.0 - f);
+        double np = n;
+
+        cgb[0] = n * (2 + n * (-2 / 3.0 + n * (-2 + n * (116 / 45.0 + n * (26 / 45.0 + n * (-2854 / 675.0))))));
+        cbg[0] = n * (-2 + n * (2 / 3.0 + n * (4 / 3.0 + n * (-82 / 45.0 + n * (32 / 45.0 + n * (4642 / 4725.0))))));
+        np *= n;
+        cgb[1] = np * (7 / 3.0 + n * (-8 / 5.0 + n * (-227 / 45.0 + n * (2704 / 315.0 + n * (2323 / 945.0)))));
+        cbg[1] = np * (5 / 3.0 + n * (-16 / 15.0 + n * (-13 / 9.0 + n * (904 / 315.0 + n * (-1522 / 945.0)))));
+        np *= n;
+        cgb[2] = np * (56 / 15.0 + n * (-136 / 35.0 + n * (-1262 / 105.0 + n * (73814 / 2835.0))));
+        cbg[2] = np * (-26 / 15.0 + n * (34 / 21.0 + n * (8 / 5.0 + n * (-12686 / 2835.0))));
+        np *= n;
+        cgb[3] = np * (4279 / 630.0 + n * (-332 / 35.0 + n * (-399572 / 14175.0)));
+        cbg[3] = np * (1237 / 630.0 + n * (-12 / 5.0 + n * (-24832 / 14175.0)));
+        np *= n;
+        cgb[4] = np * (4174 / 315.0 + n * (-144838 / 6237.0));
+        cbg[4] = np * (-734 / 315.0 + n * (109598 / 31185.0));
+        np *= n;
+        cgb[5] = np * (601676 / 22275.0);
+        cbg[5] = np * (444337 / 155925.0);
+
+        np = n * n;
+        this.qn = k0 / (1 + n) * (1 + np * (1 / 4.0 + np * (1 / 64.0 + np / 256.0)));
+
+        utg[0] = n * (-0.5 + n * (2 / 3.0 + n * (-37 / 96.0 + n * (1 / 360.0 + n * (81 / 512.0 + n * (-96199 / 604800.0))))));
+        gtu[0] = n * (0.5 + n * (-2 / 3.0 + n * (5 / 16.0 + n * (41 / 180.0 + n * (-127 / 288.0 + n * (7891 / 37800.0))))));
+        utg[1] = np * (-1 / 48.0 + n * (-1 / 15.0 + n * (437 / 1440.0 + n * (-46 / 105.0 + n * (1118711 / 3870720.0)))));
+        gtu[1] = np * (13 / 48.0 + n * (-3 / 5.0 + n * (557 / 1440.0 + n * (281 / 630.0 + n * (-1983433 / 1935360.0)))));
+        np *= n;
+        utg[2] = np * (-17 / 480.0 + n * (37 / 840.0 + n * (209 / 4480.0 + n * (-5569 / 90720.0))));
+        gtu[2] = np * (61 / 240.0 + n * (-103 / 140.0 + n * (15061 / 26880.0 + n * (167603 / 181440.0))));
+        np *= n;
+        utg[3] = np * (-4397 / 161280.0 + n * (11 / 504.0 + n * (830251 / 7257600.0)));
+        gtu[3] = np * (49561 / 161280.0 + n * (-179 / 168.0 + n * (6601661 / 7257600.0)));
+        np *= n;
+        utg[4] = np * (-4583 / 161280.0 + n * (108847 / 3991680.0));
+        gtu[4] = np * (34729 / 80640.0 + n * (-3418889 / 1995840.0));
+        np *= n;
+        utg[5] = np * (-20648693 / 638668800.0);
+        gtu[5] = np * (212378941 / 319334400.0);
+
+        double z = gatg(cbg, phi0);
+        this.zb = -qn * (z + clens(gtu, 2 * z));
+    }
+
+    @Override
+    public void forward(double lam, double phi, double[] out) {
+        double cn = gatg(cbg, phi);
+        double sinCn = Math.sin(cn);
+        double cosCn = Math.cos(cn);
+        double sinCe = Math.sin(lam);
+        double cosCe = Math.cos(lam);
+
+        cn = Math.atan2(sinCn, cosCe * cosCn);
+        double ce = Math.atan2(sinCe * cosCn, Math.hypot(sinCn, cosCn * cosCe));
+        ce = asinh(Math.tan(ce));
+
+        double[] d = clenS(gtu, 2 * cn, 2 * ce);
+        cn += d[0];
+        ce += d[1];
+        if (Math.abs(ce) > MAX_NORMALIZED_EASTING) {
+            throw new IllegalArgumentException("tmerc: point trop éloigné du méridien central");
+        }
+        out[0] = a * (qn * ce) + x0;
+        out[1] = a * (qn * cn + zb) + y0;
+    }
+
+    @Override
+    public void inverse(double x, double y, double[] out) {
+        double cn = ((y - y0) / a - zb) / qn;
+        double ce = ((x - x0) / a) / qn;
+        if (Math.abs(ce) > MAX_NORMALIZED_EASTING) {
+            throw new IllegalArgumentException("tmerc: point trop éloigné du méridien central");
+        }
+        double[] d = clenS(utg, 2 * cn, 2 * ce);
+        cn += d[0];
+        ce += d[1];
+        ce = Math.atan(Math.sinh(ce));
+
+        double sinCn = Math.sin(cn);
+        double cosCn = Math.cos(cn);
+        double sinCe = Math.sin(ce);
+        double cosCe = Math.cos(ce);
+        ce = Math.atan2(sinCe, cosCe * cosCn);
+        cn = Math.atan2(sinCn * cosCe, Math.hypot(sinCe, cosCe * cosCn));
+
+        out[0] = ce;
+        out[1] = gatg(cgb, cn);
+    }
+
+    /** Série trigonométrique latitude géodésique ↔ latitude gaussienne. */
+    private static double gatg(double[] p, double b) {
+        double cos2B = 2.0 * Math.cos(2.0 * b);
+        double h = 0.0;
+        double h1 = p[p.length - 1];
+        double h2 = 0.0;
+        for (int i = p.length - 2; i >= 0; i--) {
+            h = -h2 + cos2B * h1 + p[i];
+            h2 = h1;
+            h1 = h;
+        }
+        return b + h * Math.sin(2.0 * b);
+    }
+
+    /** Sommation de Clenshaw réelle. */
+    private static double clens(double[] a, double argR) {
+        double r = 2.0 * Math.cos(argR);
+        double hr1 = 0.0;
+        double hr = a[a.length - 1];
+        for (int i = a.length - 2; i >= 0; i--) {
+            double hr2 = hr1;
+            hr1 = hr;
+            hr = -hr2 + r * hr1 + a[i];
+        }
+        return Math.sin(argR) * hr;
+    }
+
+    /** Sommation de Clenshaw complexe ; retourne [partie réelle, partie imaginaire]. */
+    private static double[] clenS(double[] a, double argR, double argI) {
+        double sinArgR = Math.sin(argR);
+        double cosArgR = Math.cos(argR);
+        double sinhArgI = Math.sinh(argI);
+        double coshArgI = Math.cosh(argI);
+        double r = 2.0 * cosArgR * coshArgI;
+        double i = -2.0 * sinArgR * sinhArgI;
+
+        double hr = a[a.length - 1];
+        double hi = 0.0;
+        double hr1 = 0.0;
+        double hi1 = 0.0;
+        for (int k = a.length - 2; k >= 0; k--) {
+            double hr2 = hr1;
+            double hi2 = hi1;
+            hr1 = hr;
+            hi1 = hi;
+            hr = -hr2 + r * hr1 - i * hi1 + a[k];
+            hi = -hi2 + i * hr1 + r * hi1;
+        }
+        r = sinArgR * coshArgI;
+        i = cosArgR * sinhArgI;
+        return new double[]{r * hr - i * hi, r * hi + i * hr};
+    }
+
+    private static double asinh(double x) {
+        double ax = Math.abs(x);
+        return Math.copySign(Math.log(ax + Math.sqrt(ax * ax + 1.0)), x);
+    }
+}
@@ -0,0 +1,161 @@
+package com.industria.platform.geo;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Décodeur WKB / EWKB vers des anneaux de coordonnées compactés.
+ *
+ * Lit directement les octets renvoyés par PostGIS ({@code ST_AsBinary},
+ * {@code ST_AsEWKB} ou la forme hexadécimale) sans construire de géométrie
+ * JTS ni de chaîne WKT intermédiaire. Les variantes Z, M et ZM (drapeaux EWKB
+ * ou codes ISO) sont acceptées ; les ordonnées supplémentaires sont ignorées.
+ *
+ * Types pris en charge : Polygon et MultiPolygon.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class WkbReader {
+
+    private static final int POLYGON = 3;
+    private static final int MULTI_POLYGON = 6;
+
+    private static final int EWKB_Z = 0x80000000;
+    private static final int EWKB_M = 0x40000000;
+    private static final int EWKB_SRID = 0x20000000;
+
+    private final ByteBuffer buffer;
+    private int position;
+    private int srid;
+
+    private WkbReader(byte[] wkb) {
+        this.buffer = ByteBuffer.wrap(wkb);
+    }
+
+    /**
+     * Décode une géométrie WKB ou EWKB.
+     *
+     * @param wkb octets de la géométrie
+     * @return géométrie compactée
+     * @throws IllegalArgumentException si les octets sont tronqués ou d'un type non pris en charge
+     */
+    public static PackedGeometry read(byte[] wkb) {
+        if (wkb == null || wkb.length == 0) {
+            throw new IllegalArgumentException("WKB vide");
+        }
+        WkbReader reader = new WkbReader(wkb);
+        List<double[][]> polygons = reader.readGeometry();
+        return new PackedGeometry(reader.srid, polygons);
+    }
+
+    /**
+     * Décode une géométrie WKB ou EWKB au format hexadécimal.
+     *
+     * @param hex chaîne hexadécimale (forme texte des colonnes PostGIS)
+     * @return géométrie compactée
+     * @throws IllegalArgumentException si la chaîne n'est pas un WKB valide
+     */
+    public static PackedGeometry readHex(CharSequence hex) {
+        if (hex == null || hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("WKB hexadécimal de longueur invalide");
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Caractère non hexadécimal à la position " + 2 * i);
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return read(bytes);
+    }
+
+    private List<double[][]> readGeometry() {
+        int type = readHeader();
+        int dimensions = 2 + ((type & EWKB_Z) != 0 ? 1 : 0) + ((type & EWKB_M) != 0 ? 1 : 0);
+        int isoType = type & 0x0FFFFFFF;
+        int baseType = isoType % 1000;
+        switch (isoType / 1000) {
+            case 1, 2 -> dimensions = 3;
+            case 3 -> dimensions = 4;
+            default -> { }
+        }
+
+        return switch (baseType) {
+            case POLYGON -> {
+                List<double[][]> polygons = new ArrayList<>(1);
+                polygons.add(readPolygon(dimensions));
+                yield polygons;
+            }
+            case MULTI_POLYGON -> {
+                int count = readCount(9);
+                List<double[][]> polygons = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    polygons.addAll(readGeometry());
+                }
+                yield polygons;
+            }
+            default -> throw new IllegalArgumentException("Type WKB non pris en charge: " + baseType);
+        };
+    }
+
+    /**
+     * Lit l'ordre des octets, le type et, en EWKB, le SRID.
+     */
+    private int readHeader() {
+        require(5);
+        byte order = buffer.get(position++);
+        buffer.order(order == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        int type = readInt();
+        if ((type & EWKB_SRID) != 0) {
+            require(4);
+            srid = readInt();
+        }
+        return type;
+    }
+
+    private double[][] readPolygon(int dimensions) {
+        int ringCount = readCount(4);
+        double[][] rings = new double[ringCount][];
+        for (int r = 0; r < ringCount; r++) {
+            int pointCount = readCount(8 * dimensions);
+            double[] ring = new double[pointCount * 2];
+            for (int i = 0; i < pointCount; i++) {
+                ring[2 * i] = buffer.getDouble(position);
+                ring[2 * i + 1] = buffer.getDouble(position + 8);
+                position += 8 * dimensions;
+            }
+            rings[r] = ring;
+        }
+        return rings;
+    }
+
+    /**
+     * Lit un nombre d'éléments en vérifiant que les octets restants peuvent les contenir.
+     */
+    private int readCount(int minBytesPerElement) {
+        require(4);
+        int count = readInt();
+        if (count < 0 || (long) count * minBytesPerElement > buffer.limit() - position) {
+            throw new IllegalArgumentException("WKB tronqué: " + count + " éléments annoncés");
+        }
+        return count;
+    }
+
+    private int readInt() {
+        int value = buffer.getInt(position);
+        position += 4;
+        return value;
+    }
+
+    private void require(int bytes) {
+        if (buffer.limit() - position < bytes) {
+            throw new IllegalArgumentException("WKB tronqué à l'octet " + position);
+        }
+    }
+}
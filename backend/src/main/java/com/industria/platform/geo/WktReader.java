@@ -0,0 +1,258 @@
+package com.industria.platform.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lecteur WKT / EWKT vers des anneaux de coordonnées compactés.
+ *
+ * Parcourt le texte caractère par caractère, sans découpage en sous-chaînes :
+ * les nombres décimaux usuels sont convertis directement depuis les
+ * caractères, seuls les cas limites passent par {@link Double#parseDouble}.
+ *
+ * Formes acceptées : {@code POLYGON}, {@code MULTIPOLYGON}, avec anneaux
+ * intérieurs, variantes {@code Z}/{@code M}/{@code ZM} (ordonnées
+ * supplémentaires ignorées), {@code EMPTY} et préfixe EWKT {@code SRID=n;}.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class WktReader {
+
+    /** Puissances de dix représentées exactement en double */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private final CharSequence text;
+    private int position;
+    private double[] buffer = new double[64];
+
+    private WktReader(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Lit une géométrie WKT ou EWKT.
+     *
+     * @param text géométrie au format texte
+     * @return géométrie compactée
+     * @throws IllegalArgumentException si le texte est invalide ou d'un type non pris en charge
+     */
+    public static PackedGeometry read(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("WKT vide");
+        }
+        return new WktReader(text).readGeometry();
+    }
+
+    private PackedGeometry readGeometry() {
+        int srid = 0;
+        skipWhitespace();
+        if (matchesWord("SRID")) {
+            position += 4;
+            expect('=');
+            srid = (int) readNumber();
+            expect(';');
+        }
+
+        String type = readWord();
+        List<double[][]> polygons = new ArrayList<>(1);
+        if ("POLYGON".equals(type)) {
+            skipDimension();
+            if (!readEmpty()) {
+                polygons.add(readPolygon());
+            }
+        } else if ("MULTIPOLYGON".equals(type)) {
+            skipDimension();
+            if (!readEmpty()) {
+                expect('(');
+                do {
+                    if (!readEmpty()) {
+                        polygons.add(readPolygon());
+                    }
+                } while (consume(','));
+                expect(')');
+            }
+        } else {
+            throw error("type de géométrie non pris en charge: " + type);
+        }
+
+        skipWhitespace();
+        if (position < text.length()) {
+            throw error("caractères inattendus après la géométrie");
+        }
+        return new PackedGeometry(srid, polygons);
+    }
+
+    private double[][] readPolygon() {
+        List<double[]> rings = new ArrayList<>(1);
+        expect('(');
+        do {
+            rings.add(readRing());
+        } while (consume(','));
+        expect(')');
+        return rings.toArray(new double[0][]);
+    }
+
+    private double[] readRing() {
+        int size = 0;
+        expect('(');
+        do {
+            if (size + 2 > buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[size++] = readNumber();
+            buffer[size++] = readNumber();
+            // Ordonnées Z et M éventuelles
+            while (nextIsNumber()) {
+                readNumber();
+            }
+        } while (consume(','));
+        expect(')');
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private double readNumber() {
+        skipWhitespace();
+        int start = position;
+        int length = text.length();
+        boolean negative = false;
+        if (position < length && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+            negative = text.charAt(position) == '-';
+            position++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean exact = true;
+        boolean fraction = false;
+        for (; position < length; position++) {
+            char c = text.charAt(position);
+            if (c >= '0' && c <= '9') {
+                if (mantissa < MAX_EXACT_MANTISSA / 10) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (fraction) {
+                        scale--;
+                    }
+                } else {
+                    exact = false;
+                }
+                digits++;
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            throw error("nombre attendu");
+        }
+        if (position < length && (text.charAt(position) == 'e' || text.charAt(position) == 'E')) {
+            position++;
+            if (position < length && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+                position++;
+            }
+            while (position < length && Character.isDigit(text.charAt(position))) {
+                position++;
+            }
+            exact = false;
+        }
+
+        if (!exact || -scale >= POWERS_OF_TEN.length) {
+            try {
+                return Double.parseDouble(text.subSequence(start, position).toString());
+            } catch (NumberFormatException e) {
+                throw error("nombre invalide");
+            }
+        }
+        double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[-scale];
+        return negative ? -value : value;
+    }
+
+    private boolean nextIsNumber() {
+        skipWhitespace();
+        if (position >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(position);
+        return Character.isDigit(c) || c == '-' || c == '+' || c == '.';
+    }
+
+    /**
+     * Ignore le qualificatif de dimension ({@code Z}, {@code M}, {@code ZM}).
+     */
+    private void skipDimension() {
+        skipWhitespace();
+        if (matchesWord("ZM")) {
+            position += 2;
+        } else if (matchesWord("Z") || matchesWord("M")) {
+            position++;
+        }
+    }
+
+    private boolean readEmpty() {
+        skipWhitespace();
+        if (matchesWord("EMPTY")) {
+            position += 5;
+            return true;
+        }
+        return false;
+    }
+
+    private String readWord() {
+        skipWhitespace();
+        int start = position;
+        while (position < text.length() && Character.isLetter(text.charAt(position))) {
+            position++;
+        }
+        return text.subSequence(start, position).toString().toUpperCase();
+    }
+
+    /**
+     * Indique si le mot clé (insensible à la casse) commence à la position courante
+     * et n'est pas suivi d'une autre lettre.
+     */
+    private boolean matchesWord(String word) {
+        int end = position + word.length();
+        if (end > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toUpperCase(text.charAt(position + i)) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return end == text.length() || !Character.isLetter(text.charAt(end));
+    }
+
+    private boolean consume(char expected) {
+        skipWhitespace();
+        if (position < text.length() && text.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!consume(expected)) {
+            throw error("'" + expected + "' attendu");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("WKT invalide à la position " + position + ": " + message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.industria.platform.projection;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Identifiant et géométrie WGS84 d'une zone ou d'une parcelle, sans le reste de l'entité.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface GeometryRow {
+    String getId();
+
+    Geometry getGeometry();
+}
@@ -0,0 +1,22 @@
+package com.industria.platform.projection;
+
+/**
+ * Géométries d'une zone ou d'une parcelle au format WKB, avec le SRID par
+ * défaut de son pays pour reprojeter les lignes non encore migrées.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface GeometryWkbRow {
+    String getId();
+
+    /** Polygone Lambert ({@code ST_AsBinary}) */
+    byte[] getLambert();
+
+    /** Polygone WGS84 ({@code ST_AsBinary}), null si non encore calculé */
+    byte[] getWgs84();
+
+    /** SRID par défaut du pays, null si inconnu */
+    Integer getSrid();
+}
@@ -0,0 +1,21 @@
+package com.industria.platform.projection;
+
+/**
+ * Géométries d'une parcelle au format WKB, lues sans passer par JTS.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ParcelGeometryWkb {
+    String getId();
+
+    /** Zone de la parcelle */
+    String getZoneId();
+
+    /** Polygone Lambert ({@code ST_AsBinary}) */
+    byte[] getLambert();
+
+    /** Polygone WGS84 ({@code ST_AsBinary}), null si non encore calculé */
+    byte[] getWgs84();
+}
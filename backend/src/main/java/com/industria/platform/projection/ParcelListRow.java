@@ -0,0 +1,31 @@
+package com.industria.platform.projection;
+
+import com.industria.platform.entity.ParcelStatus;
+import com.industria.platform.entity.PriceType;
+
+/**
+ * Colonnes d'une parcelle affichées dans les listes, avec celles de sa zone,
+ * sans géométrie ni collections. Construite directement par la requête
+ * (expression {@code SELECT new}).
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ParcelListRow(String id,
+                            String reference,
+                            Double area,
+                            ParcelStatus status,
+                            Boolean isShowroom,
+                            String zoneId,
+                            Double longitude,
+                            Double latitude,
+                            Double cos,
+                            Double cus,
+                            Double heightLimit,
+                            Double setback,
+                            String zoneName,
+                            String zoneAddress,
+                            Double zonePrice,
+                            PriceType zonePriceType,
+                            String countryCurrency) {}
@@ -0,0 +1,22 @@
+package com.industria.platform.projection;
+
+/**
+ * Position et attributs d'affichage d'une parcelle pour le regroupement des marqueurs.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ParcelMarkerRow {
+    String getId();
+
+    /** Longitude du centroïde WGS84, ou à défaut longitude pré-calculée */
+    Double getLongitude();
+
+    /** Latitude du centroïde WGS84, ou à défaut latitude pré-calculée */
+    Double getLatitude();
+
+    String getStatus();
+
+    Boolean getShowroom();
+}
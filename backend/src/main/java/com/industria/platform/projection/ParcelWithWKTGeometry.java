@@ -17,7 +17,7 @@ public interface ParcelWithWKTGeometry {
     Double getHeightLimit();
     Double getSetback();
     
-    // Utiliser SpEL pour transformer la géométrie WKB en WKT via une expression native
-    @Value("#{T(com.industria.platform.util.WKBToWKTUtil).convertWKBToWKT(target.geometry)}")
+    // Utiliser SpEL pour exposer la géométrie PostGIS au format WKT
+    @Value("#{target.geometry?.toText()}")
     String getWktGeometry();
 }
\ No newline at end of file
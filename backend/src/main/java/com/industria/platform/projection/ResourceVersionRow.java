@@ -0,0 +1,22 @@
+package com.industria.platform.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version d'une ressource (ou d'un ensemble de ressources) servie par l'API,
+ * lue sans charger les entités : la date de dernière modification de tout ce
+ * qui entre dans sa représentation, et un nombre de lignes associées qui
+ * révèle les suppressions physiques, sans trace de date.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ResourceVersionRow {
+
+    /** Dernière modification, null si aucune ligne n'est datée */
+    LocalDateTime getLastModified();
+
+    /** Nombre de lignes associées */
+    Long getCount();
+}
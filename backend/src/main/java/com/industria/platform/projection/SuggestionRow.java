@@ -0,0 +1,15 @@
+package com.industria.platform.projection;
+
+/**
+ * Entrée de l'index d'autocomplétion lue en base : libellé affiché et
+ * précision secondaire (adresse d'une zone, zone d'une parcelle, pays d'une région).
+ *
+ * @param id identifiant de l'entité
+ * @param label libellé principal (nom ou référence)
+ * @param detail précision secondaire, null si inconnue
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record SuggestionRow(String id, String label, String detail) {}
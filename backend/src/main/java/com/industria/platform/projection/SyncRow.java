@@ -0,0 +1,23 @@
+package com.industria.platform.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ligne de synchronisation incrémentale de la carte : position d'une entité
+ * dans l'ordre {@code (updated_at, id)} et indicateur de suppression logique.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface SyncRow {
+
+    /** Identifiant de l'entité */
+    String getId();
+
+    /** Dernière modification (une suppression logique l'avance aussi) */
+    LocalDateTime getUpdatedAt();
+
+    /** true si l'entité est supprimée */
+    Boolean getDeleted();
+}
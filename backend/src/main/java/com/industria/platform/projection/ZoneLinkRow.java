@@ -0,0 +1,13 @@
+package com.industria.platform.projection;
+
+/**
+ * Lien d'une zone vers une activité ou un équipement, réduit aux deux identifiants.
+ *
+ * @param zoneId identifiant de la zone
+ * @param targetId identifiant de l'activité ou de l'équipement
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ZoneLinkRow(String zoneId, String targetId) {}
@@ -0,0 +1,30 @@
+package com.industria.platform.projection;
+
+import com.industria.platform.entity.ConstructionType;
+import com.industria.platform.entity.PriceType;
+import com.industria.platform.entity.ZoneStatus;
+
+/**
+ * Colonnes d'une zone affichées dans les listes, sans géométrie ni collections.
+ * Construite directement par la requête (expression {@code SELECT new}).
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ZoneListRow(String id,
+                          String name,
+                          String description,
+                          String address,
+                          Double totalArea,
+                          Double price,
+                          PriceType priceType,
+                          ConstructionType constructionType,
+                          ZoneStatus status,
+                          String regionId,
+                          String zoneTypeId,
+                          Double latitude,
+                          Double longitude,
+                          String countryId,
+                          String countryCode,
+                          String countryCurrency) {}
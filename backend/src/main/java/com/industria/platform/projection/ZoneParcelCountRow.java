@@ -0,0 +1,18 @@
+package com.industria.platform.projection;
+
+import com.industria.platform.entity.ParcelStatus;
+
+/**
+ * Nombre de parcelles d'une zone pour un statut donné (agrégat {@code GROUP BY}).
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ZoneParcelCountRow {
+    String getZoneId();
+
+    ParcelStatus getStatus();
+
+    Long getCount();
+}
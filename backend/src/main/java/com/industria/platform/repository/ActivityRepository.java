@@ -1,7 +1,13 @@
 package com.industria.platform.repository;
 
+import com.industria.platform.config.ReferenceCacheConfig;
 import com.industria.platform.entity.Activity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 /**
  * Repository pour la gestion des activités industrielles.
@@ -13,4 +19,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @version 1.0
  * @since 1.0
  */
-public interface ActivityRepository extends JpaRepository<Activity, String> {}
+public interface ActivityRepository extends JpaRepository<Activity, String> {
+
+    /**
+     * Récupère toutes les activités.
+     * Résultat conservé dans le cache des données de référence.
+     * 
+     * @return liste complète
+     */
+    @Override
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheConfig.QUERY_REGION)})
+    List<Activity> findAll();
+}
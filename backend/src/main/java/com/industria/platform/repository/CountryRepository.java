@@ -1,7 +1,13 @@
 package com.industria.platform.repository;
 
+import com.industria.platform.config.ReferenceCacheConfig;
 import com.industria.platform.entity.Country;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 /**
  * Repository pour la gestion des pays.
@@ -12,4 +18,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @version 1.0
  * @since 1.0
  */
-public interface CountryRepository extends JpaRepository<Country, String> {}
+public interface CountryRepository extends JpaRepository<Country, String> {
+
+    /**
+     * Récupère tous les pays.
+     * Résultat conservé dans le cache des données de référence.
+     * 
+     * @return liste complète
+     */
+    @Override
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheConfig.QUERY_REGION)})
+    List<Country> findAll();
+}
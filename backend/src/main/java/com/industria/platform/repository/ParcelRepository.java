@@ -2,10 +2,24 @@ package com.industria.platform.repository;
 
 import com.industria.platform.entity.Parcel;
 import com.industria.platform.entity.ParcelStatus;
+import com.industria.platform.projection.GeometryRow;
+import com.industria.platform.projection.GeometryWkbRow;
+import com.industria.platform.projection.ParcelListRow;
+import com.industria.platform.projection.ParcelGeometryWkb;
+import com.industria.platform.projection.ParcelMarkerRow;
+import com.industria.platform.projection.ResourceVersionRow;
+import com.industria.platform.projection.SuggestionRow;
+import com.industria.platform.projection.SyncRow;
+import com.industria.platform.projection.ZoneParcelCountRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.List;
+import java.util.Optional;
 import java.time.LocalDateTime;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +35,36 @@ import org.springframework.data.domain.Pageable;
  * @since 1.0
  */
 public interface ParcelRepository extends JpaRepository<Parcel, String> {
+
+    /** Colonnes des listes de parcelles, construites en {@link ParcelListRow} */
+    String LIST_SELECT =
+            "SELECT new com.industria.platform.projection.ParcelListRow(p.id, p.reference, p.area, p.status, " +
+            "p.isShowroom, z.id, p.longitude, p.latitude, p.cos, p.cus, p.heightLimit, p.setback, " +
+            "z.name, z.address, z.price, z.priceType, c.currency) ";
+
+    /** Jointures des listes de parcelles (zone, région, pays et créateur) */
+    String LIST_FROM =
+            "FROM Parcel p LEFT JOIN p.zone z LEFT JOIN z.region r LEFT JOIN r.country c LEFT JOIN p.createdBy u ";
+
+    /** Filtres des listes de parcelles ; un paramètre null désactive son filtre */
+    String LIST_WHERE =
+            "WHERE (:creatorId IS NULL OR u.id = :creatorId) " +
+            "AND (:zoneId IS NULL OR z.id = :zoneId)";
+
+    /**
+     * Critères de la recherche de parcelles (SQL natif) : texte intégral ou
+     * sous-chaîne de la référence, ou proximité par trigrammes ; filtres typés
+     * pour les valeurs nulles.
+     */
+    String SEARCH_FROM_WHERE =
+            "FROM parcel p LEFT JOIN users u ON u.email = p.created_by " +
+            "WHERE p.deleted_at IS NULL " +
+            "AND (p.search_vector @@ to_tsquery('simple', search_normalize(:tsQuery)) " +
+            "OR search_normalize(p.reference) LIKE search_normalize(:pattern) " +
+            "OR search_normalize(:text) <% search_normalize(p.reference)) " +
+            "AND (CAST(:creatorId AS varchar) IS NULL OR u.id = CAST(:creatorId AS varchar)) " +
+            "AND (CAST(:zoneId AS varchar) IS NULL OR p.zone_id = CAST(:zoneId AS varchar))";
+
     /**
      * Récupère toutes les parcelles d'une zone.
      * 
@@ -41,16 +85,6 @@ public interface ParcelRepository extends JpaRepository<Parcel, String> {
      */
     Page<Parcel> findByZoneId(String zoneId, Pageable pageable);
     
-    /**
-     * Recherche des parcelles par référence avec pagination.
-     * La recherche est insensible à la casse.
-     * 
-     * @param reference référence ou portion de référence
-     * @param pageable configuration de pagination
-     * @return page de parcelles correspondant au critère
-     */
-    Page<Parcel> findByReferenceContainingIgnoreCase(String reference, Pageable pageable);
-
     /**
      * Compte le nombre de parcelles dans une zone.
      * 
@@ -58,6 +92,91 @@ public interface ParcelRepository extends JpaRepository<Parcel, String> {
      * @return nombre total de parcelles dans la zone
      */
     int countByZoneId(String zoneId);
+
+    /**
+     * Récupère une page de parcelles pour les listes, filtrée et paginée par la base.
+     * Seules les colonnes affichées sont lues : ni géométrie, ni collections.
+     * 
+     * @param creatorId créateur des parcelles, null pour toutes
+     * @param zoneId zone des parcelles, null pour toutes
+     * @param pageable page demandée
+     * @return page de parcelles triées par référence
+     */
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_WHERE + " ORDER BY p.reference, p.id",
+           countQuery = "SELECT COUNT(p) " + LIST_FROM + LIST_WHERE)
+    Page<ParcelListRow> findListRows(@Param("creatorId") String creatorId,
+                                     @Param("zoneId") String zoneId,
+                                     Pageable pageable);
+
+    /**
+     * Récupère toutes les parcelles pour les listes de sélection, sans géométrie ni collections.
+     * 
+     * @param creatorId créateur des parcelles, null pour toutes
+     * @return parcelles triées par référence
+     */
+    @Query(LIST_SELECT + LIST_FROM + "WHERE (:creatorId IS NULL OR u.id = :creatorId) ORDER BY p.reference, p.id")
+    List<ParcelListRow> findAllListRows(@Param("creatorId") String creatorId);
+
+    /**
+     * Récupère les lignes de liste de parcelles désignées, dans un ordre quelconque.
+     *
+     * @param ids identifiants des parcelles (non vide)
+     * @return lignes de liste des parcelles trouvées
+     */
+    @Query(LIST_SELECT + LIST_FROM + "WHERE p.id IN :ids")
+    List<ParcelListRow> findListRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Récupère la référence et le nom de zone de toutes les parcelles, pour l'index d'autocomplétion.
+     *
+     * @return une entrée par parcelle
+     */
+    @Query("SELECT new com.industria.platform.projection.SuggestionRow(p.id, p.reference, z.name) " +
+           "FROM Parcel p LEFT JOIN p.zone z")
+    List<SuggestionRow> findAllSuggestionRows();
+
+    /**
+     * Récupère la référence et le nom de zone d'une parcelle, pour l'index d'autocomplétion.
+     *
+     * @param id identifiant de la parcelle
+     * @return entrée de la parcelle, vide si elle n'existe pas ou est supprimée
+     */
+    @Query("SELECT new com.industria.platform.projection.SuggestionRow(p.id, p.reference, z.name) " +
+           "FROM Parcel p LEFT JOIN p.zone z WHERE p.id = :id")
+    Optional<SuggestionRow> findSuggestionRowById(@Param("id") String id);
+
+    /**
+     * Recherche des parcelles par pertinence, filtrée et paginée par la base.
+     * Classement : référence identique, puis proximité de la référence avec le texte saisi.
+     *
+     * @param text texte saisi, tel quel
+     * @param tsQuery requête plein texte préfixée dérivée du texte
+     * @param pattern motif {@code LIKE} de sous-chaîne, caractères spéciaux échappés
+     * @param creatorId créateur des parcelles, null pour toutes
+     * @param zoneId zone des parcelles, null pour toutes
+     * @param pageable page demandée (sans tri : l'ordre est celui de la pertinence)
+     * @return page d'identifiants de parcelles, des plus pertinentes aux moins pertinentes
+     */
+    @Query(value = "SELECT p.id " + SEARCH_FROM_WHERE +
+                   " ORDER BY search_normalize(p.reference) = search_normalize(:text) DESC, " +
+                   "similarity(search_normalize(p.reference), search_normalize(:text)) DESC, p.reference, p.id",
+           countQuery = "SELECT count(*) " + SEARCH_FROM_WHERE,
+           nativeQuery = true)
+    Page<String> searchIds(@Param("text") String text,
+                           @Param("tsQuery") String tsQuery,
+                           @Param("pattern") String pattern,
+                           @Param("creatorId") String creatorId,
+                           @Param("zoneId") String zoneId,
+                           Pageable pageable);
+
+    /**
+     * Récupère une parcelle avec zone, région, pays et créateur.
+     * 
+     * @param id identifiant de la parcelle
+     * @return la parcelle si elle existe
+     */
+    @EntityGraph(Parcel.GRAPH_SUMMARY)
+    Optional<Parcel> findDetailById(String id);
     
     /**
      * Compte les parcelles d'une zone avec un statut spécifique.
@@ -67,6 +186,17 @@ public interface ParcelRepository extends JpaRepository<Parcel, String> {
      * @return nombre de parcelles avec le statut donné dans la zone
      */
     int countByZoneIdAndStatus(String zoneId, ParcelStatus status);
+
+    /**
+     * Compte en une requête les parcelles de plusieurs zones, par zone et par statut.
+     * Les couples (zone, statut) sans parcelle ne sont pas renvoyés.
+     *
+     * @param zoneIds identifiants des zones (non vide)
+     * @return nombre de parcelles par zone et par statut
+     */
+    @Query("SELECT p.zone.id AS zoneId, p.status AS status, COUNT(p) AS count FROM Parcel p " +
+           "WHERE p.zone.id IN :zoneIds GROUP BY p.zone.id, p.status")
+    List<ZoneParcelCountRow> countByZoneIdsGroupByStatus(@Param("zoneIds") Collection<String> zoneIds);
     
     /**
      * Compte les parcelles par statut.
@@ -93,4 +223,196 @@ public interface ParcelRepository extends JpaRepository<Parcel, String> {
      * @return nombre de parcelles dans la région
      */
     long countByZone_RegionId(String regionId);
+
+    /**
+     * Récupère un lot de parcelles dont la géométrie WGS84 n'a pas encore été calculée.
+     * Parcours par identifiant croissant (pagination par clé) pour la migration.
+     *
+     * @param afterId identifiant à partir duquel reprendre (exclu)
+     * @param pageable taille du lot
+     * @return lot de parcelles à migrer
+     */
+    @Query("SELECT p FROM Parcel p WHERE p.geometryWgs84 IS NULL AND p.geometry IS NOT NULL " +
+           "AND p.id > :afterId ORDER BY p.id")
+    List<Parcel> findWithoutWgs84Geometry(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * Récupère en une requête les géométries WKB des parcelles d'une zone.
+     *
+     * @param zoneId identifiant de la zone
+     * @return géométries Lambert et WGS84 de chaque parcelle
+     */
+    @Query(value = "SELECT id AS id, zone_id AS \"zoneId\", ST_AsBinary(geometry) AS lambert, ST_AsBinary(geometry_wgs84) AS wgs84 " +
+                   "FROM parcel WHERE zone_id = :zoneId AND geometry IS NOT NULL AND deleted_at IS NULL",
+           nativeQuery = true)
+    List<ParcelGeometryWkb> findGeometryWkbByZoneId(@Param("zoneId") String zoneId);
+
+    /**
+     * Récupère en une requête les géométries WKB des parcelles de plusieurs zones.
+     *
+     * @param zoneIds identifiants des zones (non vide)
+     * @return géométries Lambert et WGS84 de chaque parcelle, avec sa zone
+     */
+    @Query(value = "SELECT id AS id, zone_id AS \"zoneId\", ST_AsBinary(geometry) AS lambert, ST_AsBinary(geometry_wgs84) AS wgs84 " +
+                   "FROM parcel WHERE zone_id IN (:zoneIds) AND geometry IS NOT NULL AND deleted_at IS NULL",
+           nativeQuery = true)
+    List<ParcelGeometryWkb> findGeometryWkbByZoneIdIn(@Param("zoneIds") Collection<String> zoneIds);
+
+    /**
+     * Récupère en une requête les géométries WKB de plusieurs parcelles.
+     *
+     * @param ids identifiants des parcelles (non vide)
+     * @return géométries Lambert et WGS84 de chaque parcelle, avec le SRID du pays de sa zone
+     */
+    @Query(value = "SELECT p.id AS id, ST_AsBinary(p.geometry) AS lambert, ST_AsBinary(p.geometry_wgs84) AS wgs84, " +
+                   "c.default_srid AS srid FROM parcel p LEFT JOIN zone z ON z.id = p.zone_id " +
+                   "LEFT JOIN region r ON r.id = z.region_id LEFT JOIN country c ON c.id = r.country_id " +
+                   "WHERE p.id IN (:ids) AND p.geometry IS NOT NULL AND p.deleted_at IS NULL",
+           nativeQuery = true)
+    List<GeometryWkbRow> findGeometryWkbByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Récupère la géométrie WGS84 de toutes les parcelles qui en ont une.
+     * Alimente le stock des contours simplifiés de la carte.
+     *
+     * @return identifiants et géométries WGS84
+     */
+    @Query("SELECT p.id AS id, p.geometryWgs84 AS geometry FROM Parcel p WHERE p.geometryWgs84 IS NOT NULL")
+    List<GeometryRow> findAllWgs84Geometries();
+
+    /**
+     * Récupère la géométrie WGS84 d'une parcelle.
+     *
+     * @param id identifiant de la parcelle
+     * @return identifiant et géométrie WGS84, vide si la parcelle n'existe pas ou n'a pas de géométrie
+     */
+    @Query("SELECT p.id AS id, p.geometryWgs84 AS geometry FROM Parcel p WHERE p.id = :id AND p.geometryWgs84 IS NOT NULL")
+    Optional<GeometryRow> findWgs84GeometryById(@Param("id") String id);
+
+    /**
+     * Récupère la position et les attributs d'affichage de toutes les parcelles localisées.
+     * Alimente le regroupement des marqueurs de la carte.
+     *
+     * @return marqueurs des parcelles
+     */
+    @Query(value = "SELECT id AS id, " +
+                   "COALESCE(ST_X(ST_Centroid(geometry_wgs84)), longitude) AS longitude, " +
+                   "COALESCE(ST_Y(ST_Centroid(geometry_wgs84)), latitude) AS latitude, " +
+                   "status AS status, is_showroom AS showroom " +
+                   "FROM parcel WHERE deleted_at IS NULL AND (geometry_wgs84 IS NOT NULL OR (longitude IS NOT NULL AND latitude IS NOT NULL))",
+           nativeQuery = true)
+    List<ParcelMarkerRow> findAllMarkers();
+
+    /**
+     * Récupère la position et les attributs d'affichage d'une parcelle.
+     *
+     * @param id identifiant de la parcelle
+     * @return marqueur de la parcelle, vide si elle n'existe pas ou n'est pas localisée
+     */
+    @Query(value = "SELECT id AS id, " +
+                   "COALESCE(ST_X(ST_Centroid(geometry_wgs84)), longitude) AS longitude, " +
+                   "COALESCE(ST_Y(ST_Centroid(geometry_wgs84)), latitude) AS latitude, " +
+                   "status AS status, is_showroom AS showroom " +
+                   "FROM parcel WHERE id = :id AND deleted_at IS NULL AND (geometry_wgs84 IS NOT NULL OR (longitude IS NOT NULL AND latitude IS NOT NULL))",
+           nativeQuery = true)
+    Optional<ParcelMarkerRow> findMarkerById(@Param("id") String id);
+
+    /**
+     * Récupère les parcelles dont l'emprise WGS84 recoupe un rectangle.
+     * Filtre par l'opérateur {@code &&} servi par l'index GiST.
+     *
+     * @param minLon longitude minimale
+     * @param minLat latitude minimale
+     * @param maxLon longitude maximale
+     * @param maxLat latitude maximale
+     * @param limit nombre maximal de parcelles retournées (ordre des identifiants)
+     * @return parcelles dont l'emprise recoupe le rectangle
+     */
+    @Query(value = "SELECT * FROM parcel WHERE geometry_wgs84 && ST_MakeEnvelope(:minLon, :minLat, :maxLon, :maxLat, 4326) AND deleted_at IS NULL " +
+                   "ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<Parcel> findInBoundingBox(@Param("minLon") double minLon, @Param("minLat") double minLat,
+                                   @Param("maxLon") double maxLon, @Param("maxLat") double maxLat,
+                                   @Param("limit") int limit);
+
+    /**
+     * Récupère les parcelles qui intersectent une géométrie WGS84.
+     *
+     * @param wkt géométrie de recherche au format WKT (longitude latitude)
+     * @return parcelles intersectant la géométrie
+     */
+    @Query(value = "SELECT * FROM parcel WHERE ST_Intersects(geometry_wgs84, ST_GeomFromText(:wkt, 4326)) AND deleted_at IS NULL",
+           nativeQuery = true)
+    List<Parcel> findIntersecting(@Param("wkt") String wkt);
+
+    /**
+     * Récupère les parcelles situées à moins d'une distance donnée d'un point.
+     * Distance géodésique, servie par l'index GiST sur la géographie.
+     *
+     * @param longitude longitude du point
+     * @param latitude latitude du point
+     * @param meters distance maximale en mètres
+     * @return parcelles à proximité du point
+     */
+    @Query(value = "SELECT * FROM parcel WHERE ST_DWithin(geometry_wgs84::geography, " +
+                   "ST_SetSRID(ST_MakePoint(:longitude, :latitude), 4326)::geography, :meters) AND deleted_at IS NULL",
+           nativeQuery = true)
+    List<Parcel> findWithinDistance(@Param("longitude") double longitude, @Param("latitude") double latitude,
+                                    @Param("meters") double meters);
+
+    /**
+     * Génère la couche {@code parcels} d'une tuile vectorielle Mapbox (MVT).
+     * 
+     * Même traitement géométrique que la couche des zones ; chaque entité
+     * porte sa référence, son statut, sa surface et sa zone.
+     *
+     * @param z niveau de zoom
+     * @param x colonne de la tuile
+     * @param y ligne de la tuile
+     * @param tolerance tolérance de simplification en mètres Web Mercator
+     * @return couche MVT encodée, vide si aucune parcelle ne recoupe la tuile
+     */
+    @Query(value = "WITH features AS (" +
+                   "SELECT p.id, p.reference, p.status, p.is_showroom, p.area, p.zone_id, " +
+                   "ST_AsMVTGeom(ST_SimplifyPreserveTopology(ST_Transform(p.geometry_wgs84, 3857), :tolerance), " +
+                   " ST_TileEnvelope(:z, :x, :y), 4096, 64, true) AS geom " +
+                   "FROM parcel p " +
+                   "WHERE p.geometry_wgs84 && ST_Transform(ST_TileEnvelope(:z, :x, :y, margin => 0.015625), 4326) AND p.deleted_at IS NULL) " +
+                   "SELECT ST_AsMVT(features, 'parcels', 4096, 'geom') FROM features WHERE geom IS NOT NULL",
+           nativeQuery = true)
+    byte[] findVectorTile(@Param("z") int z, @Param("x") int x, @Param("y") int y,
+                          @Param("tolerance") double tolerance);
+
+    /**
+     * Récupère, des plus anciennes aux plus récentes, les parcelles créées, modifiées
+     * ou supprimées après une position de synchronisation {@code (updated_at, id)}.
+     * Requête native : les lignes supprimées sont incluses, la suppression
+     * logique avançant aussi {@code updated_at}.
+     *
+     * @param since date de modification de la position (exclue avec {@code afterId})
+     * @param afterId identifiant de la position, vide pour toutes les parcelles de {@code since}
+     * @param limit taille du lot
+     * @return lignes de synchronisation, suppressions comprises
+     */
+    @Query(value = "SELECT id, updated_at AS \"updatedAt\", deleted_at IS NOT NULL AS \"deleted\" FROM parcel " +
+                   "WHERE (updated_at, id) > (:since, :afterId) ORDER BY updated_at, id LIMIT :limit",
+           nativeQuery = true)
+    List<SyncRow> findSyncRowsAfter(@Param("since") LocalDateTime since, @Param("afterId") String afterId,
+                                    @Param("limit") int limit);
+
+    /**
+     * Lit la version du détail d'une parcelle : dernière modification de la
+     * parcelle, de sa zone, du pays de la zone et de ses images, et nombre d'images.
+     *
+     * @param id identifiant de la parcelle
+     * @return version du détail, vide si la parcelle n'existe pas ou est supprimée
+     */
+    @Query(value = "SELECT GREATEST(p.updated_at, z.updated_at, c.updated_at, " +
+                   "(SELECT max(i.updated_at) FROM parcel_images i WHERE i.parcel_id = p.id)) AS \"lastModified\", " +
+                   "(SELECT count(*) FROM parcel_images i WHERE i.parcel_id = p.id) AS \"count\" " +
+                   "FROM parcel p LEFT JOIN zone z ON z.id = p.zone_id " +
+                   "LEFT JOIN region r ON r.id = z.region_id LEFT JOIN country c ON c.id = r.country_id " +
+                   "WHERE p.id = :id AND p.deleted_at IS NULL",
+           nativeQuery = true)
+    Optional<ResourceVersionRow> findDetailVersionById(@Param("id") String id);
 }
@@ -1,7 +1,13 @@
 package com.industria.platform.repository;
 
+import com.industria.platform.config.ReferenceCacheConfig;
 import com.industria.platform.entity.Region;
+import com.industria.platform.projection.SuggestionRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.List;
 
 /**
@@ -14,6 +20,17 @@ import java.util.List;
  * @since 1.0
  */
 public interface RegionRepository extends JpaRepository<Region, String> {
+
+    /**
+     * Récupère toutes les régions.
+     * Résultat conservé dans le cache des données de référence.
+     * 
+     * @return liste complète
+     */
+    @Override
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheConfig.QUERY_REGION)})
+    List<Region> findAll();
     
     /**
      * Trouve toutes les régions d'un pays donné.
@@ -21,5 +38,16 @@ public interface RegionRepository extends JpaRepository<Region, String> {
      * @param countryId identifiant du pays
      * @return liste des régions du pays
      */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheConfig.QUERY_REGION)})
     List<Region> findByCountryId(String countryId);
+
+    /**
+     * Récupère le nom et le pays de toutes les régions, pour l'index d'autocomplétion.
+     *
+     * @return une entrée par région
+     */
+    @Query("SELECT new com.industria.platform.projection.SuggestionRow(r.id, r.name, c.name) " +
+           "FROM Region r LEFT JOIN r.country c")
+    List<SuggestionRow> findAllSuggestionRows();
 }
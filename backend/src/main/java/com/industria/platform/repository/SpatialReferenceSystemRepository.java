@@ -1,11 +1,28 @@
 package com.industria.platform.repository;
 
+import com.industria.platform.config.ReferenceCacheConfig;
 import com.industria.platform.entity.SpatialReferenceSystem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface SpatialReferenceSystemRepository extends JpaRepository<SpatialReferenceSystem, String> {
+
+    /**
+     * Récupère tous les systèmes de référence spatiale.
+     * Résultat conservé dans le cache des données de référence.
+     * 
+     * @return liste complète
+     */
+    @Override
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheConfig.QUERY_REGION)})
+    List<SpatialReferenceSystem> findAll();
     
     /**
      * Trouve un système de référence spatiale par son SRID.
@@ -13,6 +30,8 @@ public interface SpatialReferenceSystemRepository extends JpaRepository<SpatialR
      * @param srid le code SRID (ex: 4326, 2154, 26191)
      * @return le système de référence spatiale ou null si non trouvé
      */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceCacheConfig.QUERY_REGION)})
     SpatialReferenceSystem findBySrid(Integer srid);
     
     /**
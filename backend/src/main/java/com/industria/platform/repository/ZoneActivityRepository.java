@@ -1,6 +1,23 @@
 package com.industria.platform.repository;
 
 import com.industria.platform.entity.ZoneActivity;
+import com.industria.platform.projection.ZoneLinkRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ZoneActivityRepository extends JpaRepository<ZoneActivity, String> {}
+import java.util.Collection;
+import java.util.List;
+
+public interface ZoneActivityRepository extends JpaRepository<ZoneActivity, String> {
+
+    /**
+     * Récupère en une requête les activités de plusieurs zones, réduites aux identifiants.
+     *
+     * @param zoneIds identifiants des zones (non vide)
+     * @return couples (zone, activité)
+     */
+    @Query("SELECT new com.industria.platform.projection.ZoneLinkRow(za.zone.id, za.activity.id) " +
+           "FROM ZoneActivity za WHERE za.zone.id IN :zoneIds")
+    List<ZoneLinkRow> findLinksByZoneIdIn(@Param("zoneIds") Collection<String> zoneIds);
+}
@@ -1,6 +1,23 @@
 package com.industria.platform.repository;
 
 import com.industria.platform.entity.ZoneAmenity;
+import com.industria.platform.projection.ZoneLinkRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ZoneAmenityRepository extends JpaRepository<ZoneAmenity, String> {}
+import java.util.Collection;
+import java.util.List;
+
+public interface ZoneAmenityRepository extends JpaRepository<ZoneAmenity, String> {
+
+    /**
+     * Récupère en une requête les équipements de plusieurs zones, réduits aux identifiants.
+     *
+     * @param zoneIds identifiants des zones (non vide)
+     * @return couples (zone, équipement)
+     */
+    @Query("SELECT new com.industria.platform.projection.ZoneLinkRow(zm.zone.id, zm.amenity.id) " +
+           "FROM ZoneAmenity zm WHERE zm.zone.id IN :zoneIds")
+    List<ZoneLinkRow> findLinksByZoneIdIn(@Param("zoneIds") Collection<String> zoneIds);
+}
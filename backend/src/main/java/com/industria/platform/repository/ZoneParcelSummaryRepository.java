@@ -0,0 +1,116 @@
+package com.industria.platform.repository;
+
+import com.industria.platform.entity.ZoneParcelSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository des compteurs de parcelles par zone.
+ *
+ * Les mises à jour sont des incréments atomiques en base
+ * ({@code INSERT ... ON CONFLICT DO UPDATE}) : deux écritures concurrentes
+ * sur la même zone ne peuvent pas perdre de mise à jour.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ZoneParcelSummaryRepository extends JpaRepository<ZoneParcelSummary, String> {
+
+    /**
+     * Ajoute des écarts aux compteurs d'une zone, en créant la ligne si besoin.
+     *
+     * @param zoneId identifiant de la zone
+     * @param total écart du total
+     * @param libre écart des parcelles LIBRE
+     * @param reservee écart des parcelles RESERVEE
+     * @param indisponible écart des parcelles INDISPONIBLE
+     * @param vendu écart des parcelles VENDU
+     * @param enDeveloppement écart des parcelles EN_DEVELOPPEMENT
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO zone_parcel_summary (zone_id, total_count, libre_count, reservee_count, " +
+                   "indisponible_count, vendu_count, en_developpement_count, updated_at) " +
+                   "VALUES (:zoneId, :total, :libre, :reservee, :indisponible, :vendu, :enDeveloppement, localtimestamp) " +
+                   "ON CONFLICT (zone_id) DO UPDATE SET " +
+                   "total_count = zone_parcel_summary.total_count + EXCLUDED.total_count, " +
+                   "libre_count = zone_parcel_summary.libre_count + EXCLUDED.libre_count, " +
+                   "reservee_count = zone_parcel_summary.reservee_count + EXCLUDED.reservee_count, " +
+                   "indisponible_count = zone_parcel_summary.indisponible_count + EXCLUDED.indisponible_count, " +
+                   "vendu_count = zone_parcel_summary.vendu_count + EXCLUDED.vendu_count, " +
+                   "en_developpement_count = zone_parcel_summary.en_developpement_count + EXCLUDED.en_developpement_count, " +
+                   "updated_at = localtimestamp",
+           nativeQuery = true)
+    void addDelta(@Param("zoneId") String zoneId, @Param("total") int total, @Param("libre") int libre,
+                  @Param("reservee") int reservee, @Param("indisponible") int indisponible,
+                  @Param("vendu") int vendu, @Param("enDeveloppement") int enDeveloppement);
+
+    /**
+     * Verrouille les compteurs jusqu'à la fin de la transaction courante.
+     *
+     * Le mode {@code SHARE ROW EXCLUSIVE} attend la fin des transactions qui
+     * ont déjà écrit un écart, puis bloque les suivantes : un recalcul lancé
+     * ensuite compte toutes les parcelles validées, et aucun écart ne peut
+     * être écrasé par un compte pris avant que sa parcelle ne soit visible.
+     * Les lectures des compteurs ne sont pas bloquées.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE zone_parcel_summary IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRecompute();
+
+    /**
+     * Recalcule les compteurs de toutes les zones depuis la table des parcelles.
+     *
+     * À exécuter dans la transaction de {@link #lockForRecompute()}, sans quoi
+     * un écart validé pendant le recalcul peut être perdu.
+     *
+     * @return nombre de zones recalculées
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO zone_parcel_summary (zone_id, total_count, libre_count, reservee_count, " +
+                   "indisponible_count, vendu_count, en_developpement_count, updated_at) " +
+                   "SELECT z.id, count(p.id), " +
+                   "count(p.id) FILTER (WHERE p.status = 'LIBRE'), " +
+                   "count(p.id) FILTER (WHERE p.status = 'RESERVEE'), " +
+                   "count(p.id) FILTER (WHERE p.status = 'INDISPONIBLE'), " +
+                   "count(p.id) FILTER (WHERE p.status = 'VENDU'), " +
+                   "count(p.id) FILTER (WHERE p.status = 'EN_DEVELOPPEMENT'), localtimestamp " +
+                   "FROM zone z LEFT JOIN parcel p ON p.zone_id = z.id AND p.deleted_at IS NULL " +
+                   "WHERE z.deleted_at IS NULL GROUP BY z.id " +
+                   "ON CONFLICT (zone_id) DO UPDATE SET " +
+                   "total_count = EXCLUDED.total_count, libre_count = EXCLUDED.libre_count, " +
+                   "reservee_count = EXCLUDED.reservee_count, indisponible_count = EXCLUDED.indisponible_count, " +
+                   "vendu_count = EXCLUDED.vendu_count, en_developpement_count = EXCLUDED.en_developpement_count, " +
+                   "updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int recomputeAll();
+
+    /**
+     * Supprime les compteurs des zones supprimées.
+     *
+     * @return nombre de lignes supprimées
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM zone_parcel_summary s WHERE NOT EXISTS " +
+                   "(SELECT 1 FROM zone z WHERE z.id = s.zone_id AND z.deleted_at IS NULL)",
+           nativeQuery = true)
+    int deleteOrphans();
+
+    /**
+     * Somme des compteurs de toutes les zones.
+     *
+     * @return ligne unique de totaux (zéros si aucune zone)
+     */
+    @Query("SELECT new com.industria.platform.entity.ZoneParcelSummary('', " +
+           "CAST(COALESCE(SUM(s.totalCount), 0) AS Integer), CAST(COALESCE(SUM(s.libreCount), 0) AS Integer), " +
+           "CAST(COALESCE(SUM(s.reserveeCount), 0) AS Integer), CAST(COALESCE(SUM(s.indisponibleCount), 0) AS Integer), " +
+           "CAST(COALESCE(SUM(s.venduCount), 0) AS Integer), CAST(COALESCE(SUM(s.enDeveloppementCount), 0) AS Integer), " +
+           "MAX(s.updatedAt)) FROM ZoneParcelSummary s")
+    ZoneParcelSummary sumAll();
+}
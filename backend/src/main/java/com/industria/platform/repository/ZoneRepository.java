@@ -2,12 +2,23 @@ package com.industria.platform.repository;
 
 import com.industria.platform.entity.Zone;
 import com.industria.platform.entity.ZoneStatus;
+import com.industria.platform.projection.GeometryRow;
+import com.industria.platform.projection.GeometryWkbRow;
+import com.industria.platform.projection.ResourceVersionRow;
+import com.industria.platform.projection.SuggestionRow;
+import com.industria.platform.projection.SyncRow;
+import com.industria.platform.projection.ZoneListRow;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository pour la gestion des zones industrielles.
@@ -20,6 +31,66 @@ import java.util.List;
  * @since 1.0
  */
 public interface ZoneRepository extends JpaRepository<Zone, String> {
+
+    /** Agrégation des zones filtrées {@code z} en FeatureCollection GeoJSON encodée en UTF-8 */
+    String FEATURE_COLLECTION_SELECT =
+            "SELECT convert_to(json_build_object('type', 'FeatureCollection', 'features', COALESCE(json_agg(" +
+            "json_build_object('type', 'Feature', 'id', z.id, " +
+            "'geometry', ST_AsGeoJSON(z.geometry_wgs84, 7)::json, " +
+            "'properties', json_build_object('name', z.name, 'status', z.status, 'address', z.address, " +
+            "'totalArea', z.total_area, 'price', z.price))), '[]'::json))::text, 'UTF8') " +
+            "FROM zone z WHERE z.geometry_wgs84 IS NOT NULL AND z.deleted_at IS NULL";
+
+    /** Colonnes des listes de zones, construites en {@link ZoneListRow} */
+    String LIST_SELECT =
+            "SELECT new com.industria.platform.projection.ZoneListRow(z.id, z.name, z.description, z.address, " +
+            "z.totalArea, z.price, z.priceType, z.constructionType, z.status, r.id, t.id, z.latitude, z.longitude, " +
+            "c.id, c.code, c.currency) ";
+
+    /** Jointures des listes de zones (associations simples uniquement) */
+    String LIST_FROM =
+            "FROM Zone z LEFT JOIN z.region r LEFT JOIN r.country c LEFT JOIN z.zoneType t LEFT JOIN z.createdBy u ";
+
+    /** Filtres des listes de zones ; un paramètre null désactive son filtre */
+    String LIST_WHERE =
+            "WHERE (:creatorId IS NULL OR u.id = :creatorId) " +
+            "AND (:regionId IS NULL OR r.id = :regionId) " +
+            "AND (:zoneTypeId IS NULL OR t.id = :zoneTypeId) " +
+            "AND (:status IS NULL OR z.status = :status) " +
+            "AND (:minArea IS NULL OR z.totalArea >= :minArea) " +
+            "AND (:maxArea IS NULL OR z.totalArea <= :maxArea) " +
+            "AND (:minPrice IS NULL OR z.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR z.price <= :maxPrice)";
+
+    /** Requête plein texte préfixée ({@code terme:* & terme:*}), normalisée comme les colonnes indexées */
+    String SEARCH_TS_QUERY = "to_tsquery('simple', search_normalize(:tsQuery))";
+
+    /**
+     * Correspondance d'une zone {@code z} avec le texte saisi (SQL natif) :
+     * texte intégral sur nom, adresse et description, ou proximité par
+     * trigrammes (fautes de frappe).
+     */
+    String SEARCH_MATCH =
+            "(z.search_vector @@ " + SEARCH_TS_QUERY + " " +
+            "OR search_normalize(:text) <% search_normalize(z.name) " +
+            "OR search_normalize(:text) <% search_normalize(z.address) " +
+            "OR search_normalize(:text) <% search_normalize(z.description))";
+
+    /**
+     * Critères de la recherche de zones (SQL natif) : {@link #SEARCH_MATCH}
+     * et mêmes filtres que {@link #LIST_WHERE}, typés pour les valeurs nulles.
+     */
+    String SEARCH_FROM_WHERE =
+            "FROM zone z LEFT JOIN users u ON u.email = z.created_by " +
+            "WHERE z.deleted_at IS NULL AND " + SEARCH_MATCH + " " +
+            "AND (CAST(:creatorId AS varchar) IS NULL OR u.id = CAST(:creatorId AS varchar)) " +
+            "AND (CAST(:regionId AS varchar) IS NULL OR z.region_id = CAST(:regionId AS varchar)) " +
+            "AND (CAST(:zoneTypeId AS varchar) IS NULL OR z.zone_type_id = CAST(:zoneTypeId AS varchar)) " +
+            "AND (CAST(:status AS varchar) IS NULL OR z.status = CAST(:status AS varchar)) " +
+            "AND (CAST(:minArea AS float8) IS NULL OR z.total_area >= CAST(:minArea AS float8)) " +
+            "AND (CAST(:maxArea AS float8) IS NULL OR z.total_area <= CAST(:maxArea AS float8)) " +
+            "AND (CAST(:minPrice AS float8) IS NULL OR z.price >= CAST(:minPrice AS float8)) " +
+            "AND (CAST(:maxPrice AS float8) IS NULL OR z.price <= CAST(:maxPrice AS float8))";
     
     /**
      * Compte le nombre de zones créées par un utilisateur.
@@ -30,26 +101,121 @@ public interface ZoneRepository extends JpaRepository<Zone, String> {
     int countByCreatedById(String userId);
     
     /**
-     * Recherche des zones par nom ou adresse avec pagination.
-     * La recherche est insensible à la casse.
+     * Récupère toutes les zones avec leurs parcelles et créateurs.
+     * Les associations simples et les parcelles sont lues par jointure ;
+     * les autres collections sont chargées par lots.
      * 
-     * @param nameKeyword mot-clé pour le nom
-     * @param addressKeyword mot-clé pour l'adresse
-     * @param pageable configuration de pagination
-     * @return page de zones correspondant aux critères
+     * @return liste de toutes les zones
      */
-    Page<Zone> findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(
-        String nameKeyword, String addressKeyword, Pageable pageable);
-    
+    @EntityGraph(value = Zone.GRAPH_SUMMARY, attributePaths = "parcels")
+    @Query("SELECT z FROM Zone z")
+    List<Zone> findAllWithParcelsAndCreators();
+
     /**
-     * Récupère toutes les zones avec leurs parcelles et créateurs.
-     * Utilise le lazy loading pour optimiser les performances.
+     * Récupère une page de zones pour les listes, filtrée et paginée par la base.
+     * Seules les colonnes affichées sont lues : ni géométrie, ni collections.
      * 
-     * @return liste de toutes les zones
+     * @param creatorId créateur des zones, null pour toutes
+     * @param regionId région, null pour toutes
+     * @param zoneTypeId type de zone, null pour tous
+     * @param status statut, null pour tous
+     * @param minArea superficie minimale, null pour aucune
+     * @param maxArea superficie maximale, null pour aucune
+     * @param minPrice prix minimal, null pour aucun
+     * @param maxPrice prix maximal, null pour aucun
+     * @param pageable page demandée
+     * @return page de zones, des plus récentes aux plus anciennes
+     */
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_WHERE + " ORDER BY z.createdAt DESC, z.id",
+           countQuery = "SELECT COUNT(z) " + LIST_FROM + LIST_WHERE)
+    Page<ZoneListRow> findListRows(@Param("creatorId") String creatorId,
+                                   @Param("regionId") String regionId,
+                                   @Param("zoneTypeId") String zoneTypeId,
+                                   @Param("status") ZoneStatus status,
+                                   @Param("minArea") Double minArea,
+                                   @Param("maxArea") Double maxArea,
+                                   @Param("minPrice") Double minPrice,
+                                   @Param("maxPrice") Double maxPrice,
+                                   Pageable pageable);
+
+    /**
+     * Récupère toutes les zones pour les listes de sélection, sans géométrie ni collections.
+     * 
+     * @param creatorId créateur des zones, null pour toutes
+     * @return zones triées par nom
+     */
+    @Query(LIST_SELECT + LIST_FROM + "WHERE (:creatorId IS NULL OR u.id = :creatorId) ORDER BY z.name, z.id")
+    List<ZoneListRow> findAllListRows(@Param("creatorId") String creatorId);
+
+    /**
+     * Récupère les lignes de liste de zones désignées, dans un ordre quelconque.
+     *
+     * @param ids identifiants des zones (non vide)
+     * @return lignes de liste des zones trouvées
+     */
+    @Query(LIST_SELECT + LIST_FROM + "WHERE z.id IN :ids")
+    List<ZoneListRow> findListRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Récupère le nom et l'adresse de toutes les zones, pour l'index d'autocomplétion.
+     *
+     * @return une entrée par zone
+     */
+    @Query("SELECT new com.industria.platform.projection.SuggestionRow(z.id, z.name, z.address) FROM Zone z")
+    List<SuggestionRow> findAllSuggestionRows();
+
+    /**
+     * Récupère le nom et l'adresse d'une zone, pour l'index d'autocomplétion.
+     *
+     * @param id identifiant de la zone
+     * @return entrée de la zone, vide si elle n'existe pas ou est supprimée
+     */
+    @Query("SELECT new com.industria.platform.projection.SuggestionRow(z.id, z.name, z.address) FROM Zone z WHERE z.id = :id")
+    Optional<SuggestionRow> findSuggestionRowById(@Param("id") String id);
+
+    /**
+     * Recherche des zones par pertinence, filtrée et paginée par la base.
+     * Classement : rang plein texte (nom avant adresse avant description),
+     * augmenté de la proximité du nom avec le texte saisi.
+     *
+     * @param text texte saisi, tel quel
+     * @param tsQuery requête plein texte préfixée dérivée du texte
+     * @param creatorId créateur des zones, null pour toutes
+     * @param regionId région, null pour toutes
+     * @param zoneTypeId type de zone, null pour tous
+     * @param status nom du statut, null pour tous
+     * @param minArea superficie minimale, null pour aucune
+     * @param maxArea superficie maximale, null pour aucune
+     * @param minPrice prix minimal, null pour aucun
+     * @param maxPrice prix maximal, null pour aucun
+     * @param pageable page demandée (sans tri : l'ordre est celui de la pertinence)
+     * @return page d'identifiants de zones, des plus pertinentes aux moins pertinentes
+     */
+    @Query(value = "SELECT z.id " + SEARCH_FROM_WHERE +
+                   " ORDER BY ts_rank(z.search_vector, " + SEARCH_TS_QUERY + ") + " +
+                   "word_similarity(search_normalize(:text), search_normalize(z.name)) DESC, z.name, z.id",
+           countQuery = "SELECT count(*) " + SEARCH_FROM_WHERE,
+           nativeQuery = true)
+    Page<String> searchIds(@Param("text") String text,
+                           @Param("tsQuery") String tsQuery,
+                           @Param("creatorId") String creatorId,
+                           @Param("regionId") String regionId,
+                           @Param("zoneTypeId") String zoneTypeId,
+                           @Param("status") String status,
+                           @Param("minArea") Double minArea,
+                           @Param("maxArea") Double maxArea,
+                           @Param("minPrice") Double minPrice,
+                           @Param("maxPrice") Double maxPrice,
+                           Pageable pageable);
+
+    /**
+     * Récupère une zone avec ses associations, activités, équipements et images.
+     * 
+     * @param id identifiant de la zone
+     * @return la zone si elle existe
      */
-    default List<Zone> findAllWithParcelsAndCreators() {
-        return findAll();
-    }
+    @EntityGraph(Zone.GRAPH_DETAIL)
+    Optional<Zone> findDetailById(String id);
     
     @Override
     List<Zone> findAll();
@@ -92,6 +258,202 @@ public interface ZoneRepository extends JpaRepository<Zone, String> {
 
     Integer countByCreatedBy_Id(String creatorId);
 
+    /**
+     * Récupère un lot de zones dont la géométrie WGS84 n'a pas encore été calculée.
+     * Parcours par identifiant croissant (pagination par clé) pour la migration.
+     *
+     * @param afterId identifiant à partir duquel reprendre (exclu)
+     * @param pageable taille du lot
+     * @return lot de zones à migrer
+     */
+    @Query("SELECT z FROM Zone z WHERE z.geometryWgs84 IS NULL AND z.geometry IS NOT NULL " +
+           "AND z.id > :afterId ORDER BY z.id")
+    List<Zone> findWithoutWgs84Geometry(@Param("afterId") String afterId, Pageable pageable);
+
+    /**
+     * Récupère la géométrie WGS84 de toutes les zones qui en ont une.
+     * Alimente le stock des contours simplifiés de la carte.
+     *
+     * @return identifiants et géométries WGS84
+     */
+    @Query("SELECT z.id AS id, z.geometryWgs84 AS geometry FROM Zone z WHERE z.geometryWgs84 IS NOT NULL")
+    List<GeometryRow> findAllWgs84Geometries();
 
+    /**
+     * Récupère en une requête les géométries WKB de plusieurs zones.
+     *
+     * @param ids identifiants des zones (non vide)
+     * @return géométries Lambert et WGS84 de chaque zone, avec le SRID de son pays
+     */
+    @Query(value = "SELECT z.id AS id, ST_AsBinary(z.geometry) AS lambert, ST_AsBinary(z.geometry_wgs84) AS wgs84, " +
+                   "c.default_srid AS srid FROM zone z " +
+                   "LEFT JOIN region r ON r.id = z.region_id LEFT JOIN country c ON c.id = r.country_id " +
+                   "WHERE z.id IN (:ids) AND z.geometry IS NOT NULL AND z.deleted_at IS NULL",
+           nativeQuery = true)
+    List<GeometryWkbRow> findGeometryWkbByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Récupère la géométrie WGS84 d'une zone.
+     *
+     * @param id identifiant de la zone
+     * @return identifiant et géométrie WGS84, vide si la zone n'existe pas ou n'a pas de géométrie
+     */
+    @Query("SELECT z.id AS id, z.geometryWgs84 AS geometry FROM Zone z WHERE z.id = :id AND z.geometryWgs84 IS NOT NULL")
+    Optional<GeometryRow> findWgs84GeometryById(@Param("id") String id);
+
+    /**
+     * Récupère les zones dont l'emprise WGS84 recoupe un rectangle.
+     * Filtre par l'opérateur {@code &&} servi par l'index GiST.
+     *
+     * @param minLon longitude minimale
+     * @param minLat latitude minimale
+     * @param maxLon longitude maximale
+     * @param maxLat latitude maximale
+     * @param limit nombre maximal de zones retournées (ordre des identifiants)
+     * @return zones dont l'emprise recoupe le rectangle
+     */
+    @Query(value = "SELECT * FROM zone WHERE geometry_wgs84 && ST_MakeEnvelope(:minLon, :minLat, :maxLon, :maxLat, 4326) AND deleted_at IS NULL " +
+                   "ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<Zone> findInBoundingBox(@Param("minLon") double minLon, @Param("minLat") double minLat,
+                                  @Param("maxLon") double maxLon, @Param("maxLat") double maxLat,
+                                 @Param("limit") int limit);
+
+    /**
+     * Récupère les zones qui intersectent une géométrie WGS84.
+     *
+     * @param wkt géométrie de recherche au format WKT (longitude latitude)
+     * @return zones intersectant la géométrie
+     */
+    @Query(value = "SELECT * FROM zone WHERE ST_Intersects(geometry_wgs84, ST_GeomFromText(:wkt, 4326)) AND deleted_at IS NULL",
+           nativeQuery = true)
+    List<Zone> findIntersecting(@Param("wkt") String wkt);
+
+    /**
+     * Récupère les zones situées à moins d'une distance donnée d'un point.
+     * Distance géodésique, servie par l'index GiST sur la géographie.
+     *
+     * @param longitude longitude du point
+     * @param latitude latitude du point
+     * @param meters distance maximale en mètres
+     * @return zones à proximité du point
+     */
+    @Query(value = "SELECT * FROM zone WHERE ST_DWithin(geometry_wgs84::geography, " +
+                   "ST_SetSRID(ST_MakePoint(:longitude, :latitude), 4326)::geography, :meters) AND deleted_at IS NULL",
+           nativeQuery = true)
+    List<Zone> findWithinDistance(@Param("longitude") double longitude, @Param("latitude") double latitude,
+                                   @Param("meters") double meters);
 
+    /**
+     * Génère la couche {@code zones} d'une tuile vectorielle Mapbox (MVT).
+     * 
+     * Les polygones WGS84 sont projetés en Web Mercator, simplifiés à la
+     * tolérance donnée puis découpés à l'emprise de la tuile (tampon de 64
+     * unités). Chaque entité porte son statut, ses compteurs de parcelles et
+     * les icônes de ses activités et équipements (séparées par des virgules).
+     *
+     * @param z niveau de zoom
+     * @param x colonne de la tuile
+     * @param y ligne de la tuile
+     * @param tolerance tolérance de simplification en mètres Web Mercator
+     * @return couche MVT encodée, vide si aucune zone ne recoupe la tuile
+     */
+    @Query(value = "WITH features AS (" +
+                   "SELECT z.id, z.name, z.status, " +
+                   "(SELECT count(*) FROM parcel p WHERE p.zone_id = z.id AND p.deleted_at IS NULL) AS total_parcels, " +
+                   "(SELECT count(*) FROM parcel p WHERE p.zone_id = z.id AND p.status = 'LIBRE' AND p.deleted_at IS NULL) AS available_parcels, " +
+                   "(SELECT string_agg(a.icon, ',') FROM zone_activity za JOIN activity a ON a.id = za.activity_id " +
+                   " WHERE za.zone_id = z.id AND a.icon IS NOT NULL) AS activity_icons, " +
+                   "(SELECT string_agg(m.icon, ',') FROM zone_amenity zm JOIN amenity m ON m.id = zm.amenity_id " +
+                   " WHERE zm.zone_id = z.id AND m.icon IS NOT NULL) AS amenity_icons, " +
+                   "ST_AsMVTGeom(ST_SimplifyPreserveTopology(ST_Transform(z.geometry_wgs84, 3857), :tolerance), " +
+                   " ST_TileEnvelope(:z, :x, :y), 4096, 64, true) AS geom " +
+                   "FROM zone z " +
+                   "WHERE z.geometry_wgs84 && ST_Transform(ST_TileEnvelope(:z, :x, :y, margin => 0.015625), 4326) AND z.deleted_at IS NULL) " +
+                   "SELECT ST_AsMVT(features, 'zones', 4096, 'geom') FROM features WHERE geom IS NOT NULL",
+           nativeQuery = true)
+    byte[] findVectorTile(@Param("z") int z, @Param("x") int x, @Param("y") int y,
+                          @Param("tolerance") double tolerance);
+
+    /**
+     * Génère dans PostGIS la FeatureCollection GeoJSON de toutes les zones géolocalisées.
+     *
+     * Le document est produit et encodé par la base ({@code json_agg},
+     * {@code ST_AsGeoJSON}) : aucune entité n'est chargée.
+     *
+     * @return FeatureCollection encodée en UTF-8
+     */
+    @Query(value = FEATURE_COLLECTION_SELECT, nativeQuery = true)
+    byte[] findFeatureCollection();
+
+    /**
+     * Génère dans PostGIS la FeatureCollection GeoJSON des zones dont l'emprise recoupe un rectangle.
+     *
+     * @param minLon longitude minimale
+     * @param minLat latitude minimale
+     * @param maxLon longitude maximale
+     * @param maxLat latitude maximale
+     * @return FeatureCollection encodée en UTF-8
+     */
+    @Query(value = FEATURE_COLLECTION_SELECT +
+                   " AND z.geometry_wgs84 && ST_MakeEnvelope(:minLon, :minLat, :maxLon, :maxLat, 4326)",
+           nativeQuery = true)
+    byte[] findFeatureCollectionInBoundingBox(@Param("minLon") double minLon, @Param("minLat") double minLat,
+                                              @Param("maxLon") double maxLon, @Param("maxLat") double maxLat);
+
+    /**
+     * Récupère, des plus anciennes aux plus récentes, les zones créées, modifiées
+     * ou supprimées après une position de synchronisation {@code (updated_at, id)}.
+     * Requête native : les lignes supprimées sont incluses, la suppression
+     * logique avançant aussi {@code updated_at}.
+     *
+     * @param since date de modification de la position (exclue avec {@code afterId})
+     * @param afterId identifiant de la position, vide pour toutes les zones de {@code since}
+     * @param limit taille du lot
+     * @return lignes de synchronisation, suppressions comprises
+     */
+    @Query(value = "SELECT id, updated_at AS \"updatedAt\", deleted_at IS NOT NULL AS \"deleted\" FROM zone " +
+                   "WHERE (updated_at, id) > (:since, :afterId) ORDER BY updated_at, id LIMIT :limit",
+           nativeQuery = true)
+    List<SyncRow> findSyncRowsAfter(@Param("since") LocalDateTime since, @Param("afterId") String afterId,
+                                    @Param("limit") int limit);
+
+    /**
+     * Lit la dernière modification des données de la carte : zones, parcelles,
+     * activités, équipements, régions et types de zone (une suppression logique
+     * avance aussi {@code updated_at}). Chaque maximum est lu sur l'index de
+     * sa colonne {@code updated_at} ; les suppressions physiques, sans date,
+     * sont suivies par {@link com.industria.platform.service.ResourceVersionService}.
+     *
+     * @return dernière modification, null si aucune ligne n'est datée
+     */
+    @Query(value = "SELECT GREATEST((SELECT max(updated_at) FROM zone), (SELECT max(updated_at) FROM parcel), " +
+                   "(SELECT max(updated_at) FROM activity), (SELECT max(updated_at) FROM amenity), " +
+                   "(SELECT max(updated_at) FROM region), (SELECT max(updated_at) FROM zone_type))",
+           nativeQuery = true)
+    LocalDateTime findMapDataLastModified();
+
+    /**
+     * Lit la version du détail d'une zone : dernière modification de la zone,
+     * de sa région et de son pays, de ses parcelles, images, activités et
+     * équipements, et nombre de ses images et liens.
+     *
+     * @param id identifiant de la zone
+     * @return version du détail, vide si la zone n'existe pas ou est supprimée
+     */
+    @Query(value = "SELECT GREATEST(z.updated_at, r.updated_at, c.updated_at, " +
+                   "(SELECT max(p.updated_at) FROM parcel p WHERE p.zone_id = z.id), " +
+                   "(SELECT max(i.updated_at) FROM zone_images i WHERE i.zone_id = z.id), " +
+                   "(SELECT max(pi.updated_at) FROM parcel_images pi JOIN parcel p ON p.id = pi.parcel_id WHERE p.zone_id = z.id), " +
+                   "(SELECT max(a.updated_at) FROM zone_activity za JOIN activity a ON a.id = za.activity_id WHERE za.zone_id = z.id), " +
+                   "(SELECT max(a.updated_at) FROM zone_amenity za JOIN amenity a ON a.id = za.amenity_id WHERE za.zone_id = z.id)" +
+                   ") AS \"lastModified\", " +
+                   "(SELECT count(*) FROM zone_images i WHERE i.zone_id = z.id) + " +
+                   "(SELECT count(*) FROM parcel_images pi JOIN parcel p ON p.id = pi.parcel_id WHERE p.zone_id = z.id) + " +
+                   "(SELECT count(*) FROM zone_activity za WHERE za.zone_id = z.id) + " +
+                   "(SELECT count(*) FROM zone_amenity za WHERE za.zone_id = z.id) AS \"count\" " +
+                   "FROM zone z LEFT JOIN region r ON r.id = z.region_id LEFT JOIN country c ON c.id = r.country_id " +
+                   "WHERE z.id = :id AND z.deleted_at IS NULL",
+           nativeQuery = true)
+    Optional<ResourceVersionRow> findDetailVersionById(@Param("id") String id);
 }
@@ -29,6 +29,7 @@ public class AdminStatsService {
     private final AppointmentRepository appointmentRepository;
     private final PermissionService permissionService;
     private final UserService userService;
+    private final ParcelCountService parcelCountService;
 
     public AdminStatsDto getAdminStats() {
         long totalUsers = 0, totalZones = 0, totalParcels = 0, availableParcels = 0;
@@ -37,8 +38,9 @@ public class AdminStatsService {
         if (permissionService.hasRole("ADMIN")) {
             totalUsers = userRepository.count();
             totalZones = zoneRepository.count();
-            totalParcels = parcelRepository.count();
-            availableParcels = parcelRepository.countByStatus(ParcelStatus.LIBRE);
+            ParcelCountService.ParcelCounts parcelCounts = parcelCountService.totals();
+            totalParcels = parcelCounts.total();
+            availableParcels = parcelCounts.available();
             totalAppointments = appointmentRepository.count();
             pendingAppointments = appointmentRepository.countByStatus(AppointmentStatus.PENDING);
         } else if (permissionService.hasRole("ZONE_MANAGER")) {
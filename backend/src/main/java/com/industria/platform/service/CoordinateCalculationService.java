@@ -4,8 +4,6 @@ import com.industria.platform.dto.VertexDto;
 import com.industria.platform.entity.Zone;
 import com.industria.platform.entity.Parcel;
 import com.industria.platform.entity.Country;
-import com.industria.platform.entity.SpatialReferenceSystem;
-import com.industria.platform.repository.SpatialReferenceSystemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,11 +13,12 @@ import java.util.List;
 /**
  * Service de calcul et conversion de coordonnées géospatiales.
  * 
- * Utilise les systèmes de référence spatiale configurés en base de données
- * pour effectuer les conversions vers WGS84 (EPSG:4326) pour n'importe quel pays.
+ * Utilise les systèmes de référence spatiale configurés en base de données,
+ * compilés par le {@link ProjectionRegistry}, pour effectuer les conversions
+ * vers WGS84 (EPSG:4326) pour n'importe quel pays sans requête par point.
  * 
  * @author Industria Platform Team
- * @version 3.0 - Utilise les données dynamiques de la DB
+ * @version 4.0 - Moteur de projection en mémoire
  * @since 1.0
  */
 @Service
@@ -27,11 +26,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CoordinateCalculationService {
     
-    private final SpatialReferenceSystemRepository spatialReferenceSystemRepository;
-    private final PostGISGeometryService postGISGeometryService;
-
-
-    
+    private final ProjectionRegistry projectionRegistry;
 
     /**
      * Calcule le centroïde d'un polygone en coordonnées Lambert.
@@ -101,7 +96,7 @@ public class CoordinateCalculationService {
     }
     
     /**
-     * Convertit les coordonnées d'un SRID donné vers WGS84 en utilisant PostGIS.
+     * Convertit les coordonnées d'un SRID donné vers WGS84 avec le moteur de projection en mémoire.
      * 
      * @param x coordonnée X dans le système source
      * @param y coordonnée Y dans le système source  
@@ -115,104 +110,13 @@ public class CoordinateCalculationService {
         }
         
         // Si le SRID source est déjà WGS84, pas de conversion nécessaire
-        if (sourceSrid == 4326) {
+        if (sourceSrid == ProjectionRegistry.WGS84_SRID) {
             log.debug("Coordonnées déjà en WGS84, aucune conversion nécessaire");
             return new double[]{x, y}; // x=longitude, y=latitude
         }
         
-        try {
-            // Utiliser PostGIS pour la conversion précise avec ST_Transform
-            log.debug("Conversion PostGIS {} -> WGS84 pour point ({}, {})", sourceSrid, x, y);
-            return postGISGeometryService.transformCoordinates(x, y, sourceSrid, 4326);
-        } catch (Exception e) {
-            log.error("Erreur lors de la conversion PostGIS de SRID {} vers WGS84: {}", sourceSrid, e.getMessage());
-            
-            // Récupérer les informations du système de référence spatiale depuis la DB pour fallback
-            SpatialReferenceSystem srs = spatialReferenceSystemRepository.findBySrid(sourceSrid);
-            if (srs != null) {
-                log.warn("Utilisation d'une approximation comme fallback pour SRID {} ({})", sourceSrid, srs.getName());
-            }
-            
-            // Fallback vers l'approximation en cas d'échec PostGIS
-            return convertUsingApproximation(x, y, sourceSrid);
-        }
-    }
-    
-    /**
-     * Méthode de conversion approximative basée sur les SRID connus.
-     * Cette méthode sera remplacée par une vraie bibliothèque de projection.
-     */
-    private double[] convertUsingApproximation(double x, double y, Integer srid) {
-        switch (srid) {
-            case 26191: // Lambert Conformal Conic Morocco
-                return convertMoroccoLambertToWGS84(x, y);
-            case 2154: // RGF93 / Lambert-93 (France)
-                return convertFranceLambert93ToWGS84(x, y);  
-            case 31491: // UTM Zone 31N Algeria
-                return convertAlgeriaUTMToWGS84(x, y);
-            default:
-                log.warn("Conversion non supportée pour SRID {}, utilisation des coordonnées brutes", srid);
-                return new double[]{x, y};
-        }
-    }
-    
-    /**
-     * Conversion approximative Lambert Maroc -> WGS84
-     */
-    private double[] convertMoroccoLambertToWGS84(double x, double y) {
-        // Paramètres approximatifs pour le Maroc (EPSG:26191)
-        double centralMeridian = -5.4;
-        double centralParallel = 33.3;
-        double falseEasting = 500000.0;
-        double falseNorthing = 300000.0;
-        double scaleFactor = 0.999625769;
-        
-        double adjustedX = (x - falseEasting) / scaleFactor;
-        double adjustedY = (y - falseNorthing) / scaleFactor;
-        
-        double longitude = centralMeridian + (adjustedX / 111320.0);
-        double latitude = centralParallel + (adjustedY / 110540.0);
-        
-        return new double[]{longitude, latitude};
-    }
-    
-    /**
-     * Conversion approximative Lambert 93 France -> WGS84
-     */
-    private double[] convertFranceLambert93ToWGS84(double x, double y) {
-        // Paramètres approximatifs pour la France (EPSG:2154)
-        double centralMeridian = 3.0;
-        double centralParallel = 46.5;
-        double falseEasting = 700000.0;
-        double falseNorthing = 6600000.0;
-        double scaleFactor = 0.9999;
-        
-        double adjustedX = (x - falseEasting) / scaleFactor;
-        double adjustedY = (y - falseNorthing) / scaleFactor;
-        
-        double longitude = centralMeridian + (adjustedX / 111320.0);
-        double latitude = centralParallel + (adjustedY / 110540.0);
-        
-        return new double[]{longitude, latitude};
-    }
-    
-    /**
-     * Conversion approximative UTM Zone 31N Algérie -> WGS84  
-     */
-    private double[] convertAlgeriaUTMToWGS84(double x, double y) {
-        // Paramètres approximatifs pour l'Algérie UTM Zone 31N (EPSG:31491)
-        double centralMeridian = 3.0; // Zone UTM 31N
-        double falseEasting = 500000.0;
-        double falseNorthing = 0.0;
-        double scaleFactor = 0.9996;
-        
-        double adjustedX = (x - falseEasting) / scaleFactor;
-        double adjustedY = (y - falseNorthing) / scaleFactor;
-        
-        double longitude = centralMeridian + (adjustedX / 111320.0);
-        double latitude = adjustedY / 110540.0;
-        
-        return new double[]{longitude, latitude};
+        log.debug("Conversion {} -> WGS84 pour point ({}, {})", sourceSrid, x, y);
+        return projectionRegistry.toWgs84(x, y, sourceSrid);
     }
     
     /**
@@ -0,0 +1,133 @@
+package com.industria.platform.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.industria.platform.geo.BoundingBox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Export en flux des parcelles au format GeoJSON (RFC 7946).
+ *
+ * Les lignes sont lues par curseur JDBC, par lots de taille fixe, et chaque
+ * entité est écrite dans la réponse dès sa lecture : la mémoire consommée ne
+ * dépend pas du nombre d'entités exportées. La géométrie est sérialisée par
+ * PostGIS ({@code ST_AsGeoJSON}) et recopiée telle quelle.
+ *
+ * Les zones, peu nombreuses, sont agrégées directement par PostGIS
+ * ({@code ZoneRepository#findFeatureCollection}).
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class GeoJsonStreamService {
+
+    /** Décimales des coordonnées (~1 cm en WGS84) */
+    private static final int COORDINATE_DIGITS = 7;
+
+    private static final String PARCEL_QUERY =
+            "SELECT id, ST_AsGeoJSON(geometry_wgs84, " + COORDINATE_DIGITS + ") AS geometry, " +
+            "reference, status, is_showroom AS \"isShowroom\", area, zone_id AS \"zoneId\" " +
+            "FROM parcel WHERE geometry_wgs84 IS NOT NULL AND deleted_at IS NULL";
+
+    private static final String BBOX_FILTER = " AND geometry_wgs84 && ST_MakeEnvelope(?, ?, ?, ?, 4326)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    public GeoJsonStreamService(JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.map.stream.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        // PostgreSQL n'ouvre de curseur qu'hors autocommit : la lecture se fait dans une transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Écrit les parcelles géolocalisées sous forme de FeatureCollection.
+     *
+     * @param bbox emprise WGS84 (optionnelle, toutes les parcelles sinon)
+     * @param out flux de sortie de la réponse
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void writeParcels(BoundingBox bbox, OutputStream out) throws IOException {
+        write(PARCEL_QUERY, bbox, out);
+    }
+
+    private void write(String query, BoundingBox bbox, OutputStream out) throws IOException {
+        String sql = bbox != null ? query + BBOX_FILTER : query;
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("type", "FeatureCollection");
+            json.writeArrayFieldStart("features");
+
+            RowCallbackHandler writer = rs -> writeFeature(json, rs);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setFetchSize(fetchSize);
+                if (bbox != null) {
+                    statement.setDouble(1, bbox.minLon());
+                    statement.setDouble(2, bbox.minLat());
+                    statement.setDouble(3, bbox.maxLon());
+                    statement.setDouble(4, bbox.maxLat());
+                }
+                return statement;
+            }, writer));
+
+            json.writeEndArray();
+            json.writeEndObject();
+        } catch (UncheckedIOException e) {
+            // Client déconnecté en cours d'export : la requête SQL est interrompue avec l'écriture
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Écrit la ligne courante comme une Feature : {@code id}, {@code geometry}
+     * (GeoJSON brut), puis toutes les autres colonnes en propriétés.
+     */
+    private static void writeFeature(JsonGenerator json, ResultSet rs) throws SQLException {
+        try {
+            json.writeStartObject();
+            json.writeStringField("type", "Feature");
+            json.writeStringField("id", rs.getString("id"));
+            json.writeFieldName("geometry");
+            json.writeRawValue(rs.getString("geometry"));
+            json.writeObjectFieldStart("properties");
+            ResultSetMetaData metadata = rs.getMetaData();
+            for (int i = 1; i <= metadata.getColumnCount(); i++) {
+                String name = metadata.getColumnLabel(i);
+                if (!"id".equals(name) && !"geometry".equals(name)) {
+                    json.writeObjectField(name, rs.getObject(i));
+                }
+            }
+            json.writeEndObject();
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.industria.platform.service;
+
+import com.industria.platform.entity.Parcel;
+import com.industria.platform.entity.Zone;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Migration des zones et parcelles enregistrées avant le stockage de leur
+ * géométrie WGS84.
+ *
+ * Exécutée au démarrage puis à la demande (les données initiales peuvent être
+ * chargées après le démarrage). Les lignes sont traitées par lots, chacun dans
+ * sa propre transaction ; les lignes sans pays ou sans système de projection
+ * sont ignorées et restent servies par reprojection à la lecture.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeometryBackfillService {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final ZoneRepository zoneRepository;
+    private final ParcelRepository parcelRepository;
+    private final GeometryUpdateService geometryUpdateService;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.error("Migration des géométries WGS84 interrompue: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Calcule la géométrie WGS84 de toutes les zones et parcelles qui n'en ont pas.
+     *
+     * @return nombre de zones et de parcelles migrées
+     */
+    public Map<String, Integer> backfill() {
+        int zones = migrate(afterId -> zoneRepository.findWithoutWgs84Geometry(afterId, PageRequest.of(0, BATCH_SIZE)),
+                geometryUpdateService::backfillZone, Zone::getId, zoneRepository::saveAll);
+        int parcels = migrate(afterId -> parcelRepository.findWithoutWgs84Geometry(afterId, PageRequest.of(0, BATCH_SIZE)),
+                geometryUpdateService::backfillParcel, Parcel::getId, parcelRepository::saveAll);
+        if (zones > 0 || parcels > 0) {
+            log.info("Géométries WGS84 calculées pour {} zones et {} parcelles", zones, parcels);
+        }
+        return Map.of("zones", zones, "parcels", parcels);
+    }
+
+    private <T> int migrate(Function<String, List<T>> nextBatch, Predicate<T> backfill,
+                            Function<T, String> id, Function<List<T>, ?> saveAll) {
+        int migrated = 0;
+        String afterId = "";
+        while (true) {
+            String cursor = afterId;
+            Batch batch = transactionTemplate.execute(status -> {
+                List<T> rows = nextBatch.apply(cursor);
+                if (rows.isEmpty()) {
+                    return null;
+                }
+                List<T> updated = rows.stream().filter(backfill).toList();
+                saveAll.apply(updated);
+                return new Batch(id.apply(rows.get(rows.size() - 1)), updated.size());
+            });
+            if (batch == null) {
+                return migrated;
+            }
+            migrated += batch.migrated();
+            afterId = batch.lastId();
+        }
+    }
+
+    private record Batch(String lastId, int migrated) {}
+}
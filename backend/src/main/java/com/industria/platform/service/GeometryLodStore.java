@@ -0,0 +1,164 @@
+package com.industria.platform.service;
+
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.projection.GeometryRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stock en mémoire des contours simplifiés des zones et parcelles.
+ *
+ * Chaque contour WGS84 est simplifié une fois par tranche de zoom avec
+ * préservation de la topologie (pas d'auto-intersection, anneau toujours
+ * valide), puis servi sans calcul. Le stock est chargé au démarrage et mis à
+ * jour entité par entité après chaque modification validée.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeometryLodStore {
+
+    /** Longueur approximative d'un degré de latitude, pour exprimer les tolérances en degrés */
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    /** Zoom minimal de chaque tranche, du plus détaillé au plus grossier */
+    private static final int[] BAND_MIN_ZOOM = {15, 12, 10, 8, 0};
+
+    /** Tolérance de simplification de chaque tranche, en mètres */
+    private static final double[] BAND_TOLERANCE = {5, 20, 50, 100, 200};
+
+    private final ZoneRepository zoneRepository;
+    private final ParcelRepository parcelRepository;
+    private final GeometryParsingService geometryParsingService;
+
+    private final Map<String, double[][]> zoneOutlines = new ConcurrentHashMap<>();
+    private final Map<String, double[][]> parcelOutlines = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            load(zoneRepository.findAllWgs84Geometries(), zoneOutlines);
+            load(parcelRepository.findAllWgs84Geometries(), parcelOutlines);
+            log.info("Contours simplifiés chargés pour {} zones et {} parcelles", zoneOutlines.size(), parcelOutlines.size());
+        } catch (Exception e) {
+            log.error("Chargement des contours simplifiés interrompu: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Contour simplifié d'une zone pour un niveau de zoom.
+     *
+     * @param zoneId identifiant de la zone
+     * @param wgs84 géométrie WGS84 de la zone, utilisée si le contour n'est pas encore en stock
+     * @param zoom niveau de zoom de la carte
+     * @return points [latitude, longitude] du contour fermé, vide sans géométrie
+     */
+    public List<double[]> zoneOutline(String zoneId, Geometry wgs84, int zoom) {
+        return outline(zoneOutlines, zoneId, wgs84, zoom);
+    }
+
+    /**
+     * Contour simplifié d'une parcelle pour un niveau de zoom.
+     *
+     * @param parcelId identifiant de la parcelle
+     * @param wgs84 géométrie WGS84 de la parcelle, utilisée si le contour n'est pas encore en stock
+     * @param zoom niveau de zoom de la carte
+     * @return points [latitude, longitude] du contour fermé, vide sans géométrie
+     */
+    public List<double[]> parcelOutline(String parcelId, Geometry wgs84, int zoom) {
+        return outline(parcelOutlines, parcelId, wgs84, zoom);
+    }
+
+    /**
+     * Recalcule les contours de l'entité modifiée après validation de la transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMapDataChanged(MapDataChangedEvent event) {
+        if (event.id() == null) {
+            return;
+        }
+        switch (event.entity()) {
+            case "Zone" -> refresh(zoneRepository.findWgs84GeometryById(event.id()).orElse(null), event.id(), zoneOutlines);
+            case "Parcel" -> refresh(parcelRepository.findWgs84GeometryById(event.id()).orElse(null), event.id(), parcelOutlines);
+            default -> { }
+        }
+    }
+
+    private static int band(int zoom) {
+        for (int i = 0; i < BAND_MIN_ZOOM.length; i++) {
+            if (zoom >= BAND_MIN_ZOOM[i]) {
+                return i;
+            }
+        }
+        return BAND_MIN_ZOOM.length - 1;
+    }
+
+    private List<double[]> outline(Map<String, double[][]> outlines, String id, Geometry wgs84, int zoom) {
+        double[][] bands = outlines.get(id);
+        if (bands == null) {
+            if (wgs84 == null || wgs84.isEmpty()) {
+                return List.of();
+            }
+            bands = simplify(wgs84);
+            outlines.put(id, bands);
+        }
+
+        double[] ring = bands[band(zoom)];
+        List<double[]> points = new ArrayList<>(ring.length / 2);
+        for (int i = 0; i < ring.length; i += 2) {
+            points.add(new double[]{ring[i + 1], ring[i]}); // lat, lon
+        }
+        return points;
+    }
+
+    private void refresh(GeometryRow row, String id, Map<String, double[][]> outlines) {
+        if (row == null || row.getGeometry() == null || row.getGeometry().isEmpty()) {
+            outlines.remove(id);
+        } else {
+            outlines.put(id, simplify(row.getGeometry()));
+        }
+    }
+
+    private void load(List<GeometryRow> rows, Map<String, double[][]> outlines) {
+        for (GeometryRow row : rows) {
+            try {
+                outlines.put(row.getId(), simplify(row.getGeometry()));
+            } catch (RuntimeException e) {
+                log.warn("Contour non simplifiable pour {}: {}", row.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Simplifie le contour extérieur pour chaque tranche de zoom.
+     *
+     * @return par tranche, anneau compacté [lon0, lat0, lon1, lat1, ...] fermé
+     */
+    private double[][] simplify(Geometry wgs84) {
+        double[][] bands = new double[BAND_TOLERANCE.length][];
+        Geometry source = wgs84;
+        for (int i = 0; i < BAND_TOLERANCE.length; i++) {
+            // Chaque tranche part de la précédente : les tolérances sont croissantes
+            source = TopologyPreservingSimplifier.simplify(source, BAND_TOLERANCE[i] / METERS_PER_DEGREE);
+            bands[i] = geometryParsingService.packExteriorRing(source);
+        }
+        return bands;
+    }
+}
@@ -1,17 +1,25 @@
 package com.industria.platform.service;
 
 import com.industria.platform.dto.VertexDto;
+import com.industria.platform.geo.PackedGeometry;
+import com.industria.platform.geo.WkbReader;
+import com.industria.platform.geo.WktReader;
 import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Service de parsing des géométries WKT.
+ * Service de parsing des géométries WKT et JTS.
  * 
- * Convertit les géométries au format Well-Known Text (WKT)
- * en listes de vertices exploitables par l'application.
+ * Convertit les géométries au format Well-Known Text (WKT/EWKT), WKB
+ * hexadécimal ou lues depuis PostGIS en listes de vertices exploitables
+ * par l'application.
  * 
  * @author Industria Platform Team
  * @version 1.0
@@ -22,65 +30,104 @@ import java.util.List;
 public class GeometryParsingService {
 
     /**
-     * Parse une géométrie WKT en liste de vertices.
+     * Lit une géométrie textuelle : WKT, EWKT ({@code SRID=n;...}) ou
+     * WKB/EWKB hexadécimal tel que renvoyé par PostGIS.
      * 
-     * Extrait les coordonnées des points d'un polygone WKT
-     * et les convertit en objets VertexDto. Gère automatiquement
-     * la suppression du point de fermeture dupliqué.
+     * @param geometry géométrie au format texte
+     * @return géométrie compactée (polygones, anneaux intérieurs compris)
+     * @throws IllegalArgumentException si la géométrie est invalide ou d'un type non pris en charge
+     */
+    public PackedGeometry parse(String geometry) {
+        if (geometry == null || geometry.isBlank()) {
+            throw new IllegalArgumentException("Géométrie vide");
+        }
+        String trimmed = geometry.strip();
+        // Un WKB hexadécimal commence par l'ordre des octets (00 ou 01), un WKT par une lettre
+        return Character.isDigit(trimmed.charAt(0))
+                ? WkbReader.readHex(trimmed)
+                : WktReader.read(trimmed);
+    }
+
+    /**
+     * Parse une géométrie textuelle en liste de vertices.
+     * 
+     * Extrait les coordonnées du contour extérieur (premier polygone pour un
+     * multipolygone) et les convertit en objets VertexDto, sans répéter le
+     * point de fermeture.
      * 
-     * Format supporté: POLYGON((x1 y1, x2 y2, ..., x1 y1))
+     * Formats supportés: WKT/EWKT (POLYGON, MULTIPOLYGON) et WKB hexadécimal
      * 
-     * @param wkt géométrie au format Well-Known Text
-     * @return liste des vertices en coordonnées Lambert Maroc
+     * @param geometry géométrie au format texte
+     * @return liste des vertices dans le système de la géométrie, vide si illisible
      */
-    public List<VertexDto> parseWKTGeometry(String wkt) {
-        if (wkt == null || wkt.trim().isEmpty()) {
+    public List<VertexDto> parseVertices(String geometry) {
+        if (geometry == null || geometry.isBlank()) {
             return List.of();
         }
         
-        List<VertexDto> vertices = new ArrayList<>();
-        
         try {
-            // Extraire les coordonnées du POLYGON((x1 y1, x2 y2, ...))
-            String coords = wkt;
-            if (coords.startsWith("POLYGON((")) {
-                coords = coords.substring(9); // Remove "POLYGON(("
-            }
-            if (coords.endsWith("))")) {
-                coords = coords.substring(0, coords.length() - 2); // Remove "))"
-            }
-            
-            String[] coordPairs = coords.split(",");
-            
-            for (int i = 0; i < coordPairs.length; i++) {
-                String[] xy = coordPairs[i].trim().split("\\s+");
-                if (xy.length >= 2) {
-                    try {
-                        double x = Double.parseDouble(xy[0]);
-                        double y = Double.parseDouble(xy[1]);
-                        
-                        // Éviter de dupliquer le premier point (qui ferme le polygone)
-                        if (i == coordPairs.length - 1 && vertices.size() > 0) {
-                            VertexDto firstVertex = vertices.get(0);
-                            if (Math.abs(firstVertex.lambertX() - x) < 0.001 && 
-                                Math.abs(firstVertex.lambertY() - y) < 0.001) {
-                                break; // Skip the closing duplicate point
-                            }
-                        }
-                        
-                        vertices.add(new VertexDto(i, x, y));
-                    } catch (NumberFormatException e) {
-                        // Log et continuer avec les autres points
-                        log.warn("Impossible de parser les coordonnées: {} {}", xy[0], 
-                                xy.length > 1 ? xy[1] : "");
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("Erreur lors du parsing de la géométrie WKT: {}", e.getMessage());
+            return toVertices(parse(geometry).exteriorRing());
+        } catch (IllegalArgumentException e) {
+            log.warn("Géométrie illisible: {}", e.getMessage());
             return List.of();
         }
+    }
+
+    /**
+     * Extrait les vertices du contour extérieur d'une géométrie PostGIS.
+     * 
+     * Le point de fermeture du polygone n'est pas répété.
+     * 
+     * @param geometry géométrie lue depuis la base (polygone en général)
+     * @return liste des vertices dans le système de la géométrie
+     */
+    public List<VertexDto> extractVertices(Geometry geometry) {
+        return toVertices(packExteriorRing(geometry));
+    }
+
+    private static List<VertexDto> toVertices(double[] ring) {
+        int count = PackedGeometry.vertexCount(ring);
         
+        List<VertexDto> vertices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            vertices.add(new VertexDto(i, ring[2 * i], ring[2 * i + 1]));
+        }
         return vertices;
     }
-}
\ No newline at end of file
+
+    /**
+     * Contour extérieur d'une géométrie sous forme de tableau compacté
+     * {@code [x0, y0, x1, y1, ...]}, point de fermeture inclus.
+     * 
+     * Lit directement la séquence de coordonnées JTS, sans copie d'objets
+     * {@link org.locationtech.jts.geom.Coordinate}. Pour un multipolygone,
+     * seul le premier polygone est retenu.
+     * 
+     * @param geometry géométrie lue depuis la base
+     * @return anneau compacté, vide si la géométrie est absente
+     */
+    public double[] packExteriorRing(Geometry geometry) {
+        if (geometry == null || geometry.isEmpty()) {
+            return new double[0];
+        }
+        
+        Geometry first = geometry.getGeometryN(0);
+        if (!(first instanceof Polygon polygon)) {
+            Coordinate[] coordinates = geometry.getCoordinates();
+            double[] ring = new double[coordinates.length * 2];
+            for (int i = 0; i < coordinates.length; i++) {
+                ring[2 * i] = coordinates[i].getX();
+                ring[2 * i + 1] = coordinates[i].getY();
+            }
+            return ring;
+        }
+        
+        CoordinateSequence sequence = polygon.getExteriorRing().getCoordinateSequence();
+        double[] ring = new double[sequence.size() * 2];
+        for (int i = 0; i < sequence.size(); i++) {
+            ring[2 * i] = sequence.getX(i);
+            ring[2 * i + 1] = sequence.getY(i);
+        }
+        return ring;
+    }
+}
@@ -1,22 +1,29 @@
 package com.industria.platform.service;
 
 import com.industria.platform.dto.VertexDto;
+import com.industria.platform.entity.Country;
 import com.industria.platform.entity.Zone;
 import com.industria.platform.entity.Parcel;
+import com.industria.platform.geo.CoordinateReferenceSystem;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service de mise à jour des coordonnées géospatiales.
- * 
- * Calcule et met à jour automatiquement les coordonnées WGS84 des zones
- * et parcelles à partir de leurs vertices en projection Lambert Maroc.
- * 
+ *
+ * Point d'entrée unique des écritures de géométrie : enregistre le polygone
+ * Lambert saisi, sa projection WGS84 vertex par vertex et le centroïde WGS84.
+ * Les lectures servent ensuite ces valeurs sans aucune reprojection.
+ *
  * @author Industria Platform Team
- * @version 1.0
+ * @version 2.0 - Projection WGS84 calculée à l'écriture
  * @since 1.0
  */
 @Service
@@ -24,7 +31,116 @@ import java.util.List;
 @Slf4j
 public class GeometryUpdateService {
 
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+    private static final int MIN_POLYGON_VERTICES = 3;
+
     private final CoordinateCalculationService coordinateCalculationService;
+    private final ProjectionRegistry projectionRegistry;
+    private final GeometryParsingService geometryParsingService;
+
+    /**
+     * Enregistre la géométrie d'une zone à partir de ses vertices Lambert.
+     *
+     * Met à jour le polygone Lambert, le SRID du pays, le polygone WGS84
+     * et le centroïde WGS84 de la zone.
+     *
+     * @param zone zone à mettre à jour
+     * @param vertices liste des points géométriques en Lambert
+     */
+    public void updateZoneGeometry(Zone zone, List<VertexDto> vertices) {
+        if (zone == null || vertices == null || vertices.isEmpty()) return;
+        if (vertices.size() < MIN_POLYGON_VERTICES) {
+            log.warn("Polygone invalide ({} vertices) pour la zone {}, géométrie conservée", vertices.size(), zone.getId());
+            return;
+        }
+
+        Country country = zone.getRegion() != null ? zone.getRegion().getCountry() : null;
+        zone.setSrid(country != null ? country.getDefaultSrid() : null);
+        zone.setGeometry(toPolygon(vertices, zone.getSrid()));
+        zone.setGeometryWgs84(projectToWgs84(vertices, country, "zone " + zone.getId()));
+
+        if (country != null) {
+            updateZoneCoordinates(zone, vertices);
+        } else {
+            log.warn("Zone {} sans région/pays, coordonnées WGS84 non calculées", zone.getId());
+            zone.setLatitude(null);
+            zone.setLongitude(null);
+        }
+    }
+
+    /**
+     * Enregistre la géométrie d'une parcelle à partir de ses vertices Lambert.
+     *
+     * Met à jour le polygone Lambert, le SRID du pays, le polygone WGS84
+     * et le centroïde WGS84 de la parcelle.
+     *
+     * @param parcel parcelle à mettre à jour
+     * @param vertices liste des points géométriques en Lambert
+     */
+    public void updateParcelGeometry(Parcel parcel, List<VertexDto> vertices) {
+        if (parcel == null || vertices == null || vertices.isEmpty()) return;
+        if (vertices.size() < MIN_POLYGON_VERTICES) {
+            log.warn("Polygone invalide ({} vertices) pour la parcelle {}, géométrie conservée", vertices.size(), parcel.getId());
+            return;
+        }
+
+        Country country = parcelCountry(parcel);
+        parcel.setSrid(country != null ? country.getDefaultSrid() : null);
+        parcel.setGeometry(toPolygon(vertices, parcel.getSrid()));
+        parcel.setGeometryWgs84(projectToWgs84(vertices, country, "parcelle " + parcel.getId()));
+        updateParcelCoordinates(parcel, vertices);
+    }
+
+    /**
+     * Calcule la géométrie WGS84 manquante d'une zone existante.
+     *
+     * Utilisé par la migration des lignes antérieures au stockage WGS84 ;
+     * le polygone Lambert n'est pas modifié.
+     *
+     * @param zone zone à compléter
+     * @return true si la géométrie WGS84 a pu être calculée ; false aussi si elle existe déjà
+     */
+    public boolean backfillZone(Zone zone) {
+        if (zone.getGeometryWgs84() != null) {
+            return false;
+        }
+        List<VertexDto> vertices = geometryParsingService.extractVertices(zone.getGeometry());
+        Country country = zone.getRegion() != null ? zone.getRegion().getCountry() : null;
+        Polygon wgs84 = projectToWgs84(vertices, country, "zone " + zone.getId());
+        if (wgs84 == null) {
+            return false;
+        }
+        zone.setGeometryWgs84(wgs84);
+        zone.setSrid(country.getDefaultSrid());
+        if (zone.getLatitude() == null || zone.getLongitude() == null) {
+            updateZoneCoordinates(zone, vertices);
+        }
+        return true;
+    }
+
+    /**
+     * Calcule la géométrie WGS84 manquante d'une parcelle existante.
+     *
+     * @param parcel parcelle à compléter
+     * @return true si la géométrie WGS84 a pu être calculée ; false aussi si elle existe déjà
+     */
+    public boolean backfillParcel(Parcel parcel) {
+        if (parcel.getGeometryWgs84() != null) {
+            return false;
+        }
+        List<VertexDto> vertices = geometryParsingService.extractVertices(parcel.getGeometry());
+        Country country = parcelCountry(parcel);
+        Polygon wgs84 = projectToWgs84(vertices, country, "parcelle " + parcel.getId());
+        if (wgs84 == null) {
+            return false;
+        }
+        parcel.setGeometryWgs84(wgs84);
+        parcel.setSrid(country.getDefaultSrid());
+        if (parcel.getLatitude() == null || parcel.getLongitude() == null) {
+            updateParcelCoordinates(parcel, vertices);
+        }
+        return true;
+    }
 
     /**
      * Met à jour les coordonnées WGS84 d'une zone basées sur ses vertices.
@@ -94,6 +210,75 @@ public class GeometryUpdateService {
         }
     }
     
+    /**
+     * Construit un polygone fermé à partir de vertices Lambert.
+     *
+     * @param vertices points du contour, sans point de fermeture
+     * @param srid SRID du système Lambert (0 si inconnu)
+     * @return polygone, ou null si moins de trois vertices
+     */
+    public Polygon toPolygon(List<VertexDto> vertices, Integer srid) {
+        if (vertices == null || vertices.size() < MIN_POLYGON_VERTICES) return null;
+
+        double[] coordinates = new double[vertices.size() * 2];
+        for (int i = 0; i < vertices.size(); i++) {
+            coordinates[2 * i] = vertices.get(i).lambertX();
+            coordinates[2 * i + 1] = vertices.get(i).lambertY();
+        }
+        return toPolygon(coordinates, srid != null ? srid : 0);
+    }
+
+    /**
+     * Projette les vertices Lambert en WGS84 avec le système du pays.
+     *
+     * @return polygone WGS84 (SRID 4326), ou null si le pays ou son système est inconnu
+     */
+    private Polygon projectToWgs84(List<VertexDto> vertices, Country country, String owner) {
+        if (vertices == null || vertices.size() < MIN_POLYGON_VERTICES) {
+            return null;
+        }
+
+        Optional<CoordinateReferenceSystem> crs;
+        try {
+            crs = projectionRegistry.forCountry(country);
+        } catch (IllegalArgumentException e) {
+            log.warn("Système de projection indisponible pour {}: {}", owner, e.getMessage());
+            return null;
+        }
+        if (crs.isEmpty()) {
+            log.warn("Aucun SRID par défaut pour {}, géométrie WGS84 non calculée", owner);
+            return null;
+        }
+
+        double[] coordinates = new double[vertices.size() * 2];
+        for (int i = 0; i < vertices.size(); i++) {
+            coordinates[2 * i] = vertices.get(i).lambertX();
+            coordinates[2 * i + 1] = vertices.get(i).lambertY();
+        }
+        crs.get().toWgs84(coordinates, 0, vertices.size());
+        return toPolygon(coordinates, ProjectionRegistry.WGS84_SRID);
+    }
+
+    private static Polygon toPolygon(double[] coordinates, int srid) {
+        int count = coordinates.length / 2;
+        Coordinate[] ring = new Coordinate[count + 1];
+        for (int i = 0; i < count; i++) {
+            ring[i] = new Coordinate(coordinates[2 * i], coordinates[2 * i + 1]);
+        }
+        // Fermer le polygone
+        ring[count] = new Coordinate(ring[0]);
+        Polygon polygon = GEOMETRY_FACTORY.createPolygon(ring);
+        polygon.setSRID(srid);
+        return polygon;
+    }
+
+    private static Country parcelCountry(Parcel parcel) {
+        if (parcel.getZone() == null || parcel.getZone().getRegion() == null) {
+            return null;
+        }
+        return parcel.getZone().getRegion().getCountry();
+    }
+
     /**
      * Valide que les coordonnées WGS84 sont dans une plage valide.
      * 
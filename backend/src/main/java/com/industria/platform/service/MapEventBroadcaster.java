@@ -0,0 +1,309 @@
+package com.industria.platform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.industria.platform.event.MapStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Diffusion en direct des changements de statut aux clients de la carte (Server-Sent Events).
+ *
+ * Les connexions sont des requêtes asynchrones du conteneur écrites en mode
+ * non bloquant ({@link WriteListener}) : aucune ne retient de thread, ni entre
+ * deux messages ni pendant l'envoi à un client qui ne lit plus. Chaque
+ * {@link MapStatusChangedEvent} validé est encodé une seule fois, puis déposé
+ * par un unique thread de diffusion dans la file bornée de chaque connexion ;
+ * ce thread écrit tant que la connexion l'accepte sans attendre, le conteneur
+ * signalant ensuite quand reprendre. Il envoie aussi un battement périodique
+ * pour garder les connexions ouvertes derrière les proxys et détecter les
+ * clients partis.
+ *
+ * Un client lent ne retarde donc que ses propres messages : sa connexion est
+ * fermée dès que sa file déborde ou qu'elle reste saturée au-delà du délai
+ * configuré. Une connexion en erreur est simplement retirée ; le client
+ * {@code EventSource} se reconnecte de lui-même.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class MapEventBroadcaster {
+
+    /** Nom des événements SSE de changement de statut */
+    public static final String STATUS_EVENT = "status";
+
+    /** Messages en attente au-delà desquels une connexion est jugée trop lente et fermée */
+    static final int QUEUE_CAPACITY = 64;
+
+    private static final byte[] HEARTBEAT = ":ping\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final long connectionTimeoutMs;
+    private final long sendTimeoutNanos;
+    private final Map<AsyncContext, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "map-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MapEventBroadcaster(ObjectMapper objectMapper,
+                               @Value("${app.map.events.timeout-ms:1800000}") long connectionTimeoutMs,
+                               @Value("${app.map.events.heartbeat-seconds:25}") long heartbeatSeconds,
+                               @Value("${app.map.events.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        dispatcher.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Ouvre une connexion de diffusion sur la requête courante, fermée par le
+     * serveur après le délai configuré.
+     *
+     * @param request requête du client
+     * @param response réponse, écrite de façon asynchrone après le retour de l'appel
+     * @throws IOException si le flux de la réponse ne peut pas être ouvert
+     */
+    public void subscribe(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(connectionTimeoutMs);
+        register(asyncContext, response.getOutputStream());
+    }
+
+    void register(AsyncContext asyncContext, ServletOutputStream out) {
+        Subscriber subscriber = new Subscriber(asyncContext, out);
+        asyncContext.addListener(subscriber);
+        subscribers.put(asyncContext, subscriber);
+        // Le conteneur appelle onWritePossible dès que la réponse peut être écrite
+        out.setWriteListener(subscriber);
+    }
+
+    /**
+     * @return nombre de connexions ouvertes
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Diffuse un changement de statut après la validation de la transaction.
+     *
+     * Le message est construit sur le thread appelant puis distribué par le
+     * thread de diffusion, pour ne pas faire attendre l'écriture qui l'a produit.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(MapStatusChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.warn("Événement de carte non sérialisable {}: {}", event, e.getMessage());
+            return;
+        }
+        byte[] message = encode(sequence.incrementAndGet(), STATUS_EVENT, data);
+        dispatcher.execute(() -> broadcast(message));
+    }
+
+    /** Encode un événement SSE ; chaque ligne de données devient un champ {@code data} */
+    static byte[] encode(long id, String name, String data) {
+        StringBuilder event = new StringBuilder("id:").append(id).append("\nevent:").append(name).append('\n');
+        for (String line : data.split("\r\n|\r|\n", -1)) {
+            event.append("data:").append(line).append('\n');
+        }
+        return event.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(HEARTBEAT);
+        }
+    }
+
+    private void broadcast(byte[] message) {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.stalled(now)) {
+                drop(subscriber, "connexion saturée");
+            } else if (!subscriber.pending.offer(message)) {
+                drop(subscriber, "file d'attente pleine");
+            } else {
+                subscriber.drain();
+            }
+        }
+    }
+
+    /** Retire une connexion trop lente et la termine sans attendre ses écritures en suspens */
+    private void drop(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber.asyncContext, subscriber)) {
+            log.debug("Connexion de carte fermée: {}", reason);
+            subscriber.close();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(Subscriber::close);
+        subscribers.clear();
+    }
+
+    /**
+     * Connexion ouverte et sa file de messages.
+     *
+     * La file est vidée par un seul thread à la fois, celui de diffusion ou
+     * celui du conteneur qui signale que la connexion accepte de nouveau des
+     * données ; un signal reçu pendant un vidage le fait reprendre. Aucune
+     * écriture n'attend le client, et aucun verrou n'est tenu pendant les
+     * appels au conteneur.
+     */
+    private final class Subscriber implements WriteListener, AsyncListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+        private final Queue<byte[]> pending = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        /** Demandes de vidage en cours ou en attente */
+        private final AtomicInteger work = new AtomicInteger();
+        private volatile boolean closed;
+        /** Début de la saturation en cours, 0 si la connexion accepte des données */
+        private volatile long saturatedSince;
+        // Accédés uniquement par le thread qui vide la file
+        private boolean unflushed;
+        private boolean completed;
+
+        private Subscriber(AsyncContext asyncContext, ServletOutputStream out) {
+            this.asyncContext = asyncContext;
+            this.out = out;
+        }
+
+        private boolean stalled(long now) {
+            long since = saturatedSince;
+            return since != 0 && now - since > sendTimeoutNanos;
+        }
+
+        private void close() {
+            closed = true;
+            drain();
+        }
+
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (closed) {
+                    complete();
+                } else {
+                    write();
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void write() {
+            try {
+                while (out.isReady()) {
+                    byte[] message = pending.poll();
+                    if (message != null) {
+                        out.write(message);
+                        unflushed = true;
+                    } else if (unflushed) {
+                        out.flush();
+                        unflushed = false;
+                    } else {
+                        saturatedSince = 0;
+                        return;
+                    }
+                }
+                // Le conteneur rappellera onWritePossible quand le client aura lu
+                if (saturatedSince == 0) {
+                    saturatedSince = System.nanoTime();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client déconnecté ou réponse déjà terminée
+                subscribers.remove(asyncContext, this);
+                closed = true;
+                complete();
+            }
+        }
+
+        private void complete() {
+            pending.clear();
+            if (!completed) {
+                completed = true;
+                try {
+                    asyncContext.complete();
+                } catch (IllegalStateException e) {
+                    // Réponse déjà terminée
+                }
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            subscribers.remove(asyncContext, this);
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            subscribers.remove(asyncContext, this);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            subscribers.remove(asyncContext, this);
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            onError(event.getThrowable());
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Sans objet : la requête n'est pas redémarrée
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.industria.platform.service;
+
+import com.industria.platform.dto.ParcelClusterDto;
+import com.industria.platform.entity.ParcelStatus;
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.geo.BoundingBox;
+import com.industria.platform.projection.ParcelMarkerRow;
+import com.industria.platform.repository.ParcelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Regroupement des marqueurs de parcelles par niveau de zoom.
+ *
+ * Grille hiérarchique en Web Mercator : à chaque zoom, les centroïdes des
+ * parcelles sont répartis dans des cellules de {@link #CELL_PIXELS} pixels,
+ * et chaque cellule du zoom {@code z} est exactement la réunion de quatre
+ * cellules du zoom {@code z + 1}. Chaque cellule tient ses compteurs par
+ * statut et showroom : l'ajout, la suppression ou le changement de statut
+ * d'une parcelle ne touche qu'une cellule par zoom.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParcelClusterService {
+
+    /** Zoom le plus fin des groupes ; au-delà, chaque parcelle est servie individuellement */
+    public static final int MAX_CLUSTER_ZOOM = 16;
+
+    /** Côté d'une cellule de regroupement en pixels */
+    static final int CELL_PIXELS = 64;
+
+    /** Nombre de bits de cellule par tuile de 256 pixels : 256 = CELL_PIXELS << CELL_SHIFT */
+    private static final int CELL_SHIFT = 2;
+
+    /** Latitude maximale représentable en Web Mercator */
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    private static final ParcelStatus[] STATUSES = ParcelStatus.values();
+
+    private final ParcelRepository parcelRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Marker> markers = new HashMap<>();
+
+    /** Cellules non vides de chaque zoom, indexées par {@link #key(int, int)} */
+    private final List<Map<Long, Cell>> grids = newGrids();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            List<ParcelMarkerRow> rows = parcelRepository.findAllMarkers();
+            lock.writeLock().lock();
+            try {
+                markers.clear();
+                grids.forEach(Map::clear);
+                rows.forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Regroupement des marqueurs initialisé pour {} parcelles", rows.size());
+        } catch (Exception e) {
+            log.error("Initialisation du regroupement des marqueurs interrompue: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Met à jour le marqueur de la parcelle modifiée après validation de la transaction,
+     * en particulier lors des changements de statut effectués par {@link StatusService}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMapDataChanged(MapDataChangedEvent event) {
+        if (!"Parcel".equals(event.entity()) || event.id() == null) {
+            return;
+        }
+        ParcelMarkerRow row = parcelRepository.findMarkerById(event.id()).orElse(null);
+        lock.writeLock().lock();
+        try {
+            remove(event.id());
+            if (row != null) {
+                put(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Groupes de parcelles visibles à un niveau de zoom.
+     *
+     * Au-delà de {@link #MAX_CLUSTER_ZOOM}, chaque parcelle est renvoyée
+     * comme un groupe d'une seule parcelle.
+     *
+     * @param zoom niveau de zoom de la carte
+     * @param bbox emprise affichée, null pour le monde entier
+     * @return groupes dont la cellule recoupe l'emprise
+     */
+    public List<ParcelClusterDto> clusters(int zoom, BoundingBox bbox) {
+        int z = Math.max(0, Math.min(zoom, MAX_CLUSTER_ZOOM));
+        int cells = 1 << (z + CELL_SHIFT);
+        int minX = 0, minY = 0, maxX = cells - 1, maxY = cells - 1;
+        if (bbox != null) {
+            minX = cell(mercatorX(bbox.minLon()), cells);
+            maxX = cell(mercatorX(bbox.maxLon()), cells);
+            minY = cell(mercatorY(bbox.maxLat()), cells);
+            maxY = cell(mercatorY(bbox.minLat()), cells);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Cell> grid = grids.get(z);
+            List<ParcelClusterDto> clusters = new ArrayList<>();
+            long span = (long) (maxX - minX + 1) * (maxY - minY + 1);
+            if (span <= grid.size()) {
+                for (int x = minX; x <= maxX; x++) {
+                    for (int y = minY; y <= maxY; y++) {
+                        Cell cell = grid.get(key(x, y));
+                        if (cell != null) {
+                            collect(clusters, z, zoom, x, y, cell);
+                        }
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, Cell> entry : grid.entrySet()) {
+                    int x = (int) (entry.getKey() >>> 32);
+                    int y = (int) (long) entry.getKey();
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        collect(clusters, z, zoom, x, y, entry.getValue());
+                    }
+                }
+            }
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(List<ParcelClusterDto> clusters, int z, int zoom, int x, int y, Cell cell) {
+        if (zoom > MAX_CLUSTER_ZOOM) {
+            for (String id : cell.ids) {
+                Marker marker = markers.get(id);
+                clusters.add(new ParcelClusterDto(new double[]{marker.latitude(), marker.longitude()}, 1,
+                        marker.status() != null ? Map.of(marker.status().name(), 1) : Map.of(),
+                        marker.showroom() ? 1 : 0, zoom, id));
+            }
+            return;
+        }
+
+        // Descend tant que la cellule n'a qu'un seul enfant non vide : le premier zoom où elle se divise
+        int expansionZoom = MAX_CLUSTER_ZOOM + 1;
+        int cx = x, cy = y;
+        for (int level = z + 1; level <= MAX_CLUSTER_ZOOM; level++) {
+            Map<Long, Cell> children = grids.get(level);
+            int found = 0;
+            for (int dx = 0; dx < 2; dx++) {
+                for (int dy = 0; dy < 2; dy++) {
+                    if (children.containsKey(key(2 * x + dx, 2 * y + dy))) {
+                        found++;
+                        cx = 2 * x + dx;
+                        cy = 2 * y + dy;
+                    }
+                }
+            }
+            if (found > 1) {
+                expansionZoom = level;
+                break;
+            }
+            x = cx;
+            y = cy;
+        }
+
+        String parcelId = null;
+        if (cell.count == 1) {
+            parcelId = grids.get(MAX_CLUSTER_ZOOM).get(key(x, y)).ids.iterator().next();
+        }
+
+        Map<String, Integer> statusCounts = new LinkedHashMap<>();
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (cell.statusCounts[i] > 0) {
+                statusCounts.put(STATUSES[i].name(), cell.statusCounts[i]);
+            }
+        }
+        clusters.add(new ParcelClusterDto(new double[]{cell.sumLatitude / cell.count, cell.sumLongitude / cell.count},
+                cell.count, statusCounts, cell.showroom, expansionZoom, parcelId));
+    }
+
+    /** À appeler sous verrou d'écriture */
+    private void put(ParcelMarkerRow row) {
+        if (row.getLongitude() == null || row.getLatitude() == null) {
+            return;
+        }
+        int leaves = 1 << (MAX_CLUSTER_ZOOM + CELL_SHIFT);
+        Marker marker = new Marker(row.getLongitude(), row.getLatitude(),
+                row.getStatus() != null ? ParcelStatus.valueOf(row.getStatus()) : null,
+                Boolean.TRUE.equals(row.getShowroom()),
+                cell(mercatorX(row.getLongitude()), leaves), cell(mercatorY(row.getLatitude()), leaves));
+        markers.put(row.getId(), marker);
+
+        for (int z = 0; z <= MAX_CLUSTER_ZOOM; z++) {
+            int shift = MAX_CLUSTER_ZOOM - z;
+            Cell cell = grids.get(z).computeIfAbsent(key(marker.leafX() >> shift, marker.leafY() >> shift),
+                    k -> new Cell(shift == 0));
+            cell.add(marker, 1);
+            if (shift == 0) {
+                cell.ids.add(row.getId());
+            }
+        }
+    }
+
+    /** À appeler sous verrou d'écriture */
+    private void remove(String id) {
+        Marker marker = markers.remove(id);
+        if (marker == null) {
+            return;
+        }
+        for (int z = 0; z <= MAX_CLUSTER_ZOOM; z++) {
+            int shift = MAX_CLUSTER_ZOOM - z;
+            long key = key(marker.leafX() >> shift, marker.leafY() >> shift);
+            Cell cell = grids.get(z).get(key);
+            cell.add(marker, -1);
+            if (shift == 0) {
+                cell.ids.remove(id);
+            }
+            if (cell.count == 0) {
+                grids.get(z).remove(key);
+            }
+        }
+    }
+
+    private static List<Map<Long, Cell>> newGrids() {
+        List<Map<Long, Cell>> grids = new ArrayList<>(MAX_CLUSTER_ZOOM + 1);
+        for (int z = 0; z <= MAX_CLUSTER_ZOOM; z++) {
+            grids.add(new HashMap<>());
+        }
+        return grids;
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int cell(double mercator, int cells) {
+        return Math.min(cells - 1, Math.max(0, (int) (mercator * cells)));
+    }
+
+    /** Abscisse Web Mercator normalisée dans [0, 1] */
+    private static double mercatorX(double longitude) {
+        return (longitude + 180) / 360;
+    }
+
+    /** Ordonnée Web Mercator normalisée dans [0, 1], origine en haut */
+    private static double mercatorY(double latitude) {
+        double sin = Math.sin(Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude))));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    private record Marker(double longitude, double latitude, ParcelStatus status, boolean showroom,
+                          int leafX, int leafY) {}
+
+    /** Compteurs d'une cellule de la grille */
+    private static final class Cell {
+        private int count;
+        private int showroom;
+        private final int[] statusCounts = new int[STATUSES.length];
+        private double sumLongitude;
+        private double sumLatitude;
+
+        /** Parcelles de la cellule, au zoom {@link #MAX_CLUSTER_ZOOM} seulement */
+        private final Set<String> ids;
+
+        Cell(boolean leaf) {
+            ids = leaf ? new HashSet<>() : null;
+        }
+
+        void add(Marker marker, int sign) {
+            count += sign;
+            if (marker.showroom()) {
+                showroom += sign;
+            }
+            if (marker.status() != null) {
+                statusCounts[marker.status().ordinal()] += sign;
+            }
+            sumLongitude += sign * marker.longitude();
+            sumLatitude += sign * marker.latitude();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.industria.platform.service;
+
+import com.industria.platform.entity.ParcelStatus;
+import com.industria.platform.entity.ZoneParcelSummary;
+import com.industria.platform.projection.ZoneParcelCountRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneParcelSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Comptage des parcelles par zone et par statut.
+ *
+ * Les nombres sont lus dans les compteurs dénormalisés
+ * ({@link ZoneParcelSummary}), tenus à jour dans la transaction de chaque
+ * écriture de parcelle et recalculés au démarrage puis périodiquement, sous
+ * un verrou de table qui suspend les écritures d'écarts le temps du recalcul.
+ * Les zones encore sans compteur sont comptées en une requête agrégée
+ * ({@code GROUP BY} zone et statut) ; au-delà de {@link #BATCH_SIZE} zones,
+ * les identifiants sont découpés en lots pour borner la clause {@code IN}.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParcelCountService {
+
+    /** Nombre maximal d'identifiants de zone par requête */
+    static final int BATCH_SIZE = 5000;
+
+    private final ParcelRepository parcelRepository;
+    private final ZoneParcelSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Compte les parcelles d'une zone.
+     *
+     * @param zoneId identifiant de la zone
+     * @return nombres de parcelles de la zone
+     */
+    public ParcelCounts countsFor(String zoneId) {
+        return countsByZone(List.of(zoneId)).getOrDefault(zoneId, ParcelCounts.EMPTY);
+    }
+
+    /**
+     * Compte les parcelles de plusieurs zones.
+     *
+     * @param zoneIds identifiants des zones
+     * @return nombres de parcelles par identifiant de zone ; les zones sans parcelle peuvent être absentes
+     */
+    public Map<String, ParcelCounts> countsByZone(Collection<String> zoneIds) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(zoneIds));
+        ids.removeIf(Objects::isNull);
+        Map<String, ParcelCounts> counts = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            for (ZoneParcelSummary summary : summaryRepository.findAllById(batch)) {
+                counts.put(summary.getZoneId(), ParcelCounts.of(summary));
+            }
+        }
+        for (String id : ids) {
+            if (!counts.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        counts.putAll(aggregate(missing));
+        return counts;
+    }
+
+    /**
+     * Somme des compteurs de toutes les zones (parcelles rattachées à une zone).
+     *
+     * @return nombres de parcelles, toutes zones confondues
+     */
+    public ParcelCounts totals() {
+        return ParcelCounts.of(summaryRepository.sumAll());
+    }
+
+    /**
+     * Prend en compte une parcelle créée.
+     *
+     * @param zoneId zone de la parcelle (ignoré si null)
+     * @param status statut de la parcelle
+     */
+    @Transactional
+    public void parcelAdded(String zoneId, ParcelStatus status) {
+        addDelta(zoneId, status, 1);
+    }
+
+    /**
+     * Prend en compte une parcelle supprimée.
+     *
+     * @param zoneId zone de la parcelle (ignoré si null)
+     * @param status statut de la parcelle
+     */
+    @Transactional
+    public void parcelRemoved(String zoneId, ParcelStatus status) {
+        addDelta(zoneId, status, -1);
+    }
+
+    /**
+     * Prend en compte un changement de statut ou de zone d'une parcelle.
+     *
+     * @param oldZoneId zone avant modification
+     * @param oldStatus statut avant modification
+     * @param newZoneId zone après modification
+     * @param newStatus statut après modification
+     */
+    @Transactional
+    public void parcelChanged(String oldZoneId, ParcelStatus oldStatus, String newZoneId, ParcelStatus newStatus) {
+        if (Objects.equals(oldZoneId, newZoneId) && oldStatus == newStatus) {
+            return;
+        }
+        addDelta(oldZoneId, oldStatus, -1);
+        addDelta(newZoneId, newStatus, 1);
+    }
+
+    /**
+     * Crée les compteurs (à zéro) d'une nouvelle zone.
+     *
+     * @param zoneId identifiant de la zone
+     */
+    @Transactional
+    public void zoneCreated(String zoneId) {
+        summaryRepository.addDelta(zoneId, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Supprime les compteurs d'une zone supprimée avec ses parcelles.
+     *
+     * @param zoneId identifiant de la zone
+     */
+    @Transactional
+    public void zoneDeleted(String zoneId) {
+        summaryRepository.deleteById(zoneId);
+    }
+
+    /**
+     * Recalcule tous les compteurs depuis la table des parcelles, au démarrage
+     * puis périodiquement, pour corriger toute écriture passée hors de ce service.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.parcel-counts.reconcile-cron:0 15 3 * * *}")
+    public void reconcile() {
+        try {
+            int[] result = transactionTemplate.execute(status -> {
+                summaryRepository.lockForRecompute();
+                return new int[]{summaryRepository.recomputeAll(), summaryRepository.deleteOrphans()};
+            });
+            log.info("Compteurs de parcelles recalculés: {} zones, {} compteurs orphelins supprimés",
+                    result[0], result[1]);
+        } catch (Exception e) {
+            log.error("Recalcul des compteurs de parcelles interrompu: {}", e.getMessage(), e);
+        }
+    }
+
+    private void addDelta(String zoneId, ParcelStatus status, int delta) {
+        if (zoneId == null) {
+            return;
+        }
+        summaryRepository.addDelta(zoneId, delta,
+                status == ParcelStatus.LIBRE ? delta : 0,
+                status == ParcelStatus.RESERVEE ? delta : 0,
+                status == ParcelStatus.INDISPONIBLE ? delta : 0,
+                status == ParcelStatus.VENDU ? delta : 0,
+                status == ParcelStatus.EN_DEVELOPPEMENT ? delta : 0);
+    }
+
+    /** Compte les parcelles de zones sans compteur, en une requête agrégée par lot */
+    private Map<String, ParcelCounts> aggregate(List<String> ids) {
+        Map<String, Integer> totals = new HashMap<>();
+        Map<String, Map<ParcelStatus, Integer>> byZone = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            for (ZoneParcelCountRow row : parcelRepository.countByZoneIdsGroupByStatus(batch)) {
+                int count = row.getCount().intValue();
+                totals.merge(row.getZoneId(), count, Integer::sum);
+                if (row.getStatus() != null) {
+                    byZone.computeIfAbsent(row.getZoneId(), id -> new EnumMap<>(ParcelStatus.class))
+                            .merge(row.getStatus(), count, Integer::sum);
+                }
+            }
+        }
+        Map<String, ParcelCounts> counts = new HashMap<>();
+        totals.forEach((zoneId, total) -> counts.put(zoneId, new ParcelCounts(total, byZone.getOrDefault(zoneId, Map.of()))));
+        return counts;
+    }
+
+    /**
+     * Nombres de parcelles d'une zone, au total et par statut.
+     *
+     * @param total nombre total de parcelles
+     * @param byStatus nombre de parcelles par statut (statuts absents : aucune parcelle)
+     */
+    public record ParcelCounts(int total, Map<ParcelStatus, Integer> byStatus) {
+
+        /** Zone sans parcelle */
+        public static final ParcelCounts EMPTY = new ParcelCounts(0, Map.of());
+
+        public ParcelCounts {
+            byStatus = Map.copyOf(byStatus);
+        }
+
+        static ParcelCounts of(ZoneParcelSummary summary) {
+            if (summary == null) {
+                return EMPTY;
+            }
+            Map<ParcelStatus, Integer> byStatus = new EnumMap<>(ParcelStatus.class);
+            putIfPositive(byStatus, ParcelStatus.LIBRE, summary.getLibreCount());
+            putIfPositive(byStatus, ParcelStatus.RESERVEE, summary.getReserveeCount());
+            putIfPositive(byStatus, ParcelStatus.INDISPONIBLE, summary.getIndisponibleCount());
+            putIfPositive(byStatus, ParcelStatus.VENDU, summary.getVenduCount());
+            putIfPositive(byStatus, ParcelStatus.EN_DEVELOPPEMENT, summary.getEnDeveloppementCount());
+            return new ParcelCounts(summary.getTotalCount(), byStatus);
+        }
+
+        private static void putIfPositive(Map<ParcelStatus, Integer> byStatus, ParcelStatus status, int count) {
+            if (count > 0) {
+                byStatus.put(status, count);
+            }
+        }
+
+        /** Nombre de parcelles ayant le statut donné */
+        public int count(ParcelStatus status) {
+            return byStatus.getOrDefault(status, 0);
+        }
+
+        /** Nombre de parcelles disponibles ({@link ParcelStatus#LIBRE}) */
+        public int available() {
+            return count(ParcelStatus.LIBRE);
+        }
+    }
+}
@@ -1,23 +1,35 @@
 package com.industria.platform.service;
 
 import com.industria.platform.dto.VertexDto;
+import com.industria.platform.entity.Country;
 import com.industria.platform.entity.Parcel;
 import com.industria.platform.entity.Zone;
+import com.industria.platform.geo.CoordinateReferenceSystem;
+import com.industria.platform.geo.PackedGeometry;
+import com.industria.platform.geo.WkbReader;
+import com.industria.platform.projection.GeometryWkbRow;
+import com.industria.platform.projection.ParcelGeometryWkb;
 import com.industria.platform.repository.ParcelRepository;
 import com.industria.platform.repository.ZoneRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Service d'extraction et manipulation de géométries PostGIS.
  * 
- * Gère la conversion des formats géométriques (WKB/WKT) et l'extraction
- * des vertices pour les zones et parcelles stockées en base PostGIS.
+ * Gère l'extraction des vertices des géométries natives PostGIS
+ * et leur conversion de coordonnées pour les zones et parcelles.
+ * Les anneaux sont manipulés sous forme de tableaux compactés de
+ * coordonnées, projetés en bloc si nécessaire.
  * 
  * @author Industria Platform Team
  * @version 1.0
@@ -31,78 +43,143 @@ public class PostGISGeometryService {
     private final ParcelRepository parcelRepository;
     private final ZoneRepository zoneRepository;
     private final GeometryParsingService geometryParsingService;
-    private final JdbcTemplate jdbcTemplate;
+    private final ProjectionRegistry projectionRegistry;
 
     /**
      * Extrait les vertices géométriques d'une zone.
      * 
-     * Convertit automatiquement les formats WKB vers WKT si nécessaire
-     * et extrait les points de contour de la zone.
-     * 
      * @param zoneId identifiant de la zone
-     * @return liste des vertices en coordonnées Lambert Maroc
+     * @return liste des vertices en Lambert avec leurs coordonnées WGS84
      */
     public List<VertexDto> extractZoneVertices(String zoneId) {
-        Optional<Zone> zoneOpt = zoneRepository.findById(zoneId);
-        if (zoneOpt.isEmpty()) {
-            return List.of();
-        }
-        
-        Zone zone = zoneOpt.get();
-        String geometry = zone.getGeometry();
-        
-        if (geometry == null || geometry.trim().isEmpty()) {
-            return List.of();
-        }
-        
-        // Convertir WKB vers WKT avec l'utilitaire JTS
-        String wktGeometry = com.industria.platform.util.WKBToWKTUtil.convertWKBToWKT(geometry);
-        
-        if (wktGeometry == null) {
-            return List.of();
-        }
-        
-        // Parser la géométrie WKT transformée
-        List<VertexDto> vertices = geometryParsingService.parseWKTGeometry(wktGeometry);
-        
-        // Convertir les coordonnées Lambert vers WGS84 selon le pays de la zone
-        return convertVerticesToWGS84ForZone(vertices, zone);
+        return zoneRepository.findById(zoneId)
+                .map(this::extractZoneVertices)
+                .orElse(List.of());
     }
 
     /**
-     * Extrait les vertices géométriques d'une parcelle.
+     * Extrait les vertices géométriques d'une zone déjà chargée.
+     * 
+     * Les coordonnées WGS84 proviennent de la géométrie projetée à l'écriture ;
+     * une reprojection n'a lieu que pour les zones non encore migrées.
      * 
-     * Convertit automatiquement les formats WKB vers WKT si nécessaire
-     * et extrait les points de contour de la parcelle.
+     * @param zone zone chargée
+     * @return liste des vertices en Lambert avec leurs coordonnées WGS84
+     */
+    public List<VertexDto> extractZoneVertices(Zone zone) {
+        return toVertices(geometryParsingService.packExteriorRing(zone.getGeometry()),
+                geometryParsingService.packExteriorRing(zone.getGeometryWgs84()),
+                countrySrid(zoneCountry(zone)), "zone " + zone.getId());
+    }
+
+    /**
+     * Extrait les vertices géométriques d'une parcelle.
      * 
      * @param parcelId identifiant de la parcelle
-     * @return liste des vertices en coordonnées Lambert Maroc
+     * @return liste des vertices en Lambert avec leurs coordonnées WGS84
      */
     public List<VertexDto> extractParcelVertices(String parcelId) {
-        Optional<Parcel> parcelOpt = parcelRepository.findById(parcelId);
-        if (parcelOpt.isEmpty()) {
-            return List.of();
+        return parcelRepository.findById(parcelId)
+                .map(this::extractParcelVertices)
+                .orElse(List.of());
+    }
+
+    /**
+     * Extrait les vertices géométriques d'une parcelle déjà chargée.
+     * 
+     * Les coordonnées WGS84 proviennent de la géométrie projetée à l'écriture ;
+     * une reprojection n'a lieu que pour les parcelles non encore migrées.
+     * 
+     * @param parcel parcelle chargée
+     * @return liste des vertices en Lambert avec leurs coordonnées WGS84
+     */
+    public List<VertexDto> extractParcelVertices(Parcel parcel) {
+        return toVertices(geometryParsingService.packExteriorRing(parcel.getGeometry()),
+                geometryParsingService.packExteriorRing(parcel.getGeometryWgs84()),
+                countrySrid(parcelCountry(parcel)), "parcelle " + parcel.getId());
+    }
+
+    /**
+     * Extrait en une requête les vertices de toutes les parcelles d'une zone.
+     * 
+     * Les géométries sont lues au format WKB et décodées directement en
+     * tableaux de coordonnées, sans géométrie JTS intermédiaire.
+     * 
+     * @param zone zone chargée
+     * @return vertices de chaque parcelle, par identifiant de parcelle
+     */
+    public Map<String, List<VertexDto>> extractParcelVerticesByZone(Zone zone) {
+        Country country = zoneCountry(zone);
+        Map<String, List<VertexDto>> verticesByParcel = new HashMap<>();
+        for (ParcelGeometryWkb row : parcelRepository.findGeometryWkbByZoneId(zone.getId())) {
+            putParcelVertices(verticesByParcel, row, country);
         }
-        
-        Parcel parcel = parcelOpt.get();
-        String geometry = parcel.getGeometry();
-        
-        if (geometry == null || geometry.trim().isEmpty()) {
-            return List.of();
+        return verticesByParcel;
+    }
+
+    /**
+     * Extrait en une requête les vertices de toutes les parcelles de plusieurs zones.
+     * 
+     * @param zones zones chargées
+     * @return vertices de chaque parcelle, par identifiant de parcelle
+     */
+    public Map<String, List<VertexDto>> extractParcelVerticesByZones(Collection<Zone> zones) {
+        Map<String, Country> countries = new HashMap<>();
+        for (Zone zone : zones) {
+            countries.put(zone.getId(), zoneCountry(zone));
         }
-        
-        // Convertir WKB vers WKT avec l'utilitaire JTS
-        String wktGeometry = com.industria.platform.util.WKBToWKTUtil.convertWKBToWKT(geometry);
-        
-        if (wktGeometry == null) {
-            return List.of();
+        Map<String, List<VertexDto>> verticesByParcel = new HashMap<>();
+        if (countries.isEmpty()) {
+            return verticesByParcel;
+        }
+        for (ParcelGeometryWkb row : parcelRepository.findGeometryWkbByZoneIdIn(countries.keySet())) {
+            putParcelVertices(verticesByParcel, row, countries.get(row.getZoneId()));
+        }
+        return verticesByParcel;
+    }
+
+    /**
+     * Extrait en une requête les vertices de plusieurs zones, sans charger les entités.
+     * 
+     * @param zoneIds identifiants des zones
+     * @return vertices de chaque zone géolocalisée, par identifiant de zone
+     */
+    public Map<String, List<VertexDto>> extractZoneVerticesByIds(Collection<String> zoneIds) {
+        return zoneIds.isEmpty() ? new HashMap<>() : toVerticesById(zoneRepository.findGeometryWkbByIdIn(zoneIds), "zone");
+    }
+
+    /**
+     * Extrait en une requête les vertices de plusieurs parcelles, sans charger les entités.
+     * 
+     * @param parcelIds identifiants des parcelles
+     * @return vertices de chaque parcelle géolocalisée, par identifiant de parcelle
+     */
+    public Map<String, List<VertexDto>> extractParcelVerticesByIds(Collection<String> parcelIds) {
+        return parcelIds.isEmpty() ? new HashMap<>() : toVerticesById(parcelRepository.findGeometryWkbByIdIn(parcelIds), "parcelle");
+    }
+
+    private Map<String, List<VertexDto>> toVerticesById(List<GeometryWkbRow> rows, String kind) {
+        Map<String, List<VertexDto>> verticesById = new HashMap<>();
+        for (GeometryWkbRow row : rows) {
+            try {
+                double[] lambert = WkbReader.read(row.getLambert()).exteriorRing();
+                double[] wgs84 = row.getWgs84() != null ? WkbReader.read(row.getWgs84()).exteriorRing() : null;
+                verticesById.put(row.getId(), toVertices(lambert, wgs84, row.getSrid(), kind + " " + row.getId()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Géométrie illisible pour la {} {}: {}", kind, row.getId(), e.getMessage());
+            }
+        }
+        return verticesById;
+    }
+
+    private void putParcelVertices(Map<String, List<VertexDto>> verticesByParcel, ParcelGeometryWkb row, Country country) {
+        try {
+            double[] lambert = WkbReader.read(row.getLambert()).exteriorRing();
+            double[] wgs84 = row.getWgs84() != null ? WkbReader.read(row.getWgs84()).exteriorRing() : null;
+            verticesByParcel.put(row.getId(), toVertices(lambert, wgs84, countrySrid(country), "parcelle " + row.getId()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Géométrie illisible pour la parcelle {}: {}", row.getId(), e.getMessage());
         }
-        
-        // Parser la géométrie WKT transformée
-        List<VertexDto> vertices = geometryParsingService.parseWKTGeometry(wktGeometry);
-        
-        // Convertir les coordonnées Lambert vers WGS84 selon le pays de la parcelle
-        return convertVerticesToWGS84ForParcel(vertices, parcel);
     }
 
     /**
@@ -124,7 +201,7 @@ public class PostGISGeometryService {
         Zone zone = zoneOpt.get();
         
         // Pour les coordonnées Lambert, calculer le centroïde depuis les vertices
-        List<VertexDto> vertices = extractZoneVertices(zoneId);
+        List<VertexDto> vertices = extractZoneVertices(zone);
         double lambertX = 0.0, lambertY = 0.0;
         
         if (!vertices.isEmpty()) {
@@ -135,7 +212,7 @@ public class PostGISGeometryService {
             lambertX /= vertices.size();
             lambertY /= vertices.size();
             
-            // Utiliser PostGIS pour la conversion précise
+            // Conversion précise par le moteur de projection
             double[] wgs84;
             if (zone.getRegion() != null && zone.getRegion().getCountry() != null && zone.getRegion().getCountry().getDefaultSrid() != null) {
                 int srid = zone.getRegion().getCountry().getDefaultSrid();
@@ -173,7 +250,7 @@ public class PostGISGeometryService {
         Parcel parcel = parcelOpt.get();
         
         // Pour les coordonnées Lambert, calculer le centroïde depuis les vertices
-        List<VertexDto> vertices = extractParcelVertices(parcelId);
+        List<VertexDto> vertices = extractParcelVertices(parcel);
         double lambertX = 0.0, lambertY = 0.0;
         
         if (!vertices.isEmpty()) {
@@ -184,7 +261,7 @@ public class PostGISGeometryService {
             lambertX /= vertices.size();
             lambertY /= vertices.size();
             
-            // Utiliser PostGIS pour la conversion précise
+            // Conversion précise par le moteur de projection
             double[] wgs84;
             if (parcel.getZone() != null && parcel.getZone().getRegion() != null && 
                 parcel.getZone().getRegion().getCountry() != null && parcel.getZone().getRegion().getCountry().getDefaultSrid() != null) {
@@ -205,90 +282,74 @@ public class PostGISGeometryService {
     }
     
     /**
-     * Convertit une liste de vertices Lambert vers WGS84 selon le pays de la zone.
+     * Construit les vertices à partir des anneaux compactés Lambert et WGS84.
+     * 
+     * L'anneau WGS84 stocké est apparié vertex par vertex ; s'il est absent ou
+     * incohérent, l'anneau Lambert est projeté en bloc avec le système du pays.
+     * 
+     * @param lambert anneau Lambert compacté [x0, y0, x1, y1, ...]
+     * @param wgs84 anneau WGS84 compacté [lon0, lat0, ...], ou null
      */
-    private List<VertexDto> convertVerticesToWGS84ForZone(List<VertexDto> vertices, Zone zone) {
-        if (vertices == null || vertices.isEmpty()) {
-            return vertices;
+    private List<VertexDto> toVertices(double[] lambert, double[] wgs84, Integer srid, String owner) {
+        int count = PackedGeometry.vertexCount(lambert);
+        if (count == 0) {
+            return List.of();
         }
         
-        return vertices.stream().map(vertex -> {
-            try {
-                // Utiliser PostGIS pour la conversion précise
-                double[] wgs84;
-                if (zone.getRegion() != null && zone.getRegion().getCountry() != null && zone.getRegion().getCountry().getDefaultSrid() != null) {
-                    int srid = zone.getRegion().getCountry().getDefaultSrid();
-                    wgs84 = transformCoordinates(vertex.lambertX(), vertex.lambertY(), srid, 4326);
-                } else {
-                    wgs84 = new double[]{vertex.lambertX(), vertex.lambertY()};
-                }
-                return new VertexDto(vertex.seq(), vertex.lambertX(), vertex.lambertY(), 
-                    wgs84[1], wgs84[0]); // longitude, latitude
-            } catch (Exception e) {
-                log.warn("Erreur conversion coordonnées pour vertex zone {}: {}", vertex.seq(), e.getMessage());
-                return vertex; // Retourner le vertex original en cas d'erreur
+        double[] geographic = wgs84;
+        if (wgs84 == null || PackedGeometry.vertexCount(wgs84) != count) {
+            if (wgs84 != null && wgs84.length > 0) {
+                log.warn("Géométrie WGS84 incohérente pour {} ({} vertices pour {} en Lambert), reprojection",
+                        owner, PackedGeometry.vertexCount(wgs84), count);
             }
-        }).toList();
-    }
-    
-    /**
-     * Convertit une liste de vertices Lambert vers WGS84 selon le pays de la parcelle.
-     */
-    private List<VertexDto> convertVerticesToWGS84ForParcel(List<VertexDto> vertices, Parcel parcel) {
-        if (vertices == null || vertices.isEmpty()) {
-            return vertices;
+            geographic = projectToWgs84(lambert, count, srid, owner);
         }
         
-        return vertices.stream().map(vertex -> {
-            try {
-                // Utiliser PostGIS pour la conversion précise
-                double[] wgs84;
-                if (parcel.getZone() != null && parcel.getZone().getRegion() != null && 
-                    parcel.getZone().getRegion().getCountry() != null && parcel.getZone().getRegion().getCountry().getDefaultSrid() != null) {
-                    int srid = parcel.getZone().getRegion().getCountry().getDefaultSrid();
-                    wgs84 = transformCoordinates(vertex.lambertX(), vertex.lambertY(), srid, 4326);
-                } else {
-                    wgs84 = new double[]{vertex.lambertX(), vertex.lambertY()};
-                }
-                return new VertexDto(vertex.seq(), vertex.lambertX(), vertex.lambertY(), 
-                    wgs84[1], wgs84[0]); // longitude, latitude
-            } catch (Exception e) {
-                log.warn("Erreur conversion coordonnées pour vertex parcelle {}: {}", vertex.seq(), e.getMessage());
-                return vertex; // Retourner le vertex original en cas d'erreur
-            }
-        }).toList();
+        List<VertexDto> vertices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            vertices.add(new VertexDto(i, lambert[2 * i], lambert[2 * i + 1],
+                    geographic != null ? geographic[2 * i + 1] : null,
+                    geographic != null ? geographic[2 * i] : null));
+        }
+        return vertices;
     }
-    
+
     /**
-     * Convertit une géométrie WKB vers WKT si nécessaire.
+     * Projette un anneau Lambert en WGS84 dans la JVM.
      * 
-     * Détecte automatiquement le format de la géométrie et effectue
-     * la conversion appropriee pour le parsing.
+     * Le système de projection du pays est résolu une seule fois pour tout
+     * l'anneau ; sans système connu, les coordonnées sont reprises telles quelles.
      * 
-     * @param geometry géométrie en format WKB ou WKT
-     * @return géométrie convertie en WKT ou null si conversion impossible
+     * @return anneau [lon0, lat0, ...], ou null si le système du pays est invalide
      */
-    private String convertToWKTIfNeeded(String geometry) {
-        if (geometry == null || geometry.trim().isEmpty()) {
-            return geometry;
-        }
-        
-        // Si c'est déjà du WKT, retourner tel quel
-        if (geometry.startsWith("POLYGON")) {
-            return geometry;
-        }
-        
-        // Si c'est du WKB (format hexadécimal commençant par 0103...), indiquer qu'on ne peut pas le convertir sans SQL
-        if (geometry.matches("^[0-9A-Fa-f]+$")) {
-            log.error("Géométrie en format WKB détectée, impossible de convertir sans requête SQL PostGIS");
+    private double[] projectToWgs84(double[] lambert, int count, Integer srid, String owner) {
+        Optional<CoordinateReferenceSystem> crs;
+        try {
+            crs = srid != null ? Optional.of(projectionRegistry.get(srid)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            log.warn("Système de projection indisponible pour {}: {}", owner, e.getMessage());
             return null;
         }
         
-        return geometry;
+        double[] geographic = Arrays.copyOf(lambert, 2 * count);
+        crs.ifPresent(system -> system.toWgs84(geographic, 0, count));
+        return geographic;
+    }
+
+    private static Integer countrySrid(Country country) {
+        return country != null ? country.getDefaultSrid() : null;
+    }
+
+    private static Country zoneCountry(Zone zone) {
+        return zone.getRegion() != null ? zone.getRegion().getCountry() : null;
+    }
+
+    private static Country parcelCountry(Parcel parcel) {
+        return parcel.getZone() != null ? zoneCountry(parcel.getZone()) : null;
     }
     
     /**
-     * Convertit des coordonnées d'un SRID vers un autre en utilisant PostGIS ST_Transform.
+     * Convertit des coordonnées d'un SRID vers un autre avec le moteur de projection en mémoire.
      * 
      * @param x coordonnée X dans le système source
      * @param y coordonnée Y dans le système source
@@ -298,22 +359,10 @@ public class PostGISGeometryService {
      */
     public double[] transformCoordinates(double x, double y, int sourceSrid, int targetSrid) {
         try {
-            String sql = """
-                SELECT ST_X(transformed_point) as x, ST_Y(transformed_point) as y
-                FROM (
-                    SELECT ST_Transform(ST_SetSRID(ST_MakePoint(?, ?), ?), ?) as transformed_point
-                ) as t
-                """;
-            
-            log.debug("Transformation PostGIS: ({}, {}) de SRID {} vers SRID {}", x, y, sourceSrid, targetSrid);
-            
-            return jdbcTemplate.queryForObject(sql, 
-                (rs, rowNum) -> new double[]{rs.getDouble("x"), rs.getDouble("y")},
-                x, y, sourceSrid, targetSrid);
-                
-        } catch (Exception e) {
-            log.error("Erreur lors de la transformation PostGIS de SRID {} vers {}: {}", sourceSrid, targetSrid, e.getMessage());
+            return projectionRegistry.transform(x, y, sourceSrid, targetSrid);
+        } catch (IllegalArgumentException e) {
+            log.error("Erreur lors de la transformation de SRID {} vers {}: {}", sourceSrid, targetSrid, e.getMessage());
             throw new RuntimeException("Échec de transformation des coordonnées", e);
         }
     }
-}
\ No newline at end of file
+}
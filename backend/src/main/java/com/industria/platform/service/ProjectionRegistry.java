@@ -0,0 +1,177 @@
+package com.industria.platform.service;
+
+import com.industria.platform.entity.Country;
+import com.industria.platform.entity.SpatialReferenceSystem;
+import com.industria.platform.event.ReferenceDataChangedEvent;
+import com.industria.platform.geo.CoordinateReferenceSystem;
+import com.industria.platform.repository.SpatialReferenceSystemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registre des systèmes de référence compilés, indexés par SRID.
+ *
+ * Chaque définition PROJ.4 est lue une seule fois (table
+ * {@code spatial_reference_system}, puis {@code spatial_ref_sys} de PostGIS
+ * en secours) et compilée en {@link CoordinateReferenceSystem}. Les
+ * conversions de coordonnées se font ensuite entièrement dans la JVM.
+ *
+ * La compilation se fait hors du verrou de la table : deux appels
+ * simultanés pour un même SRID peuvent compiler chacun, le premier résultat
+ * enregistré est conservé. Un SRID sans définition exploitable est retenu
+ * comme tel, pour ne pas relire la base à chaque écriture de géométrie. Le
+ * registre est vidé après validation de toute modification d'un système de
+ * référence spatiale.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectionRegistry {
+
+    public static final int WGS84_SRID = 4326;
+
+    private final SpatialReferenceSystemRepository spatialReferenceSystemRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Integer, Compiled> systems = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Retourne le système compilé pour un SRID, en le compilant au premier appel.
+     *
+     * @param srid code SRID (ex: 26191, 2154)
+     * @return le système de référence compilé
+     * @throws IllegalArgumentException si aucune définition exploitable n'existe
+     */
+    public CoordinateReferenceSystem get(int srid) {
+        if (srid == WGS84_SRID) {
+            return CoordinateReferenceSystem.WGS84;
+        }
+        Compiled compiled = systems.get(srid);
+        if (compiled == null) {
+            long startedAt = generation.get();
+            compiled = compile(srid);
+            Compiled existing = systems.putIfAbsent(srid, compiled);
+            if (existing != null) {
+                compiled = existing;
+            } else if (generation.get() != startedAt) {
+                // Définition modifiée pendant la compilation : ne pas la retenir
+                systems.remove(srid, compiled);
+            }
+        }
+        if (compiled.crs() == null) {
+            throw new IllegalArgumentException(compiled.error());
+        }
+        return compiled.crs();
+    }
+
+    /**
+     * Retourne le système de projection par défaut d'un pays.
+     *
+     * @param country pays (peut être null)
+     * @return le système compilé, ou vide si le pays n'a pas de SRID par défaut
+     */
+    public Optional<CoordinateReferenceSystem> forCountry(Country country) {
+        if (country == null || country.getDefaultSrid() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(get(country.getDefaultSrid()));
+    }
+
+    /**
+     * Convertit un point vers le WGS84.
+     *
+     * @return tableau [longitude, latitude] en degrés
+     */
+    public double[] toWgs84(double x, double y, int sourceSrid) {
+        double[] out = new double[2];
+        get(sourceSrid).toWgs84(x, y, out);
+        return out;
+    }
+
+    /**
+     * Convertit un point d'un SRID vers un autre.
+     *
+     * @return tableau [X_cible, Y_cible]
+     */
+    public double[] transform(double x, double y, int sourceSrid, int targetSrid) {
+        double[] out = new double[2];
+        get(sourceSrid).transform(get(targetSrid), x, y, out);
+        return out;
+    }
+
+    /**
+     * Vide le registre après validation de la transaction qui a modifié un
+     * système de référence spatiale ; chaque SRID est recompilé au prochain accès.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (SpatialReferenceSystem.class.equals(event.entityType())) {
+            generation.incrementAndGet();
+            systems.clear();
+            log.debug("Registre des systèmes de référence vidé");
+        }
+    }
+
+    private Compiled compile(int srid) {
+        SpatialReferenceSystem srs = spatialReferenceSystemRepository.findBySrid(srid);
+        if (srs != null && srs.getDeletedAt() == null && srs.getProj4text() != null) {
+            try {
+                return compile(srid, srs.getProj4text());
+            } catch (IllegalArgumentException e) {
+                log.warn("Définition PROJ.4 invalide pour SRID {} ({}), recours à spatial_ref_sys: {}",
+                        srid, srs.getName(), e.getMessage());
+            }
+        }
+        String definition = postgisDefinition(srid);
+        if (definition == null) {
+            log.warn("Aucune définition de projection pour le SRID {}", srid);
+            return new Compiled(null, "Aucune définition de projection pour le SRID " + srid);
+        }
+        try {
+            return compile(srid, definition);
+        } catch (IllegalArgumentException e) {
+            log.warn("Définition PROJ.4 de spatial_ref_sys invalide pour SRID {}: {}", srid, e.getMessage());
+            return new Compiled(null, e.getMessage());
+        }
+    }
+
+    private Compiled compile(int srid, String proj4text) {
+        CoordinateReferenceSystem crs = CoordinateReferenceSystem.fromProj4(srid, proj4text);
+        log.info("Système de référence {} compilé: {}", srid, proj4text);
+        return new Compiled(crs, null);
+    }
+
+    /**
+     * Lit la définition PostGIS d'un SRID.
+     *
+     * @return la définition, ou null si le SRID est inconnu
+     * @throws IllegalArgumentException si la lecture échoue ; l'échec n'est pas retenu
+     */
+    private String postgisDefinition(int srid) {
+        try {
+            List<String> definitions = jdbcTemplate.queryForList(
+                    "SELECT proj4text FROM spatial_ref_sys WHERE srid = ?", String.class, srid);
+            return definitions.isEmpty() ? null : definitions.get(0);
+        } catch (DataAccessException e) {
+            log.error("Lecture de spatial_ref_sys impossible pour SRID {}: {}", srid, e.getMessage());
+            throw new IllegalArgumentException("Définition de projection illisible pour le SRID " + srid, e);
+        }
+    }
+
+    /** Système compilé, ou message d'erreur si le SRID n'a pas de définition exploitable */
+    private record Compiled(CoordinateReferenceSystem crs, String error) {}
+}
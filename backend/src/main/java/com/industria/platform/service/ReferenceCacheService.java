@@ -0,0 +1,52 @@
+package com.industria.platform.service;
+
+import com.industria.platform.config.ReferenceCacheConfig;
+import com.industria.platform.event.ReferenceDataChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Éviction du cache de second niveau des données de référence.
+ *
+ * Hibernate tient déjà à jour les entrées des entités qu'il écrit ; après
+ * chaque écriture d'administration, la région de l'entité et les listes de
+ * référence sont en plus vidées : une ligne modifiée hors du contexte de
+ * persistance (SQL direct, migration) n'est pas servie au-delà de la
+ * prochaine écriture d'administration ou de l'expiration de son entrée.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Vide la région d'un type d'entité de référence et les listes mises en cache.
+     *
+     * @param entityType classe de l'entité
+     */
+    public void evict(Class<?> entityType) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(entityType);
+        cache.evictQueryRegion(ReferenceCacheConfig.QUERY_REGION);
+        log.debug("Cache de référence vidé pour {}", entityType.getSimpleName());
+    }
+
+    /**
+     * Vide le cache après validation de la transaction qui a modifié une donnée de référence.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        evict(event.entityType());
+    }
+}
@@ -0,0 +1,160 @@
+package com.industria.platform.service;
+
+import com.industria.platform.config.MapBinaryHttpMessageConverter;
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.event.ReferenceDataChangedEvent;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Requêtes conditionnelles ({@code ETag}, {@code Last-Modified}, réponse 304)
+ * sur les zones, les parcelles et les données de la carte.
+ *
+ * Le validateur est calculé par une requête d'agrégat légère, avant toute
+ * lecture d'entité : si la copie du client ({@code If-None-Match}, à défaut
+ * {@code If-Modified-Since}) est à jour, le contrôleur répond 304 sans
+ * assembler la réponse. L'ETag combine la date de dernière modification, le
+ * nombre de lignes associées, l'instant de démarrage de l'application, pour
+ * qu'un changement de format après déploiement ne soit pas masqué par un 304,
+ * et le format négocié (JSON ou binaire compact, servis à la même URL).
+ * Pour les données de la carte, le nombre de lignes est remplacé par un
+ * compteur des écritures validées ({@link MapDataChangedEvent}, données de
+ * référence), qui révèle les suppressions physiques sans recompter les tables,
+ * comme les index en mémoire de l'application. Les réponses portent
+ * {@code Cache-Control: no-cache} : le client les garde en cache mais les
+ * revalide à chaque utilisation ; et {@code Vary: Accept}.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+    private static final String STARTUP = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ZoneRepository zoneRepository;
+    private final ParcelRepository parcelRepository;
+
+    /** Nombre d'écritures validées sur les données de la carte depuis le démarrage */
+    private final AtomicLong mapDataChanges = new AtomicLong();
+
+    /**
+     * Vérifie si la copie des données de la carte détenue par le client est à jour.
+     *
+     * @param request requête en cours ; reçoit le statut 304 et les en-têtes de validation
+     * @return true si le contrôleur doit répondre sans corps
+     */
+    public boolean mapDataNotModified(WebRequest request) {
+        return notModified(request, zoneRepository.findMapDataLastModified(), mapDataChanges.get());
+    }
+
+    /**
+     * Avance la version des données de la carte après validation d'une écriture.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMapDataChanged(MapDataChangedEvent event) {
+        mapDataChanges.incrementAndGet();
+    }
+
+    /**
+     * Avance la version des données de la carte après une écriture sur les
+     * données de référence (noms de régions et de types de zone affichés).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        mapDataChanges.incrementAndGet();
+    }
+
+    /**
+     * Vérifie si la copie du détail d'une zone détenue par le client est à jour.
+     *
+     * @param id identifiant de la zone
+     * @param request requête en cours
+     * @return true si le contrôleur doit répondre sans corps ; false aussi pour une zone inconnue
+     */
+    public boolean zoneNotModified(String id, WebRequest request) {
+        return zoneRepository.findDetailVersionById(id)
+                .map(version -> notModified(request, version.getLastModified(), version.getCount()))
+                .orElse(false);
+    }
+
+    /**
+     * Vérifie si la copie du détail d'une parcelle détenue par le client est à jour.
+     *
+     * @param id identifiant de la parcelle
+     * @param request requête en cours
+     * @return true si le contrôleur doit répondre sans corps ; false aussi pour une parcelle inconnue
+     */
+    public boolean parcelNotModified(String id, WebRequest request) {
+        return parcelRepository.findDetailVersionById(id)
+                .map(version -> notModified(request, version.getLastModified(), version.getCount()))
+                .orElse(false);
+    }
+
+    private boolean notModified(WebRequest request, LocalDateTime modifiedAt, Long count) {
+        long lastModified = toEpochMillis(modifiedAt);
+        String etag = "\"" + Long.toString(lastModified, 36) + "-"
+                + Optional.ofNullable(count).orElse(0L) + "-" + STARTUP + "-"
+                + negotiatedSubtype(request.getHeader(HttpHeaders.ACCEPT)) + "\"";
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            HttpServletResponse response = servletRequest.getResponse();
+            // Posé avant l'en-tête par défaut de Spring Security (no-store), qui n'écrase pas un Cache-Control existant
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+            // JSON et binaire partagent l'URL : les caches distinguent les deux copies
+            if (!response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    /**
+     * Sous-type du format négocié pour un en-tête {@code Accept} : le format
+     * binaire compact s'il vient en tête (qualité, puis type explicite avant
+     * joker, puis ordre de l'en-tête), comme lors du choix du convertisseur ;
+     * le JSON sinon.
+     */
+    static String negotiatedSubtype(String accept) {
+        MediaType best = null;
+        if (accept != null) {
+            try {
+                for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                    if (!type.isCompatibleWith(MediaType.APPLICATION_JSON)
+                            && !type.isCompatibleWith(MapBinaryHttpMessageConverter.MEDIA_TYPE)) {
+                        continue;
+                    }
+                    if (best == null || type.getQualityValue() > best.getQualityValue()
+                            || type.getQualityValue() == best.getQualityValue() && best.isWildcardSubtype() && !type.isWildcardSubtype()) {
+                        best = type;
+                    }
+                }
+            } catch (InvalidMediaTypeException e) {
+                best = null;
+            }
+        }
+        boolean binary = best != null && best.getQualityValue() > 0
+                && best.equalsTypeAndSubtype(MapBinaryHttpMessageConverter.MEDIA_TYPE);
+        return binary ? MapBinaryHttpMessageConverter.MEDIA_TYPE.getSubtype() : MediaType.APPLICATION_JSON.getSubtype();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,80 @@
+package com.industria.platform.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Regroupement des calculs identiques simultanés (« single-flight »).
+ *
+ * Le premier appel pour une clé exécute le calcul ; les appels arrivant
+ * pendant son exécution attendent et reçoivent le même résultat (ou la même
+ * exception). Rien n'est conservé une fois le calcul terminé : ce n'est pas
+ * un cache, seulement une protection contre les rafales de requêtes
+ * identiques.
+ *
+ * Métrique {@code singleflight.calls}, étiquetée par opération et par
+ * {@code result} : {@code executed} (calcul effectué) ou {@code coalesced}
+ * (résultat partagé).
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Exécute un calcul, ou attend celui déjà en cours pour la même clé.
+     *
+     * @param operation nom de l'opération (étiquette de la métrique)
+     * @param key paramètres distinguant deux calculs de la même opération
+     * @param computation calcul à exécuter
+     * @return résultat du calcul, partagé entre les appels regroupés
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, Supplier<T> computation) {
+        String flightKey = operation + '|' + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            counter(operation, "coalesced").increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        counter(operation, "executed").increment();
+        try {
+            T result = computation.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Counter counter(String operation, String result) {
+        return Counter.builder("singleflight.calls")
+                .description("Appels regroupés ou exécutés par la couche single-flight")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,221 @@
+package com.industria.platform.service;
+
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.geo.BoundingBox;
+import com.industria.platform.projection.GeometryRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Index spatial en mémoire des zones et parcelles (arbre STR de géométries préparées).
+ *
+ * Répond aux questions « quelle zone ou parcelle se trouve à ce point » et
+ * « quelles entités recoupent cette emprise » sans interroger la base.
+ *
+ * Un arbre STR n'accepte plus d'insertion une fois construit : chaque couche
+ * publie donc un instantané immuable (arbre + correctifs récents) remplacé
+ * atomiquement à chaque modification. Au-delà de {@link #MAX_PATCHES}
+ * correctifs, l'arbre est reconstruit.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpatialIndexService {
+
+    /** Nombre de correctifs cumulés avant reconstruction de l'arbre */
+    static final int MAX_PATCHES = 256;
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private final ZoneRepository zoneRepository;
+    private final ParcelRepository parcelRepository;
+
+    private final Layer zones = new Layer();
+    private final Layer parcels = new Layer();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            zones.rebuild(zoneRepository.findAllWgs84Geometries());
+            parcels.rebuild(parcelRepository.findAllWgs84Geometries());
+            log.info("Index spatial construit: {} zones, {} parcelles", zones.size(), parcels.size());
+        } catch (Exception e) {
+            log.error("Construction de l'index spatial interrompue: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Met à jour l'index pour l'entité modifiée après validation de la transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMapDataChanged(MapDataChangedEvent event) {
+        if (event.id() == null) {
+            return;
+        }
+        switch (event.entity()) {
+            case "Zone" -> zones.patch(event.id(), zoneRepository.findWgs84GeometryById(event.id()).orElse(null));
+            case "Parcel" -> parcels.patch(event.id(), parcelRepository.findWgs84GeometryById(event.id()).orElse(null));
+            default -> { }
+        }
+    }
+
+    /**
+     * Zones contenant un point (bords inclus).
+     *
+     * @param longitude longitude WGS84
+     * @param latitude latitude WGS84
+     * @return identifiants des zones
+     */
+    public List<String> zonesAt(double longitude, double latitude) {
+        return zones.at(longitude, latitude);
+    }
+
+    /**
+     * Parcelles contenant un point (bords inclus).
+     *
+     * @param longitude longitude WGS84
+     * @param latitude latitude WGS84
+     * @return identifiants des parcelles
+     */
+    public List<String> parcelsAt(double longitude, double latitude) {
+        return parcels.at(longitude, latitude);
+    }
+
+    /**
+     * Zones dont la géométrie recoupe une emprise.
+     *
+     * @param bbox emprise WGS84
+     * @return identifiants des zones
+     */
+    public List<String> zonesIn(BoundingBox bbox) {
+        return zones.in(bbox);
+    }
+
+    /**
+     * Parcelles dont la géométrie recoupe une emprise.
+     *
+     * @param bbox emprise WGS84
+     * @return identifiants des parcelles
+     */
+    public List<String> parcelsIn(BoundingBox bbox) {
+        return parcels.in(bbox);
+    }
+
+    /**
+     * Couche de l'index : géométries de référence et instantané interrogeable.
+     */
+    private static final class Layer {
+
+        /** Géométries courantes, modifiées sous verrou */
+        private final Map<String, PreparedGeometry> geometries = new HashMap<>();
+
+        private volatile Snapshot snapshot = Snapshot.build(Map.of());
+
+        synchronized void rebuild(List<GeometryRow> rows) {
+            geometries.clear();
+            for (GeometryRow row : rows) {
+                if (row.getGeometry() != null && !row.getGeometry().isEmpty()) {
+                    geometries.put(row.getId(), PreparedGeometryFactory.prepare(row.getGeometry()));
+                }
+            }
+            snapshot = Snapshot.build(geometries);
+        }
+
+        synchronized void patch(String id, GeometryRow row) {
+            Snapshot current = snapshot;
+            Map<String, PreparedGeometry> added = new HashMap<>(current.added());
+            Set<String> removed = new HashSet<>(current.removed());
+            if (row == null || row.getGeometry() == null || row.getGeometry().isEmpty()) {
+                geometries.remove(id);
+                added.remove(id);
+                removed.add(id);
+            } else {
+                PreparedGeometry prepared = PreparedGeometryFactory.prepare(row.getGeometry());
+                geometries.put(id, prepared);
+                added.put(id, prepared);
+                removed.remove(id);
+            }
+
+            snapshot = added.size() + removed.size() > MAX_PATCHES
+                    ? Snapshot.build(geometries)
+                    : new Snapshot(current.tree(), Map.copyOf(added), Set.copyOf(removed));
+        }
+
+        synchronized int size() {
+            return geometries.size();
+        }
+
+        List<String> at(double longitude, double latitude) {
+            Geometry point = GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude));
+            return snapshot.query(point.getEnvelopeInternal(), prepared -> prepared.intersects(point));
+        }
+
+        List<String> in(BoundingBox bbox) {
+            Envelope envelope = new Envelope(bbox.minLon(), bbox.maxLon(), bbox.minLat(), bbox.maxLat());
+            Geometry rectangle = GEOMETRY_FACTORY.toGeometry(envelope);
+            return snapshot.query(envelope, prepared -> prepared.intersects(rectangle));
+        }
+    }
+
+    /**
+     * État immuable d'une couche : arbre construit et correctifs appliqués depuis.
+     *
+     * @param tree arbre STR construit (lecture seule)
+     * @param added géométries ajoutées ou modifiées depuis la construction
+     * @param removed identifiants supprimés depuis la construction
+     */
+    private record Snapshot(STRtree tree, Map<String, PreparedGeometry> added, Set<String> removed) {
+
+        static Snapshot build(Map<String, PreparedGeometry> geometries) {
+            STRtree tree = new STRtree();
+            geometries.forEach((id, prepared) ->
+                    tree.insert(prepared.getGeometry().getEnvelopeInternal(), new Item(id, prepared)));
+            tree.build();
+            return new Snapshot(tree, Map.of(), Set.of());
+        }
+
+        List<String> query(Envelope envelope, Predicate<PreparedGeometry> test) {
+            List<String> ids = new ArrayList<>();
+            for (Object candidate : tree.query(envelope)) {
+                Item item = (Item) candidate;
+                // Les entrées modifiées ou supprimées depuis la construction sont périmées dans l'arbre
+                if (!added.containsKey(item.id()) && !removed.contains(item.id()) && test.test(item.geometry())) {
+                    ids.add(item.id());
+                }
+            }
+            added.forEach((id, prepared) -> {
+                if (prepared.getGeometry().getEnvelopeInternal().intersects(envelope) && test.test(prepared)) {
+                    ids.add(id);
+                }
+            });
+            return ids;
+        }
+    }
+
+    private record Item(String id, PreparedGeometry geometry) {}
+}
@@ -1,10 +1,12 @@
 package com.industria.platform.service;
 
 import com.industria.platform.entity.*;
+import com.industria.platform.event.MapStatusChangedEvent;
 import com.industria.platform.repository.ParcelRepository;
 import com.industria.platform.repository.ZoneRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +17,8 @@ import java.util.Set;
  * 
  * Gère les transitions d'état avec propagation automatique
  * des statuts entre zones et leurs parcelles associées.
+ * Chaque statut de parcelle modifié met à jour les compteurs de sa zone ;
+ * chaque statut modifié publie un {@link MapStatusChangedEvent}.
  * 
  * @author Industria Platform Team
  * @version 1.0
@@ -27,6 +31,8 @@ public class StatusService {
 
     private final ZoneRepository zoneRepository;
     private final ParcelRepository parcelRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParcelCountService parcelCountService;
 
     /**
      * Met à jour le statut d'une zone.
@@ -41,14 +47,24 @@ public class StatusService {
     @Transactional
     public Zone updateZoneStatus(String zoneId, ZoneStatus newStatus) {
         Zone zone = zoneRepository.findById(zoneId).orElseThrow();
+        ZoneStatus previous = zone.getStatus();
         zone.setStatus(newStatus);
         zoneRepository.save(zone);
+        if (previous != newStatus) {
+            eventPublisher.publishEvent(MapStatusChangedEvent.of(zone));
+        }
 
         if (newStatus == ZoneStatus.EN_DEVELOPPEMENT || newStatus == ZoneStatus.LIBRE) {
+            ParcelStatus parcelStatus = newStatus == ZoneStatus.LIBRE ? ParcelStatus.LIBRE : ParcelStatus.EN_DEVELOPPEMENT;
             Set<Parcel> parcels = parcelRepository.findByZoneId(zoneId);
             for (Parcel parcel : parcels) {
-                parcel.setStatus(newStatus == ZoneStatus.LIBRE ? ParcelStatus.LIBRE : ParcelStatus.EN_DEVELOPPEMENT);
+                ParcelStatus previousParcelStatus = parcel.getStatus();
+                parcel.setStatus(parcelStatus);
                 parcelRepository.save(parcel);
+                if (previousParcelStatus != parcelStatus) {
+                    parcelCountService.parcelChanged(zoneId, previousParcelStatus, zoneId, parcelStatus);
+                    eventPublisher.publishEvent(MapStatusChangedEvent.of(parcel));
+                }
             }
         }
         return zone;
@@ -67,11 +83,18 @@ public class StatusService {
     @Transactional
     public Parcel updateParcelStatus(String parcelId, ParcelStatus newStatus) {
         Parcel parcel = parcelRepository.findById(parcelId).orElseThrow();
+        ParcelStatus previous = parcel.getStatus();
         parcel.setStatus(newStatus);
         parcelRepository.save(parcel);
+        if (previous != newStatus) {
+            String zoneId = parcel.getZone() != null ? parcel.getZone().getId() : null;
+            parcelCountService.parcelChanged(zoneId, previous, zoneId, newStatus);
+            eventPublisher.publishEvent(MapStatusChangedEvent.of(parcel));
+        }
 
         Zone zone = parcel.getZone();
         if (zone != null) {
+            ZoneStatus previousZoneStatus = zone.getStatus();
             Set<Parcel> parcels = parcelRepository.findByZoneId(zone.getId());
             boolean allReserved = parcels.stream().allMatch(p -> p.getStatus() == ParcelStatus.RESERVEE);
             boolean allSold = parcels.stream().allMatch(p -> p.getStatus() == ParcelStatus.VENDU);
@@ -85,6 +108,9 @@ public class StatusService {
                 zone.setStatus(ZoneStatus.LIBRE);
             }
             zoneRepository.save(zone);
+            if (previousZoneStatus != zone.getStatus()) {
+                eventPublisher.publishEvent(MapStatusChangedEvent.of(zone));
+            }
         }
         return parcel;
     }
@@ -0,0 +1,346 @@
+package com.industria.platform.service;
+
+import com.industria.platform.dto.SuggestionDto;
+import com.industria.platform.entity.Region;
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.event.ReferenceDataChangedEvent;
+import com.industria.platform.projection.SuggestionRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.RegionRepository;
+import com.industria.platform.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Autocomplétion en mémoire des noms et adresses de zones, des noms de
+ * régions et des références de parcelles.
+ *
+ * Chaque mot normalisé (minuscules, sans accents ni voyelles arabes, comme
+ * {@code search_normalize} en base) est une clé d'un tableau trié : les entrées
+ * dont un mot commence par le texte saisi sont trouvées par recherche
+ * dichotomique, sans requête en base. Comme {@link SpatialIndexService},
+ * l'index publie un instantané immuable (tableau trié + correctifs récents)
+ * remplacé atomiquement à chaque écriture validée, et reconstruit au-delà
+ * de {@link #MAX_PATCHES} correctifs.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestionService {
+
+    /** Nombre maximal de suggestions par réponse */
+    public static final int MAX_LIMIT = 20;
+
+    /** Nombre de correctifs cumulés avant reconstruction du tableau trié */
+    static final int MAX_PATCHES = 256;
+
+    /** Types d'entités suggérées */
+    public enum Kind { ZONE, PARCEL, REGION }
+
+    private final ZoneRepository zoneRepository;
+    private final ParcelRepository parcelRepository;
+    private final RegionRepository regionRepository;
+
+    /** Entrées courantes par clé {@code TYPE:id}, modifiées sous verrou */
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.build(Map.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild(zoneRepository.findAllSuggestionRows(), parcelRepository.findAllSuggestionRows(),
+                    regionRepository.findAllSuggestionRows());
+            log.info("Index d'autocomplétion construit: {} entrées", size());
+        } catch (Exception e) {
+            log.error("Construction de l'index d'autocomplétion interrompue: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Met à jour l'entrée d'une zone ou d'une parcelle après validation de la transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMapDataChanged(MapDataChangedEvent event) {
+        if (event.id() == null) {
+            return;
+        }
+        switch (event.entity()) {
+            case "Zone" -> patch(Kind.ZONE, event.id(), zoneRepository.findSuggestionRowById(event.id()).orElse(null));
+            case "Parcel" -> patch(Kind.PARCEL, event.id(), parcelRepository.findSuggestionRowById(event.id()).orElse(null));
+            default -> { }
+        }
+    }
+
+    /**
+     * Relit les régions, peu nombreuses, après validation d'une écriture sur l'une d'elles.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.entityType() == Region.class) {
+            replaceRegions(regionRepository.findAllSuggestionRows());
+        }
+    }
+
+    /**
+     * Suggestions pour un texte en cours de saisie : entrées dont chaque mot
+     * saisi commence un de leurs mots, libellés commençant par le texte en tête.
+     *
+     * @param query texte saisi
+     * @param limit nombre maximal de suggestions (borné à {@link #MAX_LIMIT})
+     * @return suggestions classées, vide si le texte ne contient aucun mot
+     */
+    public List<SuggestionDto> suggest(String query, int limit) {
+        List<String> terms = query == null ? List.of() : tokens(normalize(query));
+        int k = Math.min(Math.max(1, limit), MAX_LIMIT);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        String phrase = String.join(" ", terms);
+        // Le mot le plus long est le plus sélectif : il délimite les candidats
+        String pivot = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        Comparator<Scored> ranking = Comparator.comparingInt(Scored::score)
+                .thenComparing(scored -> scored.entry().label().length(), Comparator.reverseOrder())
+                .thenComparing(scored -> scored.entry().label(), Comparator.reverseOrder());
+        PriorityQueue<Scored> best = new PriorityQueue<>(ranking);
+        for (Entry entry : snapshot.candidates(pivot)) {
+            if (!entry.matchesAll(terms)) {
+                continue;
+            }
+            best.add(new Scored(entry, entry.score(phrase, terms.get(0))));
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+        List<SuggestionDto> suggestions = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Entry entry = best.poll().entry();
+            suggestions.add(new SuggestionDto(entry.kind().name(), entry.id(), entry.label(), entry.detail()));
+        }
+        Collections.reverse(suggestions);
+        return suggestions;
+    }
+
+    synchronized void rebuild(List<SuggestionRow> zones, List<SuggestionRow> parcels, List<SuggestionRow> regions) {
+        entries.clear();
+        zones.forEach(row -> put(Kind.ZONE, row));
+        parcels.forEach(row -> put(Kind.PARCEL, row));
+        regions.forEach(row -> put(Kind.REGION, row));
+        snapshot = Snapshot.build(entries);
+    }
+
+    synchronized void patch(Kind kind, String id, SuggestionRow row) {
+        String key = key(kind, id);
+        Entry entry = row == null ? null : Entry.of(kind, row);
+        if (entry == null) {
+            entries.remove(key);
+        } else {
+            entries.put(key, entry);
+        }
+        Snapshot current = snapshot;
+        Map<String, Entry> added = new HashMap<>(current.added());
+        Set<String> removed = new HashSet<>(current.removed());
+        if (entry == null) {
+            added.remove(key);
+        } else {
+            added.put(key, entry);
+        }
+        // L'entrée du tableau trié est périmée dans tous les cas
+        removed.add(key);
+
+        snapshot = added.size() + removed.size() > MAX_PATCHES
+                ? Snapshot.build(entries)
+                : new Snapshot(current.keys(), current.items(), Map.copyOf(added), Set.copyOf(removed));
+    }
+
+    synchronized void replaceRegions(List<SuggestionRow> regions) {
+        Set<String> current = new HashSet<>();
+        for (SuggestionRow row : regions) {
+            current.add(row.id());
+            patch(Kind.REGION, row.id(), row);
+        }
+        for (Entry entry : List.copyOf(entries.values())) {
+            if (entry.kind() == Kind.REGION && !current.contains(entry.id())) {
+                patch(Kind.REGION, entry.id(), null);
+            }
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void put(Kind kind, SuggestionRow row) {
+        Entry entry = Entry.of(kind, row);
+        if (entry != null) {
+            entries.put(key(kind, row.id()), entry);
+        }
+    }
+
+    private static String key(Kind kind, String id) {
+        return kind.name() + ":" + id;
+    }
+
+    /**
+     * Normalise un texte comme {@code search_normalize} en base : minuscules,
+     * signes diacritiques retirés (accents latins, voyelles et hamza arabes),
+     * tatweel retiré, alif wasla, alif maqsura et ta marbuta unifiés.
+     */
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK || c == '\u0640') {
+                continue;
+            }
+            normalized.append(switch (c) {
+                case '\u0671' -> '\u0627';
+                case '\u0649' -> '\u064A';
+                case '\u0629' -> '\u0647';
+                default -> c;
+            });
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /** Découpe un texte normalisé en mots (lettres et chiffres) */
+    static List<String> tokens(String normalized) {
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Entrée indexée.
+     *
+     * @param words mots normalisés du libellé puis de la précision indexée
+     * @param labelWords nombre de mots issus du libellé, en tête de {@code words}
+     */
+    private record Entry(Kind kind, String id, String label, String detail, String normalizedLabel,
+                         List<String> words, int labelWords) {
+
+        static Entry of(Kind kind, SuggestionRow row) {
+            if (row.label() == null || row.label().isBlank()) {
+                return null;
+            }
+            String normalizedLabel = String.join(" ", tokens(normalize(row.label())));
+            Set<String> words = new LinkedHashSet<>(tokens(normalizedLabel));
+            int labelWords = words.size();
+            // Seule l'adresse des zones est cherchée ; zone d'une parcelle et pays d'une région sont affichés
+            if (kind == Kind.ZONE && row.detail() != null) {
+                words.addAll(tokens(normalize(row.detail())));
+            }
+            return new Entry(kind, row.id(), row.label(), row.detail(), normalizedLabel, List.copyOf(words), labelWords);
+        }
+
+        boolean matchesAll(List<String> terms) {
+            for (String term : terms) {
+                if (words.stream().noneMatch(word -> word.startsWith(term))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Libellé commençant par le texte, puis mot du libellé, puis adresse ; régions, zones, parcelles */
+        int score(String phrase, String firstTerm) {
+            int score;
+            if (normalizedLabel.equals(phrase)) {
+                score = 400;
+            } else if (normalizedLabel.startsWith(phrase)) {
+                score = 300;
+            } else if (words.subList(0, labelWords).stream().anyMatch(word -> word.startsWith(firstTerm))) {
+                score = 200;
+            } else {
+                score = 100;
+            }
+            return score + switch (kind) {
+                case REGION -> 20;
+                case ZONE -> 10;
+                case PARCEL -> 0;
+            };
+        }
+    }
+
+    private record Scored(Entry entry, int score) {}
+
+    /**
+     * État immuable de l'index : mots triés et correctifs appliqués depuis la construction.
+     *
+     * @param keys mots indexés, triés
+     * @param items entrée de chaque mot, clé {@code TYPE:id} comprise
+     * @param added entrées ajoutées ou modifiées depuis la construction
+     * @param removed clés des entrées dont le tableau trié est périmé
+     */
+    private record Snapshot(String[] keys, Item[] items, Map<String, Entry> added, Set<String> removed) {
+
+        static Snapshot build(Map<String, Entry> entries) {
+            List<Item> items = new ArrayList<>();
+            entries.forEach((key, entry) -> entry.words().forEach(word -> items.add(new Item(word, key, entry))));
+            items.sort(Comparator.comparing(Item::word));
+            String[] keys = new String[items.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = items.get(i).word();
+            }
+            return new Snapshot(keys, items.toArray(Item[]::new), Map.of(), Set.of());
+        }
+
+        /** Entrées dont un mot commence par le préfixe, correctifs compris, sans doublon */
+        List<Entry> candidates(String prefix) {
+            Map<String, Entry> found = new HashMap<>();
+            for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+                Item item = items[i];
+                if (!removed.contains(item.key())) {
+                    found.putIfAbsent(item.key(), item.entry());
+                }
+            }
+            added.forEach((key, entry) -> {
+                if (entry.words().stream().anyMatch(word -> word.startsWith(prefix))) {
+                    found.put(key, entry);
+                }
+            });
+            return List.copyOf(found.values());
+        }
+
+        /** Premier indice dont le mot n'est pas inférieur au préfixe (les mots se répètent) */
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle].compareTo(prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record Item(String word, String key, Entry entry) {}
+}
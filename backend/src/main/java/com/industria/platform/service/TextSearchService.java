@@ -0,0 +1,128 @@
+package com.industria.platform.service;
+
+import com.industria.platform.entity.ZoneStatus;
+import com.industria.platform.projection.ParcelListRow;
+import com.industria.platform.projection.ZoneListRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Listes de zones et de parcelles, avec recherche textuelle classée par pertinence.
+ *
+ * Sans texte, la liste est lue avec les filtres seuls. Avec un texte, la base
+ * sélectionne, classe et pagine les identifiants sur les index plein texte et
+ * trigrammes ({@code db/migration/002_text_search.sql}), insensibles à la casse,
+ * aux accents et aux voyelles arabes ; les lignes de la page sont ensuite lues
+ * en une requête et remises dans l'ordre de pertinence.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class TextSearchService {
+
+    private final ZoneRepository zoneRepository;
+    private final ParcelRepository parcelRepository;
+
+    /**
+     * Récupère une page de zones, filtrée et, si un texte est saisi, classée par pertinence.
+     *
+     * @param search texte saisi, null ou vide pour aucun
+     * @param creatorId créateur des zones, null pour toutes
+     * @param regionId région, null pour toutes
+     * @param zoneTypeId type de zone, null pour tous
+     * @param status statut, null pour tous
+     * @param minArea superficie minimale, null pour aucune
+     * @param maxArea superficie maximale, null pour aucune
+     * @param minPrice prix minimal, null pour aucun
+     * @param maxPrice prix maximal, null pour aucun
+     * @param pageable page demandée
+     * @return page de zones, par pertinence ou des plus récentes aux plus anciennes sans texte
+     */
+    public Page<ZoneListRow> zones(String search, String creatorId, String regionId, String zoneTypeId,
+                                   ZoneStatus status, Double minArea, Double maxArea,
+                                   Double minPrice, Double maxPrice, Pageable pageable) {
+        if (search == null || search.isBlank()) {
+            return zoneRepository.findListRows(creatorId, regionId, zoneTypeId, status,
+                    minArea, maxArea, minPrice, maxPrice, pageable);
+        }
+        String text = search.trim();
+        Page<String> ids = zoneRepository.searchIds(text, prefixQuery(text), creatorId, regionId, zoneTypeId,
+                status == null ? null : status.name(), minArea, maxArea, minPrice, maxPrice, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        return new PageImpl<>(inOrder(ids.getContent(), zoneRepository.findListRowsByIdIn(ids.getContent()), ZoneListRow::id),
+                pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Récupère une page de parcelles, filtrée et, si un texte est saisi, classée par pertinence.
+     *
+     * @param search texte saisi, null ou vide pour aucun
+     * @param creatorId créateur des parcelles, null pour toutes
+     * @param zoneId zone des parcelles, null pour toutes
+     * @param pageable page demandée
+     * @return page de parcelles, par pertinence ou par référence sans texte
+     */
+    public Page<ParcelListRow> parcels(String search, String creatorId, String zoneId, Pageable pageable) {
+        if (search == null || search.isBlank()) {
+            return parcelRepository.findListRows(creatorId, zoneId, pageable);
+        }
+        String text = search.trim();
+        Page<String> ids = parcelRepository.searchIds(text, prefixQuery(text), "%" + escapeLike(text) + "%",
+                creatorId, zoneId, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        return new PageImpl<>(inOrder(ids.getContent(), parcelRepository.findListRowsByIdIn(ids.getContent()), ParcelListRow::id),
+                pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Construit une requête plein texte où chaque mot est un préfixe obligatoire
+     * ({@code parc:* & indus:*}) : la saisie en cours correspond déjà.
+     * Seuls les lettres (signes diacritiques compris) et chiffres sont conservés,
+     * ce qui écarte les opérateurs de {@code to_tsquery}.
+     *
+     * @param text texte saisi
+     * @return requête plein texte, vide si le texte ne contient aucun mot
+     */
+    static String prefixQuery(String text) {
+        return Arrays.stream(text.split("[^\\p{L}\\p{M}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    /** Échappe les caractères spéciaux de {@code LIKE} (échappement par défaut de PostgreSQL) */
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /** Remet les lignes lues dans l'ordre des identifiants de la page */
+    private static <T> List<T> inOrder(List<String> ids, List<T> rows, Function<T, String> idOf) {
+        Map<String, Integer> position = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            position.put(ids.get(i), i);
+        }
+        return rows.stream()
+                .sorted(Comparator.comparing(row -> position.getOrDefault(idOf.apply(row), Integer.MAX_VALUE)))
+                .toList();
+    }
+}
@@ -0,0 +1,137 @@
+package com.industria.platform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.exception.ValidationException;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service de génération des tuiles vectorielles (Mapbox Vector Tile) de la carte.
+ *
+ * Les tuiles sont produites par PostGIS ({@code ST_AsMVT}) à partir des
+ * géométries WGS84 stockées : une couche {@code zones} à tous les niveaux et
+ * une couche {@code parcels} à partir de {@link #PARCEL_MIN_ZOOM}. Les tuiles
+ * générées sont conservées dans un cache borné en octets, vidé après chaque
+ * modification validée d'une zone, d'une parcelle ou de leurs attributs.
+ * Chaque tuile porte la génération du cache au début de son rendu : une
+ * tuile dont le rendu a commencé avant un vidage n'est jamais resservie.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class VectorTileService {
+
+    /** Niveau de zoom maximal servi */
+    public static final int MAX_ZOOM = 22;
+
+    /** En dessous de ce zoom, les parcelles sont plus petites qu'un pixel */
+    public static final int PARCEL_MIN_ZOOM = 13;
+
+    /** Circonférence de la Terre en mètres Web Mercator */
+    private static final double WEB_MERCATOR_EXTENT = 40_075_016.685_578_5;
+
+    /** Résolution interne des tuiles (unités par côté) */
+    private static final int TILE_EXTENT = 4096;
+
+    private final ZoneRepository zoneRepository;
+    private final ParcelRepository parcelRepository;
+    private final Cache<TileKey, Tile> cache;
+
+    /** Génération du cache, avancée à chaque vidage */
+    private final AtomicLong generation = new AtomicLong();
+
+    public VectorTileService(ZoneRepository zoneRepository,
+                             ParcelRepository parcelRepository,
+                             @Value("${app.map.tiles.cache-max-bytes:67108864}") long cacheMaxBytes) {
+        this.zoneRepository = zoneRepository;
+        this.parcelRepository = parcelRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((TileKey key, Tile tile) -> tile.bytes().length + 64)
+                .build();
+    }
+
+    /**
+     * Retourne la tuile vectorielle demandée, depuis le cache si possible.
+     *
+     * @param z niveau de zoom (0 à {@link #MAX_ZOOM})
+     * @param x colonne de la tuile (0 à 2^z - 1)
+     * @param y ligne de la tuile (0 à 2^z - 1, origine en haut)
+     * @return tuile encodée, vide si aucune donnée ne la recoupe
+     * @throws ValidationException si les coordonnées de tuile sont hors limites
+     */
+    public byte[] getTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            throw new ValidationException("tile", "Tuile invalide: " + z + "/" + x + "/" + y);
+        }
+        TileKey key = new TileKey(z, x, y);
+        Tile tile = cache.get(key, this::load);
+        if (tile.generation() != generation.get()) {
+            // Rendu commencé avant le dernier vidage : retiré du cache et recalculé
+            cache.asMap().remove(key, tile);
+            tile = cache.get(key, this::load);
+        }
+        return tile.bytes();
+    }
+
+    /**
+     * Vide le cache des tuiles après la validation d'une modification.
+     *
+     * Une modification touche toutes les tuiles qui recouvrent l'objet, à
+     * tous les niveaux de zoom ; les écritures étant rares face aux lectures,
+     * le cache est vidé entièrement.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMapDataChanged(MapDataChangedEvent event) {
+        log.debug("Invalidation des tuiles après modification de {} {}", event.entity(), event.id());
+        // Avancée avant le vidage : un rendu en cours reste marqué de l'ancienne génération
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private Tile load(TileKey key) {
+        long started = generation.get();
+        return new Tile(started, render(key));
+    }
+
+    private byte[] render(TileKey key) {
+        // Un pixel de la tuile : en deçà, les sommets seraient fusionnés par la quantification
+        double tolerance = WEB_MERCATOR_EXTENT / (1L << key.z()) / TILE_EXTENT;
+
+        byte[] zones = zoneRepository.findVectorTile(key.z(), key.x(), key.y(), tolerance);
+        byte[] parcels = key.z() >= PARCEL_MIN_ZOOM
+                ? parcelRepository.findVectorTile(key.z(), key.x(), key.y(), tolerance)
+                : null;
+
+        // Les couches MVT sont des champs répétés : leur concaténation forme une tuile valide
+        return concat(zones, parcels);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        if (first == null || first.length == 0) {
+            return second != null ? second : new byte[0];
+        }
+        if (second == null || second.length == 0) {
+            return first;
+        }
+        byte[] tile = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, tile, first.length, second.length);
+        return tile;
+    }
+
+    private record TileKey(int z, int x, int y) {}
+
+    private record Tile(long generation, byte[] bytes) {}
+}
@@ -0,0 +1,159 @@
+package com.industria.platform.service;
+
+import com.industria.platform.dto.ZoneFacetsDto;
+import com.industria.platform.dto.ZoneFacetsDto.BandCount;
+import com.industria.platform.entity.ZoneStatus;
+import com.industria.platform.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compteurs de facettes de la recherche de zones : région, type de zone,
+ * statut, tranche de prix et tranche de superficie.
+ *
+ * Les cinq facettes sont calculées en une requête : les zones du périmètre
+ * (non supprimées, créateur, texte saisi) sont lues une fois avec, pour chaque
+ * filtre, un indicateur de correspondance ; chaque facette est ensuite groupée
+ * sur les zones qui satisfont tous les filtres sauf le sien.
+ *
+ * @author Industria Platform Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ZoneFacetService {
+
+    /** Tranche {@code [min, max)} ; borne nulle pour une tranche ouverte */
+    public record Band(Double min, Double max) {}
+
+    /** Tranches de prix (DH/m²), alignées sur les choix de la barre de recherche */
+    public static final List<Band> PRICE_BANDS = List.of(
+            new Band(null, 500.0), new Band(500.0, 1000.0), new Band(1000.0, 3000.0), new Band(3000.0, null));
+
+    /** Tranches de superficie (m²), alignées sur les choix de la barre de recherche */
+    public static final List<Band> AREA_BANDS = List.of(
+            new Band(null, 10000.0), new Band(10000.0, 50000.0), new Band(50000.0, 100000.0), new Band(100000.0, null));
+
+    private static final String FILTERED =
+            "WITH filtered AS MATERIALIZED (" +
+            "SELECT z.region_id, z.zone_type_id, z.status, " +
+            bandCase("z.price", PRICE_BANDS) + " AS price_band, " +
+            bandCase("z.total_area", AREA_BANDS) + " AS area_band, " +
+            "(CAST(:regionId AS varchar) IS NULL OR z.region_id = CAST(:regionId AS varchar)) IS TRUE AS m_region, " +
+            "(CAST(:zoneTypeId AS varchar) IS NULL OR z.zone_type_id = CAST(:zoneTypeId AS varchar)) IS TRUE AS m_type, " +
+            "(CAST(:status AS varchar) IS NULL OR z.status = CAST(:status AS varchar)) IS TRUE AS m_status, " +
+            "((CAST(:minPrice AS float8) IS NULL OR z.price >= CAST(:minPrice AS float8)) " +
+            "AND (CAST(:maxPrice AS float8) IS NULL OR z.price <= CAST(:maxPrice AS float8))) IS TRUE AS m_price, " +
+            "((CAST(:minArea AS float8) IS NULL OR z.total_area >= CAST(:minArea AS float8)) " +
+            "AND (CAST(:maxArea AS float8) IS NULL OR z.total_area <= CAST(:maxArea AS float8))) IS TRUE AS m_area " +
+            "FROM zone z LEFT JOIN users u ON u.email = z.created_by " +
+            "WHERE z.deleted_at IS NULL " +
+            "AND (CAST(:creatorId AS varchar) IS NULL OR u.id = CAST(:creatorId AS varchar))";
+
+    private static final String FACETS =
+            ") SELECT 'region' AS facet, region_id AS value, count(*) AS total FROM filtered " +
+            "WHERE m_type AND m_status AND m_price AND m_area AND region_id IS NOT NULL GROUP BY region_id " +
+            "UNION ALL SELECT 'zoneType', zone_type_id, count(*) FROM filtered " +
+            "WHERE m_region AND m_status AND m_price AND m_area AND zone_type_id IS NOT NULL GROUP BY zone_type_id " +
+            "UNION ALL SELECT 'status', status, count(*) FROM filtered " +
+            "WHERE m_region AND m_type AND m_price AND m_area AND status IS NOT NULL GROUP BY status " +
+            "UNION ALL SELECT 'price', CAST(price_band AS varchar), count(*) FROM filtered " +
+            "WHERE m_region AND m_type AND m_status AND m_area AND price_band IS NOT NULL GROUP BY price_band " +
+            "UNION ALL SELECT 'area', CAST(area_band AS varchar), count(*) FROM filtered " +
+            "WHERE m_region AND m_type AND m_status AND m_price AND area_band IS NOT NULL GROUP BY area_band";
+
+    private static final String FACETS_SQL = FILTERED + FACETS;
+    private static final String SEARCH_FACETS_SQL = FILTERED + " AND " + ZoneRepository.SEARCH_MATCH + FACETS;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Compte les zones de chaque valeur de facette pour les filtres courants.
+     *
+     * @param search texte saisi, null ou vide pour aucun
+     * @param creatorId créateur des zones, null pour toutes
+     * @param regionId région, null pour toutes
+     * @param zoneTypeId type de zone, null pour tous
+     * @param status statut, null pour tous
+     * @param minArea superficie minimale, null pour aucune
+     * @param maxArea superficie maximale, null pour aucune
+     * @param minPrice prix minimal, null pour aucun
+     * @param maxPrice prix maximal, null pour aucun
+     * @return compteurs de facettes, tranches comprises même vides
+     */
+    public ZoneFacetsDto facets(String search, String creatorId, String regionId, String zoneTypeId,
+                                ZoneStatus status, Double minArea, Double maxArea,
+                                Double minPrice, Double maxPrice) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("creatorId", creatorId, Types.VARCHAR)
+                .addValue("regionId", regionId, Types.VARCHAR)
+                .addValue("zoneTypeId", zoneTypeId, Types.VARCHAR)
+                .addValue("status", status == null ? null : status.name(), Types.VARCHAR)
+                .addValue("minArea", minArea, Types.DOUBLE)
+                .addValue("maxArea", maxArea, Types.DOUBLE)
+                .addValue("minPrice", minPrice, Types.DOUBLE)
+                .addValue("maxPrice", maxPrice, Types.DOUBLE);
+        String sql = FACETS_SQL;
+        if (search != null && !search.isBlank()) {
+            String text = search.trim();
+            params.addValue("text", text, Types.VARCHAR)
+                  .addValue("tsQuery", TextSearchService.prefixQuery(text), Types.VARCHAR);
+            sql = SEARCH_FACETS_SQL;
+        }
+
+        Map<String, Long> regions = new LinkedHashMap<>();
+        Map<String, Long> zoneTypes = new LinkedHashMap<>();
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        long[] priceCounts = new long[PRICE_BANDS.size()];
+        long[] areaCounts = new long[AREA_BANDS.size()];
+        jdbcTemplate.query(sql, params, rs -> {
+            String value = rs.getString("value");
+            long total = rs.getLong("total");
+            switch (rs.getString("facet")) {
+                case "region" -> regions.put(value, total);
+                case "zoneType" -> zoneTypes.put(value, total);
+                case "status" -> statuses.put(value, total);
+                case "price" -> priceCounts[Integer.parseInt(value)] = total;
+                case "area" -> areaCounts[Integer.parseInt(value)] = total;
+                default -> { }
+            }
+        });
+        return new ZoneFacetsDto(regions, zoneTypes, statuses,
+                bandCounts(PRICE_BANDS, priceCounts), bandCounts(AREA_BANDS, areaCounts));
+    }
+
+    /** Expression SQL donnant l'indice de la tranche d'une colonne, null hors tranches */
+    static String bandCase(String column, List<Band> bands) {
+        StringBuilder sql = new StringBuilder("CASE");
+        for (int i = 0; i < bands.size(); i++) {
+            Band band = bands.get(i);
+            List<String> conditions = new ArrayList<>();
+            conditions.add(column + " IS NOT NULL");
+            if (band.min() != null) {
+                conditions.add(column + " >= " + band.min());
+            }
+            if (band.max() != null) {
+                conditions.add(column + " < " + band.max());
+            }
+            sql.append(" WHEN ").append(String.join(" AND ", conditions)).append(" THEN ").append(i);
+        }
+        return sql.append(" END").toString();
+    }
+
+    private static List<BandCount> bandCounts(List<Band> bands, long[] counts) {
+        List<BandCount> result = new ArrayList<>(bands.size());
+        for (int i = 0; i < bands.size(); i++) {
+            result.add(new BandCount(bands.get(i).min(), bands.get(i).max(), counts[i]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+-- Colonnes de géométrie PostGIS natives pour les zones et parcelles.
+--
+-- Exécuté à chaque démarrage après la mise à jour du schéma par Hibernate :
+-- chaque étape est idempotente et ne s'applique qu'aux données non migrées.
+--
+-- 1. Les anciennes colonnes texte (WKT ou WKB hexadécimal) sont converties.
+-- 2. Les géométries sans SRID reçoivent le SRID par défaut du pays.
+-- 3. Les index spatiaux GiST sont créés.
+--
+-- Le fichier est exécuté en une seule instruction dont les retours à la ligne
+-- sont remplacés par des espaces : ne pas découper les chaînes sur plusieurs lignes.
+
+DO $$
+DECLARE
+    t text;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['zone', 'parcel'] LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = t AND column_name = 'geometry' AND data_type = 'text') THEN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN geometry TYPE geometry USING NULLIF(btrim(geometry), '''')::geometry', t);
+        END IF;
+
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = t AND column_name = 'geometry_wgs84' AND data_type = 'text') THEN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN geometry_wgs84 TYPE geometry(Polygon, 4326) USING ST_SetSRID(NULLIF(btrim(geometry_wgs84), '''')::geometry, 4326)', t);
+        END IF;
+    END LOOP;
+END $$;
+
+UPDATE zone z
+SET geometry = ST_SetSRID(z.geometry, c.default_srid)
+FROM region r
+JOIN country c ON c.id = r.country_id
+WHERE z.region_id = r.id
+  AND z.geometry IS NOT NULL
+  AND ST_SRID(z.geometry) = 0
+  AND c.default_srid IS NOT NULL;
+
+UPDATE parcel p
+SET geometry = ST_SetSRID(p.geometry, c.default_srid)
+FROM zone z
+JOIN region r ON r.id = z.region_id
+JOIN country c ON c.id = r.country_id
+WHERE p.zone_id = z.id
+  AND p.geometry IS NOT NULL
+  AND ST_SRID(p.geometry) = 0
+  AND c.default_srid IS NOT NULL;
+
+UPDATE zone SET srid = ST_SRID(geometry)
+WHERE geometry IS NOT NULL AND ST_SRID(geometry) <> 0 AND srid IS DISTINCT FROM ST_SRID(geometry);
+
+UPDATE parcel SET srid = ST_SRID(geometry)
+WHERE geometry IS NOT NULL AND ST_SRID(geometry) <> 0 AND srid IS DISTINCT FROM ST_SRID(geometry);
+
+-- Restreindre au type Polygon une fois les données converties (SRID libre : un système par pays)
+DO $$
+DECLARE
+    t text;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['zone', 'parcel'] LOOP
+        IF EXISTS (SELECT 1 FROM geometry_columns
+                   WHERE f_table_name = t AND f_geometry_column = 'geometry' AND type = 'GEOMETRY') THEN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN geometry TYPE geometry(Polygon) USING geometry', t);
+        END IF;
+    END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_zone_geometry ON zone USING GIST (geometry);
+CREATE INDEX IF NOT EXISTS idx_zone_geometry_wgs84 ON zone USING GIST (geometry_wgs84);
+CREATE INDEX IF NOT EXISTS idx_zone_geography_wgs84 ON zone USING GIST ((geometry_wgs84::geography));
+
+CREATE INDEX IF NOT EXISTS idx_parcel_geometry ON parcel USING GIST (geometry);
+CREATE INDEX IF NOT EXISTS idx_parcel_geometry_wgs84 ON parcel USING GIST (geometry_wgs84);
+CREATE INDEX IF NOT EXISTS idx_parcel_geography_wgs84 ON parcel USING GIST ((geometry_wgs84::geography));
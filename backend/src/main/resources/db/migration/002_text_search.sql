@@ -0,0 +1,41 @@
+-- Recherche en texte intégral et approchée des zones et parcelles.
+--
+-- Exécuté à chaque démarrage après la mise à jour du schéma par Hibernate ;
+-- chaque étape est idempotente.
+--
+-- 1. search_normalize : minuscules, accents latins retirés (unaccent), voyelles
+--    et tatweel arabes retirés, variantes d'alif, alif maqsura et ta marbuta unifiées.
+--    Déclarée IMMUTABLE pour servir dans les colonnes générées et les index.
+-- 2. Colonnes search_vector (configuration 'simple', sans racinisation, commune
+--    au français et à l'arabe) : nom (poids A), adresse (B), description (C) ; référence.
+-- 3. Index GIN sur les vecteurs et index trigrammes (pg_trgm) sur les textes normalisés.
+--
+-- Le fichier est exécuté en une seule instruction dont les retours à la ligne
+-- sont remplacés par des espaces : ne pas découper les chaînes sur plusieurs lignes.
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE OR REPLACE FUNCTION search_normalize(value text) RETURNS text
+    LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE
+AS $fn$
+    SELECT lower(translate(regexp_replace(public.unaccent('public.unaccent'::regdictionary, value), '[\u064B-\u065F\u0670\u0640]', '', 'g'), U&'\0623\0625\0622\0671\0649\0629', U&'\0627\0627\0627\0627\064A\0647'))
+$fn$;
+
+ALTER TABLE zone ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(search_normalize(name), '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(search_normalize(address), '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(search_normalize(description), '')), 'C')
+) STORED;
+
+ALTER TABLE parcel ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    to_tsvector('simple', coalesce(search_normalize(reference), ''))
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_zone_search_vector ON zone USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_zone_name_trgm ON zone USING GIN (search_normalize(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_zone_address_trgm ON zone USING GIN (search_normalize(address) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_zone_description_trgm ON zone USING GIN (search_normalize(description) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_parcel_search_vector ON parcel USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_parcel_reference_trgm ON parcel USING GIN (search_normalize(reference) gin_trgm_ops);
@@ -0,0 +1,60 @@
+package com.industria.platform.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.industria.platform.entity.Country;
+import com.industria.platform.entity.Region;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceCacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<Object, Object> configurationOf(String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+
+    @Test
+    void regionsShouldUseTheirOwnSettingsOrTheDefaults() {
+        ReferenceCacheProperties properties = new ReferenceCacheProperties();
+        properties.setMaxSize(500);
+        properties.setTtl(Duration.ofMinutes(30));
+        ReferenceCacheProperties.RegionSettings regionSettings = new ReferenceCacheProperties.RegionSettings();
+        regionSettings.setMaxSize(50L);
+        properties.setRegions(Map.of(Region.CACHE_REGION, regionSettings));
+
+        cacheManager = new ReferenceCacheConfig().referenceCacheManager(properties);
+
+        for (String region : ReferenceCacheConfig.REGIONS) {
+            assertNotNull(cacheManager.getCache(region), region);
+        }
+        assertEquals(OptionalLong.of(50), configurationOf(Region.CACHE_REGION).getMaximumSize());
+        assertEquals(OptionalLong.of(Duration.ofMinutes(30).toNanos()), configurationOf(Region.CACHE_REGION).getExpireAfterWrite());
+        assertEquals(OptionalLong.of(500), configurationOf(Country.CACHE_REGION).getMaximumSize());
+        assertTrue(configurationOf(Country.CACHE_REGION).isStatisticsEnabled());
+    }
+
+    @Test
+    void updateTimestampsShouldNeverExpire() {
+        cacheManager = new ReferenceCacheConfig().referenceCacheManager(new ReferenceCacheProperties());
+
+        CaffeineConfiguration<Object, Object> timestamps = configurationOf(ReferenceCacheConfig.UPDATE_TIMESTAMPS_REGION);
+        assertTrue(timestamps.getMaximumSize().isEmpty());
+        assertTrue(timestamps.getExpireAfterWrite().isEmpty());
+    }
+}
@@ -0,0 +1,27 @@
+package com.industria.platform.controller;
+
+import com.industria.platform.service.AuditService;
+import com.industria.platform.service.GeometryBackfillService;
+import com.industria.platform.service.PermissionService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdminControllerTest {
+
+    @Test
+    void geometryBackfillShouldReturnTheMigratedCounts() {
+        GeometryBackfillService backfillService = mock(GeometryBackfillService.class);
+        when(backfillService.backfill()).thenReturn(Map.of("zones", 3, "parcels", 12));
+        AdminController controller = new AdminController(mock(PermissionService.class), mock(AuditService.class), backfillService);
+
+        var response = controller.backfillGeometries();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(Map.of("zones", 3, "parcels", 12), response.getBody());
+        verify(backfillService, times(1)).backfill();
+    }
+}
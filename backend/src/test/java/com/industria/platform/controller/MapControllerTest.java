@@ -0,0 +1,186 @@
+package com.industria.platform.controller;
+
+import com.industria.platform.entity.Zone;
+import com.industria.platform.entity.ZoneStatus;
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.projection.SyncRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneParcelSummaryRepository;
+import com.industria.platform.repository.ZoneRepository;
+import com.industria.platform.service.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class MapControllerTest {
+
+    private ZoneRepository zoneRepository;
+    private ParcelRepository parcelRepository;
+    private ResourceVersionService resourceVersionService;
+    private MapController controller;
+
+    @BeforeEach
+    void setUp() {
+        zoneRepository = Mockito.mock(ZoneRepository.class);
+        parcelRepository = Mockito.mock(ParcelRepository.class);
+        controller = new MapController(zoneRepository, parcelRepository,
+                mock(VectorTileService.class), mock(GeometryLodStore.class), mock(SpatialIndexService.class),
+                mock(ParcelClusterService.class), mock(GeoJsonStreamService.class), mock(SingleFlight.class),
+                mock(MapEventBroadcaster.class), new ParcelCountService(parcelRepository, mock(ZoneParcelSummaryRepository.class), mock(TransactionTemplate.class)),
+                resourceVersionService = new ResourceVersionService(zoneRepository, parcelRepository));
+        when(zoneRepository.findMapDataLastModified()).thenReturn(LocalDateTime.of(2025, 3, 1, 10, 0));
+        ReflectionTestUtils.setField(controller, "maxFeatures", 2000);
+    }
+
+    private void givenZones(int count) {
+        List<Zone> zones = IntStream.range(0, count)
+                .mapToObj(i -> Zone.builder().id("z" + i).name("Zone " + i).status(ZoneStatus.LIBRE)
+                        .latitude(33.5).longitude(-7.6).build())
+                .toList();
+        when(zoneRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(zones));
+    }
+
+    @Test
+    void zonesShouldCountParcelsWithOneQueryWhateverTheZoneCount() {
+        for (int zones : new int[]{1, 10, 200}) {
+            clearInvocations(parcelRepository);
+            givenZones(zones);
+
+            assertEquals(zones, controller.zones(null, request()).features().size());
+
+            // Une seule requête agrégée sur les parcelles, plus aucun comptage par zone
+            assertEquals(1, mockingDetails(parcelRepository).getInvocations().size());
+            verify(parcelRepository).countByZoneIdsGroupByStatus(any());
+        }
+    }
+
+    @Test
+    void zonesShouldAnswerNotModifiedWithoutReadingZonesWhenTheClientCopyIsCurrent() {
+        givenZones(3);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        controller.zones(null, new ServletWebRequest(new MockHttpServletRequest("GET", "/api/map/zones"), first));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals("no-cache", first.getHeader(HttpHeaders.CACHE_CONTROL));
+        clearInvocations(zoneRepository);
+        clearInvocations(parcelRepository);
+
+        MockHttpServletRequest revalidation = new MockHttpServletRequest("GET", "/api/map/zones");
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        assertNull(controller.zones(null, new ServletWebRequest(revalidation, second)));
+        assertEquals(304, second.getStatus());
+        verify(zoneRepository, never()).findAll(any(Pageable.class));
+        verifyNoInteractions(parcelRepository);
+
+        // Une modification change l'ETag : la réponse est recalculée
+        when(zoneRepository.findMapDataLastModified()).thenReturn(LocalDateTime.of(2025, 3, 1, 10, 5));
+        MockHttpServletRequest stale = new MockHttpServletRequest("GET", "/api/map/zones");
+        stale.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse third = new MockHttpServletResponse();
+        assertEquals(3, controller.zones(null, new ServletWebRequest(stale, third)).features().size());
+        assertEquals(200, third.getStatus());
+    }
+
+    @Test
+    void undatedDeletionsShouldChangeTheMapETag() {
+        givenZones(3);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        controller.zones(null, new ServletWebRequest(new MockHttpServletRequest("GET", "/api/map/zones"), first));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        // Lien zone-activité supprimé physiquement : aucune date n'avance
+        resourceVersionService.onMapDataChanged(new MapDataChangedEvent("ZoneActivity", "z1"));
+
+        MockHttpServletRequest revalidation = new MockHttpServletRequest("GET", "/api/map/zones");
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertNotNull(controller.zones(null, new ServletWebRequest(revalidation, second)));
+        assertEquals(200, second.getStatus());
+        assertNotEquals(etag, second.getHeader(HttpHeaders.ETAG));
+    }
+
+    private MockHttpServletResponse zonesWithAccept(String accept, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/map/zones");
+        request.addHeader(HttpHeaders.ACCEPT, accept);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.zones(null, new ServletWebRequest(request, response));
+        return response;
+    }
+
+    @Test
+    void jsonAndBinaryCopiesOfOneUrlShouldHaveDistinctETags() {
+        givenZones(3);
+        MockHttpServletResponse json = zonesWithAccept("application/json", null);
+        MockHttpServletResponse binary = zonesWithAccept("application/vnd.industria.map", null);
+
+        assertNotEquals(json.getHeader(HttpHeaders.ETAG), binary.getHeader(HttpHeaders.ETAG));
+        assertEquals(List.of(HttpHeaders.ACCEPT), json.getHeaders(HttpHeaders.VARY));
+        assertEquals(List.of(HttpHeaders.ACCEPT), binary.getHeaders(HttpHeaders.VARY));
+        // La copie binaire ne valide pas une demande JSON, et inversement
+        assertEquals(200, zonesWithAccept("*/*", binary.getHeader(HttpHeaders.ETAG)).getStatus());
+        assertEquals(304, zonesWithAccept("*/*", json.getHeader(HttpHeaders.ETAG)).getStatus());
+        assertEquals(304, zonesWithAccept("application/vnd.industria.map, application/json;q=0.5",
+                binary.getHeader(HttpHeaders.ETAG)).getStatus());
+        assertEquals(200, zonesWithAccept("application/vnd.industria.map;q=0.5, application/json",
+                binary.getHeader(HttpHeaders.ETAG)).getStatus());
+    }
+
+    private static SyncRow syncRow(String id, LocalDateTime updatedAt, boolean deleted) {
+        SyncRow row = mock(SyncRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getUpdatedAt()).thenReturn(updatedAt);
+        when(row.getDeleted()).thenReturn(deleted);
+        return row;
+    }
+
+    @Test
+    void syncShouldPageUpdatesAndDeletionsPastRowsSharingOneTimestamp() {
+        ReflectionTestUtils.setField(controller, "maxFeatures", 2);
+        LocalDateTime bulk = LocalDateTime.of(2025, 3, 1, 10, 0);
+        List<SyncRow> rows = List.of(syncRow("z1", bulk, false), syncRow("z2", bulk, true), syncRow("z3", bulk, false));
+        when(zoneRepository.findSyncRowsAfter(any(), any(), anyInt())).thenReturn(rows);
+
+        var first = controller.simplifiedZones(6, null, "2025-03-01T09:00", request());
+
+        verify(zoneRepository).findSyncRowsAfter(LocalDateTime.of(2025, 3, 1, 9, 0), "", 3);
+        verify(zoneRepository).findAllById(List.of("z1"));
+        assertTrue(first.truncated());
+        assertEquals(List.of("z2"), first.deleted());
+        // Le curseur désigne la dernière zone transmise, pas seulement sa date
+        assertEquals("2025-03-01T10:00,z2", first.cursor());
+
+        List<SyncRow> rest = List.of(syncRow("z3", bulk, false));
+        when(zoneRepository.findSyncRowsAfter(any(), any(), anyInt())).thenReturn(rest);
+        var second = controller.simplifiedZones(6, null, first.cursor(), request());
+
+        verify(zoneRepository).findSyncRowsAfter(bulk, "z2", 3);
+        assertFalse(second.truncated());
+        assertTrue(second.deleted().isEmpty());
+    }
+
+    private static ServletWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/map/zones"), new MockHttpServletResponse());
+    }
+}
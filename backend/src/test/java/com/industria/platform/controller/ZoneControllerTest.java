@@ -0,0 +1,211 @@
+package com.industria.platform.controller;
+
+import com.industria.platform.dto.ZoneDto;
+import com.industria.platform.dto.ZoneFacetsDto;
+import com.industria.platform.entity.User;
+import com.industria.platform.entity.ZoneStatus;
+import com.industria.platform.projection.ResourceVersionRow;
+import com.industria.platform.projection.ZoneListRow;
+import com.industria.platform.repository.*;
+import com.industria.platform.service.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ZoneControllerTest {
+
+    private ZoneRepository zoneRepository;
+    private ZoneActivityRepository zoneActivityRepository;
+    private ZoneAmenityRepository zoneAmenityRepository;
+    private ZoneImageRepository zoneImageRepository;
+    private PostGISGeometryService postGISGeometryService;
+    private ParcelCountService parcelCountService;
+    private ZoneFacetService zoneFacetService;
+    private PermissionService permissionService;
+    private UserService userService;
+    private ZoneController controller;
+
+    @BeforeEach
+    void setUp() {
+        zoneRepository = Mockito.mock(ZoneRepository.class);
+        zoneActivityRepository = Mockito.mock(ZoneActivityRepository.class);
+        zoneAmenityRepository = Mockito.mock(ZoneAmenityRepository.class);
+        zoneImageRepository = Mockito.mock(ZoneImageRepository.class);
+        postGISGeometryService = Mockito.mock(PostGISGeometryService.class);
+        parcelCountService = Mockito.mock(ParcelCountService.class);
+        zoneFacetService = Mockito.mock(ZoneFacetService.class);
+        permissionService = Mockito.mock(PermissionService.class);
+        userService = Mockito.mock(UserService.class);
+        controller = new ZoneController(mock(StatusService.class), zoneRepository,
+                mock(ActivityRepository.class), mock(AmenityRepository.class),
+                zoneActivityRepository, zoneAmenityRepository,
+                mock(ZoneTypeRepository.class), mock(RegionRepository.class),
+                mock(GeometryUpdateService.class), permissionService, userService,
+                postGISGeometryService, mock(AuditService.class), mock(ApplicationEventPublisher.class),
+                parcelCountService, zoneImageRepository, new ResourceVersionService(zoneRepository, mock(ParcelRepository.class)),
+                new TextSearchService(zoneRepository, mock(ParcelRepository.class)), zoneFacetService);
+        when(parcelCountService.countsByZone(anyCollection())).thenReturn(Map.of());
+        when(postGISGeometryService.extractZoneVerticesByIds(anyCollection())).thenReturn(Map.of());
+    }
+
+    private void givenZones(int count) {
+        List<ZoneListRow> rows = IntStream.range(0, count)
+                .mapToObj(i -> new ZoneListRow("z" + i, "Zone " + i, null, null, null, null, null, null,
+                        ZoneStatus.LIBRE, null, null, null, null, null, null, null))
+                .toList();
+        when(zoneRepository.findListRows(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(rows, PageRequest.of(0, 10), count));
+    }
+
+    @Test
+    void zonePageShouldBeAssembledWithBoundedQueries() {
+        for (int zones : new int[]{1, 10}) {
+            clearInvocations(zoneRepository, zoneActivityRepository, zoneAmenityRepository, zoneImageRepository,
+                    postGISGeometryService, parcelCountService);
+            givenZones(zones);
+
+            var page = controller.all(1, 10, null, null, null, null, null, null, null, null, false);
+            assertEquals(zones, page.items().size());
+
+            // Une lecture des lignes de liste, puis une requête par donnée associée, quelle que soit la taille de la page
+            verify(zoneRepository, times(1)).findListRows(any(), any(), any(), any(), any(), any(), any(), any(), any());
+            verify(zoneRepository, never()).findById(any());
+            verify(parcelCountService, times(1)).countsByZone(anyCollection());
+            verify(parcelCountService, never()).countsFor(any());
+            verify(zoneActivityRepository, times(1)).findLinksByZoneIdIn(anyCollection());
+            verify(zoneAmenityRepository, times(1)).findLinksByZoneIdIn(anyCollection());
+            verify(zoneImageRepository, times(1)).findByZoneIdInOrderByIsPrimaryDescDisplayOrderAsc(anyList());
+            verifyNoInteractions(postGISGeometryService);
+        }
+    }
+
+    @Test
+    void geometryShouldBeReadOnlyWhenRequested() {
+        givenZones(3);
+
+        controller.all(1, 10, null, null, null, null, null, null, null, null, true);
+
+        verify(postGISGeometryService, times(1)).extractZoneVerticesByIds(anyCollection());
+        verify(postGISGeometryService, never()).extractZoneVertices(any(com.industria.platform.entity.Zone.class));
+    }
+
+    @Test
+    void filtersShouldBePassedToTheQuery() {
+        givenZones(0);
+
+        controller.all(2, 5, null, "", "type-1", "LIBRE", 100.0, null, null, 500.0, false);
+
+        verify(zoneRepository).findListRows(isNull(), isNull(), eq("type-1"), eq(ZoneStatus.LIBRE),
+                eq(100.0), isNull(), isNull(), eq(500.0), eq(PageRequest.of(1, 5)));
+    }
+
+    @Test
+    void searchShouldBeRankedAndPaginatedByTheDatabase() {
+        when(zoneRepository.searchIds(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of("z2", "z1"), PageRequest.of(1, 5), 7));
+        when(zoneRepository.findListRowsByIdIn(anyCollection())).thenReturn(List.of(
+                new ZoneListRow("z1", "Zone 1", null, null, null, null, null, null, ZoneStatus.LIBRE, null, null, null, null, null, null, null),
+                new ZoneListRow("z2", "Zone 2", null, null, null, null, null, null, ZoneStatus.LIBRE, null, null, null, null, null, null, null)));
+
+        var page = controller.all(2, 5, " Parc Indus ", "", "type-1", "LIBRE", 100.0, null, null, 500.0, false);
+
+        verify(zoneRepository).searchIds(eq("Parc Indus"), eq("Parc:* & Indus:*"), isNull(), isNull(), eq("type-1"),
+                eq("LIBRE"), eq(100.0), isNull(), isNull(), eq(500.0), eq(PageRequest.of(1, 5)));
+        verify(zoneRepository, never()).findListRows(any(), any(), any(), any(), any(), any(), any(), any(), any());
+        // Ordre de pertinence conservé, total calculé par la base
+        assertEquals(List.of("z2", "z1"), page.items().stream().map(ZoneDto::id).toList());
+        assertEquals(7, page.totalItems());
+    }
+
+    @Test
+    void facetedSearchShouldReturnThePageAndTheFacetsOfTheSameFilter() {
+        givenZones(2);
+        ZoneFacetsDto facets = new ZoneFacetsDto(Map.of("r1", 2L), Map.of("type-1", 2L), Map.of("LIBRE", 2L),
+                List.of(), List.of());
+        when(zoneFacetService.facets(any(), any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(facets);
+
+        var response = controller.search(1, 10, null, "r1", "", "LIBRE", null, null, 500.0, null, false);
+
+        assertEquals(2, response.items().size());
+        assertEquals(2, response.totalItems());
+        assertSame(facets, response.facets());
+        verify(zoneFacetService).facets(isNull(), isNull(), eq("r1"), isNull(), eq(ZoneStatus.LIBRE),
+                isNull(), isNull(), eq(500.0), isNull());
+    }
+
+    @Test
+    void zoneManagerScopeShouldApplyToResultsAndFacetsAlike() {
+        givenZones(1);
+        when(permissionService.hasRole("ZONE_MANAGER")).thenReturn(true);
+        when(userService.findCurrentUser()).thenReturn(Optional.of(User.builder().id("u1").build()));
+
+        controller.search(1, 10, null, null, null, null, null, null, null, null, false);
+
+        verify(zoneRepository).findListRows(eq("u1"), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any());
+        verify(zoneFacetService).facets(isNull(), eq("u1"), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull());
+
+        // Gestionnaire non résolu : rien n'est visible, ni zones ni compteurs
+        when(userService.findCurrentUser()).thenReturn(Optional.empty());
+        clearInvocations(zoneRepository, zoneFacetService);
+        assertTrue(controller.search(1, 10, null, null, null, null, null, null, null, null, false).items().isEmpty());
+        assertTrue(controller.all(1, 10, null, null, null, null, null, null, null, null, false).items().isEmpty());
+        verifyNoInteractions(zoneRepository, zoneFacetService);
+    }
+
+    @Test
+    void facetedSearchWithUnknownStatusShouldBeEmpty() {
+        var response = controller.search(1, 10, null, null, null, "INCONNU", null, null, null, null, false);
+
+        assertTrue(response.items().isEmpty());
+        assertTrue(response.facets().regions().isEmpty());
+        verifyNoInteractions(zoneRepository, zoneFacetService);
+    }
+
+    @Test
+    void unknownStatusShouldReturnAnEmptyPage() {
+        var page = controller.all(1, 10, null, null, null, "INCONNU", null, null, null, null, false);
+
+        assertTrue(page.items().isEmpty());
+        verifyNoInteractions(zoneRepository);
+    }
+
+    @Test
+    void detailShouldNotBeLoadedWhenTheClientCopyIsCurrent() {
+        ResourceVersionRow version = mock(ResourceVersionRow.class);
+        when(version.getLastModified()).thenReturn(LocalDateTime.of(2025, 3, 1, 10, 0));
+        when(version.getCount()).thenReturn(4L);
+        when(zoneRepository.findDetailVersionById("z1")).thenReturn(Optional.of(version));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        // Zone absente du mock : seul l'en-tête de validation importe ici
+        assertThrows(NoSuchElementException.class, () ->
+                controller.get("z1", new ServletWebRequest(new MockHttpServletRequest("GET", "/api/zones/z1"), first)));
+        clearInvocations(zoneRepository);
+
+        MockHttpServletRequest revalidation = new MockHttpServletRequest("GET", "/api/zones/z1");
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        assertNull(controller.get("z1", new ServletWebRequest(revalidation, second)));
+        assertEquals(304, second.getStatus());
+        verify(zoneRepository, never()).findDetailById(any());
+        verifyNoInteractions(parcelCountService, postGISGeometryService);
+    }
+}
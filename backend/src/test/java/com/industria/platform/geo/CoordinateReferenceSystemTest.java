@@ -0,0 +1,143 @@
+package com.industria.platform.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie les projections sur les exemples chiffrés de l'EPSG (Guidance Note 7-2).
+ * Sans {@code +towgs84}, aucun changement de datum n'est appliqué : les
+ * coordonnées géographiques restent celles de l'ellipsoïde source.
+ */
+class CoordinateReferenceSystemTest {
+
+    private static double dms(double degrees, double minutes, double seconds) {
+        return Math.signum(degrees) * (Math.abs(degrees) + minutes / 60.0 + seconds / 3600.0);
+    }
+
+    private static void assertRoundTrip(CoordinateReferenceSystem crs, double x, double y) {
+        assertRoundTrip(crs, x, y, 1e-4);
+    }
+
+    private static void assertRoundTrip(CoordinateReferenceSystem crs, double x, double y, double tolerance) {
+        double[] geo = new double[2];
+        double[] back = new double[2];
+        crs.toWgs84(x, y, geo);
+        crs.fromWgs84(geo[0], geo[1], back);
+        assertEquals(x, back[0], tolerance);
+        assertEquals(y, back[1], tolerance);
+    }
+
+    @Test
+    void lambertConformalConic2SPShouldMatchEpsgExample() {
+        // NAD27 / Texas South Central, en pieds US
+        CoordinateReferenceSystem crs = CoordinateReferenceSystem.fromProj4(32040,
+                "+proj=lcc +lat_1=28.38333333333333 +lat_2=30.28333333333333 +lat_0=27.83333333333333 "
+                        + "+lon_0=-99 +x_0=609601.2192024384 +y_0=0 +ellps=clrk66 +units=us-ft +no_defs");
+        double[] out = new double[2];
+
+        crs.fromWgs84(-96.0, 28.5, out);
+
+        assertEquals(2963503.91, out[0], 0.01);
+        assertEquals(254759.80, out[1], 0.01);
+        assertRoundTrip(crs, out[0], out[1]);
+    }
+
+    @Test
+    void lambertConformalConic1SPShouldMatchEpsgExample() {
+        // JAD69 / Jamaica National Grid
+        CoordinateReferenceSystem crs = CoordinateReferenceSystem.fromProj4(24200,
+                "+proj=lcc +lat_1=18 +lat_0=18 +lon_0=-77 +k_0=1 +x_0=250000 +y_0=150000 "
+                        + "+ellps=clrk66 +units=m +no_defs");
+        double[] out = new double[2];
+
+        crs.fromWgs84(dms(-76, 56, 37.26), dms(17, 55, 55.80), out);
+
+        assertEquals(255966.58, out[0], 0.01);
+        assertEquals(142493.51, out[1], 0.01);
+        assertRoundTrip(crs, out[0], out[1]);
+    }
+
+    @Test
+    void transverseMercatorShouldMatchEpsgExample() {
+        // OSGB 1936 / British National Grid
+        CoordinateReferenceSystem crs = CoordinateReferenceSystem.fromProj4(27700,
+                "+proj=tmerc +lat_0=49 +lon_0=-2 +k=0.9996012717 +x_0=400000 +y_0=-100000 "
+                        + "+ellps=airy +units=m +no_defs");
+        double[] out = new double[2];
+
+        crs.fromWgs84(0.5, 50.5, out);
+
+        assertEquals(577274.99, out[0], 0.01);
+        assertEquals(69740.50, out[1], 0.01);
+        assertRoundTrip(crs, out[0], out[1]);
+    }
+
+    @Test
+    void mercatorShouldMatchEpsgExample() {
+        // Batavia / NEIEZ
+        CoordinateReferenceSystem crs = CoordinateReferenceSystem.fromProj4(3001,
+                "+proj=merc +lon_0=110 +k=0.997 +x_0=3900000 +y_0=900000 +ellps=bessel +units=m +no_defs");
+        double[] out = new double[2];
+
+        crs.fromWgs84(120.0, -3.0, out);
+
+        assertEquals(5009726.58, out[0], 0.01);
+        assertEquals(569150.82, out[1], 0.01);
+        assertRoundTrip(crs, out[0], out[1]);
+    }
+
+    @Test
+    void moroccanLambertShouldLandInMoroccoAndRoundTrip() {
+        CoordinateReferenceSystem crs = CoordinateReferenceSystem.fromProj4(26191,
+                "+proj=lcc +lat_1=33.3 +lat_0=33.3 +lon_0=-5.4 +k_0=0.999625769 +x_0=500000 +y_0=300000 "
+                        + "+a=6378249.2 +b=6356515 +towgs84=31,146,47,0,0,0,0 +units=m +no_defs");
+        double[] out = new double[2];
+
+        crs.toWgs84(423000, 373666, out);
+
+        assertEquals(-6.22, out[0], 0.05);
+        assertEquals(33.96, out[1], 0.05);
+        // La hauteur ellipsoïdale est ignorée lors du décalage de datum, comme ST_Transform en 2D
+        assertRoundTrip(crs, 423000, 373666, 0.01);
+    }
+
+    @Test
+    void lambert93ShouldMapOriginToCentralMeridian() {
+        CoordinateReferenceSystem crs = CoordinateReferenceSystem.fromProj4(2154,
+                "+proj=lcc +lat_1=49 +lat_2=44 +lat_0=46.5 +lon_0=3 +x_0=700000 +y_0=6600000 "
+                        + "+ellps=GRS80 +towgs84=0,0,0,0,0,0,0 +units=m +no_defs");
+        double[] out = new double[2];
+
+        crs.toWgs84(700000, 6600000, out);
+
+        assertEquals(3.0, out[0], 1e-9);
+        assertEquals(46.5, out[1], 1e-9);
+    }
+
+    @Test
+    void bulkConversionShouldMatchPointConversion() {
+        CoordinateReferenceSystem crs = CoordinateReferenceSystem.fromProj4(32631,
+                "+proj=utm +zone=31 +datum=WGS84 +units=m +no_defs");
+        double[] coordinates = {500000, 0, 448251.8, 5411932.6};
+        double[] expected = new double[2];
+        crs.toWgs84(448251.8, 5411932.6, expected);
+
+        crs.toWgs84(coordinates, 0, 2);
+
+        assertEquals(3.0, coordinates[0], 1e-9);
+        assertEquals(0.0, coordinates[1], 1e-9);
+        assertEquals(expected[0], coordinates[2], 1e-12);
+        assertEquals(expected[1], coordinates[3], 1e-12);
+    }
+
+    @Test
+    void unsupportedDefinitionsShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CoordinateReferenceSystem.fromProj4(1, "+proj=stere +lat_0=90 +ellps=WGS84"));
+        assertThrows(IllegalArgumentException.class,
+                () -> CoordinateReferenceSystem.fromProj4(2, "+proj=lcc +lat_1=45 +nadgrids=ntf_r93.gsb"));
+        assertThrows(IllegalArgumentException.class,
+                () -> CoordinateReferenceSystem.fromProj4(3, "+proj=lcc +lat_1=33 +datum=clarke80"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.industria.platform.geo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.industria.platform.controller.MapController.MapResponse;
+import com.industria.platform.dto.ParcelDto;
+import com.industria.platform.dto.VertexDto;
+import com.industria.platform.dto.ZoneDto;
+import com.industria.platform.dto.ZoneSimplifiedFeatureDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapBinaryWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** Contour de n sommets autour de Casablanca, Lambert et WGS84 */
+    private static List<VertexDto> vertices(int n, double offset) {
+        List<VertexDto> vertices = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            double angle = 2 * Math.PI * i / n;
+            vertices.add(new VertexDto(i, 300_000.123 + offset + 250 * Math.cos(angle), 330_000.456 + 250 * Math.sin(angle),
+                    33.5 + 0.00225 * Math.sin(angle), -7.6 + offset / 100_000 + 0.0027 * Math.cos(angle)));
+        }
+        return vertices;
+    }
+
+    private static ZoneDto zone() {
+        List<ParcelDto> parcels = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            parcels.add(new ParcelDto("parcel-" + i, "P-" + i, 2500.5, i % 3 == 0 ? "LIBRE" : "RESERVEE", i == 0, "zone-1",
+                    vertices(24, i * 60), null, null, 0.6, 1.2, 15.0, 5.0,
+                    "Zone Nord", "Route de Rabat", 650.0, "PER_M2", "MAD", List.of(), null));
+        }
+        return new ZoneDto("zone-1", "Zone Nord", "Zone industrielle", "Route de Rabat", 120_000.0, 650.0, "PER_M2",
+                "CUSTOM_BUILD", "LIBRE", "region-1", "type-1", List.of("a1", "a2"), List.of("m1"),
+                vertices(200, 0), 33.5, -7.6, 20, 7, parcels, "country-1", "MA", "MAD", List.of(), null);
+    }
+
+    @Test
+    void zoneShouldRoundTripWithinQuantization() {
+        JsonNode json = objectMapper.valueToTree(zone());
+        JsonNode decoded = MapBinaryReader.read(MapBinaryWriter.write(json));
+
+        assertEquals(json.get("name"), decoded.get("name"));
+        assertEquals(json.get("activityIds"), decoded.get("activityIds"));
+        assertEquals(json.get("parcels").size(), decoded.get("parcels").size());
+        assertEquals(json.get("parcels").get(3).get("status"), decoded.get("parcels").get(3).get("status"));
+        assertTrue(decoded.get("parcels").get(0).get("longitude").isNull());
+
+        JsonNode vertex = json.get("vertices").get(57);
+        JsonNode decodedVertex = decoded.get("vertices").get(57);
+        assertEquals(57, decodedVertex.get("seq").intValue());
+        assertEquals(vertex.get("lambertX").doubleValue(), decodedVertex.get("lambertX").doubleValue(), 5e-4);
+        assertEquals(vertex.get("lambertY").doubleValue(), decodedVertex.get("lambertY").doubleValue(), 5e-4);
+        assertEquals(vertex.get("latitude").doubleValue(), decodedVertex.get("latitude").doubleValue(), 5e-8);
+        assertEquals(vertex.get("longitude").doubleValue(), decodedVertex.get("longitude").doubleValue(), 5e-8);
+    }
+
+    @Test
+    void payloadsShouldBeAtLeastFiveTimesSmallerThanJson() throws Exception {
+        byte[] zoneJson = objectMapper.writeValueAsBytes(zone());
+        byte[] zoneBinary = MapBinaryWriter.write(objectMapper.valueToTree(zone()));
+        assertTrue(zoneJson.length >= 5 * zoneBinary.length, zoneJson.length + " / " + zoneBinary.length);
+
+        List<ZoneSimplifiedFeatureDto> features = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            List<double[]> ring = vertices(60, i * 1000).stream()
+                    .map(v -> new double[]{v.latitude(), v.longitude()}).toList();
+            features.add(new ZoneSimplifiedFeatureDto(ring, "zone-" + i, "Zone " + i, "LIBRE", 3, 10,
+                    List.of("factory", "truck"), List.of("wifi"), null, "Casablanca", "12000 m²", "650 DH/m²", "Industrielle"));
+        }
+        MapResponse<ZoneSimplifiedFeatureDto> response = new MapResponse<>(features, false);
+        byte[] mapJson = objectMapper.writeValueAsBytes(response);
+        byte[] mapBinary = MapBinaryWriter.write(objectMapper.valueToTree(response));
+        assertTrue(mapJson.length >= 5 * mapBinary.length, mapJson.length + " / " + mapBinary.length);
+
+        JsonNode decoded = MapBinaryReader.read(mapBinary);
+        assertEquals(features.get(42).coordinates().get(10)[1],
+                decoded.get("features").get(42).get("coordinates").get(10).get(1).doubleValue(), 5e-8);
+        assertEquals("truck", decoded.get("features").get(99).get("activityIcons").get(1).asText());
+    }
+
+    @Test
+    void plainValuesAndInvalidInput() {
+        JsonNode json = objectMapper.createObjectNode()
+                .put("count", -42).put("ratio", 0.125).put("flag", true).putNull("none")
+                .set("mixed", objectMapper.createArrayNode().add(1).add("x").add(objectMapper.createArrayNode().add(1).add(2).add(3)));
+        byte[] binary = MapBinaryWriter.write(json);
+
+        assertEquals(json.toString(), MapBinaryReader.read(binary).toString());
+        assertThrows(IllegalArgumentException.class, () -> MapBinaryReader.read(new byte[]{'I', 'M', 'B', 2, 0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> MapBinaryReader.read(java.util.Arrays.copyOf(binary, binary.length - 1)));
+    }
+}
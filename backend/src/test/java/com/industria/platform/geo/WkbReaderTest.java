@@ -0,0 +1,82 @@
+package com.industria.platform.geo;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.WKBWriter;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compare le décodage compacté aux WKB produits par JTS.
+ */
+class WkbReaderTest {
+
+    private static final GeometryFactory FACTORY = new GeometryFactory();
+
+    private static Coordinate[] ring(double... xy) {
+        Coordinate[] coordinates = new Coordinate[xy.length / 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(xy[2 * i], xy[2 * i + 1], 10.0 * i);
+        }
+        return coordinates;
+    }
+
+    private static Polygon square() {
+        LinearRing shell = FACTORY.createLinearRing(ring(0, 0, 100, 0, 100, 100, 0, 100, 0, 0));
+        LinearRing hole = FACTORY.createLinearRing(ring(10, 10, 20, 10, 20, 20, 10, 10));
+        Polygon polygon = FACTORY.createPolygon(shell, new LinearRing[]{hole});
+        polygon.setSRID(26191);
+        return polygon;
+    }
+
+    @Test
+    void polygonShouldDecodeRingsInBothByteOrders() {
+        for (int order : new int[]{ByteOrderValues.BIG_ENDIAN, ByteOrderValues.LITTLE_ENDIAN}) {
+            PackedGeometry geometry = WkbReader.read(new WKBWriter(2, order).write(square()));
+
+            assertEquals(0, geometry.srid());
+            assertEquals(1, geometry.polygons().size());
+            assertEquals(2, geometry.polygons().get(0).length);
+            assertArrayEquals(new double[]{0, 0, 100, 0, 100, 100, 0, 100, 0, 0}, geometry.exteriorRing());
+            assertArrayEquals(new double[]{10, 10, 20, 10, 20, 20, 10, 10}, geometry.polygons().get(0)[1]);
+            assertEquals(4, PackedGeometry.vertexCount(geometry.exteriorRing()));
+        }
+    }
+
+    @Test
+    void ewkbShouldExposeSridAndSkipZ() {
+        byte[] ewkb = new WKBWriter(3, ByteOrderValues.LITTLE_ENDIAN, true).write(square());
+
+        PackedGeometry geometry = WkbReader.readHex(WKBWriter.toHex(ewkb));
+
+        assertEquals(26191, geometry.srid());
+        assertArrayEquals(new double[]{0, 0, 100, 0, 100, 100, 0, 100, 0, 0}, geometry.exteriorRing());
+    }
+
+    @Test
+    void multiPolygonShouldKeepEveryPolygon() {
+        Polygon other = FACTORY.createPolygon(ring(200, 200, 300, 200, 300, 300, 200, 200));
+        byte[] wkb = new WKBWriter().write(FACTORY.createMultiPolygon(new Polygon[]{square(), other}));
+
+        PackedGeometry geometry = WkbReader.read(wkb);
+
+        assertEquals(2, geometry.polygons().size());
+        assertArrayEquals(new double[]{200, 200, 300, 200, 300, 300, 200, 200}, geometry.polygons().get(1)[0]);
+    }
+
+    @Test
+    void invalidInputShouldBeRejected() {
+        byte[] wkb = new WKBWriter().write(square());
+
+        assertThrows(IllegalArgumentException.class, () -> WkbReader.read(Arrays.copyOf(wkb, wkb.length - 3)));
+        assertThrows(IllegalArgumentException.class, () -> WkbReader.read(new WKBWriter().write(FACTORY.createPoint(new Coordinate(1, 2)))));
+        assertThrows(IllegalArgumentException.class, () -> WkbReader.readHex("01zz"));
+        assertThrows(IllegalArgumentException.class, () -> WkbReader.read(new byte[0]));
+    }
+}
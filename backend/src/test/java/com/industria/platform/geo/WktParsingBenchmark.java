@@ -0,0 +1,88 @@
+package com.industria.platform.geo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare le lecteur WKT par parcours de caractères à l'ancien découpage par
+ * {@code split} de {@code GeometryParsingService.parseWKTGeometry}.
+ *
+ * Lancement (hors tests unitaires) :
+ * <pre>
+ * mvn test-compile
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.industria.platform.geo.WktParsingBenchmark
+ * </pre>
+ * Ajouter {@code -prof gc} via {@link org.openjdk.jmh.Main} pour mesurer les allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WktParsingBenchmark {
+
+    @Param({"5", "100", "2000"})
+    int vertices;
+
+    String wkt;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("POLYGON((");
+        for (int i = 0; i <= vertices; i++) {
+            double angle = 2 * Math.PI * (i % vertices) / vertices;
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(String.format(Locale.ROOT, "%.3f %.3f",
+                    423000 + 500 * Math.cos(angle), 373666 + 500 * Math.sin(angle)));
+        }
+        wkt = builder.append("))").toString();
+    }
+
+    @Benchmark
+    public double[] charScanning() {
+        return WktReader.read(wkt).exteriorRing();
+    }
+
+    @Benchmark
+    public List<double[]> legacySplit() {
+        String coords = wkt;
+        if (coords.startsWith("POLYGON((")) {
+            coords = coords.substring(9);
+        }
+        if (coords.endsWith("))")) {
+            coords = coords.substring(0, coords.length() - 2);
+        }
+        String[] pairs = coords.split(",");
+        List<double[]> points = new ArrayList<>(pairs.length);
+        for (String pair : pairs) {
+            String[] xy = pair.trim().split("\\s+");
+            points.add(new double[]{Double.parseDouble(xy[0]), Double.parseDouble(xy[1])});
+        }
+        return points;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WktParsingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
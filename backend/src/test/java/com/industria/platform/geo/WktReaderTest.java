@@ -0,0 +1,56 @@
+package com.industria.platform.geo;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WktReaderTest {
+
+    @Test
+    void polygonWithHoleShouldKeepEveryRing() {
+        PackedGeometry geometry = WktReader.read(
+                "POLYGON((0 0, 100 0, 100 100, 0 100, 0 0), (10 10, 20 10, 20 20, 10 10))");
+
+        assertEquals(0, geometry.srid());
+        assertEquals(1, geometry.polygons().size());
+        assertArrayEquals(new double[]{0, 0, 100, 0, 100, 100, 0, 100, 0, 0}, geometry.exteriorRing());
+        assertArrayEquals(new double[]{10, 10, 20, 10, 20, 20, 10, 10}, geometry.polygons().get(0)[1]);
+    }
+
+    @Test
+    void ewktMultiPolygonShouldExposeSridAndSkipExtraOrdinates() {
+        PackedGeometry geometry = WktReader.read(
+                "SRID=26191; multipolygon z (((1 2 3, 4 5 6, 7 8 9, 1 2 3)), EMPTY, ((-1.5 -2.5 0, 3e2 4 0, 5 6 0, -1.5 -2.5 0)))");
+
+        assertEquals(26191, geometry.srid());
+        assertEquals(2, geometry.polygons().size());
+        assertArrayEquals(new double[]{1, 2, 4, 5, 7, 8, 1, 2}, geometry.exteriorRing());
+        assertArrayEquals(new double[]{-1.5, -2.5, 300, 4, 5, 6, -1.5, -2.5}, geometry.polygons().get(1)[0]);
+    }
+
+    @Test
+    void numbersShouldMatchJtsParsing() throws ParseException {
+        String wkt = "POLYGON((423000.123 373666.987654321, -6.2234567890123456 33.9612345678901234, "
+                + "0.1 0.30000000000000004, 1e-7 12345678901234567890, 423000.123 373666.987654321))";
+
+        double[] ring = WktReader.read(wkt).exteriorRing();
+        Coordinate[] expected = new WKTReader().read(wkt).getCoordinates();
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getX(), ring[2 * i], 0.0);
+            assertEquals(expected[i].getY(), ring[2 * i + 1], 0.0);
+        }
+    }
+
+    @Test
+    void emptyAndInvalidInputs() {
+        assertTrue(WktReader.read("POLYGON EMPTY").polygons().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> WktReader.read("POINT(1 2)"));
+        assertThrows(IllegalArgumentException.class, () -> WktReader.read("POLYGON((0 0, 1 1, 0 0)"));
+        assertThrows(IllegalArgumentException.class, () -> WktReader.read("POLYGON((0 0, 1 x, 0 0))"));
+        assertThrows(IllegalArgumentException.class, () -> WktReader.read("POLYGON((0 0, 1 1, 0 0)) trailing"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.industria.platform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.industria.platform.geo.BoundingBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GeoJsonStreamServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private GeoJsonStreamService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        service = new GeoJsonStreamService(jdbcTemplate, new ObjectMapper(),
+                Mockito.mock(PlatformTransactionManager.class), 250);
+
+        ResultSetMetaData metadata = Mockito.mock(ResultSetMetaData.class);
+        when(metadata.getColumnCount()).thenReturn(4);
+        when(metadata.getColumnLabel(1)).thenReturn("id");
+        when(metadata.getColumnLabel(2)).thenReturn("geometry");
+        when(metadata.getColumnLabel(3)).thenReturn("reference");
+        when(metadata.getColumnLabel(4)).thenReturn("isShowroom");
+
+        ResultSet rs = Mockito.mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(metadata);
+        when(rs.getString("id")).thenReturn("p1", "p2");
+        when(rs.getString("geometry")).thenReturn("{\"type\":\"Polygon\",\"coordinates\":[[[-7.6,33.5],[-7.5,33.5],[-7.5,33.6],[-7.6,33.5]]]}");
+        when(rs.getObject(3)).thenReturn("P-001", "P-002");
+        when(rs.getObject(4)).thenReturn(true, false);
+
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void rowsShouldBeWrittenAsFeatureCollection() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeParcels(null, out);
+
+        JsonNode collection = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals("FeatureCollection", collection.get("type").asText());
+        assertEquals(2, collection.get("features").size());
+
+        JsonNode first = collection.get("features").get(0);
+        assertEquals("Feature", first.get("type").asText());
+        assertEquals("p1", first.get("id").asText());
+        assertEquals("Polygon", first.get("geometry").get("type").asText());
+        assertEquals(-7.6, first.get("geometry").get("coordinates").get(0).get(0).get(0).asDouble());
+        assertEquals("P-001", first.get("properties").get("reference").asText());
+        assertTrue(first.get("properties").get("isShowroom").asBoolean());
+        assertFalse(first.get("properties").has("geometry"));
+    }
+
+    @Test
+    void statementShouldUseFetchSizeAndBoundingBox() throws Exception {
+        service.writeParcels(new BoundingBox(-8, 33, -7, 34), new ByteArrayOutputStream());
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        creator.getValue().createPreparedStatement(connection);
+
+        verify(connection).prepareStatement(contains("FROM parcel WHERE geometry_wgs84 IS NOT NULL AND deleted_at IS NULL AND geometry_wgs84 && ST_MakeEnvelope"));
+        verify(statement).setFetchSize(250);
+        verify(statement).setDouble(1, -8);
+        verify(statement).setDouble(4, 34);
+    }
+
+    @Test
+    void softDeletedParcelsShouldNotBeStreamed() throws Exception {
+        service.writeParcels(null, new ByteArrayOutputStream());
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        creator.getValue().createPreparedStatement(connection);
+
+        // Lecture JDBC directe : le filtre @SQLRestriction de l'entité ne s'applique pas
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        assertTrue(sql.getValue().endsWith("WHERE geometry_wgs84 IS NOT NULL AND deleted_at IS NULL"));
+        verify(statement, never()).setDouble(anyInt(), anyDouble());
+    }
+}
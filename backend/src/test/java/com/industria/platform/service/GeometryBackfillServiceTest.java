@@ -0,0 +1,79 @@
+package com.industria.platform.service;
+
+import com.industria.platform.entity.Zone;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GeometryBackfillServiceTest {
+
+    private ZoneRepository zoneRepository;
+    private ParcelRepository parcelRepository;
+    private GeometryUpdateService geometryUpdateService;
+    private TransactionTemplate transactionTemplate;
+    private GeometryBackfillService service;
+
+    @BeforeEach
+    void setUp() {
+        zoneRepository = Mockito.mock(ZoneRepository.class);
+        parcelRepository = Mockito.mock(ParcelRepository.class);
+        geometryUpdateService = Mockito.mock(GeometryUpdateService.class);
+        transactionTemplate = Mockito.mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(parcelRepository.findWithoutWgs84Geometry(anyString(), any(Pageable.class))).thenReturn(List.of());
+        service = new GeometryBackfillService(zoneRepository, parcelRepository, geometryUpdateService, transactionTemplate);
+    }
+
+    private static Zone zone(String id) {
+        return Zone.builder().id(id).build();
+    }
+
+    @Test
+    void batchesShouldContinueAfterTheLastIdOfEachPage() {
+        Zone z1 = zone("z1");
+        Zone z2 = zone("z2");
+        Zone z3 = zone("z3");
+        when(zoneRepository.findWithoutWgs84Geometry(eq(""), any(Pageable.class))).thenReturn(List.of(z1, z2));
+        when(zoneRepository.findWithoutWgs84Geometry(eq("z2"), any(Pageable.class))).thenReturn(List.of(z3));
+        when(zoneRepository.findWithoutWgs84Geometry(eq("z3"), any(Pageable.class))).thenReturn(List.of());
+        when(geometryUpdateService.backfillZone(any())).thenReturn(true);
+        // z2 sans projection : ignorée, le lot suivant reprend quand même après elle
+        when(geometryUpdateService.backfillZone(z2)).thenReturn(false);
+
+        Map<String, Integer> migrated = service.backfill();
+
+        assertEquals(Map.of("zones", 2, "parcels", 0), migrated);
+        var order = inOrder(zoneRepository);
+        order.verify(zoneRepository).findWithoutWgs84Geometry(eq(""), any(Pageable.class));
+        order.verify(zoneRepository).saveAll(List.of(z1));
+        order.verify(zoneRepository).findWithoutWgs84Geometry(eq("z2"), any(Pageable.class));
+        order.verify(zoneRepository).saveAll(List.of(z3));
+        order.verify(zoneRepository).findWithoutWgs84Geometry(eq("z3"), any(Pageable.class));
+        // Un lot par transaction, plus la lecture finale vide, pour chaque type
+        verify(transactionTemplate, times(4)).execute(any());
+    }
+
+    @Test
+    void nothingToMigrateShouldSaveNothing() {
+        when(zoneRepository.findWithoutWgs84Geometry(anyString(), any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(Map.of("zones", 0, "parcels", 0), service.backfill());
+
+        verify(zoneRepository, never()).saveAll(any());
+        verify(parcelRepository, never()).saveAll(any());
+        verifyNoInteractions(geometryUpdateService);
+    }
+}
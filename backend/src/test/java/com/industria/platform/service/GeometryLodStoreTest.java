@@ -0,0 +1,80 @@
+package com.industria.platform.service;
+
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.projection.GeometryRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GeometryLodStoreTest {
+
+    private ZoneRepository zoneRepository;
+    private ParcelRepository parcelRepository;
+    private GeometryLodStore store;
+
+    /** Cercle de 360 sommets autour de Casablanca */
+    private static Geometry circle(double radiusDegrees) {
+        Coordinate[] ring = new Coordinate[361];
+        for (int i = 0; i < 360; i++) {
+            double angle = Math.toRadians(i);
+            ring[i] = new Coordinate(-7.6 + radiusDegrees * Math.cos(angle), 33.5 + radiusDegrees * Math.sin(angle));
+        }
+        ring[360] = ring[0];
+        return new GeometryFactory().createPolygon(ring);
+    }
+
+    private static GeometryRow row(String id, Geometry geometry) {
+        return new GeometryRow() {
+            public String getId() { return id; }
+            public Geometry getGeometry() { return geometry; }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        zoneRepository = Mockito.mock(ZoneRepository.class);
+        parcelRepository = Mockito.mock(ParcelRepository.class);
+        store = new GeometryLodStore(zoneRepository, parcelRepository, new GeometryParsingService());
+    }
+
+    @Test
+    void outlinesShouldGetCoarserAsZoomDecreases() {
+        when(zoneRepository.findAllWgs84Geometries()).thenReturn(List.of(row("z1", circle(0.01))));
+        store.onApplicationReady();
+
+        List<double[]> detailed = store.zoneOutline("z1", null, 16);
+        List<double[]> coarse = store.zoneOutline("z1", null, 5);
+
+        assertTrue(detailed.size() > coarse.size());
+        assertTrue(coarse.size() >= 4);
+        assertArrayEquals(detailed.get(0), detailed.get(detailed.size() - 1));
+        assertEquals(33.5, detailed.get(0)[0], 1e-9); // latitude en premier
+        assertEquals(-7.59, detailed.get(0)[1], 1e-9);
+    }
+
+    @Test
+    void changedZoneShouldBeRecomputedAndDeletedZoneRemoved() {
+        when(zoneRepository.findAllWgs84Geometries()).thenReturn(List.of(row("z1", circle(0.01))));
+        store.onApplicationReady();
+
+        when(zoneRepository.findWgs84GeometryById("z1")).thenReturn(Optional.of(row("z1", circle(0.02))));
+        store.onMapDataChanged(new MapDataChangedEvent("Zone", "z1"));
+        assertEquals(33.5, store.zoneOutline("z1", null, 16).get(0)[0], 1e-9);
+        assertEquals(-7.58, store.zoneOutline("z1", null, 16).get(0)[1], 1e-9);
+
+        when(zoneRepository.findWgs84GeometryById("z1")).thenReturn(Optional.empty());
+        store.onMapDataChanged(new MapDataChangedEvent("Zone", "z1"));
+        assertTrue(store.zoneOutline("z1", null, 16).isEmpty());
+    }
+}
@@ -0,0 +1,154 @@
+package com.industria.platform.service;
+
+import com.industria.platform.dto.VertexDto;
+import com.industria.platform.entity.Country;
+import com.industria.platform.entity.Parcel;
+import com.industria.platform.entity.Region;
+import com.industria.platform.entity.Zone;
+import com.industria.platform.geo.CoordinateReferenceSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GeometryUpdateServiceTest {
+
+    /** Lambert Nord Maroc (EPSG:26191) */
+    private static final CoordinateReferenceSystem LAMBERT_MAROC = CoordinateReferenceSystem.fromProj4(26191,
+            "+proj=lcc +lat_1=33.3 +lat_0=33.3 +lon_0=-5.4 +k_0=0.999625769 +x_0=500000 +y_0=300000 "
+                    + "+a=6378249.2 +b=6356515 +towgs84=31,146,47,0,0,0,0 +units=m +no_defs");
+
+    private static final List<VertexDto> VERTICES = List.of(
+            new VertexDto(1, 300000, 330000, null, null),
+            new VertexDto(2, 301000, 330000, null, null),
+            new VertexDto(3, 301000, 331000, null, null),
+            new VertexDto(4, 300000, 331000, null, null));
+
+    private final Country morocco = Country.builder().id("country-ma").defaultSrid(26191).build();
+    private CoordinateCalculationService coordinateCalculationService;
+    private ProjectionRegistry projectionRegistry;
+    private GeometryUpdateService service;
+
+    @BeforeEach
+    void setUp() {
+        coordinateCalculationService = Mockito.mock(CoordinateCalculationService.class);
+        projectionRegistry = Mockito.mock(ProjectionRegistry.class);
+        service = new GeometryUpdateService(coordinateCalculationService, projectionRegistry, new GeometryParsingService());
+        when(projectionRegistry.forCountry(morocco)).thenReturn(Optional.of(LAMBERT_MAROC));
+        when(coordinateCalculationService.calculateCentroidWGS84ForZone(any(), any())).thenReturn(new double[]{-7.6, 33.5});
+        when(coordinateCalculationService.calculateCentroidWGS84ForParcel(any(), any())).thenReturn(new double[]{-7.6, 33.5});
+    }
+
+    private Zone zoneIn(Country country) {
+        Region region = Region.builder().id("region-1").country(country).build();
+        return Zone.builder().id("z1").region(region).build();
+    }
+
+    /** Vérifie que chaque vertex WGS84 est la projection du vertex Lambert de même rang */
+    private static void assertProjected(Geometry wgs84) {
+        assertEquals(4326, wgs84.getSRID());
+        Coordinate[] coordinates = wgs84.getCoordinates();
+        assertEquals(VERTICES.size() + 1, coordinates.length);
+        double[] expected = new double[2];
+        for (int i = 0; i < VERTICES.size(); i++) {
+            LAMBERT_MAROC.toWgs84(VERTICES.get(i).lambertX(), VERTICES.get(i).lambertY(), expected);
+            assertEquals(expected[0], coordinates[i].x, 1e-9);
+            assertEquals(expected[1], coordinates[i].y, 1e-9);
+        }
+        assertEquals(coordinates[0], coordinates[coordinates.length - 1]);
+    }
+
+    @Test
+    void zoneUpdateShouldStoreLambertAndWgs84Polygons() {
+        Zone zone = zoneIn(morocco);
+
+        service.updateZoneGeometry(zone, VERTICES);
+
+        assertEquals(26191, zone.getSrid());
+        assertEquals(26191, zone.getGeometry().getSRID());
+        assertEquals(300000, zone.getGeometry().getCoordinates()[0].x);
+        assertProjected(zone.getGeometryWgs84());
+        assertEquals(33.5, zone.getLatitude());
+        assertEquals(-7.6, zone.getLongitude());
+    }
+
+    @Test
+    void parcelUpdateShouldProjectWithTheCountryOfItsZone() {
+        Parcel parcel = Parcel.builder().id("p1").zone(zoneIn(morocco)).build();
+
+        service.updateParcelGeometry(parcel, VERTICES);
+
+        assertEquals(26191, parcel.getSrid());
+        assertProjected(parcel.getGeometryWgs84());
+        assertEquals(33.5, parcel.getLatitude());
+    }
+
+    @Test
+    void zoneWithoutCountryShouldKeepOnlyItsLambertPolygon() {
+        Zone zone = zoneIn(null);
+
+        service.updateZoneGeometry(zone, VERTICES);
+
+        assertNotNull(zone.getGeometry());
+        assertNull(zone.getGeometryWgs84());
+        assertNull(zone.getLatitude());
+        verifyNoInteractions(coordinateCalculationService);
+    }
+
+    @Test
+    void degeneratePolygonShouldLeaveTheGeometryUnchanged() {
+        Zone zone = zoneIn(morocco);
+        service.updateZoneGeometry(zone, VERTICES);
+        Geometry previous = zone.getGeometryWgs84();
+
+        service.updateZoneGeometry(zone, VERTICES.subList(0, 2));
+
+        assertSame(previous, zone.getGeometryWgs84());
+    }
+
+    @Test
+    void backfillShouldDeriveWgs84FromTheStoredLambertPolygon() {
+        Zone zone = zoneIn(morocco);
+        zone.setGeometry(service.toPolygon(VERTICES, 26191));
+
+        assertTrue(service.backfillZone(zone));
+
+        assertProjected(zone.getGeometryWgs84());
+        assertEquals(26191, zone.getSrid());
+        assertEquals(33.5, zone.getLatitude());
+    }
+
+    @Test
+    void backfillShouldSkipRowsAlreadyConverted() {
+        Zone zone = zoneIn(morocco);
+        zone.setGeometry(service.toPolygon(VERTICES, 26191));
+        service.updateZoneGeometry(zone, VERTICES);
+        Geometry converted = zone.getGeometryWgs84();
+        Parcel parcel = Parcel.builder().id("p1").zone(zone).geometry(zone.getGeometry()).geometryWgs84(converted).build();
+        clearInvocations(projectionRegistry, coordinateCalculationService);
+
+        assertFalse(service.backfillZone(zone));
+        assertFalse(service.backfillParcel(parcel));
+
+        assertSame(converted, zone.getGeometryWgs84());
+        assertSame(converted, parcel.getGeometryWgs84());
+        verifyNoInteractions(projectionRegistry, coordinateCalculationService);
+    }
+
+    @Test
+    void backfillShouldSkipRowsWithoutProjection() {
+        Zone zone = zoneIn(Country.builder().id("country-x").build());
+        zone.setGeometry(service.toPolygon(VERTICES, 0));
+
+        assertFalse(service.backfillZone(zone));
+        assertNull(zone.getGeometryWgs84());
+    }
+}
@@ -0,0 +1,213 @@
+package com.industria.platform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.industria.platform.event.MapStatusChangedEvent;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapEventBroadcasterTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)\nevent:" + MapEventBroadcaster.STATUS_EVENT);
+
+    private final MapEventBroadcaster broadcaster = new MapEventBroadcaster(new ObjectMapper(), 60_000, 3600, 200);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    /**
+     * Connexion simulée en écriture non bloquante : accepte un nombre donné
+     * de messages, puis plus rien tant que le client ne lit pas.
+     */
+    private static final class Connection extends ServletOutputStream implements AsyncListener {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private int capacity;
+        private WriteListener listener;
+
+        private Connection(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public synchronized boolean isReady() {
+            return capacity > 0;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            listener = writeListener;
+            try {
+                listener.onWritePossible();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            assertTrue(capacity > 0, "écriture sur une connexion saturée");
+            written.write(b, off, len);
+            capacity--;
+        }
+
+        /** Le client lit : la connexion accepte de nouveau des données */
+        private void read() throws IOException {
+            synchronized (this) {
+                capacity = Integer.MAX_VALUE;
+            }
+            listener.onWritePossible();
+        }
+
+        private synchronized List<Long> eventIds() {
+            List<Long> ids = new ArrayList<>();
+            Matcher matcher = EVENT_ID.matcher(written.toString(StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+            return ids;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    private static Connection connect(MapEventBroadcaster broadcaster, int capacity) {
+        Connection connection = new Connection(capacity);
+        MockAsyncContext asyncContext = new MockAsyncContext(new MockHttpServletRequest(), new MockHttpServletResponse());
+        asyncContext.addListener(connection);
+        broadcaster.register(asyncContext, connection);
+        return connection;
+    }
+
+    private static MapStatusChangedEvent event(int i) {
+        return new MapStatusChangedEvent("Parcel", "p" + i, "LIBRE", "z1", false);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Test
+    void stalledClientsShouldNotDelayTheOthers() throws Exception {
+        // Bien plus de clients bloqués que de threads de diffusion
+        List<Connection> stalled = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            stalled.add(connect(broadcaster, 1));
+        }
+        Connection healthy = connect(broadcaster, Integer.MAX_VALUE);
+
+        for (int i = 0; i < 3; i++) {
+            broadcaster.onStatusChanged(event(i));
+        }
+
+        await(() -> healthy.eventIds().equals(List.of(1L, 2L, 3L)));
+        for (Connection connection : stalled) {
+            assertEquals(List.of(1L), connection.eventIds());
+        }
+        assertEquals(51, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void queuedMessagesShouldBeSentOnceTheClientReadsAgain() throws Exception {
+        Connection slow = connect(broadcaster, 1);
+        Connection witness = connect(broadcaster, Integer.MAX_VALUE);
+
+        for (int i = 0; i < 5; i++) {
+            broadcaster.onStatusChanged(event(i));
+        }
+        await(() -> witness.eventIds().size() == 5);
+        assertEquals(List.of(1L), slow.eventIds());
+
+        slow.read();
+
+        await(() -> slow.eventIds().equals(List.of(1L, 2L, 3L, 4L, 5L)));
+        assertEquals(2, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void aClientSaturatedBeyondTheTimeoutShouldBeDropped() throws Exception {
+        Connection stalled = connect(broadcaster, 1);
+        Connection healthy = connect(broadcaster, Integer.MAX_VALUE);
+
+        broadcaster.onStatusChanged(event(0));
+        await(() -> healthy.eventIds().size() == 1);
+        Thread.sleep(300);
+        broadcaster.onStatusChanged(event(1));
+
+        assertTrue(stalled.completed.await(5, TimeUnit.SECONDS));
+        await(() -> broadcaster.subscriberCount() == 1);
+        await(() -> healthy.eventIds().size() == 2);
+    }
+
+    @Test
+    void aClientWhoseQueueOverflowsShouldBeDropped() throws Exception {
+        // Délai de saturation long : seule la file pleine ferme la connexion
+        MapEventBroadcaster patient = new MapEventBroadcaster(new ObjectMapper(), 60_000, 3600, 60_000);
+        try {
+            Connection stalled = connect(patient, 1);
+
+            // Premier message écrit : la file déborde au message suivant sa capacité
+            for (int i = 0; i <= MapEventBroadcaster.QUEUE_CAPACITY + 1; i++) {
+                patient.onStatusChanged(event(i));
+            }
+
+            assertTrue(stalled.completed.await(5, TimeUnit.SECONDS));
+            assertEquals(0, patient.subscriberCount());
+        } finally {
+            patient.shutdown();
+        }
+    }
+
+    @Test
+    void multiLineDataShouldBeSentAsSeveralDataFields() {
+        String event = new String(MapEventBroadcaster.encode(7, "status", "a\nb"), StandardCharsets.UTF_8);
+        assertEquals("id:7\nevent:status\ndata:a\ndata:b\n\n", event);
+    }
+}
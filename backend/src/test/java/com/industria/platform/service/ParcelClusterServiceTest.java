@@ -0,0 +1,93 @@
+package com.industria.platform.service;
+
+import com.industria.platform.dto.ParcelClusterDto;
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.geo.BoundingBox;
+import com.industria.platform.projection.ParcelMarkerRow;
+import com.industria.platform.repository.ParcelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ParcelClusterServiceTest {
+
+    private ParcelRepository parcelRepository;
+    private ParcelClusterService service;
+
+    private static ParcelMarkerRow marker(String id, double longitude, double latitude, String status, boolean showroom) {
+        return new ParcelMarkerRow() {
+            public String getId() { return id; }
+            public Double getLongitude() { return longitude; }
+            public Double getLatitude() { return latitude; }
+            public String getStatus() { return status; }
+            public Boolean getShowroom() { return showroom; }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        parcelRepository = Mockito.mock(ParcelRepository.class);
+        service = new ParcelClusterService(parcelRepository);
+
+        // Deux parcelles voisines à Casablanca (~100 m), une à Tanger
+        when(parcelRepository.findAllMarkers()).thenReturn(List.of(
+                marker("p1", -7.600, 33.500, "LIBRE", false),
+                marker("p2", -7.599, 33.500, "RESERVEE", true),
+                marker("p3", -5.800, 35.760, "LIBRE", false)));
+        service.onApplicationReady();
+    }
+
+    @Test
+    void lowZoomShouldMergeNearbyParcels() {
+        List<ParcelClusterDto> clusters = service.clusters(3, null);
+
+        assertEquals(1, clusters.size());
+        ParcelClusterDto cluster = clusters.get(0);
+        assertEquals(3, cluster.count());
+        assertEquals(Map.of("LIBRE", 2, "RESERVEE", 1), cluster.statusCounts());
+        assertEquals(1, cluster.showroomCount());
+        assertNull(cluster.parcelId());
+        assertTrue(cluster.expansionZoom() > 3);
+    }
+
+    @Test
+    void expansionZoomShouldSplitCluster() {
+        ParcelClusterDto casablanca = service.clusters(8, new BoundingBox(-8, 33, -7, 34)).get(0);
+        assertEquals(2, casablanca.count());
+
+        List<ParcelClusterDto> split = service.clusters(casablanca.expansionZoom(), new BoundingBox(-8, 33, -7, 34));
+        assertEquals(2, split.size());
+        assertTrue(split.stream().allMatch(c -> c.count() == 1 && c.parcelId() != null));
+    }
+
+    @Test
+    void viewportShouldLimitClusters() {
+        List<ParcelClusterDto> clusters = service.clusters(10, new BoundingBox(-6, 35.5, -5.5, 36));
+
+        assertEquals(1, clusters.size());
+        assertEquals("p3", clusters.get(0).parcelId());
+        assertArrayEquals(new double[]{35.76, -5.8}, clusters.get(0).coordinates(), 1e-9);
+    }
+
+    @Test
+    void statusChangeShouldUpdateCountsIncrementally() {
+        when(parcelRepository.findMarkerById("p1")).thenReturn(Optional.of(marker("p1", -7.600, 33.500, "VENDU", false)));
+        service.onMapDataChanged(new MapDataChangedEvent("Parcel", "p1"));
+
+        assertEquals(Map.of("LIBRE", 1, "RESERVEE", 1, "VENDU", 1), service.clusters(0, null).get(0).statusCounts());
+
+        when(parcelRepository.findMarkerById("p1")).thenReturn(Optional.empty());
+        service.onMapDataChanged(new MapDataChangedEvent("Parcel", "p1"));
+
+        assertEquals(2, service.clusters(0, null).get(0).count());
+        assertEquals(1, service.clusters(18, new BoundingBox(-8, 33, -7, 34)).size());
+        verify(parcelRepository, times(1)).findAllMarkers();
+    }
+}
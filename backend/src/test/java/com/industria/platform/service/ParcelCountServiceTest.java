@@ -0,0 +1,187 @@
+package com.industria.platform.service;
+
+import com.industria.platform.entity.ParcelStatus;
+import com.industria.platform.entity.ZoneParcelSummary;
+import com.industria.platform.projection.ZoneParcelCountRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneParcelSummaryRepository;
+import com.industria.platform.service.ParcelCountService.ParcelCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ParcelCountServiceTest {
+
+    private ParcelRepository parcelRepository;
+    private ZoneParcelSummaryRepository summaryRepository;
+    private TransactionTemplate transactionTemplate;
+    private ParcelCountService service;
+
+    private static ZoneParcelCountRow row(String zoneId, ParcelStatus status, long count) {
+        return new ZoneParcelCountRow() {
+            public String getZoneId() { return zoneId; }
+            public ParcelStatus getStatus() { return status; }
+            public Long getCount() { return count; }
+        };
+    }
+
+    private static List<String> zoneIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "z" + i).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        parcelRepository = Mockito.mock(ParcelRepository.class);
+        summaryRepository = Mockito.mock(ZoneParcelSummaryRepository.class);
+        transactionTemplate = Mockito.mock(TransactionTemplate.class);
+        service = new ParcelCountService(parcelRepository, summaryRepository, transactionTemplate);
+    }
+
+    @Test
+    void countsShouldBeGroupedByZoneAndStatus() {
+        when(parcelRepository.countByZoneIdsGroupByStatus(anyCollection())).thenReturn(List.of(
+                row("z1", ParcelStatus.LIBRE, 3),
+                row("z1", ParcelStatus.VENDU, 2),
+                row("z1", null, 1),
+                row("z2", ParcelStatus.RESERVEE, 4)));
+
+        Map<String, ParcelCounts> counts = service.countsByZone(List.of("z1", "z2", "z3"));
+
+        assertEquals(6, counts.get("z1").total());
+        assertEquals(3, counts.get("z1").available());
+        assertEquals(2, counts.get("z1").count(ParcelStatus.VENDU));
+        assertEquals(4, counts.get("z2").total());
+        assertEquals(0, counts.get("z2").available());
+        assertFalse(counts.containsKey("z3"));
+    }
+
+    @Test
+    void queryCountShouldNotGrowWithZoneCount() {
+        for (int zones : new int[]{1, 10, 500}) {
+            clearInvocations(parcelRepository);
+            clearInvocations(summaryRepository);
+            service.countsByZone(zoneIds(zones));
+            verify(summaryRepository, times(1)).findAllById(anyCollection());
+            verify(parcelRepository, times(1)).countByZoneIdsGroupByStatus(anyCollection());
+            verifyNoMoreInteractions(parcelRepository);
+        }
+    }
+
+    @Test
+    void largeZoneListsShouldBeSplitIntoBatches() {
+        service.countsByZone(zoneIds(ParcelCountService.BATCH_SIZE + 1));
+        verify(summaryRepository, times(2)).findAllById(anyCollection());
+        verify(parcelRepository, times(2)).countByZoneIdsGroupByStatus(anyCollection());
+    }
+
+    @Test
+    void emptyZoneListShouldNotQuery() {
+        assertTrue(service.countsByZone(List.of()).isEmpty());
+        verifyNoInteractions(parcelRepository, summaryRepository);
+    }
+
+    @Test
+    void summariesShouldBeReadWithoutCountingParcels() {
+        when(summaryRepository.findAllById(anyCollection())).thenReturn(List.of(
+                ZoneParcelSummary.builder().zoneId("z1").totalCount(5).libreCount(2).venduCount(3).build()));
+
+        ParcelCounts counts = service.countsFor("z1");
+
+        assertEquals(5, counts.total());
+        assertEquals(2, counts.available());
+        assertEquals(3, counts.count(ParcelStatus.VENDU));
+        verifyNoInteractions(parcelRepository);
+    }
+
+    @Test
+    void statusChangeShouldMoveOneParcelBetweenCounters() {
+        service.parcelChanged("z1", ParcelStatus.LIBRE, "z1", ParcelStatus.RESERVEE);
+
+        verify(summaryRepository).addDelta("z1", -1, -1, 0, 0, 0, 0);
+        verify(summaryRepository).addDelta("z1", 1, 0, 1, 0, 0, 0);
+    }
+
+    @Test
+    void unchangedParcelShouldNotTouchCounters() {
+        service.parcelChanged("z1", ParcelStatus.VENDU, "z1", ParcelStatus.VENDU);
+        service.parcelAdded(null, ParcelStatus.LIBRE);
+
+        verifyNoInteractions(summaryRepository);
+    }
+
+    @Test
+    void deltaCommittedDuringRecomputeShouldNotBeOverwritten() throws Exception {
+        // Verrou de table simulé : pris par lockForRecompute jusqu'à la fin de la
+        // transaction du recalcul, attendu par chaque écriture d'écart
+        ReentrantLock tableLock = new ReentrantLock();
+        AtomicInteger total = new AtomicInteger(5);
+        CountDownLatch recomputing = new CountDownLatch(1);
+        CountDownLatch deltaWaiting = new CountDownLatch(1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                if (tableLock.isHeldByCurrentThread()) {
+                    tableLock.unlock();
+                }
+            }
+        });
+        doAnswer(invocation -> {
+            tableLock.lock();
+            return null;
+        }).when(summaryRepository).lockForRecompute();
+        doAnswer(invocation -> {
+            recomputing.countDown();
+            // La parcelle est validée après le début du recalcul, qui ne la compte pas
+            deltaWaiting.await(5, TimeUnit.SECONDS);
+            total.set(5);
+            return 1;
+        }).when(summaryRepository).recomputeAll();
+        doAnswer(invocation -> {
+            if (!tableLock.tryLock()) {
+                deltaWaiting.countDown();
+                tableLock.lock();
+            }
+            try {
+                total.addAndGet(invocation.<Integer>getArgument(1));
+            } finally {
+                tableLock.unlock();
+            }
+            return null;
+        }).when(summaryRepository).addDelta(anyString(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> reconcile = executor.submit(service::reconcile);
+            assertTrue(recomputing.await(5, TimeUnit.SECONDS));
+            service.parcelAdded("z1", ParcelStatus.LIBRE);
+            reconcile.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, deltaWaiting.getCount());
+        assertEquals(6, total.get());
+        var inOrder = inOrder(summaryRepository);
+        inOrder.verify(summaryRepository).lockForRecompute();
+        inOrder.verify(summaryRepository).recomputeAll();
+        inOrder.verify(summaryRepository).deleteOrphans();
+    }
+}
@@ -0,0 +1,87 @@
+package com.industria.platform.service;
+
+import com.industria.platform.entity.Region;
+import com.industria.platform.entity.SpatialReferenceSystem;
+import com.industria.platform.event.ReferenceDataChangedEvent;
+import com.industria.platform.repository.SpatialReferenceSystemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProjectionRegistryTest {
+
+    private static final String LAMBERT_NORD_MAROC =
+            "+proj=lcc +lat_1=33.3 +lat_0=33.3 +lon_0=-5.4 +k_0=0.999625769 +x_0=500000 +y_0=300000 "
+                    + "+a=6378249.2 +b=6356515 +towgs84=31,146,47,0,0,0,0 +units=m +no_defs";
+
+    private SpatialReferenceSystemRepository spatialReferenceSystemRepository;
+    private JdbcTemplate jdbcTemplate;
+    private ProjectionRegistry projectionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        spatialReferenceSystemRepository = Mockito.mock(SpatialReferenceSystemRepository.class);
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        projectionRegistry = new ProjectionRegistry(spatialReferenceSystemRepository, jdbcTemplate);
+    }
+
+    private static SpatialReferenceSystem srs(String proj4text) {
+        return SpatialReferenceSystem.builder().name("Lambert Nord Maroc").srid(26191).proj4text(proj4text).build();
+    }
+
+    @Test
+    void compiledSystemShouldBeReusedUntilASpatialReferenceSystemChanges() {
+        when(spatialReferenceSystemRepository.findBySrid(26191)).thenReturn(srs(LAMBERT_NORD_MAROC));
+
+        assertSame(projectionRegistry.get(26191), projectionRegistry.get(26191));
+        verify(spatialReferenceSystemRepository, times(1)).findBySrid(26191);
+
+        projectionRegistry.onReferenceDataChanged(new ReferenceDataChangedEvent(Region.class));
+        projectionRegistry.get(26191);
+        verify(spatialReferenceSystemRepository, times(1)).findBySrid(26191);
+
+        projectionRegistry.onReferenceDataChanged(new ReferenceDataChangedEvent(SpatialReferenceSystem.class));
+        projectionRegistry.get(26191);
+        verify(spatialReferenceSystemRepository, times(2)).findBySrid(26191);
+    }
+
+    @Test
+    void unknownSridShouldFailWithoutQueryingAgain() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(99999))).thenReturn(List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> projectionRegistry.get(99999));
+        assertThrows(IllegalArgumentException.class, () -> projectionRegistry.get(99999));
+
+        verify(spatialReferenceSystemRepository, times(1)).findBySrid(99999);
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(String.class), eq(99999));
+    }
+
+    @Test
+    void invalidDefinitionShouldFailWithoutQueryingAgain() {
+        when(spatialReferenceSystemRepository.findBySrid(26191)).thenReturn(srs("+proj=inconnue"));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(26191))).thenReturn(List.of("+proj=inconnue"));
+
+        assertThrows(IllegalArgumentException.class, () -> projectionRegistry.get(26191));
+        assertThrows(IllegalArgumentException.class, () -> projectionRegistry.get(26191));
+
+        verify(spatialReferenceSystemRepository, times(1)).findBySrid(26191);
+    }
+
+    @Test
+    void unreadableDefinitionShouldBeRetried() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(26191)))
+                .thenThrow(new CannotGetJdbcConnectionException("connexion refusée"))
+                .thenReturn(List.of(LAMBERT_NORD_MAROC));
+
+        assertThrows(IllegalArgumentException.class, () -> projectionRegistry.get(26191));
+        assertEquals(26191, projectionRegistry.get(26191).srid());
+    }
+}
@@ -0,0 +1,87 @@
+package com.industria.platform.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(registry);
+
+    private double count(String result) {
+        return registry.get("singleflight.calls").tag("operation", "test").tag("result", result).counter().count();
+    }
+
+    @Test
+    void concurrentCallersShouldShareOneComputation() throws Exception {
+        int callers = 8;
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("test", "zoom=6", () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "result";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("test", "zoom=6", () -> {
+                    computations.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // Les suiveurs sont enregistrés avant la fin du calcul
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (registry.find("singleflight.calls").tag("result", "coalesced").counter() == null
+                    || count("coalesced") < callers - 1) {
+                assertTrue(System.nanoTime() < deadline, "suiveurs non regroupés");
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, computations.get());
+            assertEquals(1, count("executed"));
+            assertEquals(callers - 1, count("coalesced"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void finishedFlightShouldNotBeReusedAndErrorsShouldPropagate() {
+        assertEquals(1, singleFlight.execute("test", "a", () -> 1));
+        assertEquals(2, singleFlight.execute("test", "a", () -> 2));
+        assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("test", "a", () -> { throw new IllegalStateException("boom"); }));
+        assertEquals(3, singleFlight.execute("test", "a", () -> 3));
+        assertEquals(4, count("executed"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.industria.platform.service;
+
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.geo.BoundingBox;
+import com.industria.platform.projection.GeometryRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SpatialIndexServiceTest {
+
+    private ZoneRepository zoneRepository;
+    private ParcelRepository parcelRepository;
+    private SpatialIndexService index;
+
+    private static Geometry square(double minLon, double minLat, double size) {
+        return new GeometryFactory().toGeometry(new Envelope(minLon, minLon + size, minLat, minLat + size));
+    }
+
+    private static GeometryRow row(String id, Geometry geometry) {
+        return new GeometryRow() {
+            public String getId() { return id; }
+            public Geometry getGeometry() { return geometry; }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        zoneRepository = Mockito.mock(ZoneRepository.class);
+        parcelRepository = Mockito.mock(ParcelRepository.class);
+        index = new SpatialIndexService(zoneRepository, parcelRepository);
+
+        when(zoneRepository.findAllWgs84Geometries()).thenReturn(List.of(row("z1", square(-7.6, 33.5, 0.1))));
+        when(parcelRepository.findAllWgs84Geometries()).thenReturn(List.of(
+                row("p1", square(-7.6, 33.5, 0.01)),
+                row("p2", square(-7.55, 33.55, 0.01))));
+        index.onApplicationReady();
+    }
+
+    @Test
+    void pointShouldHitContainingZoneAndParcel() {
+        assertEquals(List.of("z1"), index.zonesAt(-7.595, 33.505));
+        assertEquals(List.of("p1"), index.parcelsAt(-7.595, 33.505));
+        assertTrue(index.parcelsAt(-7.58, 33.52).isEmpty());
+        assertTrue(index.zonesAt(0, 0).isEmpty());
+    }
+
+    @Test
+    void envelopeShouldReturnIntersectingFeatures() {
+        List<String> ids = index.parcelsIn(new BoundingBox(-7.56, 33.54, -7.5, 33.6));
+
+        assertEquals(List.of("p2"), ids);
+        assertEquals(List.of("z1"), index.zonesIn(new BoundingBox(-7.56, 33.54, -7.5, 33.6)));
+    }
+
+    @Test
+    void changesShouldBeVisibleWithoutRebuild() {
+        when(parcelRepository.findWgs84GeometryById("p1")).thenReturn(Optional.of(row("p1", square(-7.58, 33.52, 0.01))));
+        when(parcelRepository.findWgs84GeometryById("p2")).thenReturn(Optional.empty());
+        when(parcelRepository.findWgs84GeometryById("p3")).thenReturn(Optional.of(row("p3", square(-7.6, 33.5, 0.01))));
+
+        index.onMapDataChanged(new MapDataChangedEvent("Parcel", "p1"));
+        index.onMapDataChanged(new MapDataChangedEvent("Parcel", "p2"));
+        index.onMapDataChanged(new MapDataChangedEvent("Parcel", "p3"));
+
+        assertEquals(List.of("p3"), index.parcelsAt(-7.595, 33.505));
+        assertEquals(List.of("p1"), index.parcelsAt(-7.575, 33.525));
+        assertTrue(index.parcelsAt(-7.545, 33.555).isEmpty());
+        verify(zoneRepository, never()).findWgs84GeometryById(any());
+    }
+
+    @Test
+    void manyChangesShouldTriggerRebuildWithSameResults() {
+        for (int i = 0; i <= SpatialIndexService.MAX_PATCHES; i++) {
+            String id = "n" + i;
+            when(parcelRepository.findWgs84GeometryById(id)).thenReturn(Optional.of(row(id, square(10 + i, 10, 0.5))));
+            index.onMapDataChanged(new MapDataChangedEvent("Parcel", id));
+        }
+
+        assertEquals(List.of("n42"), index.parcelsAt(52.25, 10.25));
+        assertEquals(List.of("p1"), index.parcelsAt(-7.595, 33.505));
+    }
+}
@@ -1,11 +1,13 @@
 package com.industria.platform.service;
 
 import com.industria.platform.entity.*;
+import com.industria.platform.event.MapStatusChangedEvent;
 import com.industria.platform.repository.ParcelRepository;
 import com.industria.platform.repository.ZoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.HashSet;
 import java.util.Optional;
@@ -19,13 +21,17 @@ class StatusServiceTest {
 
     private ZoneRepository zoneRepository;
     private ParcelRepository parcelRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ParcelCountService parcelCountService;
     private StatusService statusService;
 
     @BeforeEach
     void setUp() {
         zoneRepository = Mockito.mock(ZoneRepository.class);
         parcelRepository = Mockito.mock(ParcelRepository.class);
-        statusService = new StatusService(zoneRepository, parcelRepository);
+        eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        parcelCountService = Mockito.mock(ParcelCountService.class);
+        statusService = new StatusService(zoneRepository, parcelRepository, eventPublisher, parcelCountService);
     }
 
     @Test
@@ -63,4 +69,43 @@ class StatusServiceTest {
         statusService.updateParcelStatus("p2", ParcelStatus.LIBRE);
         assertEquals(ZoneStatus.LIBRE, zone.getStatus());
     }
+
+    @Test
+    void updateParcelStatusShouldPublishParcelAndZoneChanges() {
+        Zone zone = Zone.builder().id("z3").status(ZoneStatus.LIBRE).build();
+        Parcel p1 = Parcel.builder().id("p1").status(ParcelStatus.LIBRE).zone(zone).build();
+        Set<Parcel> parcels = new HashSet<>();
+        parcels.add(p1);
+
+        when(parcelRepository.findById("p1")).thenReturn(Optional.of(p1));
+        when(parcelRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
+        when(parcelRepository.findByZoneId("z3")).thenReturn(parcels);
+        when(zoneRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
+
+        statusService.updateParcelStatus("p1", ParcelStatus.VENDU);
+
+        verify(parcelCountService).parcelChanged("z3", ParcelStatus.LIBRE, "z3", ParcelStatus.VENDU);
+        verify(eventPublisher).publishEvent(new MapStatusChangedEvent("Parcel", "p1", "VENDU", "z3", false));
+        verify(eventPublisher).publishEvent(new MapStatusChangedEvent("Zone", "z3", "VENDU", null, false));
+    }
+
+    @Test
+    void updateZoneStatusShouldNotPublishUnchangedParcels() {
+        Zone zone = Zone.builder().id("z4").status(ZoneStatus.RESERVEE).build();
+        Parcel p1 = Parcel.builder().id("p1").status(ParcelStatus.LIBRE).zone(zone).build();
+        Parcel p2 = Parcel.builder().id("p2").status(ParcelStatus.RESERVEE).zone(zone).build();
+        Set<Parcel> parcels = new HashSet<>();
+        parcels.add(p1); parcels.add(p2);
+
+        when(zoneRepository.findById("z4")).thenReturn(Optional.of(zone));
+        when(zoneRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
+        when(parcelRepository.findByZoneId("z4")).thenReturn(parcels);
+        when(parcelRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
+
+        statusService.updateZoneStatus("z4", ZoneStatus.LIBRE);
+
+        verify(eventPublisher).publishEvent(new MapStatusChangedEvent("Zone", "z4", "LIBRE", null, false));
+        verify(eventPublisher).publishEvent(new MapStatusChangedEvent("Parcel", "p2", "LIBRE", "z4", false));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
 }
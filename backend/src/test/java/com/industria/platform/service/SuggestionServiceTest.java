@@ -0,0 +1,102 @@
+package com.industria.platform.service;
+
+import com.industria.platform.dto.SuggestionDto;
+import com.industria.platform.entity.Region;
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.event.ReferenceDataChangedEvent;
+import com.industria.platform.projection.SuggestionRow;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.RegionRepository;
+import com.industria.platform.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SuggestionServiceTest {
+
+    private ZoneRepository zoneRepository;
+    private ParcelRepository parcelRepository;
+    private RegionRepository regionRepository;
+    private SuggestionService index;
+
+    @BeforeEach
+    void setUp() {
+        zoneRepository = Mockito.mock(ZoneRepository.class);
+        parcelRepository = Mockito.mock(ParcelRepository.class);
+        regionRepository = Mockito.mock(RegionRepository.class);
+        index = new SuggestionService(zoneRepository, parcelRepository, regionRepository);
+
+        when(zoneRepository.findAllSuggestionRows()).thenReturn(List.of(
+                new SuggestionRow("z1", "Parc Industriel Aïn Sebaâ", "Route de Rabat, Casablanca"),
+                new SuggestionRow("z2", "Zone Franche de Tanger", "Tanger"),
+                new SuggestionRow("z3", "المنطقة الصناعية", "طنجة")));
+        when(parcelRepository.findAllSuggestionRows()).thenReturn(List.of(
+                new SuggestionRow("p1", "P-001", "Parc Industriel Aïn Sebaâ"),
+                new SuggestionRow("p2", "P-002", "Parc Industriel Aïn Sebaâ")));
+        when(regionRepository.findAllSuggestionRows()).thenReturn(List.of(
+                new SuggestionRow("r1", "Tanger-Tétouan-Al Hoceïma", "Maroc")));
+        index.onApplicationReady();
+    }
+
+    private List<String> ids(String query) {
+        return index.suggest(query, 10).stream().map(SuggestionDto::id).toList();
+    }
+
+    @Test
+    void prefixesShouldMatchAnyWordWithoutAccents() {
+        assertEquals(List.of("z1"), ids("sebaa"));
+        assertEquals(List.of("z1"), ids("AIN seb"));
+        // Adresse des zones indexée, pas la zone d'une parcelle
+        assertEquals(List.of("z1"), ids("casa"));
+        assertEquals(List.of("r1"), ids("tetouan"));
+    }
+
+    @Test
+    void arabicShouldMatchWithoutDiacriticsOrTaMarbuta() {
+        assertEquals(List.of("z3"), ids("المنطقه"));
+        assertEquals(List.of("z3"), ids("الصِّنَاعِيَّة"));
+    }
+
+    @Test
+    void labelsStartingWithTheQueryShouldRankFirst() {
+        // Région avant zone pour un même début de libellé, puis mot du libellé, puis adresse
+        assertEquals(List.of("r1", "z2"), ids("tanger"));
+        assertEquals(List.of("p1", "p2"), ids("p-00"));
+        assertEquals(1, index.suggest("p", 1).size());
+        assertTrue(index.suggest("  -- ", 10).isEmpty());
+    }
+
+    @Test
+    void writesShouldPatchTheIndex() {
+        when(zoneRepository.findSuggestionRowById("z2")).thenReturn(Optional.of(new SuggestionRow("z2", "Tanger Med", "Ksar Sghir")));
+        index.onMapDataChanged(new MapDataChangedEvent("Zone", "z2"));
+        assertEquals(List.of("z2"), ids("med"));
+        assertEquals(List.of("z2"), ids("ksar"));
+        assertTrue(ids("franche").isEmpty());
+
+        when(parcelRepository.findSuggestionRowById("p1")).thenReturn(Optional.empty());
+        index.onMapDataChanged(new MapDataChangedEvent("Parcel", "p1"));
+        assertEquals(List.of("p2"), ids("p-00"));
+
+        when(regionRepository.findAllSuggestionRows()).thenReturn(List.of(new SuggestionRow("r2", "Souss-Massa", "Maroc")));
+        index.onReferenceDataChanged(new ReferenceDataChangedEvent(Region.class));
+        assertEquals(List.of("r2"), ids("souss"));
+        assertEquals(List.of("z2"), ids("tanger"));
+    }
+
+    @Test
+    void manyWritesShouldRebuildTheSortedIndex() {
+        for (int i = 0; i <= SuggestionService.MAX_PATCHES; i++) {
+            index.patch(SuggestionService.Kind.PARCEL, "n" + i, new SuggestionRow("n" + i, "N-" + i, null));
+        }
+        assertEquals(SuggestionService.MAX_LIMIT, index.suggest("n", 100).size());
+        assertEquals(List.of("n42"), ids("n 42"));
+        verify(zoneRepository, never()).findSuggestionRowById(any());
+    }
+}
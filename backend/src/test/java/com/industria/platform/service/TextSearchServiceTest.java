@@ -0,0 +1,46 @@
+package com.industria.platform.service;
+
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TextSearchServiceTest {
+
+    @Test
+    void prefixQueryShouldKeepOnlyWordsAndDiacritics() {
+        assertEquals("Zone:* & d:* & activité:*", TextSearchService.prefixQuery("Zone d'activité"));
+        // Opérateurs de to_tsquery écartés
+        assertEquals("a:* & b:*", TextSearchService.prefixQuery("a | !b & (:*"));
+        // Voyelles arabes conservées dans le mot, retirées ensuite par la normalisation en base
+        assertEquals("مِنْطَقَة:*", TextSearchService.prefixQuery("مِنْطَقَة"));
+        assertEquals("", TextSearchService.prefixQuery("-- !"));
+    }
+
+    @Test
+    void likeSpecialCharactersShouldBeEscaped() {
+        assertEquals("P\\_10\\%\\\\", TextSearchService.escapeLike("P_10%\\"));
+    }
+
+    @Test
+    void parcelSearchShouldMatchSubstringsOfTheReference() {
+        ZoneRepository zoneRepository = mock(ZoneRepository.class);
+        ParcelRepository parcelRepository = mock(ParcelRepository.class);
+        when(parcelRepository.searchIds(any(), any(), any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+        var page = new TextSearchService(zoneRepository, parcelRepository).parcels(" P-01 ", null, "z1", PageRequest.of(0, 10));
+
+        assertTrue(page.isEmpty());
+        verify(parcelRepository).searchIds(eq("P-01"), eq("P:* & 01:*"), eq("%P-01%"), isNull(), eq("z1"), eq(PageRequest.of(0, 10)));
+        verify(parcelRepository, never()).findListRowsByIdIn(anyCollection());
+        verifyNoInteractions(zoneRepository);
+    }
+}
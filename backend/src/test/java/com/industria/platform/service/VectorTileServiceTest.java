@@ -0,0 +1,92 @@
+package com.industria.platform.service;
+
+import com.industria.platform.event.MapDataChangedEvent;
+import com.industria.platform.exception.ValidationException;
+import com.industria.platform.repository.ParcelRepository;
+import com.industria.platform.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class VectorTileServiceTest {
+
+    private ZoneRepository zoneRepository;
+    private ParcelRepository parcelRepository;
+    private VectorTileService vectorTileService;
+
+    @BeforeEach
+    void setUp() {
+        zoneRepository = Mockito.mock(ZoneRepository.class);
+        parcelRepository = Mockito.mock(ParcelRepository.class);
+        vectorTileService = new VectorTileService(zoneRepository, parcelRepository, 1 << 20);
+    }
+
+    @Test
+    void tileShouldBeCachedUntilMapDataChanges() {
+        when(zoneRepository.findVectorTile(eq(6), eq(31), eq(25), anyDouble())).thenReturn(new byte[]{1, 2});
+
+        assertArrayEquals(new byte[]{1, 2}, vectorTileService.getTile(6, 31, 25));
+        vectorTileService.getTile(6, 31, 25);
+        verify(zoneRepository, times(1)).findVectorTile(eq(6), eq(31), eq(25), anyDouble());
+
+        vectorTileService.onMapDataChanged(new MapDataChangedEvent("Zone", "z1"));
+        vectorTileService.getTile(6, 31, 25);
+        verify(zoneRepository, times(2)).findVectorTile(eq(6), eq(31), eq(25), anyDouble());
+    }
+
+    @Test
+    void tileRenderedAcrossAnInvalidationShouldNotBeCached() throws Exception {
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(zoneRepository.findVectorTile(eq(6), eq(31), eq(25), anyDouble()))
+                .thenAnswer(invocation -> {
+                    rendering.countDown();
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    return new byte[]{1};
+                })
+                .thenReturn(new byte[]{2});
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<byte[]> inFlight = executor.submit(() -> vectorTileService.getTile(6, 31, 25));
+            assertTrue(rendering.await(5, TimeUnit.SECONDS));
+
+            // Modification validée pendant le rendu, lu avant elle
+            vectorTileService.onMapDataChanged(new MapDataChangedEvent("Zone", "z1"));
+            release.countDown();
+
+            assertArrayEquals(new byte[]{2}, inFlight.get(5, TimeUnit.SECONDS));
+            assertArrayEquals(new byte[]{2}, vectorTileService.getTile(6, 31, 25));
+            verify(zoneRepository, times(2)).findVectorTile(eq(6), eq(31), eq(25), anyDouble());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void parcelLayerShouldOnlyBeAddedFromParcelZoom() {
+        when(zoneRepository.findVectorTile(anyInt(), anyInt(), anyInt(), anyDouble())).thenReturn(new byte[]{1});
+        when(parcelRepository.findVectorTile(anyInt(), anyInt(), anyInt(), anyDouble())).thenReturn(new byte[]{2, 3});
+
+        assertArrayEquals(new byte[]{1}, vectorTileService.getTile(10, 500, 400));
+        assertArrayEquals(new byte[]{1, 2, 3}, vectorTileService.getTile(VectorTileService.PARCEL_MIN_ZOOM, 4000, 3300));
+        verify(parcelRepository, times(1)).findVectorTile(anyInt(), anyInt(), anyInt(), anyDouble());
+    }
+
+    @Test
+    void outOfRangeTilesShouldBeRejected() {
+        assertThrows(ValidationException.class, () -> vectorTileService.getTile(2, 4, 0));
+        assertThrows(ValidationException.class, () -> vectorTileService.getTile(-1, 0, 0));
+        assertThrows(ValidationException.class, () -> vectorTileService.getTile(VectorTileService.MAX_ZOOM + 1, 0, 0));
+        verifyNoInteractions(zoneRepository, parcelRepository);
+    }
+}
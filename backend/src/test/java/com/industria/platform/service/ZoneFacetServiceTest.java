@@ -0,0 +1,31 @@
+package com.industria.platform.service;
+
+import com.industria.platform.service.ZoneFacetService.Band;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneFacetServiceTest {
+
+    @Test
+    void bandCaseShouldGiveTheIndexOfHalfOpenBands() {
+        assertEquals("CASE WHEN z.price IS NOT NULL AND z.price < 500.0 THEN 0"
+                        + " WHEN z.price IS NOT NULL AND z.price >= 500.0 AND z.price < 1000.0 THEN 1"
+                        + " WHEN z.price IS NOT NULL AND z.price >= 1000.0 THEN 2 END",
+                ZoneFacetService.bandCase("z.price",
+                        List.of(new Band(null, 500.0), new Band(500.0, 1000.0), new Band(1000.0, null))));
+    }
+
+    @Test
+    void bandsShouldBeContiguous() {
+        for (List<Band> bands : List.of(ZoneFacetService.PRICE_BANDS, ZoneFacetService.AREA_BANDS)) {
+            assertNull(bands.get(0).min());
+            assertNull(bands.get(bands.size() - 1).max());
+            for (int i = 1; i < bands.size(); i++) {
+                assertEquals(bands.get(i - 1).max(), bands.get(i).min());
+            }
+        }
+    }
+}